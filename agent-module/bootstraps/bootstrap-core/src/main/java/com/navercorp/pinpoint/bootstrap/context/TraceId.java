@@ -25,6 +25,13 @@ public interface TraceId {
 
     long getSpanId();
 
+    /**
+     * @return the decimal string of {@link #getSpanId()}, implementations may cache it
+     */
+    default String getSpanIdString() {
+        return String.valueOf(getSpanId());
+    }
+
     long getParentSpanId();
 
     short getFlags();
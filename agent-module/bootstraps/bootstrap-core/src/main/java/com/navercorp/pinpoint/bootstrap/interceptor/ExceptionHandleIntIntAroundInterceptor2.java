@@ -0,0 +1,48 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.bootstrap.interceptor;
+
+import java.util.Objects;
+
+public class ExceptionHandleIntIntAroundInterceptor2 implements IntIntAroundInterceptor2 {
+
+    private final IntIntAroundInterceptor2 delegate;
+    private final ExceptionHandler exceptionHandler;
+
+    public ExceptionHandleIntIntAroundInterceptor2(IntIntAroundInterceptor2 delegate, ExceptionHandler exceptionHandler) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.exceptionHandler = Objects.requireNonNull(exceptionHandler, "exceptionHandler");
+    }
+
+    @Override
+    public void before(Object target, int arg0, int arg1) {
+        try {
+            this.delegate.before(target, arg0, arg1);
+        } catch (Throwable t) {
+            exceptionHandler.handleException(t);
+        }
+    }
+
+    @Override
+    public void after(Object target, int arg0, int arg1, Object result, Throwable throwable) {
+        try {
+            this.delegate.after(target, arg0, arg1, result, throwable);
+        } catch (Throwable t) {
+            exceptionHandler.handleException(t);
+        }
+    }
+}
\ No newline at end of file
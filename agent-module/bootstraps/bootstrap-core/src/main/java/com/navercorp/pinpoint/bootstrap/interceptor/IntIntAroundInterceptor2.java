@@ -0,0 +1,29 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.bootstrap.interceptor;
+
+/**
+ * {@link AroundInterceptor2} for methods whose first two parameters are {@code int} and {@code int},
+ * such as {@code PreparedStatement.setInt(int, int)}.
+ * The arguments are passed to the interceptor without boxing.
+ */
+public interface IntIntAroundInterceptor2 extends Interceptor {
+
+    void before(Object target, int arg0, int arg1);
+
+    void after(Object target, int arg0, int arg1, Object result, Throwable throwable);
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.bootstrap.plugin.jdbc;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Bind values of a PreparedStatement indexed by parameterIndex.
+ * Only the setter name and the setter arguments are kept, formatting is deferred until the bind values are recorded.
+ * The arguments are snapshot at bind time: immutable values are kept as is, {@link Date} values are cloned
+ * and any other value (byte[], setObject values, ...) is formatted immediately,
+ * so that the recorded value does not change when the application reuses the bound object.
+ * {@code int} and {@code long} values bound through {@link #bindInt} and {@link #bindLong} are kept unboxed.
+ * Parameters after {@link #MAX_SLOTS} are ignored.
+ */
+public class BindValueSlots extends AbstractMap<Integer, String> {
+
+    public static final int MAX_SLOTS = 1024;
+    private static final int INITIAL_SLOTS = 8;
+    // markers of the primitive bindings, the value is kept in values[]
+    private static final Object[] INT_VALUE = new Object[0];
+    private static final Object[] LONG_VALUE = new Object[0];
+    // marker of the values formatted at bind time, the value is kept in formattedValues[]
+    private static final Object[] FORMATTED_VALUE = new Object[0];
+
+    private final BindVariableService bindVariableService;
+
+    private String[] methodNames = new String[INITIAL_SLOTS];
+    private Object[][] args = new Object[INITIAL_SLOTS][];
+    private long[] values;
+    private String[] formattedValues;
+    // the highest parameterIndex, PreparedStatement first parameterIndex is 1
+    private int maxIndex;
+    private int size;
+
+    public BindValueSlots(BindVariableService bindVariableService) {
+        this.bindVariableService = Objects.requireNonNull(bindVariableService, "bindVariableService");
+    }
+
+    public void bind(int parameterIndex, String methodName, Object[] args) {
+        if (parameterIndex <= 0 || parameterIndex > MAX_SLOTS) {
+            return;
+        }
+        final Object[] snapshot = snapshot(args);
+        if (snapshot == null) {
+            final String formatted = bindVariableService.formatBindVariable(methodName, args);
+            bind0(parameterIndex, methodName, FORMATTED_VALUE, 0);
+            this.formattedValues[parameterIndex - 1] = formatted;
+            return;
+        }
+        bind0(parameterIndex, methodName, snapshot, 0);
+    }
+
+    /**
+     * @return copy of the args, or null if an argument can not be kept until the bind values are formatted
+     */
+    private static Object[] snapshot(Object[] args) {
+        if (args == null) {
+            return null;
+        }
+        final Object[] copy = args.clone();
+        for (int i = 0; i < copy.length; i++) {
+            final Object arg = copy[i];
+            if (isImmutable(arg)) {
+                continue;
+            }
+            if (arg instanceof Date) {
+                // java.sql.Timestamp keeps the nanos in a field, clone() copies it
+                copy[i] = ((Date) arg).clone();
+                continue;
+            }
+            return null;
+        }
+        return copy;
+    }
+
+    private static boolean isImmutable(Object arg) {
+        return arg == null
+                || arg instanceof String
+                || arg instanceof Integer
+                || arg instanceof Long
+                || arg instanceof Short
+                || arg instanceof Byte
+                || arg instanceof Double
+                || arg instanceof Float
+                || arg instanceof Boolean
+                || arg instanceof Character
+                || arg instanceof BigDecimal
+                || arg instanceof BigInteger;
+    }
+
+    /**
+     * Binds an {@code int} without boxing it, e.g. {@code setInt(int, int)}
+     */
+    public void bindInt(int parameterIndex, String methodName, int value) {
+        bind0(parameterIndex, methodName, INT_VALUE, value);
+    }
+
+    /**
+     * Binds a {@code long} without boxing it, e.g. {@code setLong(int, long)}
+     */
+    public void bindLong(int parameterIndex, String methodName, long value) {
+        bind0(parameterIndex, methodName, LONG_VALUE, value);
+    }
+
+    private void bind0(int parameterIndex, String methodName, Object[] args, long value) {
+        if (parameterIndex <= 0 || parameterIndex > MAX_SLOTS) {
+            return;
+        }
+        final int slot = parameterIndex - 1;
+        ensureCapacity(parameterIndex);
+        if (this.methodNames[slot] == null) {
+            this.size++;
+        }
+        this.methodNames[slot] = methodName;
+        this.args[slot] = args;
+        if (args == INT_VALUE || args == LONG_VALUE) {
+            ensureValues();
+            this.values[slot] = value;
+        } else if (args == FORMATTED_VALUE) {
+            ensureFormattedValues();
+        } else if (this.formattedValues != null && slot < this.formattedValues.length) {
+            this.formattedValues[slot] = null;
+        }
+        this.maxIndex = Math.max(this.maxIndex, parameterIndex);
+    }
+
+    private void ensureValues() {
+        if (this.values == null) {
+            this.values = new long[this.methodNames.length];
+        } else if (this.values.length < this.methodNames.length) {
+            this.values = Arrays.copyOf(this.values, this.methodNames.length);
+        }
+    }
+
+    private void ensureFormattedValues() {
+        if (this.formattedValues == null) {
+            this.formattedValues = new String[this.methodNames.length];
+        } else if (this.formattedValues.length < this.methodNames.length) {
+            this.formattedValues = Arrays.copyOf(this.formattedValues, this.methodNames.length);
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= this.methodNames.length) {
+            return;
+        }
+        final int newCapacity = Math.min(Math.max(capacity, this.methodNames.length * 2), MAX_SLOTS);
+        this.methodNames = Arrays.copyOf(this.methodNames, newCapacity);
+        this.args = Arrays.copyOf(this.args, newCapacity);
+    }
+
+    /**
+     * @return formatted bind values, the index of the array is parameterIndex - 1
+     */
+    public String[] format() {
+        return format(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Formats the bind values until the joined length reaches {@code limit}.
+     * The remaining values are left null, they are cut off when the bind values are joined anyway.
+     * @param limit max length of the joined bind values, e.g. profiler.jdbc.maxsqlbindvaluesize
+     * @return formatted bind values, the index of the array is parameterIndex - 1
+     */
+    public String[] format(int limit) {
+        final String[] formatted = new String[maxIndex];
+        // lower bound of the joined length, the abbreviated value and the ", " separator
+        long length = 0;
+        for (int i = 0; i < maxIndex; i++) {
+            if (length >= limit) {
+                break;
+            }
+            final String methodName = methodNames[i];
+            if (methodName != null) {
+                final String value = formatSlot(i, methodName);
+                formatted[i] = value;
+                if (value != null) {
+                    length += Math.min(value.length(), limit);
+                }
+            }
+            length += 2;
+        }
+        return formatted;
+    }
+
+    private String formatSlot(int slot, String methodName) {
+        if (this.args[slot] == FORMATTED_VALUE) {
+            return this.formattedValues[slot];
+        }
+        return bindVariableService.formatBindVariable(methodName, getArgs(slot));
+    }
+
+    private Object[] getArgs(int slot) {
+        final Object[] args = this.args[slot];
+        if (args == INT_VALUE) {
+            return new Object[]{slot + 1, (int) this.values[slot]};
+        }
+        if (args == LONG_VALUE) {
+            return new Object[]{slot + 1, this.values[slot]};
+        }
+        return args;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(this.methodNames, 0, maxIndex, null);
+        Arrays.fill(this.args, 0, maxIndex, null);
+        if (this.formattedValues != null) {
+            Arrays.fill(this.formattedValues, 0, Math.min(maxIndex, this.formattedValues.length), null);
+        }
+        this.maxIndex = 0;
+        this.size = 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Set<Entry<Integer, String>> entrySet() {
+        if (size == 0) {
+            return Collections.emptySet();
+        }
+        final String[] formatted = format();
+        final Map<Integer, String> map = new LinkedHashMap<>(size);
+        for (int i = 0; i < formatted.length; i++) {
+            if (methodNames[i] != null) {
+                map.put(i + 1, formatted[i]);
+            }
+        }
+        return map.entrySet();
+    }
+}
@@ -7,5 +7,6 @@ public interface BindVariableService {
     String formatBindVariable(Object value);
 
     String bindVariableToString(Map<Integer, String> bindValueMap, int limit);
+    String bindVariableToString(String[] bindValues, int limit);
     String bindNameVariableToString(Map<String, String> bindValueMap, int limit);
 }
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.bootstrap.plugin.jdbc.interceptor;
+
+import com.navercorp.pinpoint.bootstrap.context.Trace;
+import com.navercorp.pinpoint.bootstrap.context.TraceContext;
+import com.navercorp.pinpoint.bootstrap.interceptor.IntIntAroundInterceptor2;
+import com.navercorp.pinpoint.bootstrap.logging.PluginLogManager;
+import com.navercorp.pinpoint.bootstrap.logging.PluginLogger;
+import com.navercorp.pinpoint.bootstrap.plugin.jdbc.BindValueAccessor;
+import com.navercorp.pinpoint.bootstrap.plugin.jdbc.BindValueSlots;
+import com.navercorp.pinpoint.bootstrap.plugin.jdbc.BindVariableService;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * {@link PreparedStatementBindVariableInterceptor} for {@code setInt(int, int)}, the value is bound without boxing.
+ */
+public class PreparedStatementBindIntVariableInterceptor implements IntIntAroundInterceptor2 {
+
+    private static final String METHOD_NAME = "setInt";
+
+    private final PluginLogger logger = PluginLogManager.getLogger(this.getClass());
+    private final boolean isDebug = logger.isDebugEnabled();
+
+    private final TraceContext traceContext;
+
+    public PreparedStatementBindIntVariableInterceptor(TraceContext traceContext) {
+        this.traceContext = Objects.requireNonNull(traceContext, "traceContext");
+    }
+
+    @Override
+    public void before(Object target, int parameterIndex, int value) {
+    }
+
+    @Override
+    public void after(Object target, int parameterIndex, int value, Object result, Throwable throwable) {
+        if (isDebug) {
+            logger.afterInterceptor(target, new Object[]{parameterIndex, value}, result, throwable);
+        }
+
+        final Trace trace = traceContext.currentTraceObject();
+        if (trace == null) {
+            return;
+        }
+
+        if (!(target instanceof BindValueAccessor)) {
+            return;
+        }
+
+        final BindVariableService bindVariableService = traceContext.getJdbcContext().getBindVariableService();
+        final Map<Integer, String> bindList = ((BindValueAccessor) target)._$PINPOINT$_getBindValue();
+        if (bindList instanceof BindValueSlots) {
+            ((BindValueSlots) bindList).bindInt(parameterIndex, METHOD_NAME, value);
+        } else if (bindList == null) {
+            final BindValueSlots bindValueSlots = new BindValueSlots(bindVariableService);
+            bindValueSlots.bindInt(parameterIndex, METHOD_NAME, value);
+            ((BindValueAccessor) target)._$PINPOINT$_setBindValue(bindValueSlots);
+        } else {
+            final String formatted = bindVariableService.formatBindVariable(METHOD_NAME, new Object[]{parameterIndex, value});
+            bindList.put(parameterIndex, formatted);
+        }
+    }
+}
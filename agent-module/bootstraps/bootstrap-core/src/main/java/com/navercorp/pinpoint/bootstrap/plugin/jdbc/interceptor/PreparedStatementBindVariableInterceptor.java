@@ -22,9 +22,10 @@ import com.navercorp.pinpoint.bootstrap.interceptor.StaticAroundInterceptor;
 import com.navercorp.pinpoint.bootstrap.logging.PluginLogManager;
 import com.navercorp.pinpoint.bootstrap.logging.PluginLogger;
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.BindValueAccessor;
+import com.navercorp.pinpoint.bootstrap.plugin.jdbc.BindValueSlots;
+import com.navercorp.pinpoint.bootstrap.plugin.jdbc.BindVariableService;
 import com.navercorp.pinpoint.bootstrap.util.NumberUtils;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
@@ -72,13 +73,17 @@ public class PreparedStatementBindVariableInterceptor implements StaticAroundInt
             return;
         }
 
-        Map<Integer, String> bindList = ((BindValueAccessor) target)._$PINPOINT$_getBindValue();
-        if (bindList == null) {
-            bindList = new HashMap<>();
-            ((BindValueAccessor) target)._$PINPOINT$_setBindValue(bindList);
+        final BindVariableService bindVariableService = traceContext.getJdbcContext().getBindVariableService();
+        final Map<Integer, String> bindList = ((BindValueAccessor) target)._$PINPOINT$_getBindValue();
+        if (bindList instanceof BindValueSlots) {
+            ((BindValueSlots) bindList).bind(index, methodName, args);
+        } else if (bindList == null) {
+            final BindValueSlots bindValueSlots = new BindValueSlots(bindVariableService);
+            bindValueSlots.bind(index, methodName, args);
+            ((BindValueAccessor) target)._$PINPOINT$_setBindValue(bindValueSlots);
+        } else {
+            final String value = bindVariableService.formatBindVariable(methodName, args);
+            bindList.put(index, value);
         }
-
-        final String value = traceContext.getJdbcContext().getBindVariableService().formatBindVariable(methodName, args);
-        bindList.put(index, value);
     }
 }
\ No newline at end of file
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.bootstrap.plugin.jdbc.interceptor;
+
+import com.navercorp.pinpoint.bootstrap.instrument.InstrumentMethod;
+import com.navercorp.pinpoint.bootstrap.interceptor.Interceptor;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+public final class PreparedStatementBindVariableInterceptors {
+
+    private static final String[] INT_INT = {"int", "int"};
+    private static final String[] INT_LONG = {"int", "long"};
+
+    private PreparedStatementBindVariableInterceptors() {
+    }
+
+    /**
+     * @return the bind variable interceptor of the setter, {@code setInt(int, int)} and {@code setLong(int, long)} are intercepted without boxing
+     */
+    public static Class<? extends Interceptor> getBindVariableInterceptor(InstrumentMethod method) {
+        Objects.requireNonNull(method, "method");
+
+        final String name = method.getName();
+        final String[] parameterTypes = method.getParameterTypes();
+        if ("setInt".equals(name) && Arrays.equals(INT_INT, parameterTypes)) {
+            return PreparedStatementBindIntVariableInterceptor.class;
+        }
+        if ("setLong".equals(name) && Arrays.equals(INT_LONG, parameterTypes)) {
+            return PreparedStatementBindLongVariableInterceptor.class;
+        }
+        return PreparedStatementBindVariableInterceptor.class;
+    }
+}
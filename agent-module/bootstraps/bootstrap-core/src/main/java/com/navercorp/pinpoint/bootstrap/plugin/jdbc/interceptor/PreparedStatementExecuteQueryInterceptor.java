@@ -23,11 +23,12 @@ import com.navercorp.pinpoint.bootstrap.context.SpanEventRecorder;
 import com.navercorp.pinpoint.bootstrap.context.TraceContext;
 import com.navercorp.pinpoint.bootstrap.interceptor.SpanEventSimpleAroundInterceptorForPlugin;
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.BindValueAccessor;
+import com.navercorp.pinpoint.bootstrap.plugin.jdbc.BindValueSlots;
+import com.navercorp.pinpoint.bootstrap.plugin.jdbc.BindVariableService;
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.DatabaseInfoAccessor;
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.ParsingResultAccessor;
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.UnKnownDatabaseInfo;
 
-import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -91,12 +92,25 @@ public class PreparedStatementExecuteQueryInterceptor extends SpanEventSimpleAro
 
     private void clean(Object target) {
         if (target instanceof BindValueAccessor) {
-            ((BindValueAccessor) target)._$PINPOINT$_setBindValue(new HashMap<>());
+            final Map<Integer, String> bindValue = ((BindValueAccessor) target)._$PINPOINT$_getBindValue();
+            if (bindValue instanceof BindValueSlots) {
+                // reuse slots of the statement
+                bindValue.clear();
+            } else if (bindValue != null) {
+                final BindVariableService bindVariableService = traceContext.getJdbcContext().getBindVariableService();
+                ((BindValueAccessor) target)._$PINPOINT$_setBindValue(new BindValueSlots(bindVariableService));
+            }
         }
     }
 
     private String toBindVariable(Map<Integer, String> bindValue) {
-        return traceContext.getJdbcContext().getBindVariableService().bindVariableToString(bindValue, maxSqlBindValueLength);
+        final BindVariableService bindVariableService = traceContext.getJdbcContext().getBindVariableService();
+        if (bindValue instanceof BindValueSlots) {
+            // bind values are formatted only here, when the span event is recorded
+            final String[] bindValues = ((BindValueSlots) bindValue).format(maxSqlBindValueLength);
+            return bindVariableService.bindVariableToString(bindValues, maxSqlBindValueLength);
+        }
+        return bindVariableService.bindVariableToString(bindValue, maxSqlBindValueLength);
     }
 
     @Override
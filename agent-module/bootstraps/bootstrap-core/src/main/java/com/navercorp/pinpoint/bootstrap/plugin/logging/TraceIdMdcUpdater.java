@@ -0,0 +1,66 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.bootstrap.plugin.logging;
+
+import com.navercorp.pinpoint.bootstrap.context.Trace;
+import com.navercorp.pinpoint.bootstrap.context.TraceId;
+
+import java.util.Objects;
+
+/**
+ * Writes the transaction id and span id of the current trace to the MDC of a logging library.
+ * <p>
+ * The MDC is thread bound, so the values written by the previous log event of the thread are compared by identity
+ * with the id strings cached on the {@link TraceId}. put and remove happen only when the active trace changes,
+ * or when the application has cleared the MDC in between.
+ */
+public class TraceIdMdcUpdater {
+
+    public static final String TRANSACTION_ID = "PtxId";
+    public static final String SPAN_ID = "PspanId";
+
+    private final MdcAdapter mdc;
+
+    public TraceIdMdcUpdater(MdcAdapter mdc) {
+        this.mdc = Objects.requireNonNull(mdc, "mdc");
+    }
+
+    public void update(Trace trace) {
+        if (trace == null) {
+            remove();
+            return;
+        }
+        final TraceId traceId = trace.getTraceId();
+        final String transactionId = traceId.getTransactionId();
+        final String spanId = traceId.getSpanIdString();
+        if (mdc.get(TRANSACTION_ID) != transactionId) {
+            mdc.put(TRANSACTION_ID, transactionId);
+        }
+        if (mdc.get(SPAN_ID) != spanId) {
+            mdc.put(SPAN_ID, spanId);
+        }
+    }
+
+    private void remove() {
+        if (mdc.get(TRANSACTION_ID) != null) {
+            mdc.remove(TRANSACTION_ID);
+        }
+        if (mdc.get(SPAN_ID) != null) {
+            mdc.remove(SPAN_ID);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.bootstrap.plugin.jdbc;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class BindValueSlotsTest {
+
+    private BindVariableService newBindVariableService() {
+        BindVariableService bindVariableService = mock(BindVariableService.class);
+        when(bindVariableService.formatBindVariable(anyString(), any(Object[].class)))
+                .thenAnswer(invocation -> String.valueOf(invocation.<Object[]>getArgument(1)[1]));
+        return bindVariableService;
+    }
+
+    @Test
+    public void format() {
+        BindVariableService bindVariableService = newBindVariableService();
+        BindValueSlots slots = new BindValueSlots(bindVariableService);
+        slots.bind(1, "setInt", new Object[]{1, 10});
+        slots.bind(3, "setString", new Object[]{3, "c"});
+
+        verify(bindVariableService, never()).formatBindVariable(anyString(), any(Object[].class));
+
+        Assertions.assertEquals(2, slots.size());
+        Assertions.assertArrayEquals(new String[]{"10", null, "c"}, slots.format());
+    }
+
+    @Test
+    public void bindPrimitive() {
+        BindVariableService bindVariableService = newBindVariableService();
+        BindValueSlots slots = new BindValueSlots(bindVariableService);
+        slots.bindInt(1, "setInt", 10);
+        slots.bindLong(2, "setLong", Long.MAX_VALUE);
+        slots.bind(3, "setString", new Object[]{3, "c"});
+
+        verify(bindVariableService, never()).formatBindVariable(anyString(), any(Object[].class));
+
+        Assertions.assertEquals(3, slots.size());
+        Assertions.assertArrayEquals(new String[]{"10", String.valueOf(Long.MAX_VALUE), "c"}, slots.format());
+        verify(bindVariableService).formatBindVariable("setInt", new Object[]{1, 10});
+        verify(bindVariableService).formatBindVariable("setLong", new Object[]{2, Long.MAX_VALUE});
+    }
+
+    @Test
+    public void rebindPrimitive() {
+        BindValueSlots slots = new BindValueSlots(newBindVariableService());
+        slots.bindInt(1, "setInt", 10);
+        slots.bind(1, "setString", new Object[]{1, "a"});
+        slots.bindLong(20, "setLong", 20L);
+        slots.bindInt(20, "setInt", 21);
+
+        Assertions.assertEquals(2, slots.size());
+        String[] formatted = slots.format();
+        Assertions.assertEquals("a", formatted[0]);
+        Assertions.assertEquals("21", formatted[19]);
+    }
+
+    @Test
+    public void rebind() {
+        BindValueSlots slots = new BindValueSlots(newBindVariableService());
+        slots.bind(1, "setInt", new Object[]{1, 10});
+        slots.bind(1, "setInt", new Object[]{1, 20});
+
+        Assertions.assertEquals(1, slots.size());
+        Assertions.assertArrayEquals(new String[]{"20"}, slots.format());
+    }
+
+    @Test
+    public void grow() {
+        BindValueSlots slots = new BindValueSlots(newBindVariableService());
+        for (int i = 1; i <= 50; i++) {
+            slots.bind(i, "setInt", new Object[]{i, i});
+        }
+        String[] formatted = slots.format();
+        Assertions.assertEquals(50, formatted.length);
+        Assertions.assertEquals("50", formatted[49]);
+    }
+
+    @Test
+    public void snapshot_date() {
+        BindValueSlots slots = new BindValueSlots(newBindVariableService());
+        Date date = new Date(1000);
+        slots.bind(1, "setDate", new Object[]{1, date});
+        date.setTime(2000);
+
+        Assertions.assertArrayEquals(new String[]{new Date(1000).toString()}, slots.format());
+    }
+
+    @Test
+    public void snapshot_mutableObject() {
+        BindVariableService bindVariableService = mock(BindVariableService.class);
+        when(bindVariableService.formatBindVariable(anyString(), any(Object[].class)))
+                .thenAnswer(invocation -> Arrays.toString((byte[]) invocation.<Object[]>getArgument(1)[1]));
+        BindValueSlots slots = new BindValueSlots(bindVariableService);
+        byte[] bytes = new byte[]{1, 2};
+        slots.bind(1, "setBytes", new Object[]{1, bytes});
+        // formatted at bind time
+        verify(bindVariableService).formatBindVariable(anyString(), any(Object[].class));
+        bytes[0] = 3;
+
+        Assertions.assertArrayEquals(new String[]{"[1, 2]"}, slots.format());
+    }
+
+    @Test
+    public void format_limit() {
+        BindVariableService bindVariableService = newBindVariableService();
+        BindValueSlots slots = new BindValueSlots(bindVariableService);
+        slots.bind(1, "setString", new Object[]{1, "abcde"});
+        slots.bind(2, "setString", new Object[]{2, "fghij"});
+        slots.bind(3, "setString", new Object[]{3, "klmno"});
+
+        Assertions.assertArrayEquals(new String[]{"abcde", "fghij", null}, slots.format(8));
+        verify(bindVariableService, never()).formatBindVariable("setString", new Object[]{3, "klmno"});
+
+        Assertions.assertArrayEquals(new String[]{"abcde", "fghij", "klmno"}, slots.format(100));
+    }
+
+    @Test
+    public void invalidIndex() {
+        BindValueSlots slots = new BindValueSlots(newBindVariableService());
+        slots.bind(0, "setInt", new Object[]{0, 0});
+        slots.bind(-1, "setInt", new Object[]{-1, -1});
+        slots.bind(BindValueSlots.MAX_SLOTS + 1, "setInt", new Object[]{0, 0});
+
+        Assertions.assertTrue(slots.isEmpty());
+        Assertions.assertEquals(0, slots.format().length);
+    }
+
+    @Test
+    public void clear() {
+        BindValueSlots slots = new BindValueSlots(newBindVariableService());
+        slots.bind(2, "setInt", new Object[]{2, 10});
+        slots.clear();
+
+        Assertions.assertTrue(slots.isEmpty());
+        Assertions.assertEquals(0, slots.format().length);
+
+        slots.bind(1, "setInt", new Object[]{1, 10});
+        Assertions.assertArrayEquals(new String[]{"10"}, slots.format());
+    }
+
+    @Test
+    public void entrySet() {
+        BindValueSlots slots = new BindValueSlots(newBindVariableService());
+        slots.bind(1, "setInt", new Object[]{1, 10});
+        slots.bind(3, "setString", new Object[]{3, "c"});
+
+        Map<Integer, String> map = slots;
+        Assertions.assertEquals("10", map.get(1));
+        Assertions.assertNull(map.get(2));
+        Assertions.assertEquals("c", map.get(3));
+    }
+}
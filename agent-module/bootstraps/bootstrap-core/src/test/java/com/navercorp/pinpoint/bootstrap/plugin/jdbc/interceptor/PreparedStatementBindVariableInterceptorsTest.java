@@ -0,0 +1,49 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.bootstrap.plugin.jdbc.interceptor;
+
+import com.navercorp.pinpoint.bootstrap.instrument.InstrumentMethod;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class PreparedStatementBindVariableInterceptorsTest {
+
+    @Test
+    public void getBindVariableInterceptor() {
+        Assertions.assertEquals(PreparedStatementBindIntVariableInterceptor.class,
+                PreparedStatementBindVariableInterceptors.getBindVariableInterceptor(method("setInt", "int", "int")));
+        Assertions.assertEquals(PreparedStatementBindLongVariableInterceptor.class,
+                PreparedStatementBindVariableInterceptors.getBindVariableInterceptor(method("setLong", "int", "long")));
+
+        Assertions.assertEquals(PreparedStatementBindVariableInterceptor.class,
+                PreparedStatementBindVariableInterceptors.getBindVariableInterceptor(method("setString", "int", "java.lang.String")));
+        Assertions.assertEquals(PreparedStatementBindVariableInterceptor.class,
+                PreparedStatementBindVariableInterceptors.getBindVariableInterceptor(method("setInt", "java.lang.String", "int")));
+        Assertions.assertEquals(PreparedStatementBindVariableInterceptor.class,
+                PreparedStatementBindVariableInterceptors.getBindVariableInterceptor(method("setLong", "int", "java.lang.Long")));
+    }
+
+    private InstrumentMethod method(String name, String... parameterTypes) {
+        InstrumentMethod method = mock(InstrumentMethod.class);
+        when(method.getName()).thenReturn(name);
+        when(method.getParameterTypes()).thenReturn(parameterTypes);
+        return method;
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.bootstrap.plugin.logging;
+
+import com.navercorp.pinpoint.bootstrap.context.Trace;
+import com.navercorp.pinpoint.bootstrap.context.TraceId;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TraceIdMdcUpdaterTest {
+
+    private static final int LOG_EVENTS = 10000;
+
+    @Test
+    public void update_sameTrace() {
+        CountingMdcAdapter mdc = new CountingMdcAdapter();
+        TraceIdMdcUpdater updater = new TraceIdMdcUpdater(mdc);
+        Trace trace = newTrace("agent^1^1", "10");
+
+        for (int i = 0; i < LOG_EVENTS; i++) {
+            updater.update(trace);
+        }
+
+        Assertions.assertEquals("agent^1^1", mdc.get(TraceIdMdcUpdater.TRANSACTION_ID));
+        Assertions.assertEquals("10", mdc.get(TraceIdMdcUpdater.SPAN_ID));
+        // one put per key for the whole trace instead of one per log event
+        Assertions.assertEquals(2, mdc.putCount);
+        Assertions.assertEquals(0, mdc.removeCount);
+    }
+
+    @Test
+    public void update_traceChanged() {
+        CountingMdcAdapter mdc = new CountingMdcAdapter();
+        TraceIdMdcUpdater updater = new TraceIdMdcUpdater(mdc);
+
+        updater.update(newTrace("agent^1^1", "10"));
+        updater.update(newTrace("agent^1^2", "20"));
+
+        Assertions.assertEquals("agent^1^2", mdc.get(TraceIdMdcUpdater.TRANSACTION_ID));
+        Assertions.assertEquals("20", mdc.get(TraceIdMdcUpdater.SPAN_ID));
+        Assertions.assertEquals(4, mdc.putCount);
+    }
+
+    @Test
+    public void update_noTrace() {
+        CountingMdcAdapter mdc = new CountingMdcAdapter();
+        TraceIdMdcUpdater updater = new TraceIdMdcUpdater(mdc);
+
+        updater.update(newTrace("agent^1^1", "10"));
+        for (int i = 0; i < LOG_EVENTS; i++) {
+            updater.update(null);
+        }
+
+        Assertions.assertNull(mdc.get(TraceIdMdcUpdater.TRANSACTION_ID));
+        Assertions.assertNull(mdc.get(TraceIdMdcUpdater.SPAN_ID));
+        Assertions.assertEquals(2, mdc.removeCount);
+    }
+
+    @Test
+    public void update_clearedByApplication() {
+        CountingMdcAdapter mdc = new CountingMdcAdapter();
+        TraceIdMdcUpdater updater = new TraceIdMdcUpdater(mdc);
+        Trace trace = newTrace("agent^1^1", "10");
+
+        updater.update(trace);
+        mdc.map.clear();
+        updater.update(trace);
+
+        Assertions.assertEquals("agent^1^1", mdc.get(TraceIdMdcUpdater.TRANSACTION_ID));
+        Assertions.assertEquals(4, mdc.putCount);
+    }
+
+    private Trace newTrace(String transactionId, String spanId) {
+        TraceId traceId = mock(TraceId.class);
+        when(traceId.getTransactionId()).thenReturn(transactionId);
+        when(traceId.getSpanIdString()).thenReturn(spanId);
+        Trace trace = mock(Trace.class);
+        when(trace.getTraceId()).thenReturn(traceId);
+        return trace;
+    }
+
+    private static class CountingMdcAdapter implements MdcAdapter {
+        private final Map<String, String> map = new HashMap<>();
+        private int putCount;
+        private int removeCount;
+
+        @Override
+        public Object get(String key) {
+            return map.get(key);
+        }
+
+        @Override
+        public void put(String key, String value) {
+            putCount++;
+            map.put(key, value);
+        }
+
+        @Override
+        public void remove(String key) {
+            removeCount++;
+            map.remove(key);
+        }
+    }
+}
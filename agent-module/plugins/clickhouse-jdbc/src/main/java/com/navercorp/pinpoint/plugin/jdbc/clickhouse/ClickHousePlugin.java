@@ -37,7 +37,7 @@ import com.navercorp.pinpoint.bootstrap.plugin.jdbc.ParsingResultAccessor;
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.PreparedStatementBindingMethodFilter;
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.interceptor.ConnectionCloseInterceptor;
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.interceptor.DriverConnectInterceptorV2;
-import com.navercorp.pinpoint.bootstrap.plugin.jdbc.interceptor.PreparedStatementBindVariableInterceptor;
+import com.navercorp.pinpoint.bootstrap.plugin.jdbc.interceptor.PreparedStatementBindVariableInterceptors;
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.interceptor.PreparedStatementCreateInterceptor;
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.interceptor.PreparedStatementExecuteQueryInterceptor;
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.interceptor.StatementCreateInterceptor;
@@ -239,7 +239,7 @@ public class ClickHousePlugin implements ProfilerPlugin, TransformTemplateAware
                 final PreparedStatementBindingMethodFilter excludes = PreparedStatementBindingMethodFilter.excludes("setRowId", "setNClob", "setSQLXML");
                 final List<InstrumentMethod> declaredMethods = target.getDeclaredMethods(excludes);
                 for (InstrumentMethod method : declaredMethods) {
-                    method.addScopedInterceptor(PreparedStatementBindVariableInterceptor.class, CLICK_HOUSE_SCOPE, ExecutionPolicy.BOUNDARY);
+                    method.addScopedInterceptor(PreparedStatementBindVariableInterceptors.getBindVariableInterceptor(method), CLICK_HOUSE_SCOPE, ExecutionPolicy.BOUNDARY);
                 }
             }
 
@@ -38,7 +38,7 @@ import com.navercorp.pinpoint.bootstrap.plugin.jdbc.PreparedStatementBindingMeth
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.interceptor.CallableStatementRegisterOutParameterInterceptor;
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.interceptor.ConnectionCloseInterceptor;
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.interceptor.DriverConnectInterceptorV2;
-import com.navercorp.pinpoint.bootstrap.plugin.jdbc.interceptor.PreparedStatementBindVariableInterceptor;
+import com.navercorp.pinpoint.bootstrap.plugin.jdbc.interceptor.PreparedStatementBindVariableInterceptors;
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.interceptor.PreparedStatementCreateInterceptor;
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.interceptor.PreparedStatementExecuteQueryInterceptor;
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.interceptor.StatementCreateInterceptor;
@@ -242,7 +242,7 @@ public class DamengPlugin implements ProfilerPlugin, TransformTemplateAware {
 
                 final List<InstrumentMethod> declaredMethods = target.getDeclaredMethods(excludes);
                 for (InstrumentMethod method : declaredMethods) {
-                    method.addScopedInterceptor(PreparedStatementBindVariableInterceptor.class, DAMENG_SCOPE, ExecutionPolicy.BOUNDARY);
+                    method.addScopedInterceptor(PreparedStatementBindVariableInterceptors.getBindVariableInterceptor(method), DAMENG_SCOPE, ExecutionPolicy.BOUNDARY);
                 }
             }
         }
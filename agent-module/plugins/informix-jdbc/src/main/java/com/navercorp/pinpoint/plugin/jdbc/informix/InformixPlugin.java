@@ -39,7 +39,7 @@ import com.navercorp.pinpoint.bootstrap.plugin.jdbc.PreparedStatementBindingMeth
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.interceptor.CallableStatementRegisterOutParameterInterceptor;
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.interceptor.ConnectionCloseInterceptor;
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.interceptor.DriverConnectInterceptorV2;
-import com.navercorp.pinpoint.bootstrap.plugin.jdbc.interceptor.PreparedStatementBindVariableInterceptor;
+import com.navercorp.pinpoint.bootstrap.plugin.jdbc.interceptor.PreparedStatementBindVariableInterceptors;
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.interceptor.PreparedStatementExecuteQueryInterceptor;
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.interceptor.StatementExecuteQueryInterceptor;
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.interceptor.StatementExecuteUpdateInterceptor;
@@ -256,7 +256,7 @@ public class InformixPlugin implements ProfilerPlugin, TransformTemplateAware {
                 MethodFilter filter = new PreparedStatementBindingMethodFilter();
                 List<InstrumentMethod> declaredMethods = target.getDeclaredMethods(filter);
                 for (InstrumentMethod method : declaredMethods) {
-                    method.addScopedInterceptor(PreparedStatementBindVariableInterceptor.class, INFORMIX_SCOPE);
+                    method.addScopedInterceptor(PreparedStatementBindVariableInterceptors.getBindVariableInterceptor(method), INFORMIX_SCOPE);
                 }
             }
 
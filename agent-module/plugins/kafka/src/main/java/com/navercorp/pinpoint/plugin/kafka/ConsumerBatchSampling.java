@@ -0,0 +1,50 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.plugin.kafka;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * Sampling decision shared by the records of one poll.
+ * Only the first record that starts a new trace asks the sampler, the remaining records of the poll are not traced.
+ * A poll therefore produces at most one new trace, whatever the sampler decided.
+ */
+public class ConsumerBatchSampling {
+
+    private static final AtomicIntegerFieldUpdater<ConsumerBatchSampling> UPDATER
+            = AtomicIntegerFieldUpdater.newUpdater(ConsumerBatchSampling.class, "decided");
+
+    private volatile int decided = 0;
+
+    /**
+     * @return true for the first caller of the poll, which asks the sampler
+     */
+    public boolean tryDecide() {
+        return UPDATER.compareAndSet(this, 0, 1);
+    }
+
+    public boolean isDecided() {
+        return decided == 1;
+    }
+
+    @Override
+    public String toString() {
+        return "ConsumerBatchSampling{" +
+                "decided=" + decided +
+                '}';
+    }
+}
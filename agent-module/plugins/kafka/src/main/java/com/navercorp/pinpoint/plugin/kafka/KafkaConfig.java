@@ -33,6 +33,8 @@ public class KafkaConfig {
 
     static final String CONSUMER_ENABLE = "profiler.kafka.consumer.enable";
     static final String CONSUMER_ENTRY_POINT = "profiler.kafka.consumer.entryPoint";
+    // whether the records of one poll reuse the sampling decision of the first record
+    static final String CONSUMER_BATCH_SAMPLING = "profiler.kafka.consumer.batch.sampling";
 
     static final String SPRING_CONSUMER_ENABLE = "profiler.springkafka.consumer.enable";
 
@@ -44,6 +46,7 @@ public class KafkaConfig {
     private final boolean headerEnable;
     private final boolean headerRecorded;
     private final String kafkaEntryPoint;
+    private final boolean consumerBatchSampling;
     private final boolean kafkaMessageListenerContainerEnable;
     private final boolean kafkaMessageListenerContainerMarkError;
     private final boolean traceStreamProcess;
@@ -57,6 +60,7 @@ public class KafkaConfig {
         this.headerEnable = config.readBoolean(HEADER_ENABLE, true);
         this.headerRecorded = config.readBoolean(HEADER_RECORD, true);
         this.kafkaEntryPoint = config.readString(CONSUMER_ENTRY_POINT, "");
+        this.consumerBatchSampling = config.readBoolean(CONSUMER_BATCH_SAMPLING, false);
         this.kafkaMessageListenerContainerEnable = config.readBoolean("profiler.springkafka.container.enable", false);
         this.kafkaMessageListenerContainerMarkError = config.readBoolean("profiler.springkafka.container.mark.error", false);
         this.traceStreamProcess = config.readBoolean("profiler.kafka-streams.trace.process", false);
@@ -94,6 +98,10 @@ public class KafkaConfig {
         return kafkaEntryPoint;
     }
 
+    public boolean isConsumerBatchSampling() {
+        return consumerBatchSampling;
+    }
+
     public boolean isKafkaMessageListenerContainerEnable() {
         return kafkaMessageListenerContainerEnable;
     }
@@ -117,6 +125,7 @@ public class KafkaConfig {
                 ", headerEnable=" + headerEnable +
                 ", headerRecorded=" + headerRecorded +
                 ", kafkaEntryPoint='" + kafkaEntryPoint + '\'' +
+                ", consumerBatchSampling=" + consumerBatchSampling +
                 ", kafkaMessageListenerContainerEnable=" + kafkaMessageListenerContainerEnable +
                 ", kafkaMessageListenerContainerMarkError=" + kafkaMessageListenerContainerMarkError +
                 ", traceStreamProcess=" + traceStreamProcess +
@@ -35,6 +35,7 @@ import com.navercorp.pinpoint.bootstrap.logging.PluginLogger;
 import com.navercorp.pinpoint.bootstrap.plugin.ProfilerPlugin;
 import com.navercorp.pinpoint.bootstrap.plugin.ProfilerPluginSetupContext;
 import com.navercorp.pinpoint.common.util.StringUtils;
+import com.navercorp.pinpoint.plugin.kafka.field.accessor.BatchSamplingFieldAccessor;
 import com.navercorp.pinpoint.plugin.kafka.field.accessor.EndPointFieldAccessor;
 import com.navercorp.pinpoint.plugin.kafka.field.accessor.RemoteAddressFieldAccessor;
 import com.navercorp.pinpoint.plugin.kafka.field.accessor.SocketChannelListFieldAccessor;
@@ -102,7 +103,10 @@ public class KafkaPlugin implements ProfilerPlugin, TransformTemplateAware {
         }
         if (enableConsumerTransform(config)) {
             transformTemplate.transform("org.apache.kafka.clients.consumer.KafkaConsumer", KafkaConsumerTransform.class);
-            transformTemplate.transform("org.apache.kafka.clients.consumer.ConsumerRecord", ConsumerRecordTransform.class);
+            TransformCallbackParameters consumerRecordParameters = TransformCallbackParametersBuilder.newBuilder()
+                    .addBoolean(config.isConsumerBatchSampling())
+                    .toParameters();
+            transformTemplate.transform("org.apache.kafka.clients.consumer.ConsumerRecord", ConsumerRecordTransform.class, consumerRecordParameters);
             // for getting local addresses
             transformTemplate.transform("org.apache.kafka.common.network.Selector", KafkaSelectorTransform.class);
             transformTemplate.transform("org.apache.kafka.clients.NetworkClient", NetworkClientTransform.class);
@@ -382,12 +386,20 @@ public class KafkaPlugin implements ProfilerPlugin, TransformTemplateAware {
     }
 
     public static class ConsumerRecordTransform implements TransformCallback {
+        private final boolean batchSampling;
+
+        public ConsumerRecordTransform(Boolean batchSampling) {
+            this.batchSampling = batchSampling;
+        }
 
         @Override
         public byte[] doInTransform(Instrumentor instrumentor, ClassLoader classLoader, String className, Class<?> classBeingRedefined, ProtectionDomain protectionDomain, byte[] classfileBuffer) throws InstrumentException {
             final InstrumentClass target = instrumentor.getInstrumentClass(classLoader, className, classfileBuffer);
             target.addField(RemoteAddressFieldAccessor.class);
             target.addField(EndPointFieldAccessor.class);
+            if (batchSampling) {
+                target.addField(BatchSamplingFieldAccessor.class);
+            }
 
             return target.toBytecode();
         }
@@ -38,6 +38,8 @@ public class ConsumerMultiRecordEntryPointInterceptor extends ConsumerRecordEntr
 
     private final AtomicReference<TraceFactoryProvider.TraceFactory> tracyFactoryReference = new AtomicReference<>();
 
+    private final ConsumerRecordsDesc.PartitionTopicCache partitionTopicCache = new ConsumerRecordsDesc.PartitionTopicCache();
+
     /**
      * Instantiates a new Consumer multi record entry point interceptor.
      *
@@ -50,27 +52,22 @@ public class ConsumerMultiRecordEntryPointInterceptor extends ConsumerRecordEntr
 
     @Override
     protected Trace createTrace(Object target, Object[] args) {
-        ConsumerRecordsDesc consumerRecordsDesc = getConsumerRecordsDesc(args);
-        if (consumerRecordsDesc == null) {
+        Iterable<?> consumerRecords = ArrayArgumentUtils.getArgument(args, parameterIndex, Iterable.class);
+        if (!ConsumerRecordsDesc.hasConsumerRecord(consumerRecords)) {
             return null;
         }
 
-        Trace newTrace = createTrace(consumerRecordsDesc);
+        Trace newTrace = createTrace(consumerRecords);
         return newTrace;
     }
 
-    private ConsumerRecordsDesc getConsumerRecordsDesc(Object[] args) {
-        Iterable<?> iter = ArrayArgumentUtils.getArgument(args, parameterIndex, Iterable.class);
-        return ConsumerRecordsDesc.create(iter);
-    }
-
-    private Trace createTrace(ConsumerRecordsDesc consumerRecordsDesc) {
+    private Trace createTrace(Iterable<?> consumerRecords) {
         TraceFactoryProvider.TraceFactory createTrace = tracyFactoryReference.get();
         if (createTrace == null) {
             createTrace = TraceFactoryProvider.get();
             tracyFactoryReference.compareAndSet(null, createTrace);
         }
-        return createTrace.createTrace(traceContext, consumerRecordsDesc);
+        return createTrace.createTrace(traceContext, consumerRecords, partitionTopicCache);
     }
 
     private static class TraceFactoryProvider {
@@ -86,10 +83,11 @@ public class ConsumerMultiRecordEntryPointInterceptor extends ConsumerRecordEntr
              * Create trace trace.
              *
              * @param traceContext        the trace context
-             * @param consumerRecordsDesc the consumer records description
+             * @param consumerRecords     the consumer records
+             * @param partitionTopicCache the topic string cache of the partition assignment
              * @return the trace
              */
-            Trace createTrace(TraceContext traceContext, ConsumerRecordsDesc consumerRecordsDesc);
+            Trace createTrace(TraceContext traceContext, Iterable<?> consumerRecords, ConsumerRecordsDesc.PartitionTopicCache partitionTopicCache);
         }
 
         private static class DefaultTraceFactory implements TraceFactory {
@@ -100,11 +98,15 @@ public class ConsumerMultiRecordEntryPointInterceptor extends ConsumerRecordEntr
             final PluginLogger logger = PluginLogManager.getLogger(this.getClass());
 
             @Override
-            public Trace createTrace(TraceContext traceContext, ConsumerRecordsDesc consumerRecordsDesc) {
+            public Trace createTrace(TraceContext traceContext, Iterable<?> consumerRecords, ConsumerRecordsDesc.PartitionTopicCache partitionTopicCache) {
                 final Trace trace = traceContext.newTraceObject();
                 if (trace.canSampled()) {
-                    final SpanRecorder recorder = trace.getSpanRecorder();
-                    recordRootSpan(recorder, consumerRecordsDesc);
+                    // the batch is only described when it is sampled
+                    final ConsumerRecordsDesc consumerRecordsDesc = ConsumerRecordsDesc.create(consumerRecords, partitionTopicCache);
+                    if (consumerRecordsDesc != null) {
+                        final SpanRecorder recorder = trace.getSpanRecorder();
+                        recordRootSpan(recorder, consumerRecordsDesc);
+                    }
                     if (logger.isDebugEnabled()) {
                         logger.debug("TraceID not exist. start new trace.");
                     }
@@ -16,11 +16,15 @@
 
 package com.navercorp.pinpoint.plugin.kafka.interceptor;
 
+import com.navercorp.pinpoint.bootstrap.context.TraceContext;
 import com.navercorp.pinpoint.bootstrap.interceptor.AroundInterceptor;
 import com.navercorp.pinpoint.bootstrap.logging.PluginLogManager;
 import com.navercorp.pinpoint.bootstrap.logging.PluginLogger;
 import com.navercorp.pinpoint.common.util.StringUtils;
+import com.navercorp.pinpoint.plugin.kafka.ConsumerBatchSampling;
+import com.navercorp.pinpoint.plugin.kafka.KafkaConfig;
 import com.navercorp.pinpoint.plugin.kafka.KafkaConstants;
+import com.navercorp.pinpoint.plugin.kafka.field.accessor.BatchSamplingFieldAccessor;
 import com.navercorp.pinpoint.plugin.kafka.field.accessor.RemoteAddressFieldAccessor;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 
@@ -32,8 +36,15 @@ public class ConsumerPollInterceptor implements AroundInterceptor {
     private final PluginLogger logger = PluginLogManager.getLogger(this.getClass());
     private final boolean isDebug = logger.isDebugEnabled();
 
+    private final boolean batchSampling;
 
     public ConsumerPollInterceptor() {
+        this.batchSampling = false;
+    }
+
+    public ConsumerPollInterceptor(TraceContext traceContext) {
+        KafkaConfig config = new KafkaConfig(traceContext.getProfilerConfig());
+        this.batchSampling = config.isConsumerBatchSampling();
     }
 
     @Override
@@ -57,10 +68,14 @@ public class ConsumerPollInterceptor implements AroundInterceptor {
         remoteAddress = StringUtils.defaultIfEmpty(remoteAddress, KafkaConstants.UNKNOWN);
 
         if (result instanceof ConsumerRecords) {
+            final ConsumerBatchSampling batchSampling = this.batchSampling ? new ConsumerBatchSampling() : null;
             for (Object consumerRecord : (ConsumerRecords<?, ?>) result) {
                 if (consumerRecord instanceof RemoteAddressFieldAccessor) {
                     ((RemoteAddressFieldAccessor) consumerRecord)._$PINPOINT$_setRemoteAddress(remoteAddress);
                 }
+                if (batchSampling != null && consumerRecord instanceof BatchSamplingFieldAccessor) {
+                    ((BatchSamplingFieldAccessor) consumerRecord)._$PINPOINT$_setBatchSampling(batchSampling);
+                }
             }
         }
     }
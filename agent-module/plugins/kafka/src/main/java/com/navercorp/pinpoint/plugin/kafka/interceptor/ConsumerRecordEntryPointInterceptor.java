@@ -32,10 +32,12 @@ import com.navercorp.pinpoint.common.trace.ServiceType;
 import com.navercorp.pinpoint.common.util.ArrayArgumentUtils;
 import com.navercorp.pinpoint.common.util.BytesUtils;
 import com.navercorp.pinpoint.common.util.StringUtils;
+import com.navercorp.pinpoint.plugin.kafka.ConsumerBatchSampling;
 import com.navercorp.pinpoint.plugin.kafka.KafkaClientUtils;
 import com.navercorp.pinpoint.plugin.kafka.KafkaConfig;
 import com.navercorp.pinpoint.plugin.kafka.KafkaConstants;
 import com.navercorp.pinpoint.plugin.kafka.descriptor.EntryPointMethodDescriptor;
+import com.navercorp.pinpoint.plugin.kafka.field.accessor.BatchSamplingFieldAccessor;
 import com.navercorp.pinpoint.plugin.kafka.field.accessor.EndPointFieldAccessor;
 import com.navercorp.pinpoint.plugin.kafka.field.accessor.RemoteAddressFieldAccessor;
 import com.navercorp.pinpoint.plugin.kafka.recorder.DefaultHeaderRecorder;
@@ -65,7 +67,7 @@ public class ConsumerRecordEntryPointInterceptor extends SpanRecursiveAroundInte
         traceContext.cacheApi(ENTRY_POINT_METHOD_DESCRIPTOR);
         this.parameterIndex = parameterIndex;
         KafkaConfig config = new KafkaConfig(traceContext.getProfilerConfig());
-        this.traceFactoryProvider = new TraceFactoryProvider(config.isHeaderRecorded());
+        this.traceFactoryProvider = new TraceFactoryProvider(config.isHeaderRecorded(), config.isConsumerBatchSampling());
     }
 
     @Override
@@ -106,16 +108,18 @@ public class ConsumerRecordEntryPointInterceptor extends SpanRecursiveAroundInte
     private static class TraceFactoryProvider {
 
         private final boolean isHeaderRecorded;
+        private final boolean batchSampling;
 
-        public TraceFactoryProvider(boolean isHeaderRecorded) {
+        public TraceFactoryProvider(boolean isHeaderRecorded, boolean batchSampling) {
             this.isHeaderRecorded = isHeaderRecorded;
+            this.batchSampling = batchSampling;
         }
 
         private TraceFactory get(Object object) {
             if (KafkaClientUtils.supportHeaders(object.getClass())) {
-                return new SupportContinueTraceFactory(isHeaderRecorded);
+                return new SupportContinueTraceFactory(isHeaderRecorded, batchSampling);
             } else {
-                return new DefaultTraceFactory();
+                return new DefaultTraceFactory(batchSampling);
             }
         }
 
@@ -130,12 +134,26 @@ public class ConsumerRecordEntryPointInterceptor extends SpanRecursiveAroundInte
             final PluginLogger logger = PluginLogManager.getLogger(this.getClass());
             final boolean isDebug = logger.isDebugEnabled();
 
+            private final boolean batchSampling;
+
+            DefaultTraceFactory(boolean batchSampling) {
+                this.batchSampling = batchSampling;
+            }
+
             @Override
             public Trace createTrace(TraceContext traceContext, ConsumerRecord<?, ?> consumerRecord) {
                 return createTrace0(traceContext, consumerRecord);
             }
 
             Trace createTrace0(TraceContext traceContext, ConsumerRecord<?, ?> consumerRecord) {
+                final ConsumerBatchSampling batchSampling = getBatchSampling(consumerRecord);
+                if (batchSampling != null && !batchSampling.tryDecide()) {
+                    if (isDebug) {
+                        logger.debug("poll batch is already sampled. skip trace");
+                    }
+                    return traceContext.disableSampling();
+                }
+
                 final Trace trace = traceContext.newTraceObject();
                 if (trace.canSampled()) {
                     final SpanRecorder recorder = trace.getSpanRecorder();
@@ -180,6 +198,13 @@ public class ConsumerRecordEntryPointInterceptor extends SpanRecursiveAroundInte
                 }
             }
 
+            private ConsumerBatchSampling getBatchSampling(Object batchSamplingFieldAccessor) {
+                if (batchSampling && batchSamplingFieldAccessor instanceof BatchSamplingFieldAccessor) {
+                    return ((BatchSamplingFieldAccessor) batchSamplingFieldAccessor)._$PINPOINT$_getBatchSampling();
+                }
+                return null;
+            }
+
             private String getEndPointAddress(Object endPointFieldAccessor) {
                 String endPointAddress = null;
                 if (endPointFieldAccessor instanceof EndPointFieldAccessor) {
@@ -214,7 +239,8 @@ public class ConsumerRecordEntryPointInterceptor extends SpanRecursiveAroundInte
             private final HeaderRecorder headerRecorder;
             private final boolean headerRecorded;
 
-            public SupportContinueTraceFactory(boolean isHeaderRecorded) {
+            public SupportContinueTraceFactory(boolean isHeaderRecorded, boolean batchSampling) {
+                super(batchSampling);
                 this.headerRecorded = isHeaderRecorded;
                 this.headerRecorder = new DefaultHeaderRecorder();
             }
@@ -22,39 +22,51 @@ import com.navercorp.pinpoint.plugin.kafka.KafkaConstants;
 import com.navercorp.pinpoint.plugin.kafka.field.accessor.EndPointFieldAccessor;
 import com.navercorp.pinpoint.plugin.kafka.field.accessor.RemoteAddressFieldAccessor;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
 
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Set;
+import java.util.TreeSet;
 
 /**
  * @author Taejin Koo
  */
 public class ConsumerRecordsDesc {
 
-    private final Set<String> topicSet;
+    private final Set<TopicPartition> partitions;
+    private final PartitionTopicCache partitionTopicCache;
     private final String endPointAddress;
     private final String remoteAddress;
     private final int size;
 
-    private ConsumerRecordsDesc(Set<String> topicSet, String endPointAddress, String remoteAddress, int size) {
-        this.topicSet = topicSet;
+    private String topicString;
+
+    private ConsumerRecordsDesc(String topicString, String endPointAddress, String remoteAddress, int size) {
+        this.partitions = null;
+        this.partitionTopicCache = null;
+        this.topicString = topicString;
         this.endPointAddress = endPointAddress;
         this.remoteAddress = remoteAddress;
         this.size = size;
     }
 
-    String getTopicString() {
-        if (CollectionUtils.isEmpty(topicSet)) {
-            return KafkaConstants.UNKNOWN;
-        }
+    private ConsumerRecordsDesc(Set<TopicPartition> partitions, PartitionTopicCache partitionTopicCache,
+                                String endPointAddress, String remoteAddress, int size) {
+        this.partitions = partitions;
+        this.partitionTopicCache = partitionTopicCache;
+        this.endPointAddress = endPointAddress;
+        this.remoteAddress = remoteAddress;
+        this.size = size;
+    }
 
-        if (CollectionUtils.nullSafeSize(topicSet) == 1) {
-            return topicSet.iterator().next();
+    String getTopicString() {
+        if (topicString == null) {
+            topicString = partitionTopicCache.getTopicString(partitions);
         }
-
-        // [topica, topicb, topicc]
-        return topicSet.toString();
+        return topicString;
     }
 
     String getEndPointAddress() {
@@ -73,8 +85,28 @@ public class ConsumerRecordsDesc {
         return size;
     }
 
+    static boolean hasConsumerRecord(Object object) {
+        if (object instanceof ConsumerRecords) {
+            return !((ConsumerRecords<?, ?>) object).isEmpty();
+        }
+        if (object instanceof Iterable) {
+            for (Object consumerRecord : (Iterable<?>) object) {
+                if (consumerRecord instanceof ConsumerRecord) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
 
     static ConsumerRecordsDesc create(Object object) {
+        return create(object, new PartitionTopicCache());
+    }
+
+    static ConsumerRecordsDesc create(Object object, PartitionTopicCache partitionTopicCache) {
+        if (object instanceof ConsumerRecords) {
+            return create((ConsumerRecords<?, ?>) object, partitionTopicCache);
+        }
         if (object instanceof Iterable) {
             return create(((Iterable<?>) object).iterator());
         }
@@ -82,8 +114,21 @@ public class ConsumerRecordsDesc {
         return null;
     }
 
+    // the topics come from the partitions of the poll, only the first record is read for the addresses
+    private static ConsumerRecordsDesc create(ConsumerRecords<?, ?> consumerRecords, PartitionTopicCache partitionTopicCache) {
+        final int count = consumerRecords.count();
+        if (count == 0) {
+            return null;
+        }
+
+        final Object consumerRecord = consumerRecords.iterator().next();
+        final String remoteAddress = getRemoteAddress(consumerRecord);
+        final String endPointAddress = getEndPointAddress(consumerRecord);
+        return new ConsumerRecordsDesc(consumerRecords.partitions(), partitionTopicCache, endPointAddress, remoteAddress, count);
+    }
+
     static ConsumerRecordsDesc create(Iterator<?> consumerRecordIterator) {
-        Set<String> topicSet = new HashSet<>(1);
+        Set<String> topicSet = new TreeSet<>();
         String remoteAddress = null;
         String endPointAddress  = null;
         int count = 0;
@@ -105,12 +150,25 @@ public class ConsumerRecordsDesc {
         }
 
         if (count > 0) {
-            return new ConsumerRecordsDesc(topicSet, endPointAddress, remoteAddress, count);
+            return new ConsumerRecordsDesc(toTopicString(topicSet), endPointAddress, remoteAddress, count);
         }
 
         return null;
     }
 
+    private static String toTopicString(Set<String> topicSet) {
+        if (CollectionUtils.isEmpty(topicSet)) {
+            return KafkaConstants.UNKNOWN;
+        }
+
+        if (CollectionUtils.nullSafeSize(topicSet) == 1) {
+            return topicSet.iterator().next();
+        }
+
+        // [topica, topicb, topicc]
+        return topicSet.toString();
+    }
+
     private static String getEndPointAddress(Object endPointFieldAccessor) {
         String endPointAddress = null;
         if (endPointFieldAccessor instanceof EndPointFieldAccessor) {
@@ -128,4 +186,42 @@ public class ConsumerRecordsDesc {
         return null;
     }
 
+    /**
+     * Topic string of the last partition assignment.
+     * The assignment of a consumer rarely changes, so consecutive polls reuse the same string.
+     */
+    static class PartitionTopicCache {
+
+        private volatile Entry last;
+
+        String getTopicString(Set<TopicPartition> partitions) {
+            final Entry entry = this.last;
+            if (entry != null && entry.partitions.equals(partitions)) {
+                return entry.topicString;
+            }
+
+            final String topicString = toTopicString(toTopicSet(partitions));
+            this.last = new Entry(new HashSet<>(partitions), topicString);
+            return topicString;
+        }
+
+        private static Set<String> toTopicSet(Collection<TopicPartition> partitions) {
+            final Set<String> topicSet = new TreeSet<>();
+            for (TopicPartition partition : partitions) {
+                topicSet.add(partition.topic());
+            }
+            return topicSet;
+        }
+
+        private static class Entry {
+            private final Set<TopicPartition> partitions;
+            private final String topicString;
+
+            private Entry(Set<TopicPartition> partitions, String topicString) {
+                this.partitions = partitions;
+                this.topicString = topicString;
+            }
+        }
+    }
+
 }
@@ -0,0 +1,368 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.plugin.kafka.interceptor;
+
+import com.navercorp.pinpoint.bootstrap.config.ProfilerConfig;
+import com.navercorp.pinpoint.bootstrap.config.ProfilerConfigLoader;
+import com.navercorp.pinpoint.bootstrap.context.MethodDescriptor;
+import com.navercorp.pinpoint.bootstrap.context.ParsingResult;
+import com.navercorp.pinpoint.bootstrap.context.ServerMetaDataHolder;
+import com.navercorp.pinpoint.bootstrap.context.SpanRecorder;
+import com.navercorp.pinpoint.bootstrap.context.Trace;
+import com.navercorp.pinpoint.bootstrap.context.TraceContext;
+import com.navercorp.pinpoint.bootstrap.context.TraceId;
+import com.navercorp.pinpoint.bootstrap.plugin.jdbc.JdbcContext;
+import com.navercorp.pinpoint.plugin.kafka.ConsumerBatchSampling;
+import com.navercorp.pinpoint.plugin.kafka.field.accessor.BatchSamplingFieldAccessor;
+import com.navercorp.pinpoint.plugin.kafka.field.accessor.EndPointFieldAccessor;
+import com.navercorp.pinpoint.plugin.kafka.field.accessor.RemoteAddressFieldAccessor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+public class ConsumerBatchSamplingTest {
+
+    private static final int POLL_COUNT = 100;
+    private static final int RECORDS_PER_POLL = 1000;
+
+    private final MethodDescriptor descriptor = mock(MethodDescriptor.class);
+
+    @Test
+    public void pollSharesBatchSampling() {
+        StubTraceContext traceContext = new StubTraceContext(true, 1);
+
+        ConsumerPollInterceptor interceptor = new ConsumerPollInterceptor(traceContext);
+        ConsumerRecords<String, String> consumerRecords = newConsumerRecords(3);
+        interceptor.after(new TestConsumer(), new Object[]{}, consumerRecords, null);
+
+        ConsumerBatchSampling batchSampling = null;
+        for (ConsumerRecord<String, String> consumerRecord : consumerRecords) {
+            ConsumerBatchSampling recordBatchSampling = ((TestConsumerRecord) consumerRecord)._$PINPOINT$_getBatchSampling();
+            assertNotNull(recordBatchSampling);
+            if (batchSampling != null) {
+                assertSame(batchSampling, recordBatchSampling);
+            }
+            batchSampling = recordBatchSampling;
+        }
+    }
+
+    @Test
+    public void pollWithoutBatchSampling() {
+        StubTraceContext traceContext = new StubTraceContext(false, 1);
+
+        ConsumerRecords<String, String> consumerRecords = newConsumerRecords(3);
+        new ConsumerPollInterceptor(traceContext).after(new TestConsumer(), new Object[]{}, consumerRecords, null);
+
+        for (ConsumerRecord<String, String> consumerRecord : consumerRecords) {
+            assertNull(((TestConsumerRecord) consumerRecord)._$PINPOINT$_getBatchSampling());
+        }
+    }
+
+    @Test
+    public void droppedBatch() {
+        // the sampler drops every new trace
+        StubTraceContext traceContext = new StubTraceContext(true, Integer.MAX_VALUE);
+        pollAndTrace(traceContext, 1);
+
+        assertEquals(1, traceContext.newTraceCount);
+        assertEquals(0, traceContext.sampledCount);
+        assertEquals(RECORDS_PER_POLL - 1, traceContext.disableSamplingCount);
+    }
+
+    @Test
+    public void sampledBatch() {
+        // the sampler samples every new trace, a sampled poll is reduced to its first record
+        StubTraceContext traceContext = new StubTraceContext(true, 1);
+        pollAndTrace(traceContext, 1);
+
+        assertEquals(1, traceContext.newTraceCount);
+        assertEquals(1, traceContext.sampledCount);
+        assertEquals(RECORDS_PER_POLL - 1, traceContext.disableSamplingCount);
+    }
+
+    @Test
+    public void samplerCalls() {
+        final int samplingRate = 10;
+
+        StubTraceContext perRecord = new StubTraceContext(false, samplingRate);
+        pollAndTrace(perRecord, POLL_COUNT);
+        assertEquals(POLL_COUNT * RECORDS_PER_POLL, perRecord.newTraceCount);
+        assertEquals(POLL_COUNT * RECORDS_PER_POLL / samplingRate, perRecord.sampledCount);
+        assertEquals(0, perRecord.disableSamplingCount);
+
+        // one sampler call per poll, the sampling rate applies to polls instead of records
+        StubTraceContext perBatch = new StubTraceContext(true, samplingRate);
+        pollAndTrace(perBatch, POLL_COUNT);
+        assertEquals(POLL_COUNT, perBatch.newTraceCount);
+        assertEquals(POLL_COUNT / samplingRate, perBatch.sampledCount);
+        assertEquals(POLL_COUNT * (RECORDS_PER_POLL - 1), perBatch.disableSamplingCount);
+    }
+
+    private void pollAndTrace(StubTraceContext traceContext, int pollCount) {
+        ConsumerPollInterceptor pollInterceptor = new ConsumerPollInterceptor(traceContext);
+        ConsumerRecordEntryPointInterceptor interceptor = new ConsumerRecordEntryPointInterceptor(traceContext, descriptor, 0);
+        TestConsumer consumer = new TestConsumer();
+
+        for (int i = 0; i < pollCount; i++) {
+            ConsumerRecords<String, String> consumerRecords = newConsumerRecords(RECORDS_PER_POLL);
+            pollInterceptor.after(consumer, new Object[]{}, consumerRecords, null);
+            for (ConsumerRecord<String, String> consumerRecord : consumerRecords) {
+                interceptor.createTrace(consumer, new Object[]{consumerRecord});
+            }
+        }
+    }
+
+    private static ProfilerConfig newProfilerConfig(boolean batchSampling) {
+        Properties properties = new Properties();
+        properties.setProperty("profiler.kafka.consumer.batch.sampling", String.valueOf(batchSampling));
+        return ProfilerConfigLoader.load(properties);
+    }
+
+    private static ConsumerRecords<String, String> newConsumerRecords(int count) {
+        TopicPartition partition = new TopicPartition("Test", 0);
+        List<ConsumerRecord<String, String>> records = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            records.add(new TestConsumerRecord("Test", 0, i, "key", "value"));
+        }
+        Map<TopicPartition, List<ConsumerRecord<String, String>>> recordMap = Collections.singletonMap(partition, records);
+        return new ConsumerRecords<>(recordMap);
+    }
+
+    /**
+     * Counts the calls of the entry point, new traces go through a 1/samplingRate counting sampler.
+     */
+    private static class StubTraceContext implements TraceContext {
+        private final ProfilerConfig profilerConfig;
+        private final int samplingRate;
+        private final Trace sampledTrace;
+        private final Trace droppedTrace;
+
+        private int newTraceCount;
+        private int sampledCount;
+        private int disableSamplingCount;
+
+        StubTraceContext(boolean batchSampling, int samplingRate) {
+            this.profilerConfig = newProfilerConfig(batchSampling);
+            this.samplingRate = samplingRate;
+
+            this.sampledTrace = mock(Trace.class);
+            doReturn(true).when(sampledTrace).canSampled();
+            doReturn(mock(SpanRecorder.class)).when(sampledTrace).getSpanRecorder();
+            this.droppedTrace = mock(Trace.class);
+        }
+
+        @Override
+        public Trace newTraceObject() {
+            newTraceCount++;
+            if (newTraceCount % samplingRate == 0) {
+                sampledCount++;
+                return sampledTrace;
+            }
+            return droppedTrace;
+        }
+
+        @Override
+        public Trace disableSampling() {
+            disableSamplingCount++;
+            return droppedTrace;
+        }
+
+        @Override
+        public ProfilerConfig getProfilerConfig() {
+            return profilerConfig;
+        }
+
+        @Override
+        public Trace currentTraceObject() {
+            return null;
+        }
+
+        @Override
+        public Trace currentRawTraceObject() {
+            return null;
+        }
+
+        @Override
+        public Trace continueTraceObject(TraceId traceId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Trace continueTraceObject(Trace trace) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Trace newTraceObject(String urlPath) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Trace newAsyncTraceObject() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Trace newAsyncTraceObject(String urlPath) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Trace continueAsyncTraceObject(TraceId traceId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Trace removeTraceObject() {
+            return null;
+        }
+
+        @Override
+        public Trace removeTraceObject(boolean closeDisableTrace) {
+            return null;
+        }
+
+        @Override
+        public String getAgentId() {
+            return "agentId";
+        }
+
+        @Override
+        public String getApplicationName() {
+            return "applicationName";
+        }
+
+        @Override
+        public long getAgentStartTime() {
+            return 0;
+        }
+
+        @Override
+        public short getServerTypeCode() {
+            return 0;
+        }
+
+        @Override
+        public String getServerType() {
+            return null;
+        }
+
+        @Override
+        public int cacheApi(MethodDescriptor methodDescriptor) {
+            return 0;
+        }
+
+        @Override
+        public int cacheString(String value) {
+            return 0;
+        }
+
+        @Override
+        public ParsingResult parseSql(String sql) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public TraceId createTraceId(String transactionId, long parentSpanId, long spanId, short flags) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ServerMetaDataHolder getServerMetaDataHolder() {
+            return null;
+        }
+
+        @Override
+        public JdbcContext getJdbcContext() {
+            return null;
+        }
+
+        @Override
+        public String getClusterNamespace() {
+            return null;
+        }
+    }
+
+    private static class TestConsumer implements RemoteAddressFieldAccessor {
+        private String remoteAddress = "localhost:9092";
+
+        @Override
+        public void _$PINPOINT$_setRemoteAddress(String remoteAddress) {
+            this.remoteAddress = remoteAddress;
+        }
+
+        @Override
+        public String _$PINPOINT$_getRemoteAddress() {
+            return remoteAddress;
+        }
+    }
+
+    private static class TestConsumerRecord extends ConsumerRecord<String, String>
+            implements RemoteAddressFieldAccessor, EndPointFieldAccessor, BatchSamplingFieldAccessor {
+        private String remoteAddress;
+        private String endPoint;
+        private ConsumerBatchSampling batchSampling;
+
+        TestConsumerRecord(String topic, int partition, long offset, String key, String value) {
+            super(topic, partition, offset, key, value);
+        }
+
+        @Override
+        public void _$PINPOINT$_setRemoteAddress(String remoteAddress) {
+            this.remoteAddress = remoteAddress;
+        }
+
+        @Override
+        public String _$PINPOINT$_getRemoteAddress() {
+            return remoteAddress;
+        }
+
+        @Override
+        public void _$PINPOINT$_setEndPoint(String endPoint) {
+            this.endPoint = endPoint;
+        }
+
+        @Override
+        public String _$PINPOINT$_getEndPoint() {
+            return endPoint;
+        }
+
+        @Override
+        public void _$PINPOINT$_setBatchSampling(ConsumerBatchSampling batchSampling) {
+            this.batchSampling = batchSampling;
+        }
+
+        @Override
+        public ConsumerBatchSampling _$PINPOINT$_getBatchSampling() {
+            return batchSampling;
+        }
+    }
+}
@@ -8,15 +8,25 @@ import com.navercorp.pinpoint.bootstrap.context.TraceContext;
 import com.navercorp.pinpoint.plugin.kafka.KafkaConstants;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,19 +47,14 @@ public class ConsumerMultiRecordEntryPointInterceptorTest {
     @Mock
     private SpanRecorder recorder;
 
-    @Mock
-    private ConsumerRecords consumerRecords;
-
     @Test
     public void createTraceTest1() {
-        List<ConsumerRecord> consumerRecordList = new ArrayList<>();
-        consumerRecordList.add(new ConsumerRecord("Test", 1, 1, "hello", "hello too"));
+        ConsumerRecords consumerRecords = newConsumerRecords(new ConsumerRecord("Test", 1, 1, "hello", "hello too"));
 
         doReturn(trace).when(traceContext).newTraceObject();
         doReturn(profilerConfig).when(traceContext).getProfilerConfig();
         doReturn(true).when(trace).canSampled();
         doReturn(recorder).when(trace).getSpanRecorder();
-        doReturn(consumerRecordList.iterator()).when(consumerRecords).iterator();
 
         ConsumerMultiRecordEntryPointInterceptor interceptor = new ConsumerMultiRecordEntryPointInterceptor(traceContext, descriptor, 0);
         interceptor.createTrace(new Object(), new Object[]{consumerRecords});
@@ -62,15 +67,13 @@ public class ConsumerMultiRecordEntryPointInterceptorTest {
 
     @Test
     public void createTraceTest2() {
-        List<ConsumerRecord> consumerRecordList = new ArrayList<>();
-        consumerRecordList.add(new ConsumerRecord("Test", 1, 1, "hello", "hello too"));
-        consumerRecordList.add(new ConsumerRecord("Test2", 2, 1, "hello2", "hello too2"));
+        ConsumerRecords consumerRecords = newConsumerRecords(new ConsumerRecord("Test", 1, 1, "hello", "hello too"),
+                new ConsumerRecord("Test2", 2, 1, "hello2", "hello too2"));
 
         doReturn(trace).when(traceContext).newTraceObject();
         doReturn(profilerConfig).when(traceContext).getProfilerConfig();
         doReturn(true).when(trace).canSampled();
         doReturn(recorder).when(trace).getSpanRecorder();
-        doReturn(consumerRecordList.iterator()).when(consumerRecords).iterator();
 
         ConsumerMultiRecordEntryPointInterceptor interceptor = new ConsumerMultiRecordEntryPointInterceptor(traceContext, descriptor, 0);
         interceptor.createTrace(new Object(), new Object[]{consumerRecords});
@@ -81,4 +84,69 @@ public class ConsumerMultiRecordEntryPointInterceptorTest {
         verify(recorder).recordRpcName("kafka://topic=[Test, Test2]?batch=2");
     }
 
+    @Test
+    public void createTrace_recordList() {
+        List<ConsumerRecord> consumerRecordList = new ArrayList<>();
+        consumerRecordList.add(new ConsumerRecord("Test2", 2, 1, "hello2", "hello too2"));
+        consumerRecordList.add(new ConsumerRecord("Test", 1, 1, "hello", "hello too"));
+
+        doReturn(trace).when(traceContext).newTraceObject();
+        doReturn(profilerConfig).when(traceContext).getProfilerConfig();
+        doReturn(true).when(trace).canSampled();
+        doReturn(recorder).when(trace).getSpanRecorder();
+
+        ConsumerMultiRecordEntryPointInterceptor interceptor = new ConsumerMultiRecordEntryPointInterceptor(traceContext, descriptor, 0);
+        interceptor.createTrace(new Object(), new Object[]{consumerRecordList});
+
+        verify(recorder).recordAttribute(KafkaConstants.KAFKA_TOPIC_ANNOTATION_KEY, "[Test, Test2]");
+        verify(recorder).recordRpcName("kafka://topic=[Test, Test2]?batch=2");
+    }
+
+    @Test
+    public void createTrace_notSampled() {
+        doReturn(trace).when(traceContext).newTraceObject();
+        doReturn(profilerConfig).when(traceContext).getProfilerConfig();
+        doReturn(false).when(trace).canSampled();
+
+        ConsumerMultiRecordEntryPointInterceptor interceptor = new ConsumerMultiRecordEntryPointInterceptor(traceContext, descriptor, 0);
+        Trace newTrace = interceptor.createTrace(new Object(), new Object[]{newConsumerRecords(new ConsumerRecord("Test", 1, 1, "hello", "hello too"))});
+
+        assertSame(trace, newTrace);
+        verify(trace, never()).getSpanRecorder();
+    }
+
+    @Test
+    public void createTrace_empty() {
+        doReturn(profilerConfig).when(traceContext).getProfilerConfig();
+
+        ConsumerMultiRecordEntryPointInterceptor interceptor = new ConsumerMultiRecordEntryPointInterceptor(traceContext, descriptor, 0);
+
+        assertNull(interceptor.createTrace(new Object(), new Object[]{newConsumerRecords()}));
+        verify(traceContext, never()).newTraceObject();
+    }
+
+    @Test
+    public void partitionTopicCache() {
+        ConsumerRecordsDesc.PartitionTopicCache cache = new ConsumerRecordsDesc.PartitionTopicCache();
+        Set<TopicPartition> partitions = new HashSet<>();
+        partitions.add(new TopicPartition("Test2", 0));
+        partitions.add(new TopicPartition("Test", 0));
+        partitions.add(new TopicPartition("Test", 1));
+
+        String topicString = cache.getTopicString(partitions);
+        assertEquals("[Test, Test2]", topicString);
+        assertSame(topicString, cache.getTopicString(new HashSet<>(partitions)));
+
+        assertEquals("Test", cache.getTopicString(Collections.singleton(new TopicPartition("Test", 0))));
+    }
+
+    private static ConsumerRecords newConsumerRecords(ConsumerRecord... consumerRecords) {
+        Map<TopicPartition, List<ConsumerRecord>> records = new LinkedHashMap<>();
+        for (ConsumerRecord consumerRecord : consumerRecords) {
+            TopicPartition partition = new TopicPartition(consumerRecord.topic(), consumerRecord.partition());
+            records.computeIfAbsent(partition, k -> new ArrayList<>()).add(consumerRecord);
+        }
+        return new ConsumerRecords(records);
+    }
+
 }
\ No newline at end of file
@@ -15,19 +15,19 @@
  */
 package com.navercorp.pinpoint.plugin.log4j.interceptor;
 
-import com.navercorp.pinpoint.bootstrap.context.Trace;
 import com.navercorp.pinpoint.bootstrap.context.TraceContext;
 import com.navercorp.pinpoint.bootstrap.interceptor.AroundInterceptor0;
+import com.navercorp.pinpoint.bootstrap.plugin.logging.MdcAdapter;
+import com.navercorp.pinpoint.bootstrap.plugin.logging.TraceIdMdcUpdater;
 import org.apache.log4j.MDC;
 
 /**
  * @author minwoo.jung
  */
 public class LoggingEventOfLog4jInterceptor implements AroundInterceptor0 {
-    private static final String TRANSACTION_ID = "PtxId";
-    private static final String SPAN_ID = "PspanId";
     
     private final TraceContext traceContext;
+    private final TraceIdMdcUpdater mdcUpdater = new TraceIdMdcUpdater(new Log4jMdcAdapter());
     
     public LoggingEventOfLog4jInterceptor(TraceContext traceContext) {
         this.traceContext = traceContext;
@@ -35,16 +35,7 @@ public class LoggingEventOfLog4jInterceptor implements AroundInterceptor0 {
 
     @Override
     public void before(Object target) {
-        Trace trace = traceContext.currentTraceObject();
-        
-        if (trace == null) {
-            MDC.remove(TRANSACTION_ID);
-            MDC.remove(SPAN_ID);
-            return;
-        } else {
-            MDC.put(TRANSACTION_ID, trace.getTraceId().getTransactionId());
-            MDC.put(SPAN_ID, String.valueOf(trace.getTraceId().getSpanId()));
-        }
+        mdcUpdater.update(traceContext.currentTraceObject());
     }
 
 // #1375 Workaround java level Deadlock
@@ -54,4 +45,21 @@ public class LoggingEventOfLog4jInterceptor implements AroundInterceptor0 {
     public void after(Object target, Object result, Throwable throwable) {
 
     }
+
+    private static class Log4jMdcAdapter implements MdcAdapter {
+        @Override
+        public Object get(String key) {
+            return MDC.get(key);
+        }
+
+        @Override
+        public void put(String key, String value) {
+            MDC.put(key, value);
+        }
+
+        @Override
+        public void remove(String key) {
+            MDC.remove(key);
+        }
+    }
 }
@@ -15,9 +15,10 @@
  */
 package com.navercorp.pinpoint.plugin.log4j2.interceptor;
 
-import com.navercorp.pinpoint.bootstrap.context.Trace;
 import com.navercorp.pinpoint.bootstrap.context.TraceContext;
 import com.navercorp.pinpoint.bootstrap.interceptor.AroundInterceptor0;
+import com.navercorp.pinpoint.bootstrap.plugin.logging.MdcAdapter;
+import com.navercorp.pinpoint.bootstrap.plugin.logging.TraceIdMdcUpdater;
 import org.apache.logging.log4j.ThreadContext;
 
 /**
@@ -26,9 +27,8 @@ import org.apache.logging.log4j.ThreadContext;
  */
 public class LogEventFactoryInterceptor implements AroundInterceptor0 {
 
-    private static final String TRANSACTION_ID = "PtxId";
-    private static final String SPAN_ID = "PspanId";
     private final TraceContext traceContext;
+    private final TraceIdMdcUpdater mdcUpdater = new TraceIdMdcUpdater(new ThreadContextAdapter());
 
     public LogEventFactoryInterceptor(TraceContext traceContext) {
         this.traceContext = traceContext;
@@ -36,20 +36,28 @@ public class LogEventFactoryInterceptor implements AroundInterceptor0 {
 
     @Override
     public void before(Object target) {
-        Trace trace = traceContext.currentTraceObject();
-
-        if (trace == null) {
-            ThreadContext.remove(TRANSACTION_ID);
-            ThreadContext.remove(SPAN_ID);
-            return;
-        } else {
-            ThreadContext.put(TRANSACTION_ID, trace.getTraceId().getTransactionId());
-            ThreadContext.put(SPAN_ID, String.valueOf(trace.getTraceId().getSpanId()));
-        }
+        mdcUpdater.update(traceContext.currentTraceObject());
     }
 
     @Override
     public void after(Object target, Object result, Throwable throwable) {
 
     }
-}
\ No newline at end of file
+
+    private static class ThreadContextAdapter implements MdcAdapter {
+        @Override
+        public Object get(String key) {
+            return ThreadContext.get(key);
+        }
+
+        @Override
+        public void put(String key, String value) {
+            ThreadContext.put(key, value);
+        }
+
+        @Override
+        public void remove(String key) {
+            ThreadContext.remove(key);
+        }
+    }
+}
@@ -36,7 +36,7 @@ import com.navercorp.pinpoint.bootstrap.plugin.jdbc.ParsingResultAccessor;
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.PreparedStatementBindingMethodFilter;
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.interceptor.ConnectionCloseInterceptor;
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.interceptor.DriverConnectInterceptorV2;
-import com.navercorp.pinpoint.bootstrap.plugin.jdbc.interceptor.PreparedStatementBindVariableInterceptor;
+import com.navercorp.pinpoint.bootstrap.plugin.jdbc.interceptor.PreparedStatementBindVariableInterceptors;
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.interceptor.PreparedStatementCreateInterceptor;
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.interceptor.PreparedStatementExecuteQueryInterceptor;
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.interceptor.StatementCreateInterceptor;
@@ -246,7 +246,7 @@ public class PostgreSqlPlugin implements ProfilerPlugin, TransformTemplateAware
 
                 if (config.isTraceSqlBindValue()) {
                     for (InstrumentMethod method : declaredMethods) {
-                        method.addScopedInterceptor(PreparedStatementBindVariableInterceptor.class, POSTGRESQL_SCOPE, ExecutionPolicy.BOUNDARY);
+                        method.addScopedInterceptor(PreparedStatementBindVariableInterceptors.getBindVariableInterceptor(method), POSTGRESQL_SCOPE, ExecutionPolicy.BOUNDARY);
                     }
                 }
             }
@@ -296,7 +296,7 @@ public class PostgreSqlPlugin implements ProfilerPlugin, TransformTemplateAware
 
                 if (config.isTraceSqlBindValue()) {
                     for (InstrumentMethod method : declaredMethods) {
-                        method.addScopedInterceptor(PreparedStatementBindVariableInterceptor.class, POSTGRESQL_SCOPE, ExecutionPolicy.BOUNDARY);
+                        method.addScopedInterceptor(PreparedStatementBindVariableInterceptors.getBindVariableInterceptor(method), POSTGRESQL_SCOPE, ExecutionPolicy.BOUNDARY);
                     }
                 }
             }
@@ -477,7 +477,7 @@ public class PostgreSqlPlugin implements ProfilerPlugin, TransformTemplateAware
                 final PreparedStatementBindingMethodFilter excludes = PreparedStatementBindingMethodFilter.excludes("setRowId", "setNClob", "setSQLXML");
                 final List<InstrumentMethod> declaredMethods = target.getDeclaredMethods(excludes);
                 for (InstrumentMethod method : declaredMethods) {
-                    method.addScopedInterceptor(PreparedStatementBindVariableInterceptor.class, POSTGRESQL_SCOPE, ExecutionPolicy.BOUNDARY);
+                    method.addScopedInterceptor(PreparedStatementBindVariableInterceptors.getBindVariableInterceptor(method), POSTGRESQL_SCOPE, ExecutionPolicy.BOUNDARY);
                 }
             }
 
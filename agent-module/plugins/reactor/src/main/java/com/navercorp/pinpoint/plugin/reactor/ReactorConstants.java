@@ -16,6 +16,8 @@
 
 package com.navercorp.pinpoint.plugin.reactor;
 
+import com.navercorp.pinpoint.common.trace.AnnotationKey;
+import com.navercorp.pinpoint.common.trace.AnnotationKeyProvider;
 import com.navercorp.pinpoint.common.trace.ServiceType;
 import com.navercorp.pinpoint.common.trace.ServiceTypeProvider;
 
@@ -25,4 +27,10 @@ import com.navercorp.pinpoint.common.trace.ServiceTypeProvider;
 public class ReactorConstants {
     public static final ServiceType REACTOR = ServiceTypeProvider.getByName("REACTOR");
 
+    // number of operators or signals summarized into a span event of the collapsed trace mode
+    public static final AnnotationKey OPERATOR_COUNT = AnnotationKeyProvider.getByCode(350);
+
+    public static final String ASSEMBLY_SCOPE = "REACTOR_ASSEMBLY_SCOPE";
+    public static final String HOP_SCOPE = "REACTOR_HOP_SCOPE";
+
 }
@@ -28,6 +28,7 @@ import com.navercorp.pinpoint.bootstrap.instrument.matcher.operand.SuperClassInt
 import com.navercorp.pinpoint.bootstrap.instrument.transformer.MatchableTransformTemplate;
 import com.navercorp.pinpoint.bootstrap.instrument.transformer.MatchableTransformTemplateAware;
 import com.navercorp.pinpoint.bootstrap.instrument.transformer.TransformCallback;
+import com.navercorp.pinpoint.bootstrap.interceptor.scope.ExecutionPolicy;
 import com.navercorp.pinpoint.bootstrap.logging.PluginLogManager;
 import com.navercorp.pinpoint.bootstrap.logging.PluginLogger;
 import com.navercorp.pinpoint.bootstrap.plugin.ProfilerPlugin;
@@ -41,6 +42,8 @@ import com.navercorp.pinpoint.bootstrap.plugin.reactor.FluxAndMonoSubscribeOrRet
 import com.navercorp.pinpoint.bootstrap.plugin.reactor.ReactorActualAccessor;
 import com.navercorp.pinpoint.bootstrap.plugin.reactor.ReactorSubscriberAccessor;
 import com.navercorp.pinpoint.common.util.ArrayUtils;
+import com.navercorp.pinpoint.plugin.reactor.interceptor.CollapsedCoreSubscriberOnNextInterceptor;
+import com.navercorp.pinpoint.plugin.reactor.interceptor.CollapsedOperatorSubscribeInterceptor;
 import com.navercorp.pinpoint.plugin.reactor.interceptor.CoreSubscriberRunInterceptor;
 import com.navercorp.pinpoint.plugin.reactor.interceptor.FluxAndMonoDelayInterceptor;
 import com.navercorp.pinpoint.plugin.reactor.interceptor.FluxAndMonoIntervalInterceptor;
@@ -178,6 +181,42 @@ public class ReactorPlugin implements ProfilerPlugin, MatchableTransformTemplate
         transformTemplate.transform(coreSubscriberMatcher, CoreSubscriberTransform.class);
     }
 
+    private static void addOperatorSubscribeInterceptor(Instrumentor instrumentor, InstrumentMethod subscribeMethod) throws InstrumentException {
+        final ReactorPluginConfig config = new ReactorPluginConfig(instrumentor.getProfilerConfig());
+        if (config.isTraceCollapsed()) {
+            subscribeMethod.addScopedInterceptor(CollapsedOperatorSubscribeInterceptor.class, ReactorConstants.ASSEMBLY_SCOPE, ExecutionPolicy.ALWAYS);
+        } else {
+            subscribeMethod.addInterceptor(FluxAndMonoOperatorSubscribeInterceptor.class);
+        }
+    }
+
+    private static void addSubscribeMethodInterceptor(Instrumentor instrumentor, InstrumentMethod subscribeMethod) throws InstrumentException {
+        final ReactorPluginConfig config = new ReactorPluginConfig(instrumentor.getProfilerConfig());
+        if (config.isTraceCollapsed()) {
+            subscribeMethod.addScopedInterceptor(FluxAndMonoSubscribeMethodInterceptor.class, ReactorConstants.ASSEMBLY_SCOPE, ExecutionPolicy.ALWAYS);
+        } else {
+            subscribeMethod.addInterceptor(FluxAndMonoSubscribeMethodInterceptor.class);
+        }
+    }
+
+    private static void addRunInterceptor(Instrumentor instrumentor, InstrumentMethod runMethod) throws InstrumentException {
+        final ReactorPluginConfig config = new ReactorPluginConfig(instrumentor.getProfilerConfig());
+        if (config.isTraceCollapsed()) {
+            runMethod.addScopedInterceptor(CoreSubscriberRunInterceptor.class, va(ReactorConstants.REACTOR), ReactorConstants.HOP_SCOPE, ExecutionPolicy.ALWAYS);
+        } else {
+            runMethod.addInterceptor(CoreSubscriberRunInterceptor.class, va(ReactorConstants.REACTOR));
+        }
+    }
+
+    private static void addOnNextInterceptor(Instrumentor instrumentor, InstrumentMethod onNextMethod) throws InstrumentException {
+        final ReactorPluginConfig config = new ReactorPluginConfig(instrumentor.getProfilerConfig());
+        if (config.isTraceCollapsed()) {
+            onNextMethod.addScopedInterceptor(CollapsedCoreSubscriberOnNextInterceptor.class, va(ReactorConstants.REACTOR), ReactorConstants.HOP_SCOPE, ExecutionPolicy.ALWAYS);
+        } else {
+            onNextMethod.addInterceptor(CoreSubscriberOnNextInterceptor.class, va(ReactorConstants.REACTOR));
+        }
+    }
+
     public static class FluxMethodTransform implements TransformCallback {
         @Override
         public byte[] doInTransform(Instrumentor instrumentor, ClassLoader loader, String className, Class<?> classBeingRedefined, ProtectionDomain protectionDomain, byte[] classfileBuffer) throws InstrumentException {
@@ -185,7 +224,7 @@ public class ReactorPlugin implements ProfilerPlugin, MatchableTransformTemplate
 
             final InstrumentMethod subscribeMethod = target.getDeclaredMethod("subscribe", "org.reactivestreams.Subscriber");
             if (subscribeMethod != null) {
-                subscribeMethod.addInterceptor(FluxAndMonoSubscribeMethodInterceptor.class);
+                addSubscribeMethodInterceptor(instrumentor, subscribeMethod);
             }
             final InstrumentMethod publishOnMethod = target.getDeclaredMethod("publishOn", "reactor.core.scheduler.Scheduler", "boolean", "int", "int");
             if (publishOnMethod != null) {
@@ -230,7 +269,7 @@ public class ReactorPlugin implements ProfilerPlugin, MatchableTransformTemplate
 
             final InstrumentMethod subscribeMethod = target.getDeclaredMethod("subscribe", "reactor.core.CoreSubscriber");
             if (subscribeMethod != null) {
-                subscribeMethod.addInterceptor(FluxAndMonoOperatorSubscribeInterceptor.class);
+                addOperatorSubscribeInterceptor(instrumentor, subscribeMethod);
             }
             // since 3.3.0
             final InstrumentMethod subscribeOrReturnMethod = target.getDeclaredMethod("subscribeOrReturn", "reactor.core.CoreSubscriber");
@@ -282,7 +321,7 @@ public class ReactorPlugin implements ProfilerPlugin, MatchableTransformTemplate
 
             final InstrumentMethod subscribeMethod = target.getDeclaredMethod("subscribe", "org.reactivestreams.Subscriber");
             if (subscribeMethod != null) {
-                subscribeMethod.addInterceptor(FluxAndMonoSubscribeMethodInterceptor.class);
+                addSubscribeMethodInterceptor(instrumentor, subscribeMethod);
             }
             final InstrumentMethod publishOnMethod = target.getDeclaredMethod("publishOn", "reactor.core.scheduler.Scheduler");
             if (publishOnMethod != null) {
@@ -330,7 +369,7 @@ public class ReactorPlugin implements ProfilerPlugin, MatchableTransformTemplate
 
             final InstrumentMethod subscribeMethod = target.getDeclaredMethod("subscribe", "reactor.core.CoreSubscriber");
             if (subscribeMethod != null) {
-                subscribeMethod.addInterceptor(FluxAndMonoOperatorSubscribeInterceptor.class);
+                addOperatorSubscribeInterceptor(instrumentor, subscribeMethod);
             }
             // since 3.3.0
             final InstrumentMethod subscribeOrReturnMethod = target.getDeclaredMethod("subscribeOrReturn", "reactor.core.CoreSubscriber");
@@ -389,7 +428,7 @@ public class ReactorPlugin implements ProfilerPlugin, MatchableTransformTemplate
 
             final InstrumentMethod subscribeMethod = target.getDeclaredMethod("subscribe", "reactor.core.CoreSubscriber");
             if (subscribeMethod != null) {
-                subscribeMethod.addInterceptor(FluxAndMonoOperatorSubscribeInterceptor.class);
+                addOperatorSubscribeInterceptor(instrumentor, subscribeMethod);
             }
 
             return target.toBytecode();
@@ -417,7 +456,7 @@ public class ReactorPlugin implements ProfilerPlugin, MatchableTransformTemplate
             }
             final InstrumentMethod onNextMethod = target.getDeclaredMethod("onNext", "java.lang.Object");
             if (onNextMethod != null) {
-                onNextMethod.addInterceptor(CoreSubscriberOnNextInterceptor.class, va(ReactorConstants.REACTOR));
+                addOnNextInterceptor(instrumentor, onNextMethod);
             }
             final InstrumentMethod onErrorMethod = target.getDeclaredMethod("onError", "java.lang.Throwable");
             if (onErrorMethod != null) {
@@ -449,13 +488,13 @@ public class ReactorPlugin implements ProfilerPlugin, MatchableTransformTemplate
             }
             final InstrumentMethod onNextMethod = target.getDeclaredMethod("onNext", "java.lang.Object");
             if (onNextMethod != null) {
-                onNextMethod.addInterceptor(CoreSubscriberOnNextInterceptor.class, va(ReactorConstants.REACTOR));
+                addOnNextInterceptor(instrumentor, onNextMethod);
             }
             // reactor.core.publisher.FluxPublishOn$PublishOnConditionalSubscriber
             // reactor.core.publisher.FluxPublishOn$PublishOnSubscriber
             final InstrumentMethod runMethod = target.getDeclaredMethod("run");
             if (runMethod != null) {
-                runMethod.addInterceptor(CoreSubscriberRunInterceptor.class, va(ReactorConstants.REACTOR));
+                addRunInterceptor(instrumentor, runMethod);
             }
 
             return target.toBytecode();
@@ -484,7 +523,7 @@ public class ReactorPlugin implements ProfilerPlugin, MatchableTransformTemplate
             }
             final InstrumentMethod onNextMethod = target.getDeclaredMethod("onNext", "java.lang.Object");
             if (onNextMethod != null) {
-                onNextMethod.addInterceptor(CoreSubscriberOnNextInterceptor.class, va(ReactorConstants.REACTOR));
+                addOnNextInterceptor(instrumentor, onNextMethod);
             }
 
             final InstrumentMethod doTimeoutMethod = target.getDeclaredMethod("handleTimeout");
@@ -517,7 +556,7 @@ public class ReactorPlugin implements ProfilerPlugin, MatchableTransformTemplate
             }
             final InstrumentMethod onNextMethod = target.getDeclaredMethod("onNext", "java.lang.Object");
             if (onNextMethod != null) {
-                onNextMethod.addInterceptor(CoreSubscriberOnNextInterceptor.class, va(ReactorConstants.REACTOR));
+                addOnNextInterceptor(instrumentor, onNextMethod);
             }
 
             final InstrumentMethod whenErrorMethod = target.getDeclaredMethod("whenError", "java.lang.Throwable");
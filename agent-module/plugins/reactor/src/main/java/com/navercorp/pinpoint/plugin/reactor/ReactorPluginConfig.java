@@ -36,6 +36,7 @@ public class ReactorPluginConfig {
     private final boolean traceSubscribe;
     private final boolean markErrorRetry;
     private final boolean markErrorOnError;
+    private final boolean traceCollapsed;
 
     public ReactorPluginConfig(ProfilerConfig config) {
         Objects.requireNonNull(config, "config");
@@ -54,6 +55,8 @@ public class ReactorPluginConfig {
 
         this.traceTimeout = config.readBoolean("profiler.reactor.trace.timeout", true);
         this.traceSubscribe = config.readBoolean("profiler.reactor.trace.subscribe", true);
+        // one summarized span event per assembly chain and per scheduler hop
+        this.traceCollapsed = config.readBoolean("profiler.reactor.trace.collapsed", false);
     }
 
     public boolean isEnable() {
@@ -100,6 +103,10 @@ public class ReactorPluginConfig {
         return markErrorOnError;
     }
 
+    public boolean isTraceCollapsed() {
+        return traceCollapsed;
+    }
+
     @Override
     public String toString() {
         return "ReactorPluginConfig{" +
@@ -114,6 +121,7 @@ public class ReactorPluginConfig {
                 ", traceSubscribe=" + traceSubscribe +
                 ", markErrorRetry=" + markErrorRetry +
                 ", markErrorOnError=" + markErrorOnError +
+                ", traceCollapsed=" + traceCollapsed +
                 '}';
     }
 }
\ No newline at end of file
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.plugin.reactor;
+
+import com.navercorp.pinpoint.bootstrap.context.AsyncContext;
+import com.navercorp.pinpoint.bootstrap.interceptor.scope.InterceptorScope;
+import com.navercorp.pinpoint.bootstrap.interceptor.scope.InterceptorScopeInvocation;
+
+/**
+ * Scope attachment of the collapsed trace mode.
+ * Counts the operators that run inside one subscribe chain or one scheduler hop on the current thread.
+ * The asyncContext is null when the owner records a span event of its own, such as an onNext outside of a hop.
+ */
+public class ReactorTraceSummary {
+    private final Object owner;
+    private final AsyncContext asyncContext;
+    private int operatorCount;
+
+    public ReactorTraceSummary(Object owner, AsyncContext asyncContext) {
+        this.owner = owner;
+        this.asyncContext = asyncContext;
+    }
+
+    public static ReactorTraceSummary current(InterceptorScope scope) {
+        if (scope == null) {
+            return null;
+        }
+        final InterceptorScopeInvocation invocation = scope.getCurrentInvocation();
+        if (invocation == null || !invocation.isActive()) {
+            return null;
+        }
+        final Object attachment = invocation.getAttachment();
+        if (attachment instanceof ReactorTraceSummary) {
+            return (ReactorTraceSummary) attachment;
+        }
+        return null;
+    }
+
+    public static void attach(InterceptorScope scope, ReactorTraceSummary summary) {
+        final InterceptorScopeInvocation invocation = scope.getCurrentInvocation();
+        if (invocation != null && invocation.isActive()) {
+            invocation.setAttachment(summary);
+        }
+    }
+
+    public boolean isOwner(Object target) {
+        return owner == target;
+    }
+
+    public AsyncContext getAsyncContext() {
+        return asyncContext;
+    }
+
+    public void increment() {
+        operatorCount++;
+    }
+
+    public int getOperatorCount() {
+        return operatorCount;
+    }
+
+    @Override
+    public String toString() {
+        return "ReactorTraceSummary{" +
+                "operatorCount=" + operatorCount +
+                ", asyncContext=" + asyncContext +
+                '}';
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.plugin.reactor.interceptor;
+
+import com.navercorp.pinpoint.bootstrap.async.AsyncContextAccessorUtils;
+import com.navercorp.pinpoint.bootstrap.context.TraceContext;
+import com.navercorp.pinpoint.bootstrap.interceptor.scope.InterceptorScope;
+import com.navercorp.pinpoint.bootstrap.plugin.reactor.CoreSubscriberOnNextInterceptor;
+import com.navercorp.pinpoint.common.trace.ServiceType;
+import com.navercorp.pinpoint.plugin.reactor.ReactorTraceSummary;
+
+/**
+ * Collapsed trace mode of {@link CoreSubscriberOnNextInterceptor}.
+ * Inside a scheduler hop the trace is already continued by {@link CoreSubscriberRunInterceptor},
+ * so onNext only counts the operator instead of recording its own span event.
+ */
+public class CollapsedCoreSubscriberOnNextInterceptor extends CoreSubscriberOnNextInterceptor {
+    private final InterceptorScope interceptorScope;
+
+    public CollapsedCoreSubscriberOnNextInterceptor(TraceContext traceContext, ServiceType serviceType, InterceptorScope interceptorScope) {
+        super(traceContext, serviceType);
+        this.interceptorScope = interceptorScope;
+    }
+
+    @Override
+    public void before(Object target, int apiId, Object[] args) {
+        final ReactorTraceSummary summary = ReactorTraceSummary.current(interceptorScope);
+        if (summary != null) {
+            summary.increment();
+            return;
+        }
+        if (AsyncContextAccessorUtils.getAsyncContext(target) != null) {
+            // traced onNext outside of a scheduler hop, mark the scope so that nested signals are only counted
+            ReactorTraceSummary.attach(interceptorScope, new ReactorTraceSummary(target, null));
+        }
+        super.before(target, apiId, args);
+    }
+
+    @Override
+    public void after(Object target, int apiId, Object[] args, Object result, Throwable throwable) {
+        final ReactorTraceSummary summary = ReactorTraceSummary.current(interceptorScope);
+        if (summary != null && !isSignalOwner(summary, target)) {
+            return;
+        }
+        super.after(target, apiId, args, result, throwable);
+    }
+
+    private boolean isSignalOwner(ReactorTraceSummary summary, Object target) {
+        return summary.getAsyncContext() == null && summary.isOwner(target);
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.plugin.reactor.interceptor;
+
+import com.navercorp.pinpoint.bootstrap.interceptor.scope.InterceptorScope;
+import com.navercorp.pinpoint.bootstrap.plugin.reactor.FluxAndMonoOperatorSubscribeInterceptor;
+import com.navercorp.pinpoint.plugin.reactor.ReactorTraceSummary;
+
+/**
+ * Collapsed trace mode of {@link FluxAndMonoOperatorSubscribeInterceptor}.
+ * Operators subscribed inside a traced subscribe chain are counted instead of being traced one by one.
+ */
+public class CollapsedOperatorSubscribeInterceptor extends FluxAndMonoOperatorSubscribeInterceptor {
+    private final InterceptorScope interceptorScope;
+
+    public CollapsedOperatorSubscribeInterceptor(InterceptorScope interceptorScope) {
+        this.interceptorScope = interceptorScope;
+    }
+
+    @Override
+    public void before(Object target, int apiId, Object[] args) {
+        super.before(target, apiId, args);
+
+        final ReactorTraceSummary summary = ReactorTraceSummary.current(interceptorScope);
+        if (summary != null) {
+            summary.increment();
+        }
+    }
+}
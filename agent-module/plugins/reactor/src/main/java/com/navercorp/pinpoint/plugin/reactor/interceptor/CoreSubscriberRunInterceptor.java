@@ -21,14 +21,24 @@ import com.navercorp.pinpoint.bootstrap.context.AsyncContext;
 import com.navercorp.pinpoint.bootstrap.context.SpanEventRecorder;
 import com.navercorp.pinpoint.bootstrap.context.TraceContext;
 import com.navercorp.pinpoint.bootstrap.interceptor.AsyncContextSpanEventBlockApiIdAwareAroundInterceptor;
+import com.navercorp.pinpoint.bootstrap.interceptor.annotation.Name;
+import com.navercorp.pinpoint.bootstrap.interceptor.scope.InterceptorScope;
 import com.navercorp.pinpoint.common.trace.ServiceType;
+import com.navercorp.pinpoint.plugin.reactor.ReactorConstants;
+import com.navercorp.pinpoint.plugin.reactor.ReactorPluginConfig;
+import com.navercorp.pinpoint.plugin.reactor.ReactorTraceSummary;
 
 public class CoreSubscriberRunInterceptor extends AsyncContextSpanEventBlockApiIdAwareAroundInterceptor {
     private final ServiceType serviceType;
+    private final InterceptorScope interceptorScope;
+    private final boolean traceCollapsed;
 
-    public CoreSubscriberRunInterceptor(TraceContext traceContext, ServiceType serviceType) {
+    public CoreSubscriberRunInterceptor(TraceContext traceContext, ServiceType serviceType, @Name(ReactorConstants.HOP_SCOPE) InterceptorScope interceptorScope) {
         super(traceContext);
         this.serviceType = serviceType;
+        this.interceptorScope = interceptorScope;
+        final ReactorPluginConfig config = new ReactorPluginConfig(traceContext.getProfilerConfig());
+        this.traceCollapsed = config.isTraceCollapsed();
     }
 
     @Override
@@ -38,6 +48,10 @@ public class CoreSubscriberRunInterceptor extends AsyncContextSpanEventBlockApiI
 
     @Override
     public void doInBeforeTrace(SpanEventRecorder recorder, AsyncContext asyncContext, Object target, int apidId, Object[] args) {
+        if (traceCollapsed && ReactorTraceSummary.current(interceptorScope) == null) {
+            // the onNext signals of this scheduler hop are summarized into this span event
+            ReactorTraceSummary.attach(interceptorScope, new ReactorTraceSummary(target, asyncContext));
+        }
     }
 
     @Override
@@ -50,5 +64,11 @@ public class CoreSubscriberRunInterceptor extends AsyncContextSpanEventBlockApiI
         recorder.recordApiId(apiId);
         recorder.recordServiceType(serviceType);
         recorder.recordException(throwable);
+        if (traceCollapsed) {
+            final ReactorTraceSummary summary = ReactorTraceSummary.current(interceptorScope);
+            if (summary != null && summary.isOwner(target)) {
+                recorder.recordAttribute(ReactorConstants.OPERATOR_COUNT, summary.getOperatorCount());
+            }
+        }
     }
 }
\ No newline at end of file
@@ -22,24 +22,31 @@ import com.navercorp.pinpoint.bootstrap.context.Trace;
 import com.navercorp.pinpoint.bootstrap.context.TraceBlock;
 import com.navercorp.pinpoint.bootstrap.context.TraceContext;
 import com.navercorp.pinpoint.bootstrap.interceptor.BlockApiIdAwareAroundInterceptor;
+import com.navercorp.pinpoint.bootstrap.interceptor.annotation.Name;
+import com.navercorp.pinpoint.bootstrap.interceptor.scope.InterceptorScope;
 import com.navercorp.pinpoint.bootstrap.logging.PluginLogManager;
 import com.navercorp.pinpoint.bootstrap.logging.PluginLogger;
 import com.navercorp.pinpoint.bootstrap.plugin.reactor.ReactorSubscriber;
 import com.navercorp.pinpoint.bootstrap.plugin.reactor.ReactorSubscriberAccessorUtils;
 import com.navercorp.pinpoint.plugin.reactor.ReactorConstants;
 import com.navercorp.pinpoint.plugin.reactor.ReactorPluginConfig;
+import com.navercorp.pinpoint.plugin.reactor.ReactorTraceSummary;
 
 public class FluxAndMonoSubscribeMethodInterceptor implements BlockApiIdAwareAroundInterceptor {
     private final PluginLogger logger = PluginLogManager.getLogger(getClass());
     private final boolean isDebug = logger.isDebugEnabled();
 
     private final TraceContext traceContext;
+    private final InterceptorScope interceptorScope;
     private final boolean traceSubscribe;
+    private final boolean traceCollapsed;
 
-    public FluxAndMonoSubscribeMethodInterceptor(TraceContext traceContext) {
+    public FluxAndMonoSubscribeMethodInterceptor(TraceContext traceContext, @Name(ReactorConstants.ASSEMBLY_SCOPE) InterceptorScope interceptorScope) {
         this.traceContext = traceContext;
+        this.interceptorScope = interceptorScope;
         final ReactorPluginConfig config = new ReactorPluginConfig(traceContext.getProfilerConfig());
         this.traceSubscribe = config.isTraceSubscribe();
+        this.traceCollapsed = config.isTraceCollapsed();
     }
 
     @Override
@@ -73,9 +80,22 @@ public class FluxAndMonoSubscribeMethodInterceptor implements BlockApiIdAwareAro
                 return null;
             }
 
+            if (traceCollapsed) {
+                final ReactorTraceSummary summary = ReactorTraceSummary.current(interceptorScope);
+                if (summary != null) {
+                    // nested subscribe on the same thread, share the asyncContext of the outer chain
+                    summary.increment();
+                    ReactorSubscriberAccessorUtils.set(new ReactorSubscriber(summary.getAsyncContext()), args, 0);
+                    return null;
+                }
+            }
+
             final TraceBlock traceBlock = trace.getTraceBlock();
             traceBlock.begin();
             final AsyncContext nextAsyncContext = traceBlock.recordNextAsyncContext();
+            if (traceCollapsed) {
+                ReactorTraceSummary.attach(interceptorScope, new ReactorTraceSummary(target, nextAsyncContext));
+            }
             // set reactorSubscriber to args[0]
             final ReactorSubscriber reactorSubscriber = new ReactorSubscriber(nextAsyncContext);
             ReactorSubscriberAccessorUtils.set(reactorSubscriber, args, 0);
@@ -112,6 +132,9 @@ public class FluxAndMonoSubscribeMethodInterceptor implements BlockApiIdAwareAro
                 traceBlock.recordApiId(apiId);
                 traceBlock.recordServiceType(ReactorConstants.REACTOR);
                 traceBlock.recordException(throwable);
+                if (traceCollapsed) {
+                    recordSummary(traceBlock, target);
+                }
             }
         } catch (Throwable th) {
             if (logger.isWarnEnabled()) {
@@ -119,4 +142,11 @@ public class FluxAndMonoSubscribeMethodInterceptor implements BlockApiIdAwareAro
             }
         }
     }
+
+    private void recordSummary(TraceBlock traceBlock, Object target) {
+        final ReactorTraceSummary summary = ReactorTraceSummary.current(interceptorScope);
+        if (summary != null && summary.isOwner(target)) {
+            traceBlock.recordAttribute(ReactorConstants.OPERATOR_COUNT, summary.getOperatorCount());
+        }
+    }
 }
\ No newline at end of file
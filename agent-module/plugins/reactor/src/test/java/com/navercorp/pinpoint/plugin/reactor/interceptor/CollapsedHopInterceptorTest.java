@@ -0,0 +1,169 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.plugin.reactor.interceptor;
+
+import com.navercorp.pinpoint.bootstrap.async.AsyncContextAccessor;
+import com.navercorp.pinpoint.bootstrap.config.ProfilerConfig;
+import com.navercorp.pinpoint.bootstrap.context.AsyncContext;
+import com.navercorp.pinpoint.bootstrap.context.SpanEventRecorder;
+import com.navercorp.pinpoint.bootstrap.context.TraceContext;
+import com.navercorp.pinpoint.plugin.reactor.ReactorConstants;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+public class CollapsedHopInterceptorTest {
+
+    private static final int SIGNAL_COUNT = 50;
+
+    private TraceContext traceContext;
+    private TestInterceptorScope interceptorScope;
+
+    @BeforeAll
+    public static void registerTraceMetadata() {
+        TestTraceMetadata.register();
+    }
+
+    @BeforeEach
+    public void setUp() {
+        ProfilerConfig profilerConfig = mock(ProfilerConfig.class);
+        when(profilerConfig.readBoolean(anyString(), anyBoolean())).thenAnswer(invocation -> invocation.getArgument(1));
+        when(profilerConfig.readBoolean(eq("profiler.reactor.trace.collapsed"), anyBoolean())).thenReturn(true);
+
+        traceContext = mock(TraceContext.class);
+        when(traceContext.getProfilerConfig()).thenReturn(profilerConfig);
+
+        interceptorScope = new TestInterceptorScope();
+    }
+
+    @Test
+    public void schedulerHop() {
+        CoreSubscriberRunInterceptor runInterceptor = new CoreSubscriberRunInterceptor(traceContext, ReactorConstants.REACTOR, interceptorScope);
+        CollapsedCoreSubscriberOnNextInterceptor onNextInterceptor = new CollapsedCoreSubscriberOnNextInterceptor(traceContext, ReactorConstants.REACTOR, interceptorScope);
+
+        SpanEventRecorder recorder = mock(SpanEventRecorder.class);
+        AsyncContext hopAsyncContext = mock(AsyncContext.class);
+        AsyncContext signalAsyncContext = mock(AsyncContext.class);
+        TestTarget hop = new TestTarget(hopAsyncContext);
+
+        interceptorScope.enter();
+        runInterceptor.doInBeforeTrace(recorder, hopAsyncContext, hop, 0, null);
+        for (int i = 0; i < SIGNAL_COUNT; i++) {
+            onNext(onNextInterceptor, new TestTarget(signalAsyncContext));
+        }
+        runInterceptor.doInAfterTrace(recorder, hop, 0, null, null, null);
+        interceptorScope.leave();
+
+        // the onNext signals of the hop are only counted into the span event of the hop
+        verify(recorder).recordAttribute(ReactorConstants.OPERATOR_COUNT, SIGNAL_COUNT);
+        verifyNoInteractions(signalAsyncContext);
+    }
+
+    @Test
+    public void schedulerHop_nested() {
+        CoreSubscriberRunInterceptor runInterceptor = new CoreSubscriberRunInterceptor(traceContext, ReactorConstants.REACTOR, interceptorScope);
+
+        SpanEventRecorder recorder = mock(SpanEventRecorder.class);
+        TestTarget hop = new TestTarget(mock(AsyncContext.class));
+        TestTarget innerHop = new TestTarget(mock(AsyncContext.class));
+
+        interceptorScope.enter();
+        runInterceptor.doInBeforeTrace(recorder, hop.asyncContext, hop, 0, null);
+
+        interceptorScope.enter();
+        runInterceptor.doInBeforeTrace(recorder, innerHop.asyncContext, innerHop, 0, null);
+        runInterceptor.doInAfterTrace(recorder, innerHop, 0, null, null, null);
+        interceptorScope.leave();
+
+        runInterceptor.doInAfterTrace(recorder, hop, 0, null, null, null);
+        interceptorScope.leave();
+
+        // only the outermost hop owns the summary
+        verify(recorder, times(1)).recordAttribute(eq(ReactorConstants.OPERATOR_COUNT), any(Integer.class));
+    }
+
+    @Test
+    public void onNextOutsideOfHop() {
+        CollapsedCoreSubscriberOnNextInterceptor onNextInterceptor = new CollapsedCoreSubscriberOnNextInterceptor(traceContext, ReactorConstants.REACTOR, interceptorScope);
+
+        AsyncContext outerAsyncContext = mock(AsyncContext.class);
+        AsyncContext innerAsyncContext = mock(AsyncContext.class);
+        TestTarget outer = new TestTarget(outerAsyncContext);
+
+        interceptorScope.enter();
+        onNextInterceptor.before(outer, 0, null);
+        for (int i = 0; i < SIGNAL_COUNT; i++) {
+            onNext(onNextInterceptor, new TestTarget(innerAsyncContext));
+        }
+        onNextInterceptor.after(outer, 0, null, null, null);
+        interceptorScope.leave();
+
+        // the outer signal continues the async trace, the nested signals do not
+        verify(outerAsyncContext).continueAsyncTraceObject();
+        verifyNoInteractions(innerAsyncContext);
+    }
+
+    @Test
+    public void onNextWithoutAsyncContext() {
+        CollapsedCoreSubscriberOnNextInterceptor onNextInterceptor = new CollapsedCoreSubscriberOnNextInterceptor(traceContext, ReactorConstants.REACTOR, interceptorScope);
+
+        AsyncContext asyncContext = mock(AsyncContext.class);
+
+        interceptorScope.enter();
+        onNextInterceptor.before(new TestTarget(null), 0, null);
+        // not traced, the next signal is not summarized
+        onNext(onNextInterceptor, new TestTarget(asyncContext));
+        interceptorScope.leave();
+
+        verify(asyncContext).continueAsyncTraceObject();
+    }
+
+    private void onNext(CollapsedCoreSubscriberOnNextInterceptor interceptor, TestTarget target) {
+        interceptorScope.enter();
+        interceptor.before(target, 0, null);
+        interceptor.after(target, 0, null, null, null);
+        interceptorScope.leave();
+    }
+
+    private static class TestTarget implements AsyncContextAccessor {
+        private AsyncContext asyncContext;
+
+        private TestTarget(AsyncContext asyncContext) {
+            this.asyncContext = asyncContext;
+        }
+
+        @Override
+        public void _$PINPOINT$_setAsyncContext(AsyncContext asyncContext) {
+            this.asyncContext = asyncContext;
+        }
+
+        @Override
+        public AsyncContext _$PINPOINT$_getAsyncContext() {
+            return asyncContext;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.plugin.reactor.interceptor;
+
+import com.navercorp.pinpoint.bootstrap.async.AsyncContextAccessor;
+import com.navercorp.pinpoint.bootstrap.config.ProfilerConfig;
+import com.navercorp.pinpoint.bootstrap.context.AsyncContext;
+import com.navercorp.pinpoint.bootstrap.context.Trace;
+import com.navercorp.pinpoint.bootstrap.context.TraceBlock;
+import com.navercorp.pinpoint.bootstrap.context.TraceContext;
+import com.navercorp.pinpoint.bootstrap.plugin.reactor.ReactorSubscriber;
+import com.navercorp.pinpoint.bootstrap.plugin.reactor.ReactorSubscriberAccessor;
+import com.navercorp.pinpoint.plugin.reactor.ReactorConstants;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CollapsedOperatorSubscribeInterceptorTest {
+
+    private static final int OPERATOR_COUNT = 50;
+
+    private TraceContext traceContext;
+    private Trace trace;
+    private TraceBlock traceBlock;
+    private AsyncContext asyncContext;
+    private TestInterceptorScope interceptorScope;
+
+    @BeforeAll
+    public static void registerTraceMetadata() {
+        TestTraceMetadata.register();
+    }
+
+    @BeforeEach
+    public void setUp() {
+        ProfilerConfig profilerConfig = mock(ProfilerConfig.class);
+        when(profilerConfig.readBoolean(anyString(), anyBoolean())).thenAnswer(invocation -> invocation.getArgument(1));
+        when(profilerConfig.readBoolean(eq("profiler.reactor.trace.collapsed"), anyBoolean())).thenReturn(true);
+
+        traceContext = mock(TraceContext.class);
+        when(traceContext.getProfilerConfig()).thenReturn(profilerConfig);
+
+        trace = mock(Trace.class);
+        traceBlock = mock(TraceBlock.class);
+        asyncContext = mock(AsyncContext.class);
+        when(traceContext.currentTraceObject()).thenReturn(trace);
+        when(trace.getTraceBlock()).thenReturn(traceBlock);
+        when(traceBlock.recordNextAsyncContext()).thenReturn(asyncContext);
+        when(traceBlock.getTrace()).thenReturn(trace);
+        when(traceBlock.isBegin()).thenReturn(true);
+
+        interceptorScope = new TestInterceptorScope();
+    }
+
+    @Test
+    public void subscribeChain() {
+        FluxAndMonoSubscribeMethodInterceptor subscribeInterceptor = new FluxAndMonoSubscribeMethodInterceptor(traceContext, interceptorScope);
+        CollapsedOperatorSubscribeInterceptor operatorInterceptor = new CollapsedOperatorSubscribeInterceptor(interceptorScope);
+
+        Object publisher = new Object();
+        Object[] subscribeArgs = {new TestSubscriber()};
+        TraceBlock block = enter(() -> subscribeInterceptor.before(publisher, 0, subscribeArgs));
+
+        for (int i = 0; i < OPERATOR_COUNT; i++) {
+            TestOperator operator = new TestOperator();
+            Object[] args = {new TestSubscriber()};
+            enter(() -> {
+                operatorInterceptor.before(operator, 0, args);
+                return null;
+            });
+            operatorInterceptor.after(operator, 0, args, null, null);
+            leave();
+        }
+
+        subscribeInterceptor.after(block, publisher, 0, subscribeArgs, null, null);
+        leave();
+
+        verify(trace, times(1)).getTraceBlock();
+        verify(traceBlock, times(1)).recordNextAsyncContext();
+        verify(traceBlock).recordAttribute(ReactorConstants.OPERATOR_COUNT, OPERATOR_COUNT);
+        assertThat(((TestSubscriber) subscribeArgs[0]).subscriber.getAsyncContext()).isSameAs(asyncContext);
+    }
+
+    @Test
+    public void nestedSubscribe() {
+        FluxAndMonoSubscribeMethodInterceptor subscribeInterceptor = new FluxAndMonoSubscribeMethodInterceptor(traceContext, interceptorScope);
+
+        Object publisher = new Object();
+        Object[] subscribeArgs = {new TestSubscriber()};
+        TraceBlock block = enter(() -> subscribeInterceptor.before(publisher, 0, subscribeArgs));
+
+        Object innerPublisher = new Object();
+        TestSubscriber innerSubscriber = new TestSubscriber();
+        Object[] innerArgs = {innerSubscriber};
+        TraceBlock innerBlock = enter(() -> subscribeInterceptor.before(innerPublisher, 0, innerArgs));
+        assertThat(innerBlock).isNull();
+        subscribeInterceptor.after(innerBlock, innerPublisher, 0, innerArgs, null, null);
+        leave();
+
+        subscribeInterceptor.after(block, publisher, 0, subscribeArgs, null, null);
+        leave();
+
+        // the nested chain shares the asyncContext of the outer chain
+        verify(traceBlock, times(1)).recordNextAsyncContext();
+        assertThat(innerSubscriber.subscriber.getAsyncContext()).isSameAs(asyncContext);
+        verify(traceBlock).recordAttribute(ReactorConstants.OPERATOR_COUNT, 1);
+    }
+
+    private <T> T enter(Supplier<T> interceptor) {
+        interceptorScope.enter();
+        return interceptor.get();
+    }
+
+    private void leave() {
+        interceptorScope.leave();
+    }
+
+    private static class TestSubscriber implements ReactorSubscriberAccessor {
+        private ReactorSubscriber subscriber;
+
+        @Override
+        public void _$PINPOINT$_setReactorSubscriber(ReactorSubscriber subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public ReactorSubscriber _$PINPOINT$_getReactorSubscriber() {
+            return subscriber;
+        }
+    }
+
+    private static class TestOperator implements AsyncContextAccessor {
+        private AsyncContext asyncContext;
+
+        @Override
+        public void _$PINPOINT$_setAsyncContext(AsyncContext asyncContext) {
+            this.asyncContext = asyncContext;
+        }
+
+        @Override
+        public AsyncContext _$PINPOINT$_getAsyncContext() {
+            return asyncContext;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.plugin.reactor.interceptor;
+
+import com.navercorp.pinpoint.bootstrap.interceptor.scope.AttachmentFactory;
+import com.navercorp.pinpoint.bootstrap.interceptor.scope.ExecutionPolicy;
+import com.navercorp.pinpoint.bootstrap.interceptor.scope.InterceptorScope;
+import com.navercorp.pinpoint.bootstrap.interceptor.scope.InterceptorScopeInvocation;
+
+/**
+ * Single thread interceptor scope, the attachment is cleared when the outermost invocation leaves.
+ */
+class TestInterceptorScope implements InterceptorScope, InterceptorScopeInvocation {
+    private int depth;
+    private Object attachment;
+
+    void enter() {
+        depth++;
+    }
+
+    void leave() {
+        if (--depth == 0) {
+            attachment = null;
+        }
+    }
+
+    @Override
+    public InterceptorScopeInvocation getCurrentInvocation() {
+        return this;
+    }
+
+    @Override
+    public String getName() {
+        return "test";
+    }
+
+    @Override
+    public boolean tryEnter(ExecutionPolicy policy) {
+        return true;
+    }
+
+    @Override
+    public boolean canLeave(ExecutionPolicy policy) {
+        return true;
+    }
+
+    @Override
+    public void leave(ExecutionPolicy policy) {
+    }
+
+    @Override
+    public boolean isActive() {
+        return depth > 0;
+    }
+
+    @Override
+    public Object setAttachment(Object attachment) {
+        Object old = this.attachment;
+        this.attachment = attachment;
+        return old;
+    }
+
+    @Override
+    public Object getAttachment() {
+        return attachment;
+    }
+
+    @Override
+    public Object getOrCreateAttachment(AttachmentFactory factory) {
+        if (attachment == null) {
+            attachment = factory.createAttachment();
+        }
+        return attachment;
+    }
+
+    @Override
+    public Object removeAttachment() {
+        return setAttachment(null);
+    }
+}
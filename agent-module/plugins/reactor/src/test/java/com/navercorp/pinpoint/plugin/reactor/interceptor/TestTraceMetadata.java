@@ -0,0 +1,45 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.plugin.reactor.interceptor;
+
+import com.navercorp.pinpoint.common.profiler.trace.TraceMetadataRegistrar;
+import com.navercorp.pinpoint.common.trace.AnnotationKeyFactory;
+import com.navercorp.pinpoint.common.trace.AnnotationKeyLocator;
+import com.navercorp.pinpoint.common.trace.ServiceTypeFactory;
+import com.navercorp.pinpoint.common.trace.ServiceTypeLocator;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Registers the trace metadata of the reactor type-provider.yml used by ReactorConstants.
+ */
+final class TestTraceMetadata {
+
+    private TestTraceMetadata() {
+    }
+
+    static void register() {
+        ServiceTypeLocator serviceTypeLocator = mock(ServiceTypeLocator.class);
+        when(serviceTypeLocator.findServiceTypeByName("REACTOR")).thenReturn(ServiceTypeFactory.of(6510, "REACTOR"));
+        TraceMetadataRegistrar.registerServiceTypes(serviceTypeLocator);
+
+        AnnotationKeyLocator annotationKeyLocator = mock(AnnotationKeyLocator.class);
+        when(annotationKeyLocator.findAnnotationKey(350)).thenReturn(AnnotationKeyFactory.of(350, "reactor.operator.count"));
+        TraceMetadataRegistrar.registerAnnotationKeys(annotationKeyLocator);
+    }
+}
@@ -27,7 +27,8 @@ import java.util.function.Function;
  */
 public class SimpleCache<K, V> implements Cache<K, Result<V>> {
     // zero means not exist.
-    private final ConcurrentMap<K, V> cache;
+    // keys and their aliases share the entries of the cache
+    private final ConcurrentMap<Object, V> cache;
     protected final Function<K, V> idFunction;
 
     public static <K> SimpleCache<K, Integer> newIdCache() {
@@ -47,30 +48,49 @@ public class SimpleCache<K, V> implements Cache<K, Result<V>> {
         this.idFunction = Objects.requireNonNull(idFunction, "idFunction");
     }
 
-    private ConcurrentMap<K, V> createCache(int maxCacheSize) {
+    private ConcurrentMap<Object, V> createCache(int maxCacheSize) {
         final Caffeine<Object, Object> cacheBuilder = CaffeineBuilder.newBuilder();
         cacheBuilder.initialCapacity(maxCacheSize);
         cacheBuilder.maximumSize(maxCacheSize);
-        com.github.benmanes.caffeine.cache.Cache<K, V> localCache = cacheBuilder.build();
+        com.github.benmanes.caffeine.cache.Cache<Object, V> localCache = cacheBuilder.build();
         return localCache.asMap();
     }
 
     @Override
     public Result<V> put(K value) {
-        final PutIfAbsent putIfAbsent = new PutIfAbsent();
+        final PutIfAbsent putIfAbsent = new PutIfAbsent(value);
         final V id = this.cache.computeIfAbsent(value, putIfAbsent);
         return new Result<>(putIfAbsent.called, id);
     }
 
-    private class PutIfAbsent implements Function<K, V> {
+    /**
+     * Puts the key and caches its id under the alias as well, e.g. a cheaper key of the same value.
+     * The alias takes an entry of the cache like any other key.
+     */
+    public Result<V> put(K value, Object alias) {
+        final Result<V> result = put(value);
+        this.cache.put(alias, result.getId());
+        return result;
+    }
+
+    /**
+     * @return the id cached under the alias, null if the alias is not cached or evicted
+     */
+    public V getByAlias(Object alias) {
+        return this.cache.get(alias);
+    }
+
+    private class PutIfAbsent implements Function<Object, V> {
 
+        private final K key;
         private boolean called;
 
-        public PutIfAbsent() {
+        public PutIfAbsent(K key) {
+            this.key = key;
         }
 
         @Override
-        public V apply(K key) {
+        public V apply(Object ignored) {
             this.called = true;
             return idFunction.apply(key);
         }
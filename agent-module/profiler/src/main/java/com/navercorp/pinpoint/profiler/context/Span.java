@@ -21,6 +21,7 @@ import com.navercorp.pinpoint.common.util.IntStringValue;
 import com.navercorp.pinpoint.profiler.context.annotation.Annotations;
 import com.navercorp.pinpoint.profiler.context.id.Shared;
 import com.navercorp.pinpoint.profiler.context.id.TraceRoot;
+import com.navercorp.pinpoint.profiler.monitor.stack.StackSampleTree;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -189,6 +190,11 @@ public class Span extends DefaultFrameAttachment implements SpanType {
             Annotation<Integer> annotation = Annotations.of(AnnotationKey.HTTP_STATUS_CODE.getCode(), shared.getStatusCode());
             this.addAnnotation(annotation);
         }
+        final StackSampleTree stackSampleTree = shared.getStackSampleTree();
+        if (stackSampleTree != null && stackSampleTree.getSampleCount() > 0) {
+            Annotation<String> annotation = Annotations.of(AnnotationKey.STACK_SAMPLE.getCode(), stackSampleTree.encode());
+            this.addAnnotation(annotation);
+        }
     }
 
     public void clear() {
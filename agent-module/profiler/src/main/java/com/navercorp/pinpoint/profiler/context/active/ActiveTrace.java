@@ -16,6 +16,8 @@
 
 package com.navercorp.pinpoint.profiler.context.active;
 
+import com.navercorp.pinpoint.profiler.context.id.LocalTraceRoot;
+
 /**
  * @author Woonduk Kang(emeroad)
  */
@@ -25,4 +27,6 @@ public interface ActiveTrace {
     long getId();
 
     ActiveTraceSnapshot snapshot();
+
+    LocalTraceRoot getTraceRoot();
 }
@@ -31,6 +31,11 @@ public interface ActiveTraceRepository {
 
     List<Long> getThreadIdList();
 
+    /**
+     * @return active traces started more than thresholdMillis before currentTime
+     */
+    List<ActiveTrace> getSlowActiveTraces(long currentTime, long thresholdMillis);
+
     ActiveTraceHandle register(LocalTraceRoot traceRoot);
 
 }
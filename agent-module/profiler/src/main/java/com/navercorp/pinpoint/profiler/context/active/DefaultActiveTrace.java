@@ -48,6 +48,11 @@ public class DefaultActiveTrace implements ActiveTrace {
         return DefaultActiveTraceSnapshot.of(traceRoot);
     }
 
+    @Override
+    public LocalTraceRoot getTraceRoot() {
+        return traceRoot;
+    }
+
     @Override
     public String toString() {
         return "SampledActiveTrace{" +
@@ -150,6 +150,28 @@ public class DefaultActiveTraceRepository implements ActiveTraceRepository {
         return collectData;
     }
 
+    // @ThreadSafe
+    @Override
+    public List<ActiveTrace> getSlowActiveTraces(long currentTime, long thresholdMillis) {
+        if (this.activeTraceInfoMap.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final Collection<ActiveTrace> activeTraceCollection = this.activeTraceInfoMap.values();
+        final List<ActiveTrace> collectData = new ArrayList<>();
+
+        for (ActiveTrace trace : activeTraceCollection) {
+            final long startTime = trace.getStartTime();
+            // not started
+            if (!isStarted(startTime)) {
+                continue;
+            }
+            if (currentTime - startTime >= thresholdMillis) {
+                collectData.add(trace);
+            }
+        }
+        return collectData;
+    }
+
     // @ThreadSafe
     @Override
     public ActiveTraceHistogram getActiveTraceHistogram(long currentTime) {
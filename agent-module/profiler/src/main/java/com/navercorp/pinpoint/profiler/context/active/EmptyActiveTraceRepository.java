@@ -47,6 +47,11 @@ public class EmptyActiveTraceRepository implements ActiveTraceRepository {
         return null;
     }
 
+    @Override
+    public List<ActiveTrace> getSlowActiveTraces(long currentTime, long thresholdMillis) {
+        return Collections.emptyList();
+    }
+
     @Override
     public List<ActiveTraceSnapshot> snapshot() {
         return Collections.emptyList();
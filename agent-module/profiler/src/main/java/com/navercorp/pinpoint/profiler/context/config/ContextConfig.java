@@ -20,6 +20,10 @@ public interface ContextConfig {
 
     boolean isTraceAgentActiveThread();
 
+    long getActiveThreadDumpTimeBudget();
+
+    boolean isActiveThreadDumpLockInfo();
+
     boolean isTraceAgentDataSource();
 
     int getDataSourceTraceLimitSize();
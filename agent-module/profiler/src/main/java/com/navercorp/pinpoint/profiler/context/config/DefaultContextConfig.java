@@ -23,6 +23,12 @@ public class DefaultContextConfig implements ContextConfig {
     @Value("${profiler.pinpoint.activethread}")
     private boolean traceAgentActiveThread = true;
 
+    @Value("${profiler.pinpoint.activethread.dump.timebudget}")
+    private long activeThreadDumpTimeBudget = 3000L;
+
+    @Value("${profiler.pinpoint.activethread.dump.lockinfo}")
+    private boolean activeThreadDumpLockInfo = false;
+
     @Value("${profiler.pinpoint.datasource}")
     private boolean traceAgentDataSource = false;
 
@@ -71,6 +77,16 @@ public class DefaultContextConfig implements ContextConfig {
         return traceAgentActiveThread;
     }
 
+    @Override
+    public long getActiveThreadDumpTimeBudget() {
+        return activeThreadDumpTimeBudget;
+    }
+
+    @Override
+    public boolean isActiveThreadDumpLockInfo() {
+        return activeThreadDumpLockInfo;
+    }
+
     @Override
     public boolean isTraceAgentDataSource() {
         return traceAgentDataSource;
@@ -135,6 +151,8 @@ public class DefaultContextConfig implements ContextConfig {
     public String toString() {
         return "DefaultContextConfig{" +
                 "traceAgentActiveThread=" + traceAgentActiveThread +
+                ", activeThreadDumpTimeBudget=" + activeThreadDumpTimeBudget +
+                ", activeThreadDumpLockInfo=" + activeThreadDumpLockInfo +
                 ", traceAgentDataSource=" + traceAgentDataSource +
                 ", dataSourceTraceLimitSize=" + dataSourceTraceLimitSize +
                 ", deadlockMonitorEnable=" + deadlockMonitorEnable +
@@ -20,6 +20,8 @@ import com.navercorp.pinpoint.bootstrap.config.DefaultProfilerConfig;
 import com.navercorp.pinpoint.bootstrap.module.JavaModule;
 import com.navercorp.pinpoint.common.config.Value;
 import com.navercorp.pinpoint.common.config.util.ValueAnnotationProcessor;
+import com.navercorp.pinpoint.common.util.ByteSizeUnit;
+import com.navercorp.pinpoint.grpc.ChannelTypeEnum;
 import com.navercorp.pinpoint.grpc.client.config.ClientOption;
 import com.navercorp.pinpoint.grpc.client.config.SslOption;
 
@@ -77,6 +79,11 @@ public class GrpcTransportConfig {
 
     private static final boolean DEFAULT_ENABLE_SPAN_STATS_LOGGING = false;
 
+    private static final boolean DEFAULT_SHARED_CHANNEL_ENABLE = false;
+    private static final int DEFAULT_SHARED_CHANNEL_WORKER_THREAD_SIZE = 2;
+    private static final int DEFAULT_SHARED_CHANNEL_EXECUTOR_QUEUE_SIZE = 4000;
+    private static final int DEFAULT_SHARED_CHANNEL_FLOW_CONTROL_WINDOW = 0;
+
     private ClientOption agentClientOption = new ClientOption();
     private ClientOption metadataClientOption = new ClientOption();
     private ClientOption statClientOption = new ClientOption();
@@ -166,6 +173,15 @@ public class GrpcTransportConfig {
     @Value("${profiler.transport.grpc.span.sender.rpc.age.max.millis}")
     private long spanRpcMaxAgeMillis = DEFAULT_RPC_MAX_AGE_MILLIS;
 
+    @Value("${profiler.transport.grpc.shared.channel.enable}")
+    private boolean sharedChannelEnable = DEFAULT_SHARED_CHANNEL_ENABLE;
+    @Value("${profiler.transport.grpc.shared.channel.worker.thread.size}")
+    private int sharedChannelWorkerThreadSize = DEFAULT_SHARED_CHANNEL_WORKER_THREAD_SIZE;
+    @Value("${profiler.transport.grpc.shared.channel.executor.queue.size}")
+    private int sharedChannelExecutorQueueSize = DEFAULT_SHARED_CHANNEL_EXECUTOR_QUEUE_SIZE;
+    private ChannelTypeEnum sharedChannelTypeEnum = ChannelTypeEnum.AUTO;
+    private int sharedChannelFlowControlWindow = DEFAULT_SHARED_CHANNEL_FLOW_CONTROL_WINDOW;
+
     @Value("${profiler.transport.grpc.loadbalancer.renew.period.millis}")
     private long renewTransportPeriodMillis = DEFAULT_RENEW_TRANSPORT_PERIOD_MILLIS;
 
@@ -173,6 +189,16 @@ public class GrpcTransportConfig {
     private boolean nettySystemPropertyTryReflectiveSetAccessible = DEFAULT_NETTY_SYSTEM_PROPERTY_TRY_REFLECTIVE_SET_ACCESSIBLE;
 
 
+    @Value("${profiler.transport.grpc.shared.channel.channel-type}")
+    void setSharedChannelType(String channelType) {
+        this.sharedChannelTypeEnum = ChannelTypeEnum.valueOf(channelType);
+    }
+
+    @Value("${profiler.transport.grpc.shared.channel.flow-control.window.size}")
+    void setSharedChannelFlowControlWindow(String flowControlWindow) {
+        this.sharedChannelFlowControlWindow = (int) ByteSizeUnit.getByteSize(flowControlWindow, DEFAULT_SHARED_CHANNEL_FLOW_CONTROL_WINDOW);
+    }
+
     public void read(Function<String, String> properties) {
         ValueAnnotationProcessor reader = new ValueAnnotationProcessor();
         reader.process(this, properties);
@@ -413,6 +439,26 @@ public class GrpcTransportConfig {
         return spanEnableStatLogging;
     }
 
+    public boolean isSharedChannelEnable() {
+        return sharedChannelEnable;
+    }
+
+    public int getSharedChannelWorkerThreadSize() {
+        return sharedChannelWorkerThreadSize;
+    }
+
+    public int getSharedChannelExecutorQueueSize() {
+        return sharedChannelExecutorQueueSize;
+    }
+
+    public ChannelTypeEnum getSharedChannelTypeEnum() {
+        return sharedChannelTypeEnum;
+    }
+
+    public int getSharedChannelFlowControlWindow() {
+        return sharedChannelFlowControlWindow;
+    }
+
     public boolean isNettySystemPropertyTryReflectiveSetAccessible() {
         return nettySystemPropertyTryReflectiveSetAccessible;
     }
@@ -453,6 +499,11 @@ public class GrpcTransportConfig {
                 ", nettySystemPropertyTryReflectiveSetAccessible=" + nettySystemPropertyTryReflectiveSetAccessible +
                 ", spanDiscardLogRateLimit=" + spanDiscardLogRateLimit +
                 ", spanDiscardMaxPendingThreshold=" + spanDiscardMaxPendingThreshold +
+                ", sharedChannelEnable=" + sharedChannelEnable +
+                ", sharedChannelWorkerThreadSize=" + sharedChannelWorkerThreadSize +
+                ", sharedChannelExecutorQueueSize=" + sharedChannelExecutorQueueSize +
+                ", sharedChannelTypeEnum=" + sharedChannelTypeEnum +
+                ", sharedChannelFlowControlWindow=" + sharedChannelFlowControlWindow +
                 '}';
     }
 }
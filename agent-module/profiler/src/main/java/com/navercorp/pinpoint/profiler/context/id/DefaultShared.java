@@ -16,6 +16,7 @@
 
 package com.navercorp.pinpoint.profiler.context.id;
 
+import com.navercorp.pinpoint.profiler.monitor.stack.StackSampleTree;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -41,6 +42,9 @@ public class DefaultShared implements Shared {
     private static final AtomicReferenceFieldUpdater<DefaultShared, String> HTTP_METHODS_UPDATER
             = AtomicReferenceFieldUpdater.newUpdater(DefaultShared.class, String.class, "httpMethods");
 
+    private static final AtomicReferenceFieldUpdater<DefaultShared, StackSampleTree> STACK_SAMPLE_TREE_UPDATER
+            = AtomicReferenceFieldUpdater.newUpdater(DefaultShared.class, StackSampleTree.class, "stackSampleTree");
+
     private static final AtomicIntegerFieldUpdater<DefaultShared> SQL_COUNT_UPDATER
             = AtomicIntegerFieldUpdater.newUpdater(DefaultShared.class, "sqlExecutionCount");
 
@@ -63,6 +67,9 @@ public class DefaultShared implements Shared {
 
     private volatile int sqlExecutionCount = 0;
 
+    @SuppressWarnings("unused")
+    private volatile StackSampleTree stackSampleTree = null;
+
     @Override
     public void maskErrorCode(int errorCode) {
 //        synchronized (this) {
@@ -189,4 +196,14 @@ public class DefaultShared implements Shared {
     public int incrementAndGetSqlCount() {
         return SQL_COUNT_UPDATER.incrementAndGet(this);
     }
-}
\ No newline at end of file
+
+    @Override
+    public boolean setStackSampleTree(StackSampleTree stackSampleTree) {
+        return STACK_SAMPLE_TREE_UPDATER.compareAndSet(this, null, stackSampleTree);
+    }
+
+    @Override
+    public StackSampleTree getStackSampleTree() {
+        return STACK_SAMPLE_TREE_UPDATER.get(this);
+    }
+}
@@ -35,6 +35,8 @@ public class DefaultTraceId implements TraceId {
     private final long spanId;
     private final short flags;
 
+    private String spanIdString;
+
 
     public DefaultTraceId(TransactionId transactionId) {
         this(transactionId, null, SpanId.NULL, SpanId.newSpanId(), (short) 0);
@@ -82,6 +84,14 @@ public class DefaultTraceId implements TraceId {
         return spanId;
     }
 
+    @Override
+    public String getSpanIdString() {
+        if (spanIdString == null) {
+            spanIdString = String.valueOf(spanId);
+        }
+        return spanIdString;
+    }
+
 
     public short getFlags() {
         return flags;
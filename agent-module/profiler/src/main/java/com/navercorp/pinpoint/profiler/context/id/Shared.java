@@ -16,6 +16,8 @@
 
 package com.navercorp.pinpoint.profiler.context.id;
 
+import com.navercorp.pinpoint.profiler.monitor.stack.StackSampleTree;
+
 /**
  * @author Woonduk Kang(emeroad)
  */
@@ -58,4 +60,8 @@ public interface Shared {
     String getHttpMethod();
 
     int incrementAndGetSqlCount();
+
+    boolean setStackSampleTree(StackSampleTree stackSampleTree);
+
+    StackSampleTree getStackSampleTree();
 }
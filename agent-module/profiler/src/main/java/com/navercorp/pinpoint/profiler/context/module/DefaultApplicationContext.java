@@ -47,6 +47,7 @@ import com.navercorp.pinpoint.profiler.interceptor.registry.InterceptorRegistryB
 import com.navercorp.pinpoint.profiler.micrometer.MicrometerMonitor;
 import com.navercorp.pinpoint.profiler.monitor.AgentStatMonitor;
 import com.navercorp.pinpoint.profiler.monitor.DeadlockMonitor;
+import com.navercorp.pinpoint.profiler.monitor.stack.StackSampleMonitor;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -65,6 +66,7 @@ public class DefaultApplicationContext implements ApplicationContext {
     private final ProfilerConfig profilerConfig;
 
     private final DeadlockMonitor deadlockMonitor;
+    private final StackSampleMonitor stackSampleMonitor;
     private final AgentInfoSender agentInfoSender;
     private final AgentStatMonitor agentStatMonitor;
     private final MicrometerMonitor micrometerMonitor;
@@ -134,6 +136,7 @@ public class DefaultApplicationContext implements ApplicationContext {
         this.serverMetaDataRegistryService = injector.getInstance(ServerMetaDataRegistryService.class);
 
         this.deadlockMonitor = injector.getInstance(DeadlockMonitor.class);
+        this.stackSampleMonitor = injector.getInstance(StackSampleMonitor.class);
         this.agentInfoSender = injector.getInstance(AgentInfoSender.class);
         this.agentStatMonitor = injector.getInstance(AgentStatMonitor.class);
         this.micrometerMonitor = injector.getInstance(MicrometerMonitor.class);
@@ -231,6 +234,7 @@ public class DefaultApplicationContext implements ApplicationContext {
         this.interceptorRegistryBinder.bind();
 
         this.deadlockMonitor.start();
+        this.stackSampleMonitor.start();
         this.agentInfoSender.start();
         this.agentStatMonitor.start();
         this.micrometerMonitor.start();
@@ -242,6 +246,7 @@ public class DefaultApplicationContext implements ApplicationContext {
         this.micrometerMonitor.stop();
         this.agentStatMonitor.stop();
         this.deadlockMonitor.stop();
+        this.stackSampleMonitor.stop();
 
         // Need to process stop
         if (rpcModuleLifeCycle != null) {
@@ -28,6 +28,7 @@ import com.navercorp.pinpoint.common.profiler.message.DataSender;
 import com.navercorp.pinpoint.common.profiler.message.MessageConverter;
 import com.navercorp.pinpoint.common.profiler.message.ResultResponse;
 import com.navercorp.pinpoint.grpc.client.HeaderFactory;
+import com.navercorp.pinpoint.grpc.client.SharedChannelResource;
 import com.navercorp.pinpoint.grpc.trace.PSpan;
 import com.navercorp.pinpoint.grpc.trace.PSpanChunk;
 import com.navercorp.pinpoint.profiler.context.SpanType;
@@ -57,6 +58,7 @@ import com.navercorp.pinpoint.profiler.context.provider.grpc.MetadataGrpcDataSen
 import com.navercorp.pinpoint.profiler.context.provider.grpc.ReconnectExecutorProvider;
 import com.navercorp.pinpoint.profiler.context.provider.grpc.ReconnectSchedulerProvider;
 import com.navercorp.pinpoint.profiler.context.provider.grpc.SSLContextProvider;
+import com.navercorp.pinpoint.profiler.context.provider.grpc.SharedChannelResourceProvider;
 import com.navercorp.pinpoint.profiler.context.provider.grpc.SpanGrpcDataSenderProvider;
 import com.navercorp.pinpoint.profiler.context.provider.grpc.StatGrpcDataSenderProvider;
 import com.navercorp.pinpoint.profiler.metadata.MetaDataType;
@@ -117,6 +119,11 @@ public class GrpcModule extends PrivateModule {
 
         bind(SslContext.class).toProvider(SSLContextProvider.class).in(Scopes.SINGLETON);
 
+        if (grpcTransportConfig.isSharedChannelEnable()) {
+            // optional, injected into the data sender providers only if bound
+            bind(SharedChannelResource.class).toProvider(SharedChannelResourceProvider.class).in(Scopes.SINGLETON);
+        }
+
         // not singleton
         bind(ReconnectExecutor.class).toProvider(ReconnectExecutorProvider.class);
 
@@ -25,6 +25,7 @@ import com.navercorp.pinpoint.common.profiler.IOUtils;
 import com.navercorp.pinpoint.common.profiler.message.AsyncDataSender;
 import com.navercorp.pinpoint.common.profiler.message.DataSender;
 import com.navercorp.pinpoint.common.profiler.message.ResultResponse;
+import com.navercorp.pinpoint.grpc.client.SharedChannelResource;
 import com.navercorp.pinpoint.profiler.context.SpanType;
 import com.navercorp.pinpoint.profiler.metadata.MetaDataType;
 import com.navercorp.pinpoint.profiler.monitor.metric.MetricType;
@@ -61,6 +62,9 @@ public class GrpcModuleLifeCycle implements ModuleLifeCycle {
 
     private final ChannelzScheduledReporter reporter;
 
+    // nullable
+    private SharedChannelResource sharedChannelResource;
+
     @Inject
     public GrpcModuleLifeCycle(
             @AgentDataSender Provider<AsyncDataSender<MetaDataType, ResultResponse>> agentDataSenderProvider,
@@ -79,6 +83,11 @@ public class GrpcModuleLifeCycle implements ModuleLifeCycle {
         this.reporter = Objects.requireNonNull(reporter, "reporter");
     }
 
+    @Inject(optional = true)
+    public void setSharedChannelResource(SharedChannelResource sharedChannelResource) {
+        this.sharedChannelResource = Objects.requireNonNull(sharedChannelResource, "sharedChannelResource");
+    }
+
     @Override
     public void start() {
         logger.info("start()");
@@ -110,6 +119,10 @@ public class GrpcModuleLifeCycle implements ModuleLifeCycle {
         IOUtils.closeQuietly(statDataSender, (ex) -> logger.warn("statDataSender close fail", ex));
         IOUtils.closeQuietly(agentDataSender, (ex) -> logger.warn("agentDataSender close fail", ex));
         IOUtils.closeQuietly(metadataDataSender, (ex) -> logger.warn("metadataDataSender close fail", ex));
+        if (sharedChannelResource != null) {
+            // after the senders released their channels
+            sharedChannelResource.close();
+        }
 
         if (dnsExecutorService != null) {
             if (!MoreExecutors.shutdownAndAwaitTermination(dnsExecutorService, Duration.ofSeconds(3))) {
@@ -133,6 +146,7 @@ public class GrpcModuleLifeCycle implements ModuleLifeCycle {
                 ", statDataSender=" + statDataSender +
                 ", dnsExecutorService=" + dnsExecutorService +
                 ", reconnectScheduledExecutorService=" + reconnectScheduledExecutorService +
+                ", sharedChannelResource=" + sharedChannelResource +
                 '}';
     }
 }
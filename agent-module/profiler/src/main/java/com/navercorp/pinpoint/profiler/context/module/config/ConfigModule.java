@@ -50,6 +50,7 @@ import com.navercorp.pinpoint.profiler.instrument.config.DefaultInstrumentMatche
 import com.navercorp.pinpoint.profiler.instrument.config.InstrumentConfig;
 import com.navercorp.pinpoint.profiler.instrument.config.InstrumentMatcherCacheConfig;
 import com.navercorp.pinpoint.profiler.interceptor.registry.InterceptorRegistryBinder;
+import com.navercorp.pinpoint.profiler.monitor.stack.StackSampleConfig;
 import com.navercorp.pinpoint.profiler.name.ObjectName;
 import com.navercorp.pinpoint.profiler.plugin.PluginJar;
 import com.navercorp.pinpoint.profiler.plugin.config.DefaultPluginLoadingConfig;
@@ -118,6 +119,11 @@ public class ConfigModule extends AbstractModule {
         logger.info("{}", monitorConfig);
         bind(MonitorConfig.class).toInstance(monitorConfig);
 
+        StackSampleConfig stackSampleConfig = new StackSampleConfig();
+        configurationLoader.load(stackSampleConfig);
+        logger.info("{}", stackSampleConfig);
+        bind(StackSampleConfig.class).toInstance(stackSampleConfig);
+
         bind(Instrumentation.class).toInstance(agentOption.getInstrumentation());
 
         bind(InterceptorRegistryBinder.class).toProvider(InterceptorRegistryBinderProvider.class).in(Scopes.SINGLETON);
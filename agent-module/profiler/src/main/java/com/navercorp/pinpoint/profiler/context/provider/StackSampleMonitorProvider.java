@@ -0,0 +1,50 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.provider;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.navercorp.pinpoint.profiler.context.active.ActiveTraceRepository;
+import com.navercorp.pinpoint.profiler.monitor.stack.DefaultStackSampleMonitor;
+import com.navercorp.pinpoint.profiler.monitor.stack.DisabledStackSampleMonitor;
+import com.navercorp.pinpoint.profiler.monitor.stack.StackSampleConfig;
+import com.navercorp.pinpoint.profiler.monitor.stack.StackSampleMonitor;
+
+import java.util.Objects;
+
+public class StackSampleMonitorProvider implements Provider<StackSampleMonitor> {
+
+    private final StackSampleConfig stackSampleConfig;
+    private final ActiveTraceRepository activeTraceRepository;
+
+    @Inject
+    public StackSampleMonitorProvider(StackSampleConfig stackSampleConfig,
+                                      ActiveTraceRepository activeTraceRepository) {
+        this.stackSampleConfig = Objects.requireNonNull(stackSampleConfig, "stackSampleConfig");
+        this.activeTraceRepository = Objects.requireNonNull(activeTraceRepository, "activeTraceRepository");
+    }
+
+    @Override
+    public StackSampleMonitor get() {
+        if (stackSampleConfig.isEnable()) {
+            return new DefaultStackSampleMonitor(activeTraceRepository, stackSampleConfig);
+        } else {
+            return new DisabledStackSampleMonitor();
+        }
+    }
+
+}
@@ -26,9 +26,11 @@ import com.navercorp.pinpoint.grpc.client.ChannelFactory;
 import com.navercorp.pinpoint.grpc.client.ChannelFactoryBuilder;
 import com.navercorp.pinpoint.grpc.client.DefaultChannelFactoryBuilder;
 import com.navercorp.pinpoint.grpc.client.HeaderFactory;
+import com.navercorp.pinpoint.grpc.client.SharedChannelResource;
 import com.navercorp.pinpoint.grpc.client.UnaryCallDeadlineInterceptor;
 import com.navercorp.pinpoint.grpc.client.config.ClientOption;
 import com.navercorp.pinpoint.profiler.context.active.ActiveTraceRepository;
+import com.navercorp.pinpoint.profiler.context.config.ContextConfig;
 import com.navercorp.pinpoint.profiler.context.grpc.config.GrpcTransportConfig;
 import com.navercorp.pinpoint.profiler.context.grpc.mapper.ThreadDumpMapper;
 import com.navercorp.pinpoint.profiler.context.module.AgentDataSender;
@@ -72,9 +74,12 @@ public class AgentGrpcDataSenderProvider implements Provider<AsyncDataSender<Met
     private final ActiveTraceRepository activeTraceRepository;
 
     private List<ClientInterceptor> clientInterceptorList;
+    // nullable
+    private SharedChannelResource sharedChannelResource;
     private final Provider<SslContext> sslContextProvider;
 
     private final ThreadDumpMapper threadDumpMapper;
+    private final ContextConfig contextConfig;
 
     @Inject
     public AgentGrpcDataSenderProvider(
@@ -86,7 +91,8 @@ public class AgentGrpcDataSenderProvider implements Provider<AsyncDataSender<Met
             NameResolverProvider nameResolverProvider,
             ActiveTraceRepository activeTraceRepository,
             Provider<SslContext> sslContextProvider,
-            ThreadDumpMapper threadDumpMapper
+            ThreadDumpMapper threadDumpMapper,
+            ContextConfig contextConfig
     ) {
         this.grpcTransportConfig = Objects.requireNonNull(grpcTransportConfig, "grpcTransportConfig");
         this.messageConverter = Objects.requireNonNull(messageConverter, "messageConverter");
@@ -102,6 +108,7 @@ public class AgentGrpcDataSenderProvider implements Provider<AsyncDataSender<Met
         this.sslContextProvider = Objects.requireNonNull(sslContextProvider, "sslContextProvider");
 
         this.threadDumpMapper = Objects.requireNonNull(threadDumpMapper, "threadDumpMapper");
+        this.contextConfig = Objects.requireNonNull(contextConfig, "contextConfig");
     }
 
     @Inject(optional = true)
@@ -109,6 +116,11 @@ public class AgentGrpcDataSenderProvider implements Provider<AsyncDataSender<Met
         this.clientInterceptorList = Objects.requireNonNull(clientInterceptorList, "clientInterceptorList");
     }
 
+    @Inject(optional = true)
+    public void setSharedChannelResource(SharedChannelResource sharedChannelResource) {
+        this.sharedChannelResource = Objects.requireNonNull(sharedChannelResource, "sharedChannelResource");
+    }
+
     @Override
     public AsyncDataSender<MetaDataType, ResultResponse> get() {
         final String collectorIp = grpcTransportConfig.getAgentCollectorIp();
@@ -159,6 +171,10 @@ public class AgentGrpcDataSenderProvider implements Provider<AsyncDataSender<Met
             channelFactoryBuilder.setSslContext(sslContext);
         }
 
+        if (sharedChannelResource != null) {
+            channelFactoryBuilder.setSharedChannelResource(sharedChannelResource);
+        }
+
         return channelFactoryBuilder;
     }
 
@@ -169,8 +185,10 @@ public class AgentGrpcDataSenderProvider implements Provider<AsyncDataSender<Met
         if (activeTraceRepository != null) {
             GrpcActiveThreadCountService grpcActiveThreadCountService = newActiveThreadCountService(activeTraceRepository);
             profilerCommandLocatorBuilder.addService(grpcActiveThreadCountService);
-            profilerCommandLocatorBuilder.addService(new GrpcActiveThreadDumpService(activeTraceRepository, threadDumpMapper));
-            profilerCommandLocatorBuilder.addService(new GrpcActiveThreadLightDumpService(activeTraceRepository, threadDumpMapper));
+            final long threadDumpTimeBudget = contextConfig.getActiveThreadDumpTimeBudget();
+            final boolean threadDumpLockInfo = contextConfig.isActiveThreadDumpLockInfo();
+            profilerCommandLocatorBuilder.addService(new GrpcActiveThreadDumpService(activeTraceRepository, threadDumpMapper, threadDumpTimeBudget, threadDumpLockInfo));
+            profilerCommandLocatorBuilder.addService(new GrpcActiveThreadLightDumpService(activeTraceRepository, threadDumpMapper, threadDumpTimeBudget));
         }
         return profilerCommandLocatorBuilder.build();
     }
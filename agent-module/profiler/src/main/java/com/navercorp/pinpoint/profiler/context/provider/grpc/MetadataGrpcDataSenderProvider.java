@@ -25,6 +25,7 @@ import com.navercorp.pinpoint.grpc.client.ChannelFactory;
 import com.navercorp.pinpoint.grpc.client.ChannelFactoryBuilder;
 import com.navercorp.pinpoint.grpc.client.DefaultChannelFactoryBuilder;
 import com.navercorp.pinpoint.grpc.client.HeaderFactory;
+import com.navercorp.pinpoint.grpc.client.SharedChannelResource;
 import com.navercorp.pinpoint.grpc.client.UnaryCallDeadlineInterceptor;
 import com.navercorp.pinpoint.grpc.client.config.ClientOption;
 import com.navercorp.pinpoint.grpc.client.config.ClientRetryOption;
@@ -56,6 +57,8 @@ public class MetadataGrpcDataSenderProvider implements Provider<DataSender<MetaD
     private final HeaderFactory headerFactory;
     private final NameResolverProvider nameResolverProvider;
     private List<ClientInterceptor> clientInterceptorList;
+    // nullable
+    private SharedChannelResource sharedChannelResource;
     private final Provider<SslContext> sslContextProvider;
 
     @Inject
@@ -77,6 +80,11 @@ public class MetadataGrpcDataSenderProvider implements Provider<DataSender<MetaD
         this.clientInterceptorList = Objects.requireNonNull(clientInterceptorList, "clientInterceptorList");
     }
 
+    @Inject(optional = true)
+    public void setSharedChannelResource(SharedChannelResource sharedChannelResource) {
+        this.sharedChannelResource = Objects.requireNonNull(sharedChannelResource, "sharedChannelResource");
+    }
+
     @Override
     public DataSender<MetaDataType> get() {
         final String collectorIp = grpcTransportConfig.getMetadataCollectorIp();
@@ -127,20 +135,27 @@ public class MetadataGrpcDataSenderProvider implements Provider<DataSender<MetaD
         }
 
         if (clientRetryEnable) {
-            HedgingServiceConfigBuilder hedgingServiceConfigBuilder = new HedgingServiceConfigBuilder();
-            hedgingServiceConfigBuilder.setMaxAttempts(grpcTransportConfig.getMetadataMaxAttempts());
-            hedgingServiceConfigBuilder.setHedgingDelayMillis(grpcTransportConfig.getMetadataHedgingDelayMillis());
-
-            channelFactoryBuilder.setClientRetryOption(new ClientRetryOption(
-                    grpcTransportConfig.getMetadataRetryBufferSize(),
-                    grpcTransportConfig.getMetadataPerRpcBufferLimit(),
-                    hedgingServiceConfigBuilder.buildMetadataConfig())
-            );
+            channelFactoryBuilder.setClientRetryOption(newClientRetryOption(grpcTransportConfig));
+        }
+
+        if (sharedChannelResource != null) {
+            channelFactoryBuilder.setSharedChannelResource(sharedChannelResource);
         }
 
         return channelFactoryBuilder;
     }
 
+    static ClientRetryOption newClientRetryOption(GrpcTransportConfig grpcTransportConfig) {
+        HedgingServiceConfigBuilder hedgingServiceConfigBuilder = new HedgingServiceConfigBuilder();
+        hedgingServiceConfigBuilder.setMaxAttempts(grpcTransportConfig.getMetadataMaxAttempts());
+        hedgingServiceConfigBuilder.setHedgingDelayMillis(grpcTransportConfig.getMetadataHedgingDelayMillis());
+
+        return new ClientRetryOption(
+                grpcTransportConfig.getMetadataRetryBufferSize(),
+                grpcTransportConfig.getMetadataPerRpcBufferLimit(),
+                hedgingServiceConfigBuilder.buildMetadataConfig());
+    }
+
     private String getChannelFactoryName(boolean clientRetryEnable) {
         if (clientRetryEnable) {
             return MetadataGrpcHedgingDataSender.class.getSimpleName();
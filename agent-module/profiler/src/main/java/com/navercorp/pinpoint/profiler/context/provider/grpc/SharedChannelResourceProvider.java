@@ -0,0 +1,50 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.provider.grpc;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.navercorp.pinpoint.grpc.client.SharedChannelResource;
+import com.navercorp.pinpoint.grpc.client.config.ClientRetryOption;
+import com.navercorp.pinpoint.profiler.context.grpc.config.GrpcTransportConfig;
+
+import java.util.Objects;
+
+public class SharedChannelResourceProvider implements Provider<SharedChannelResource> {
+
+    private final GrpcTransportConfig grpcTransportConfig;
+
+    @Inject
+    public SharedChannelResourceProvider(GrpcTransportConfig grpcTransportConfig) {
+        this.grpcTransportConfig = Objects.requireNonNull(grpcTransportConfig, "grpcTransportConfig");
+    }
+
+    @Override
+    public SharedChannelResource get() {
+        // the hedging policy only applies to the metadata service methods
+        ClientRetryOption clientRetryOption = null;
+        if (grpcTransportConfig.isMetadataRetryEnable()) {
+            clientRetryOption = MetadataGrpcDataSenderProvider.newClientRetryOption(grpcTransportConfig);
+        }
+        return new SharedChannelResource("SharedGrpcDataSender",
+                grpcTransportConfig.getSharedChannelTypeEnum(),
+                grpcTransportConfig.getSharedChannelWorkerThreadSize(),
+                grpcTransportConfig.getSharedChannelExecutorQueueSize(),
+                grpcTransportConfig.getSharedChannelFlowControlWindow(),
+                clientRetryOption);
+    }
+}
@@ -25,6 +25,7 @@ import com.navercorp.pinpoint.grpc.client.ChannelFactory;
 import com.navercorp.pinpoint.grpc.client.ChannelFactoryBuilder;
 import com.navercorp.pinpoint.grpc.client.DefaultChannelFactoryBuilder;
 import com.navercorp.pinpoint.grpc.client.HeaderFactory;
+import com.navercorp.pinpoint.grpc.client.SharedChannelResource;
 import com.navercorp.pinpoint.grpc.client.UnaryCallDeadlineInterceptor;
 import com.navercorp.pinpoint.grpc.client.config.ClientOption;
 import com.navercorp.pinpoint.grpc.client.interceptor.DiscardClientInterceptor;
@@ -64,6 +65,8 @@ public class SpanGrpcDataSenderProvider implements Provider<DataSender<SpanType>
     private final ChannelzScheduledReporter reporter;
 
     private List<ClientInterceptor> clientInterceptorList;
+    // nullable
+    private SharedChannelResource sharedChannelResource;
     private final Provider<SslContext> sslContextProvider;
 
     public static final String SPAN_CHANNELZ = "com.navercorp.pinpoint.metric.SpanChannel";
@@ -92,6 +95,11 @@ public class SpanGrpcDataSenderProvider implements Provider<DataSender<SpanType>
         this.clientInterceptorList = Objects.requireNonNull(clientInterceptorList, "clientInterceptorList");
     }
 
+    @Inject(optional = true)
+    public void setSharedChannelResource(SharedChannelResource sharedChannelResource) {
+        this.sharedChannelResource = Objects.requireNonNull(sharedChannelResource, "sharedChannelResource");
+    }
+
     @Override
     public DataSender<SpanType> get() {
         final String collectorIp = grpcTransportConfig.getSpanCollectorIp();
@@ -152,6 +160,10 @@ public class SpanGrpcDataSenderProvider implements Provider<DataSender<SpanType>
             channelFactoryBuilder.setSslContext(sslContext);
         }
 
+        if (sharedChannelResource != null) {
+            channelFactoryBuilder.setSharedChannelResource(sharedChannelResource);
+        }
+
         return channelFactoryBuilder;
     }
 
@@ -25,6 +25,7 @@ import com.navercorp.pinpoint.grpc.client.ChannelFactory;
 import com.navercorp.pinpoint.grpc.client.ChannelFactoryBuilder;
 import com.navercorp.pinpoint.grpc.client.DefaultChannelFactoryBuilder;
 import com.navercorp.pinpoint.grpc.client.HeaderFactory;
+import com.navercorp.pinpoint.grpc.client.SharedChannelResource;
 import com.navercorp.pinpoint.grpc.client.UnaryCallDeadlineInterceptor;
 import com.navercorp.pinpoint.grpc.client.config.ClientOption;
 import com.navercorp.pinpoint.profiler.context.grpc.config.GrpcTransportConfig;
@@ -55,6 +56,8 @@ public class StatGrpcDataSenderProvider implements Provider<DataSender<MetricTyp
     private final NameResolverProvider nameResolverProvider;
 
     private List<ClientInterceptor> clientInterceptorList;
+    // nullable
+    private SharedChannelResource sharedChannelResource;
     private final Provider<SslContext> sslContextProvider;
 
     @Inject
@@ -77,6 +80,11 @@ public class StatGrpcDataSenderProvider implements Provider<DataSender<MetricTyp
         this.clientInterceptorList = Objects.requireNonNull(clientInterceptorList, "clientInterceptorList");
     }
 
+    @Inject(optional = true)
+    public void setSharedChannelResource(SharedChannelResource sharedChannelResource) {
+        this.sharedChannelResource = Objects.requireNonNull(sharedChannelResource, "sharedChannelResource");
+    }
+
     @Override
     public DataSender<MetricType> get() {
         final String collectorIp = grpcTransportConfig.getStatCollectorIp();
@@ -117,6 +125,10 @@ public class StatGrpcDataSenderProvider implements Provider<DataSender<MetricTyp
         }
 
 
+        if (sharedChannelResource != null) {
+            channelFactoryBuilder.setSharedChannelResource(sharedChannelResource);
+        }
+
         return channelFactoryBuilder;
     }
 }
\ No newline at end of file
@@ -36,6 +36,7 @@ import org.objectweb.asm.tree.MethodNode;
 import org.objectweb.asm.tree.TypeInsnNode;
 import org.objectweb.asm.tree.VarInsnNode;
 
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 
@@ -83,11 +84,8 @@ public class ASMMethodVariables {
     private int nextLocals;
 
     private int interceptorVarIndex;
-    private int arg0VarIndex;
-    private int arg1VarIndex;
-    private int arg2VarIndex;
-    private int arg3VarIndex;
-    private int arg4VarIndex;
+    private int[] argVarIndexes = new int[0];
+    private Type[] argVarTypes = new Type[0];
     private int argsVarIndex;
     private int classNameVarIndex;
     private int methodNameVarIndex;
@@ -214,6 +212,9 @@ public class ASMMethodVariables {
         if (this.initializedInterceptorLocalVariables) {
             return false;
         }
+        final Type[] interceptorArgumentTypes = getInterceptorArgumentTypes(interceptorDefinition);
+        // check before the method is modified.
+        assertInterceptorArgumentTypes(interceptorArgumentTypes);
         this.initializedInterceptorLocalVariables = true;
 
         // find enter & exit instruction.
@@ -252,22 +253,13 @@ public class ASMMethodVariables {
             initApiIdVar(apiId, instructions);
             initArgsVar(instructions);
         } else if (interceptorType == InterceptorType.BASIC) {
-            int interceptorMethodParameterCount = getInterceptorParameterCount(interceptorDefinition);
-            final int methodParameterCount = this.argumentTypes.length;
-            final int argumentCount = Math.min(methodParameterCount, interceptorMethodParameterCount);
-            for (int i = 1; i <= argumentCount; i++) {
-                // Object target, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4
-                if (i == 1) {
-                    initArg0Var(instructions);
-                } else if (i == 2) {
-                    initArg1Var(instructions);
-                } else if (i == 3) {
-                    initArg2Var(instructions);
-                } else if (i == 4) {
-                    initArg3Var(instructions);
-                } else if (i == 5) {
-                    initArg4Var(instructions);
-                }
+            // Object target, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4
+            // or primitive arguments. e.g. Object target, int arg0, long arg1
+            final int argumentCount = Math.min(this.argumentTypes.length, interceptorArgumentTypes.length);
+            this.argVarIndexes = new int[argumentCount];
+            this.argVarTypes = new Type[argumentCount];
+            for (int i = 0; i < argumentCount; i++) {
+                initArgVar(instructions, i, interceptorArgumentTypes[i]);
             }
         }
 
@@ -355,44 +347,58 @@ public class ASMMethodVariables {
         storeInt(instructions, this.apiIdVarIndex);
     }
 
-    private void initArg0Var(InsnList instructions) {
-        assertInitializedInterceptorLocalVariables();
-        this.arg0VarIndex = addInterceptorLocalVariable("_$PINPOINT$_arg0", "Ljava/lang/String;");
-        loadArg(instructions, this.argumentTypes, 0);
-        box(instructions, this.argumentTypes[0]);
-        storeVar(instructions, this.arg0VarIndex);
-    }
-
-    private void initArg1Var(InsnList instructions) {
+    private void initArgVar(InsnList instructions, int index, Type interceptorArgumentType) {
         assertInitializedInterceptorLocalVariables();
-        this.arg1VarIndex = addInterceptorLocalVariable("_$PINPOINT$_arg1", "Ljava/lang/String;");
-        loadArg(instructions, this.argumentTypes, 1);
-        box(instructions, this.argumentTypes[1]);
-        storeVar(instructions, this.arg1VarIndex);
+        final Type argumentType = this.argumentTypes[index];
+        loadArg(instructions, this.argumentTypes, index);
+        final Type varType;
+        if (isPrimitive(interceptorArgumentType)) {
+            // pass the raw value to primitive-specialized interceptors.
+            varType = interceptorArgumentType;
+        } else {
+            box(instructions, argumentType);
+            varType = OBJECT_TYPE;
+        }
+        final int varIndex = addInterceptorLocalVariable("_$PINPOINT$_arg" + index, varType.getDescriptor());
+        instructions.add(new VarInsnNode(varType.getOpcode(Opcodes.ISTORE), varIndex));
+        this.argVarIndexes[index] = varIndex;
+        this.argVarTypes[index] = varType;
     }
 
-    private void initArg2Var(InsnList instructions) {
-        assertInitializedInterceptorLocalVariables();
-        this.arg2VarIndex = addInterceptorLocalVariable("_$PINPOINT$_arg2", "Ljava/lang/String;");
-        loadArg(instructions, this.argumentTypes, 2);
-        box(instructions, this.argumentTypes[2]);
-        storeVar(instructions, this.arg2VarIndex);
+    Type[] getInterceptorArgumentTypes(final InterceptorDefinition interceptorDefinition) {
+        if (interceptorDefinition.getInterceptorType() != InterceptorType.BASIC) {
+            return new Type[0];
+        }
+        if (interceptorDefinition.getBeforeMethod() != null) {
+            // skip target.
+            final Type[] types = Type.getArgumentTypes(interceptorDefinition.getBeforeMethod());
+            return Arrays.copyOfRange(types, 1, types.length);
+        } else if (interceptorDefinition.getAfterMethod() != null) {
+            // skip target, result, throwable.
+            final Type[] types = Type.getArgumentTypes(interceptorDefinition.getAfterMethod());
+            return Arrays.copyOfRange(types, 1, types.length - 2);
+        }
+        return new Type[0];
     }
 
-    private void initArg3Var(InsnList instructions) {
-        assertInitializedInterceptorLocalVariables();
-        this.arg3VarIndex = addInterceptorLocalVariable("_$PINPOINT$_arg3", "Ljava/lang/String;");
-        loadArg(instructions, this.argumentTypes, 3);
-        box(instructions, this.argumentTypes[3]);
-        storeVar(instructions, this.arg3VarIndex);
+    private void assertInterceptorArgumentTypes(final Type[] interceptorArgumentTypes) {
+        final int argumentCount = Math.min(this.argumentTypes.length, interceptorArgumentTypes.length);
+        for (int i = 0; i < argumentCount; i++) {
+            final Type interceptorArgumentType = interceptorArgumentTypes[i];
+            if (!isPrimitive(interceptorArgumentType)) {
+                continue;
+            }
+            final Type argumentType = this.argumentTypes[i];
+            // no implicit widening, the interceptor must declare the exact primitive type of the argument.
+            if (argumentType.getSort() != interceptorArgumentType.getSort()) {
+                throw new IllegalArgumentException("interceptor argument type mismatch. method:" + declaringClassInternalName + "/" + methodNode.name + methodNode.desc
+                        + " arg" + i + ":" + argumentType.getClassName() + " interceptor:" + interceptorArgumentType.getClassName());
+            }
+        }
     }
 
-    private void initArg4Var(InsnList instructions) {
-        assertInitializedInterceptorLocalVariables();
-        this.arg4VarIndex = addInterceptorLocalVariable("_$PINPOINT$_arg4", "Ljava/lang/String;");
-        loadArg(instructions, this.argumentTypes, 4);
-        box(instructions, this.argumentTypes[4]);
-        storeVar(instructions, this.arg4VarIndex);
+    private boolean isPrimitive(final Type type) {
+        return type.getSort() != Type.OBJECT && type.getSort() != Type.ARRAY;
     }
 
     int getInterceptorParameterCount(final InterceptorDefinition interceptorDefinition) {
@@ -473,21 +479,15 @@ public class ASMMethodVariables {
             loadInt(instructions, this.apiIdVarIndex);
             loadVar(instructions, this.argsVarIndex);
         } else if (interceptorType == InterceptorType.BASIC) {
-            int interceptorMethodParameterCount = getInterceptorParameterCount(interceptorDefinition);
-            int argumentCount = Math.min(this.argumentTypes.length, interceptorMethodParameterCount);
-            int i = 1;
-            for (; i <= argumentCount; i++) {
-                // Object target, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4
-                if (i == 1) loadVar(instructions, this.arg0VarIndex);
-                else if (i == 2) loadVar(instructions, this.arg1VarIndex);
-                else if (i == 3) loadVar(instructions, this.arg2VarIndex);
-                else if (i == 4) loadVar(instructions, this.arg3VarIndex);
-                else if (i == 5) loadVar(instructions, this.arg4VarIndex);
-                else loadNull(instructions);
+            // Object target, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4
+            final Type[] interceptorArgumentTypes = getInterceptorArgumentTypes(interceptorDefinition);
+            int i = 0;
+            for (; i < this.argVarIndexes.length; i++) {
+                instructions.add(new VarInsnNode(this.argVarTypes[i].getOpcode(Opcodes.ILOAD), this.argVarIndexes[i]));
             }
 
-            for (; i <= interceptorMethodParameterCount; i++) {
-                loadNull(instructions);
+            for (; i < interceptorArgumentTypes.length; i++) {
+                loadDefault(instructions, interceptorArgumentTypes[i]);
             }
         }
 
@@ -535,6 +535,16 @@ public class ASMMethodVariables {
         instructions.add(new InsnNode(Opcodes.ACONST_NULL));
     }
 
+    void loadDefault(final InsnList instructions, final Type type) {
+        if (type.getSort() == Type.LONG) {
+            instructions.add(new InsnNode(Opcodes.LCONST_0));
+        } else if (isPrimitive(type)) {
+            instructions.add(new InsnNode(Opcodes.ICONST_0));
+        } else {
+            loadNull(instructions);
+        }
+    }
+
     void loadVar(final InsnList instructions, final int index) {
         instructions.add(new VarInsnNode(Opcodes.ALOAD, index));
     }
@@ -671,25 +681,10 @@ public class ASMMethodVariables {
             // push null
             instructions.add(new InsnNode(Opcodes.ACONST_NULL));
         } else {
-            Type boxed = getBoxedType(type);
-            // new instance.
-            newInstance(instructions, boxed);
-            if (type.getSize() == 2) {
-                // Pp -> Ppo -> oPpo -> ooPpo -> ooPp -> o
-                // dupX2
-                dupX2(instructions);
-                // dupX2
-                dupX2(instructions);
-                // pop
-                pop(instructions);
-            } else {
-                // p -> po -> opo -> oop -> o
-                // dupX1
-                dupX1(instructions);
-                // swap
-                swap(instructions);
-            }
-            invokeConstructor(instructions, boxed, new Method("<init>", Type.VOID_TYPE, new Type[]{type}));
+            // valueOf() uses the box caches and lets the JIT eliminate boxes that do not escape.
+            final Type boxed = getBoxedType(type);
+            final String descriptor = Type.getMethodDescriptor(boxed, type);
+            instructions.add(new MethodInsnNode(Opcodes.INVOKESTATIC, boxed.getInternalName(), "valueOf", descriptor, false));
         }
     }
 
@@ -708,12 +703,18 @@ public class ASMMethodVariables {
 
 
     int addInterceptorLocalVariable(final String name, final String desc) {
-        return addLocalVariable(name, desc, this.interceptorVariableStartLabelNode, this.interceptorVariableEndLabelNode);
+        // long and double take two slots.
+        final int size = Type.getType(desc).getSize();
+        return addLocalVariable(name, desc, size, this.interceptorVariableStartLabelNode, this.interceptorVariableEndLabelNode);
     }
 
     int addLocalVariable(final String name, final String desc, final LabelNode start, final LabelNode end) {
+        return addLocalVariable(name, desc, 1, start, end);
+    }
+
+    private int addLocalVariable(final String name, final String desc, final int size, final LabelNode start, final LabelNode end) {
         int index = this.nextLocals;
-        this.nextLocals += 1;
+        this.nextLocals += size;
         final LocalVariableNode node = new LocalVariableNode(name, desc, null, start, end, index);
         this.methodNode.localVariables.add(node);
 
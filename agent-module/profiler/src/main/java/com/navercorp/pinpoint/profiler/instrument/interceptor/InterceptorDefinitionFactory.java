@@ -34,6 +34,8 @@ import com.navercorp.pinpoint.bootstrap.interceptor.BlockAroundInterceptor3;
 import com.navercorp.pinpoint.bootstrap.interceptor.BlockAroundInterceptor4;
 import com.navercorp.pinpoint.bootstrap.interceptor.BlockAroundInterceptor5;
 import com.navercorp.pinpoint.bootstrap.interceptor.BlockStaticAroundInterceptor;
+import com.navercorp.pinpoint.bootstrap.interceptor.IntIntAroundInterceptor2;
+import com.navercorp.pinpoint.bootstrap.interceptor.IntLongAroundInterceptor2;
 import com.navercorp.pinpoint.bootstrap.interceptor.Interceptor;
 import com.navercorp.pinpoint.bootstrap.interceptor.StaticAroundInterceptor;
 import com.navercorp.pinpoint.bootstrap.interceptor.annotation.IgnoreMethod;
@@ -81,6 +83,8 @@ public class InterceptorDefinitionFactory {
         addTypeHandler(typeHandlerList, AroundInterceptor3.class, InterceptorType.BASIC);
         addTypeHandler(typeHandlerList, AroundInterceptor4.class, InterceptorType.BASIC);
         addTypeHandler(typeHandlerList, AroundInterceptor5.class, InterceptorType.BASIC);
+        addTypeHandler(typeHandlerList, IntIntAroundInterceptor2.class, InterceptorType.BASIC);
+        addTypeHandler(typeHandlerList, IntLongAroundInterceptor2.class, InterceptorType.BASIC);
         addTypeHandler(typeHandlerList, StaticAroundInterceptor.class, InterceptorType.STATIC);
         addTypeHandler(typeHandlerList, ApiIdAwareAroundInterceptor.class, InterceptorType.API_ID_AWARE);
         // block
@@ -163,11 +163,11 @@ public class InvokeAfterCodeGenerator extends InvokeCodeGenerator {
 
         int parameterIndex = 0;
         for (; parameterIndex < matchNum; parameterIndex++) {
-            builder.append(", ($w)$" + (parameterIndex + 1));
+            builder.append(", " + getArgument(interceptorParamTypes[parameterIndex + 1], parameterIndex));
         }
 
         for (; parameterIndex < interceptorArgNum; parameterIndex++) {
-            builder.append(", null");
+            builder.append(", " + getDefaultArgument(interceptorParamTypes[parameterIndex + 1]));
         }
         return parameterIndex;
     }
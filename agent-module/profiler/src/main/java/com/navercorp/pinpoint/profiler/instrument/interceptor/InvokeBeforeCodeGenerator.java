@@ -104,12 +104,13 @@ public class InvokeBeforeCodeGenerator extends InvokeCodeGenerator {
         int interceptorArgNum = interceptorMethod.getParameterCount() - 1;
         int matchNum = Math.min(argNum, interceptorArgNum);
         
+        final Class<?>[] interceptorParamTypes = interceptorMethod.getParameterTypes();
         for (; i < matchNum; i++) {
-            builder.append(", ($w)$" + (i + 1));
+            builder.append(", " + getArgument(interceptorParamTypes[i + 1], i));
         }
         
         for (; i < interceptorArgNum; i++) {
-            builder.append(", null");
+            builder.append(", " + getDefaultArgument(interceptorParamTypes[i + 1]));
         }
     }
 }
@@ -63,6 +63,20 @@ public class InvokeCodeGenerator {
         return "$args";
     }
     
+    protected String getArgument(Class<?> interceptorParameterType, int index) {
+        if (interceptorParameterType.isPrimitive()) {
+            return "$" + (index + 1);
+        }
+        return "($w)$" + (index + 1);
+    }
+
+    protected String getDefaultArgument(Class<?> interceptorParameterType) {
+        if (interceptorParameterType.isPrimitive()) {
+            return "0";
+        }
+        return "null";
+    }
+
     protected int getApiId() {
         final MethodDescriptor descriptor = targetMethod.getDescriptor();
         final int apiId = apiMetaDataService.cacheApi(descriptor);
@@ -54,8 +54,12 @@ import com.navercorp.pinpoint.bootstrap.interceptor.ExceptionHandleBlockAroundIn
 import com.navercorp.pinpoint.bootstrap.interceptor.ExceptionHandleBlockAroundInterceptor4;
 import com.navercorp.pinpoint.bootstrap.interceptor.ExceptionHandleBlockAroundInterceptor5;
 import com.navercorp.pinpoint.bootstrap.interceptor.ExceptionHandleBlockStaticAroundInterceptor;
+import com.navercorp.pinpoint.bootstrap.interceptor.ExceptionHandleIntIntAroundInterceptor2;
+import com.navercorp.pinpoint.bootstrap.interceptor.ExceptionHandleIntLongAroundInterceptor2;
 import com.navercorp.pinpoint.bootstrap.interceptor.ExceptionHandleStaticAroundInterceptor;
 import com.navercorp.pinpoint.bootstrap.interceptor.ExceptionHandler;
+import com.navercorp.pinpoint.bootstrap.interceptor.IntIntAroundInterceptor2;
+import com.navercorp.pinpoint.bootstrap.interceptor.IntLongAroundInterceptor2;
 import com.navercorp.pinpoint.bootstrap.interceptor.Interceptor;
 import com.navercorp.pinpoint.bootstrap.interceptor.StaticAroundInterceptor;
 import com.navercorp.pinpoint.bootstrap.interceptor.scope.ExceptionHandleScopedApiIdAwareAroundInterceptor;
@@ -68,6 +72,8 @@ import com.navercorp.pinpoint.bootstrap.interceptor.scope.ExceptionHandleScopedB
 import com.navercorp.pinpoint.bootstrap.interceptor.scope.ExceptionHandleScopedBlockInterceptor4;
 import com.navercorp.pinpoint.bootstrap.interceptor.scope.ExceptionHandleScopedBlockInterceptor5;
 import com.navercorp.pinpoint.bootstrap.interceptor.scope.ExceptionHandleScopedBlockStaticAroundInterceptor;
+import com.navercorp.pinpoint.bootstrap.interceptor.scope.ExceptionHandleScopedIntIntInterceptor2;
+import com.navercorp.pinpoint.bootstrap.interceptor.scope.ExceptionHandleScopedIntLongInterceptor2;
 import com.navercorp.pinpoint.bootstrap.interceptor.scope.ExceptionHandleScopedInterceptor;
 import com.navercorp.pinpoint.bootstrap.interceptor.scope.ExceptionHandleScopedInterceptor0;
 import com.navercorp.pinpoint.bootstrap.interceptor.scope.ExceptionHandleScopedInterceptor1;
@@ -88,6 +94,8 @@ import com.navercorp.pinpoint.bootstrap.interceptor.scope.ScopedBlockInterceptor
 import com.navercorp.pinpoint.bootstrap.interceptor.scope.ScopedBlockInterceptor4;
 import com.navercorp.pinpoint.bootstrap.interceptor.scope.ScopedBlockInterceptor5;
 import com.navercorp.pinpoint.bootstrap.interceptor.scope.ScopedBlockStaticAroundInterceptor;
+import com.navercorp.pinpoint.bootstrap.interceptor.scope.ScopedIntIntInterceptor2;
+import com.navercorp.pinpoint.bootstrap.interceptor.scope.ScopedIntLongInterceptor2;
 import com.navercorp.pinpoint.bootstrap.interceptor.scope.ScopedInterceptor;
 import com.navercorp.pinpoint.bootstrap.interceptor.scope.ScopedInterceptor0;
 import com.navercorp.pinpoint.bootstrap.interceptor.scope.ScopedInterceptor1;
@@ -191,6 +199,10 @@ public class AnnotatedInterceptorFactory implements InterceptorFactory {
             return new ScopedInterceptor2((AroundInterceptor2) interceptor, scope, policy);
         } else if (interceptor instanceof AroundInterceptor1) {
             return new ScopedInterceptor1((AroundInterceptor1) interceptor, scope, policy);
+        } else if (interceptor instanceof IntIntAroundInterceptor2) {
+            return new ScopedIntIntInterceptor2((IntIntAroundInterceptor2) interceptor, scope, policy);
+        } else if (interceptor instanceof IntLongAroundInterceptor2) {
+            return new ScopedIntLongInterceptor2((IntLongAroundInterceptor2) interceptor, scope, policy);
         } else if (interceptor instanceof AroundInterceptor0) {
             return new ScopedInterceptor0((AroundInterceptor0) interceptor, scope, policy);
         } else if (interceptor instanceof ApiIdAwareAroundInterceptor) {
@@ -234,6 +246,10 @@ public class AnnotatedInterceptorFactory implements InterceptorFactory {
             return new ExceptionHandleScopedInterceptor2((AroundInterceptor2) interceptor, scope, policy, exceptionHandler);
         } else if (interceptor instanceof AroundInterceptor1) {
             return new ExceptionHandleScopedInterceptor1((AroundInterceptor1) interceptor, scope, policy, exceptionHandler);
+        } else if (interceptor instanceof IntIntAroundInterceptor2) {
+            return new ExceptionHandleScopedIntIntInterceptor2((IntIntAroundInterceptor2) interceptor, scope, policy, exceptionHandler);
+        } else if (interceptor instanceof IntLongAroundInterceptor2) {
+            return new ExceptionHandleScopedIntLongInterceptor2((IntLongAroundInterceptor2) interceptor, scope, policy, exceptionHandler);
         } else if (interceptor instanceof AroundInterceptor0) {
             return new ExceptionHandleScopedInterceptor0((AroundInterceptor0) interceptor, scope, policy, exceptionHandler);
         } else if (interceptor instanceof ApiIdAwareAroundInterceptor) {
@@ -277,6 +293,10 @@ public class AnnotatedInterceptorFactory implements InterceptorFactory {
             return new ExceptionHandleAroundInterceptor2((AroundInterceptor2) interceptor, exceptionHandler);
         } else if (interceptor instanceof AroundInterceptor1) {
             return new ExceptionHandleAroundInterceptor1((AroundInterceptor1) interceptor, exceptionHandler);
+        } else if (interceptor instanceof IntIntAroundInterceptor2) {
+            return new ExceptionHandleIntIntAroundInterceptor2((IntIntAroundInterceptor2) interceptor, exceptionHandler);
+        } else if (interceptor instanceof IntLongAroundInterceptor2) {
+            return new ExceptionHandleIntLongAroundInterceptor2((IntLongAroundInterceptor2) interceptor, exceptionHandler);
         } else if (interceptor instanceof AroundInterceptor0) {
             return new ExceptionHandleAroundInterceptor0((AroundInterceptor0) interceptor, exceptionHandler);
         } else if (interceptor instanceof ApiIdAwareAroundInterceptor) {
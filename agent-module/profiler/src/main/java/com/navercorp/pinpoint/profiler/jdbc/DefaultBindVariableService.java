@@ -28,6 +28,11 @@ public class DefaultBindVariableService implements BindVariableService {
         return BindValueUtils.bindValueToString(bindValueMap, limit);
     }
 
+    @Override
+    public String bindVariableToString(String[] bindValues, int limit) {
+        return BindValueUtils.bindValueToString(bindValues, limit);
+    }
+
     @Override
     public String bindNameVariableToString(Map<String, String> bindValueMap, int limit) {
         return BindValueUtils.bindNameValueToString(bindValueMap, limit);
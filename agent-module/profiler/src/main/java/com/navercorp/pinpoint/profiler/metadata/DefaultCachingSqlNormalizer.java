@@ -1,20 +1,26 @@
 package com.navercorp.pinpoint.profiler.metadata;
 
 import com.navercorp.pinpoint.common.profiler.sql.DefaultSqlNormalizer;
+import com.navercorp.pinpoint.common.profiler.sql.FingerprintedSql;
 import com.navercorp.pinpoint.common.profiler.sql.NormalizedSql;
-import com.navercorp.pinpoint.common.profiler.sql.SqlNormalizer;
-import com.navercorp.pinpoint.profiler.cache.Cache;
+import com.navercorp.pinpoint.common.profiler.sql.SqlFingerprint;
 import com.navercorp.pinpoint.profiler.cache.Result;
+import com.navercorp.pinpoint.profiler.cache.SimpleCache;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+/**
+ * The fingerprint of the normalized sql is looked up first.
+ * The normalized sql is only built on a fingerprint miss, so {@link ParsingResultInternal#getSql()} is left empty on a hit.
+ * The fingerprint is cached as an alias of the normalized sql in the sql cache, so both are bounded by the same cache size.
+ */
 public class DefaultCachingSqlNormalizer<ID> implements CachingSqlNormalizer<ParsingResultInternal<ID>> {
     private static final Logger logger = LogManager.getLogger(DefaultCachingSqlNormalizer.class);
 
-    private final Cache<String, Result<ID>> sqlCache;
-    private final SqlNormalizer sqlNormalizer;
+    private final SimpleCache<String, ID> sqlCache;
+    private final DefaultSqlNormalizer sqlNormalizer;
 
-    public DefaultCachingSqlNormalizer(Cache<String, Result<ID>> sqlCache, boolean removeComments) {
+    public DefaultCachingSqlNormalizer(SimpleCache<String, ID> sqlCache, boolean removeComments) {
         this.sqlCache = sqlCache;
         this.sqlNormalizer = new DefaultSqlNormalizer(removeComments);
     }
@@ -31,8 +37,17 @@ public class DefaultCachingSqlNormalizer<ID> implements CachingSqlNormalizer<Par
 
         final String originalSql = parsingResult.getOriginalSql();
 
+        final FingerprintedSql fingerprintedSql = this.sqlNormalizer.fingerprintSql(originalSql);
+        final SqlFingerprint fingerprint = fingerprintedSql.getFingerprint();
+        final ID cachedId = this.sqlCache.getByAlias(fingerprint);
+        if (cachedId != null) {
+            setId(parsingResult, cachedId);
+            parsingResult.setOutput(fingerprintedSql.getParseParameter());
+            return false;
+        }
+
         final NormalizedSql normalizedSql = this.sqlNormalizer.normalizeSql(originalSql);
-        final Result<ID> cachingResult = this.sqlCache.put(normalizedSql.getNormalizedSql());
+        final Result<ID> cachingResult = this.sqlCache.put(normalizedSql.getNormalizedSql(), fingerprint);
 
         setParsingResult(parsingResult, cachingResult.getId(), normalizedSql);
 
@@ -40,13 +55,17 @@ public class DefaultCachingSqlNormalizer<ID> implements CachingSqlNormalizer<Par
     }
 
     private void setParsingResult(ParsingResultInternal<ID> parsingResult, ID id, NormalizedSql normalizedSql) {
+        setId(parsingResult, id);
+        parsingResult.setSql(normalizedSql.getNormalizedSql());
+        parsingResult.setOutput(normalizedSql.getParseParameter());
+    }
+
+    private void setId(ParsingResultInternal<ID> parsingResult, ID id) {
         boolean success = parsingResult.setId(id);
         if (!success) {
             if (logger.isWarnEnabled()) {
                 logger.warn("invalid state. setSqlId fail setId:{}, ParsingResultInternal:{}", id, parsingResult);
             }
         }
-        parsingResult.setSql(normalizedSql.getNormalizedSql());
-        parsingResult.setOutput(normalizedSql.getParseParameter());
     }
 }
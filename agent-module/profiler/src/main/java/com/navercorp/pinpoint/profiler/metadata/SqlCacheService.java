@@ -1,8 +1,7 @@
 package com.navercorp.pinpoint.profiler.metadata;
 
 import com.navercorp.pinpoint.common.util.StringUtils;
-import com.navercorp.pinpoint.profiler.cache.Cache;
-import com.navercorp.pinpoint.profiler.cache.Result;
+import com.navercorp.pinpoint.profiler.cache.SimpleCache;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -14,7 +13,7 @@ public class SqlCacheService<ID> {
 
     private final int trimSqlLength;
 
-    public SqlCacheService(Cache<String, Result<ID>> sqlCache, int trimSqlLength, boolean removeComments) {
+    public SqlCacheService(SimpleCache<String, ID> sqlCache, int trimSqlLength, boolean removeComments) {
         this.cachingSqlNormalizer = new DefaultCachingSqlNormalizer<>(sqlCache, removeComments);
         this.trimSqlLength = trimSqlLength;
     }
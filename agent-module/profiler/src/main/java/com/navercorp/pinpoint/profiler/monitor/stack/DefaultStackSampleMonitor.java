@@ -0,0 +1,54 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.monitor.stack;
+
+import com.navercorp.pinpoint.profiler.context.active.ActiveTraceRepository;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Objects;
+
+public class DefaultStackSampleMonitor implements StackSampleMonitor {
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    private final StackSampleMonitorTask stackSampleMonitorTask;
+    private final Thread stackSampleMonitorThread;
+
+    public DefaultStackSampleMonitor(ActiveTraceRepository activeTraceRepository, StackSampleConfig config) {
+        Objects.requireNonNull(activeTraceRepository, "activeTraceRepository");
+        Objects.requireNonNull(config, "config");
+
+        this.stackSampleMonitorTask = new StackSampleMonitorTask(activeTraceRepository, config);
+        this.stackSampleMonitorThread = new Thread(stackSampleMonitorTask, "Pinpoint-stack-sample-monitor");
+        this.stackSampleMonitorThread.setDaemon(true);
+    }
+
+    @Override
+    public void start() {
+        logger.info("DefaultStackSampleMonitor started");
+        stackSampleMonitorThread.start();
+    }
+
+    @Override
+    public void stop() {
+        logger.info("DefaultStackSampleMonitor stopped");
+        stackSampleMonitorTask.stop();
+        stackSampleMonitorThread.interrupt();
+    }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.monitor.stack;
+
+import com.navercorp.pinpoint.common.config.Value;
+
+public class StackSampleConfig {
+
+    @Value("${profiler.monitor.stacksample.enable}")
+    private boolean enable = false;
+
+    @Value("${profiler.monitor.stacksample.interval}")
+    private long intervalMillis = 100;
+
+    // only traces slower than the threshold are sampled
+    @Value("${profiler.monitor.stacksample.threshold}")
+    private long thresholdMillis = 1000;
+
+    @Value("${profiler.monitor.stacksample.maxdepth}")
+    private int maxDepth = 64;
+
+    @Value("${profiler.monitor.stacksample.maxnodes}")
+    private int maxNodes = 512;
+
+    // max cpu usage of the sampling thread. percentage of a single core
+    @Value("${profiler.monitor.stacksample.cpubudget}")
+    private double cpuBudgetPercent = 1.0;
+
+    public StackSampleConfig() {
+    }
+
+    public boolean isEnable() {
+        return enable;
+    }
+
+    public long getIntervalMillis() {
+        return intervalMillis;
+    }
+
+    public long getThresholdMillis() {
+        return thresholdMillis;
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    public int getMaxNodes() {
+        return maxNodes;
+    }
+
+    public double getCpuBudgetPercent() {
+        return cpuBudgetPercent;
+    }
+
+    @Override
+    public String toString() {
+        return "StackSampleConfig{" +
+                "enable=" + enable +
+                ", intervalMillis=" + intervalMillis +
+                ", thresholdMillis=" + thresholdMillis +
+                ", maxDepth=" + maxDepth +
+                ", maxNodes=" + maxNodes +
+                ", cpuBudgetPercent=" + cpuBudgetPercent +
+                '}';
+    }
+}
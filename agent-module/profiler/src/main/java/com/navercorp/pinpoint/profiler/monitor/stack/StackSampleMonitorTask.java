@@ -0,0 +1,158 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.monitor.stack;
+
+import com.navercorp.pinpoint.common.util.ThreadMXBeanUtils;
+import com.navercorp.pinpoint.profiler.context.active.ActiveTrace;
+import com.navercorp.pinpoint.profiler.context.active.ActiveTraceRepository;
+import com.navercorp.pinpoint.profiler.context.id.Shared;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.management.ThreadInfo;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Samples the stack of the active traces exceeding the latency threshold.
+ * All candidate threads are sampled with a single ThreadMXBean call per tick,
+ * and ticks are skipped when the sampling thread exceeds its cpu budget.
+ */
+public class StackSampleMonitorTask implements Runnable {
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+    private final boolean isDebug = logger.isDebugEnabled();
+
+    private final ActiveTraceRepository activeTraceRepository;
+
+    private final long intervalMillis;
+    private final long thresholdMillis;
+    private final int maxDepth;
+    private final int maxNodes;
+    // cpu time allowed per tick
+    private final long cpuBudgetNanos;
+
+    private final AtomicBoolean stop = new AtomicBoolean(false);
+
+    private int skipTicks = 0;
+
+    public StackSampleMonitorTask(ActiveTraceRepository activeTraceRepository, StackSampleConfig config) {
+        this.activeTraceRepository = Objects.requireNonNull(activeTraceRepository, "activeTraceRepository");
+        Objects.requireNonNull(config, "config");
+
+        this.intervalMillis = Math.max(config.getIntervalMillis(), 1);
+        this.thresholdMillis = config.getThresholdMillis();
+        this.maxDepth = config.getMaxDepth();
+        this.maxNodes = config.getMaxNodes();
+        final double cpuBudgetPercent = Math.max(config.getCpuBudgetPercent(), 0.01);
+        this.cpuBudgetNanos = (long) (TimeUnit.MILLISECONDS.toNanos(intervalMillis) * cpuBudgetPercent / 100);
+    }
+
+    @Override
+    public void run() {
+        while (!stop.get()) {
+            if (skipTicks > 0) {
+                skipTicks--;
+            } else {
+                final long startCpuTime = ThreadMXBeanUtils.getCurrentThreadCpuTime();
+                doTask();
+                final long cpuTime = ThreadMXBeanUtils.getCurrentThreadCpuTime() - startCpuTime;
+                this.skipTicks = getSkipTicks(cpuTime);
+            }
+            waitNextTask();
+        }
+        logger.info("StackSampleMonitorTask stop completed");
+    }
+
+    /**
+     * the number of ticks to skip so that the average cpu time per tick stays within the budget
+     */
+    int getSkipTicks(long cpuTime) {
+        if (cpuTime <= cpuBudgetNanos) {
+            return 0;
+        }
+        final long skip = (cpuTime / cpuBudgetNanos) - 1;
+        if (isDebug) {
+            logger.debug("cpu budget exceeded. cpuTime:{}ns skipTicks:{}", cpuTime, skip);
+        }
+        return (int) Math.min(skip, Integer.MAX_VALUE);
+    }
+
+    void doTask() {
+        final long currentTime = System.currentTimeMillis();
+        final List<ActiveTrace> slowTraces = activeTraceRepository.getSlowActiveTraces(currentTime, thresholdMillis);
+        if (slowTraces.isEmpty()) {
+            return;
+        }
+
+        final long[] threadIds = new long[slowTraces.size()];
+        int size = 0;
+        for (ActiveTrace activeTrace : slowTraces) {
+            final long threadId = activeTrace.getTraceRoot().getShared().getThreadId();
+            if (threadId > 0) {
+                slowTraces.set(size, activeTrace);
+                threadIds[size++] = threadId;
+            }
+        }
+        if (size == 0) {
+            return;
+        }
+
+        final long[] ids = size == threadIds.length ? threadIds : Arrays.copyOf(threadIds, size);
+        final ThreadInfo[] threadInfos = ThreadMXBeanUtils.getThreadInfo(ids, maxDepth, false);
+        for (int i = 0; i < threadInfos.length; i++) {
+            final ThreadInfo threadInfo = threadInfos[i];
+            if (threadInfo == null) {
+                continue;
+            }
+            final Shared shared = slowTraces.get(i).getTraceRoot().getShared();
+            final StackSampleTree tree = getStackSampleTree(shared);
+            tree.addSample(threadInfo.getStackTrace());
+        }
+    }
+
+    private StackSampleTree getStackSampleTree(Shared shared) {
+        final StackSampleTree tree = shared.getStackSampleTree();
+        if (tree != null) {
+            return tree;
+        }
+        shared.setStackSampleTree(new StackSampleTree(maxNodes));
+        return shared.getStackSampleTree();
+    }
+
+    private void waitNextTask() {
+        if (!Thread.interrupted()) {
+            try {
+                Thread.sleep(intervalMillis);
+            } catch (InterruptedException ignored) {
+                // The end of the job is confirmed by using the stop field.
+            }
+        }
+    }
+
+    void stop() {
+        if (stop.compareAndSet(false, true)) {
+            logger.info("StackSampleMonitorTask stop started");
+        } else {
+            logger.info("StackSampleMonitorTask already stopped");
+        }
+    }
+
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.monitor.stack;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Aggregated call tree of the stack samples of a single transaction.
+ * <p>
+ * Frames are stored once in a dictionary and nodes only keep the frame index and the sample count.
+ * Encoded format :
+ * <pre>
+ * v1|sampleCount|frame0;frame1;...|depth,frameIndex,count;depth,frameIndex,count;...
+ * </pre>
+ * nodes are written in pre-order, the depth of a root frame is 0.
+ */
+public class StackSampleTree {
+
+    static final String VERSION = "v1";
+
+    private final int maxNodes;
+
+    private final Map<String, Integer> frameIndex = new HashMap<>();
+    private final List<String> frames = new ArrayList<>();
+
+    private final Node root = new Node(-1);
+    private int nodeCount = 0;
+    private int sampleCount = 0;
+
+    public StackSampleTree(int maxNodes) {
+        this.maxNodes = maxNodes;
+    }
+
+    /**
+     * @param stackTrace the innermost frame first, as returned by {@link java.lang.management.ThreadInfo#getStackTrace()}
+     */
+    public synchronized void addSample(StackTraceElement[] stackTrace) {
+        if (stackTrace == null || stackTrace.length == 0) {
+            return;
+        }
+        sampleCount++;
+        root.count++;
+
+        Node node = root;
+        for (int i = stackTrace.length - 1; i >= 0; i--) {
+            final String frame = toFrame(stackTrace[i]);
+            final Integer frameId = frameIndex.get(frame);
+            Node child = frameId == null ? null : node.findChild(frameId);
+            if (child == null) {
+                if (nodeCount >= maxNodes) {
+                    // truncate the remaining frames, the count is kept by the parent
+                    return;
+                }
+                // frames are registered only with their node, so maxNodes also bounds the dictionary
+                child = node.addChild(frameId == null ? addFrame(frame) : frameId);
+                nodeCount++;
+            }
+            child.count++;
+            node = child;
+        }
+    }
+
+    private static String toFrame(StackTraceElement element) {
+        return element.getClassName() + '.' + element.getMethodName();
+    }
+
+    private int addFrame(String frame) {
+        final int newId = frames.size();
+        frames.add(frame);
+        frameIndex.put(frame, newId);
+        return newId;
+    }
+
+    public synchronized int getSampleCount() {
+        return sampleCount;
+    }
+
+    public synchronized int getNodeCount() {
+        return nodeCount;
+    }
+
+    public synchronized String encode() {
+        final StringBuilder sb = new StringBuilder(64 + nodeCount * 12 + frames.size() * 48);
+        sb.append(VERSION).append('|');
+        sb.append(sampleCount).append('|');
+        for (int i = 0; i < frames.size(); i++) {
+            if (i > 0) {
+                sb.append(';');
+            }
+            sb.append(frames.get(i));
+        }
+        sb.append('|');
+
+        boolean first = true;
+        // iterative pre-order traversal to avoid deep recursion
+        final List<Node> stack = new ArrayList<>();
+        final List<Integer> depthStack = new ArrayList<>();
+        for (int i = root.childSize() - 1; i >= 0; i--) {
+            stack.add(root.children.get(i));
+            depthStack.add(0);
+        }
+        while (!stack.isEmpty()) {
+            final Node node = stack.remove(stack.size() - 1);
+            final int depth = depthStack.remove(depthStack.size() - 1);
+            if (!first) {
+                sb.append(';');
+            }
+            first = false;
+            sb.append(depth).append(',').append(node.frameId).append(',').append(node.count);
+
+            for (int i = node.childSize() - 1; i >= 0; i--) {
+                stack.add(node.children.get(i));
+                depthStack.add(depth + 1);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static class Node {
+        private final int frameId;
+        private int count;
+        private List<Node> children;
+
+        private Node(int frameId) {
+            this.frameId = frameId;
+        }
+
+        private Node findChild(int frameId) {
+            if (children == null) {
+                return null;
+            }
+            for (Node child : children) {
+                if (child.frameId == frameId) {
+                    return child;
+                }
+            }
+            return null;
+        }
+
+        private Node addChild(int frameId) {
+            if (children == null) {
+                children = new ArrayList<>(2);
+            }
+            final Node child = new Node(frameId);
+            children.add(child);
+            return child;
+        }
+
+        private int childSize() {
+            if (children == null) {
+                return 0;
+            }
+            return children.size();
+        }
+    }
+}
@@ -56,16 +56,34 @@ public class GrpcActiveThreadDumpService implements ProfilerGrpcCommandService {
 
     private final ActiveThreadDumpCoreService activeThreadDump;
     private final GrpcThreadDumpMessageConverter grpcThreadDumpMessageConverter;
-
+    private final boolean lockInfo;
 
     public GrpcActiveThreadDumpService(
             ActiveTraceRepository activeTraceRepository,
             ThreadDumpMapper threadDumpMapper
+    ) {
+        this(activeTraceRepository, threadDumpMapper, ActiveThreadDumpCoreService.DEFAULT_TIME_BUDGET_MILLIS);
+    }
+
+    public GrpcActiveThreadDumpService(
+            ActiveTraceRepository activeTraceRepository,
+            ThreadDumpMapper threadDumpMapper,
+            long timeBudgetMillis
+    ) {
+        this(activeTraceRepository, threadDumpMapper, timeBudgetMillis, false);
+    }
+
+    public GrpcActiveThreadDumpService(
+            ActiveTraceRepository activeTraceRepository,
+            ThreadDumpMapper threadDumpMapper,
+            long timeBudgetMillis,
+            boolean lockInfo
     ) {
         Objects.requireNonNull(activeTraceRepository, "activeTraceRepository");
 
-        this.activeThreadDump = new ActiveThreadDumpCoreService(activeTraceRepository);
+        this.activeThreadDump = new ActiveThreadDumpCoreService(activeTraceRepository, timeBudgetMillis);
         this.grpcThreadDumpMessageConverter = new GrpcThreadDumpMessageConverter(threadDumpMapper);
+        this.lockInfo = lockInfo;
     }
 
     @Override
@@ -92,7 +110,7 @@ public class GrpcActiveThreadDumpService implements ProfilerGrpcCommandService {
     }
 
     private List<PActiveThreadDump> getActiveThreadDumpList(PCmdActiveThreadDump commandActiveThreadDump) {
-        ThreadDumpRequest request = ThreadDumpRequest.create(commandActiveThreadDump);
+        ThreadDumpRequest request = ThreadDumpRequest.create(commandActiveThreadDump, lockInfo);
 
         Collection<ThreadDump> activeTraceInfoList = activeThreadDump.getActiveThreadDumpList(request);
 
@@ -111,7 +129,8 @@ public class GrpcActiveThreadDumpService implements ProfilerGrpcCommandService {
 
     private PActiveThreadDump createActiveThreadDump(ThreadDump threadDump) {
         final ThreadInfo threadInfo = threadDump.getThreadInfo();
-        ThreadDumpMetricSnapshot threadDumpMetricSnapshot = ThreadDumpUtils.createThreadDump(threadInfo);
+        // the stack trace of a lock info dump is not limited by ThreadMXBean before java 10
+        ThreadDumpMetricSnapshot threadDumpMetricSnapshot = ThreadDumpUtils.createThreadDump(threadInfo, ActiveThreadDumpCoreService.STACK_TRACE_MAX_DEPTH);
         PThreadDump pThreadDump = grpcThreadDumpMessageConverter.toMessage(threadDumpMetricSnapshot);
 
         final ActiveTraceSnapshot activeTraceInfo = threadDump.getActiveTraceSnapshot();
@@ -59,10 +59,18 @@ public class GrpcActiveThreadLightDumpService implements ProfilerGrpcCommandServ
     public GrpcActiveThreadLightDumpService(
             ActiveTraceRepository activeTraceRepository,
             ThreadDumpMapper threadDumpMapper
+    ) {
+        this(activeTraceRepository, threadDumpMapper, ActiveThreadDumpCoreService.DEFAULT_TIME_BUDGET_MILLIS);
+    }
+
+    public GrpcActiveThreadLightDumpService(
+            ActiveTraceRepository activeTraceRepository,
+            ThreadDumpMapper threadDumpMapper,
+            long timeBudgetMillis
     ) {
         Objects.requireNonNull(activeTraceRepository, "activeTraceRepository");
 
-        this.activeThreadDump = new ActiveThreadDumpCoreService(activeTraceRepository);
+        this.activeThreadDump = new ActiveThreadDumpCoreService(activeTraceRepository, timeBudgetMillis);
         this.mapper = Objects.requireNonNull(threadDumpMapper, "threadDumpMapper");
     }
 
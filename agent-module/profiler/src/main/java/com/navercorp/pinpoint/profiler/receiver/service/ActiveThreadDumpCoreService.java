@@ -19,24 +19,48 @@ package com.navercorp.pinpoint.profiler.receiver.service;
 import com.navercorp.pinpoint.common.util.ThreadMXBeanUtils;
 import com.navercorp.pinpoint.profiler.context.active.ActiveTraceRepository;
 import com.navercorp.pinpoint.profiler.context.active.ActiveTraceSnapshot;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 import java.lang.management.ThreadInfo;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 
 /**
+ * Collects the ThreadInfo of the candidate threads in batches so that a dump request triggers
+ * a single ThreadMXBean call (one safepoint) per batch instead of one per active trace.
  * @author Woonduk Kang(emeroad)
  */
 public class ActiveThreadDumpCoreService {
 
+    public static final long DEFAULT_TIME_BUDGET_MILLIS = 3000;
+
+    public static final int STACK_TRACE_MAX_DEPTH = 32;
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
     private final ActiveTraceRepository activeTraceRepository;
 
     private final Comparator<ThreadDump> reverseOrder =  ThreadDumpComparator.INSTANCE.reversed();
 
+    private final Comparator<ActiveTraceSnapshot> startTimeOrder = Comparator.comparingLong(ActiveTraceSnapshot::getStartTime);
+
+    private final long timeBudgetNanos;
+
     public ActiveThreadDumpCoreService(ActiveTraceRepository activeTraceRepository) {
+        this(activeTraceRepository, DEFAULT_TIME_BUDGET_MILLIS);
+    }
+
+    public ActiveThreadDumpCoreService(ActiveTraceRepository activeTraceRepository, long timeBudgetMillis) {
         this.activeTraceRepository = Objects.requireNonNull(activeTraceRepository, "activeTraceRepository");
+        if (timeBudgetMillis <= 0) {
+            timeBudgetMillis = DEFAULT_TIME_BUDGET_MILLIS;
+        }
+        this.timeBudgetNanos = TimeUnit.MILLISECONDS.toNanos(timeBudgetMillis);
     }
 
     public Collection<ThreadDump> getActiveThreadDumpList(ThreadDumpRequest request) {
@@ -46,100 +70,96 @@ public class ActiveThreadDumpCoreService {
         return getActiveThreadDumpList(activeTraceInfoList, request);
     }
 
-    private Collection<ThreadDump> getActiveThreadDumpList(List<ActiveTraceSnapshot> activeTraceInfoList, ThreadDumpRequest request) {
-
-        if (request.isEnableFilter()) {
-            return filterActiveThreadDump(activeTraceInfoList, request);
-        } else {
-
-            return getAllActiveThreadDump(activeTraceInfoList, request);
-        }
-    }
+    Collection<ThreadDump> getActiveThreadDumpList(List<ActiveTraceSnapshot> activeTraceInfoList, ThreadDumpRequest request) {
+        final long startTime = System.nanoTime();
 
-    private Collection<ThreadDump> filterActiveThreadDump(List<ActiveTraceSnapshot> activeTraceInfoList, ThreadDumpRequest request) {
+        final List<ActiveTraceSnapshot> candidates = selectCandidates(activeTraceInfoList, request);
+        // the oldest traces are kept by LimitedList, so fetch them first
+        candidates.sort(startTimeOrder);
 
         final Collection<ThreadDump> result = new LimitedList<ThreadDump>(request.getLimit(), reverseOrder);
-
-        for (ActiveTraceSnapshot activeTraceInfo : activeTraceInfoList) {
-            final long threadId = activeTraceInfo.getThreadId();
-            if (!isTraceThread(threadId)) {
-                continue;
+        // a thread name can only be matched after the ThreadInfo is fetched
+        final boolean threadNameFilter = request.isEnableThreadNameFilter();
+        final int batchSize = getBatchSize(request, threadNameFilter);
+
+        for (int from = 0; from < candidates.size(); from += batchSize) {
+            if (from > 0 && System.nanoTime() - startTime > timeBudgetNanos) {
+                logger.info("ActiveThreadDump time budget exceeded. dumped:{}/{}", from, candidates.size());
+                break;
             }
-
-            final ThreadDump threadDump = filter(activeTraceInfo, request);
-            if (threadDump != null) {
-                result.add(threadDump);
+            final int to = Math.min(from + batchSize, candidates.size());
+            final List<ActiveTraceSnapshot> batch = candidates.subList(from, to);
+
+            final ThreadInfo[] threadInfos = getThreadInfo(batch, request);
+            for (int i = 0; i < threadInfos.length; i++) {
+                final ThreadInfo threadInfo = threadInfos[i];
+                if (threadInfo == null) {
+                    // thread terminated
+                    continue;
+                }
+                final ActiveTraceSnapshot activeTraceInfo = batch.get(i);
+                if (threadNameFilter && !accept(activeTraceInfo, threadInfo, request)) {
+                    continue;
+                }
+                result.add(newThreadDump(activeTraceInfo, threadInfo));
+            }
+            if (!threadNameFilter && result.size() >= request.getLimit()) {
+                // candidates are sorted by startTime, the remaining ones can not replace the collected dumps
+                break;
             }
         }
-
         return result;
     }
 
-    private ThreadDump filter(ActiveTraceSnapshot activeTraceInfo, ThreadDumpRequest request) {
-
-        if (request.isEnableLocalTransactionIdFilter()) {
-
-            final long localTransactionId = activeTraceInfo.getLocalTransactionId();
-            if (request.findLocalTransactionId(localTransactionId)) {
-
-                final long threadId = activeTraceInfo.getThreadId();
-                final ThreadInfo threadInfo = getThreadInfo(threadId, request.getStackTrace());
-                if (threadInfo != null) {
-                    return newThreadDump(activeTraceInfo, threadInfo);
-                }
-            }
-        }
-
-        if (request.isEnableThreadNameFilter()) {
-            // native call
-            final long threadId = activeTraceInfo.getThreadId();
-            final ThreadInfo threadInfo = getThreadInfo(threadId, request.getStackTrace());
-            if (threadInfo != null) {
-                if (request.findThreadName(threadInfo.getThreadName())) {
-                    return newThreadDump(activeTraceInfo, threadInfo);
-                }
-            }
+    private int getBatchSize(ThreadDumpRequest request, boolean threadNameFilter) {
+        if (threadNameFilter) {
+            // every candidate has to be inspected
+            return ThreadDumpRequest.MAX_THREAD_DUMP_LIMIT;
         }
-
-        return null;
+        return request.getLimit();
     }
 
-    private Collection<ThreadDump> getAllActiveThreadDump(List<ActiveTraceSnapshot> activeTraceInfoList, ThreadDumpRequest request) {
-        Collection<ThreadDump> activeThreadDumpList = new LimitedList<ThreadDump>(request.getLimit(), reverseOrder);
-
+    private List<ActiveTraceSnapshot> selectCandidates(List<ActiveTraceSnapshot> activeTraceInfoList, ThreadDumpRequest request) {
+        final List<ActiveTraceSnapshot> candidates = new ArrayList<>(activeTraceInfoList.size());
         for (ActiveTraceSnapshot activeTraceInfo : activeTraceInfoList) {
             final long threadId = activeTraceInfo.getThreadId();
             if (!isTraceThread(threadId)) {
                 continue;
             }
-            final ThreadInfo threadInfo = getThreadInfo(threadId, request.getStackTrace());
-            if (threadInfo != null) {
-                ThreadDump threadDump = newThreadDump(activeTraceInfo, threadInfo);
-                activeThreadDumpList.add(threadDump);
+            if (request.isEnableFilter() && !request.isEnableThreadNameFilter()) {
+                if (!request.findLocalTransactionId(activeTraceInfo.getLocalTransactionId())) {
+                    continue;
+                }
             }
+            candidates.add(activeTraceInfo);
         }
-
-        return activeThreadDumpList;
+        return candidates;
     }
 
-    private boolean isTraceThread(long threadId) {
-        if (threadId == -1) {
-            return false;
+    private boolean accept(ActiveTraceSnapshot activeTraceInfo, ThreadInfo threadInfo, ThreadDumpRequest request) {
+        if (request.isEnableLocalTransactionIdFilter()) {
+            if (request.findLocalTransactionId(activeTraceInfo.getLocalTransactionId())) {
+                return true;
+            }
         }
-        return true;
+        return request.findThreadName(threadInfo.getThreadName());
     }
 
+    private boolean isTraceThread(long threadId) {
+        // ThreadMXBean rejects non-positive thread ids
+        return threadId > 0;
+    }
 
-
-    private ThreadInfo getThreadInfo(long threadId, StackTrace dumpType) {
-        if (threadId == -1) {
-            return null;
+    private ThreadInfo[] getThreadInfo(List<ActiveTraceSnapshot> batch, ThreadDumpRequest request) {
+        final long[] threadIds = new long[batch.size()];
+        for (int i = 0; i < threadIds.length; i++) {
+            threadIds[i] = batch.get(i).getThreadId();
         }
 
-        if (StackTrace.DUMP == dumpType) {
-            return ThreadMXBeanUtils.getThreadInfo(threadId);
+        if (StackTrace.DUMP == request.getStackTrace()) {
+            return ThreadMXBeanUtils.getThreadInfo(threadIds, STACK_TRACE_MAX_DEPTH, request.isLockInfo());
         } else {
-            return ThreadMXBeanUtils.getThreadInfo(threadId, 0);
+            return ThreadMXBeanUtils.getThreadInfo(threadIds, 0, false);
         }
     }
 
@@ -43,9 +43,14 @@ public class ThreadDumpRequest {
     private final boolean localTransactionIdFilter;
     private final boolean threadNameFilter;
     private final StackTrace stackTrace;
+    private final boolean lockInfo;
 
 
     public static ThreadDumpRequest create(PCmdActiveThreadDump request) {
+        return create(request, false);
+    }
+
+    public static ThreadDumpRequest create(PCmdActiveThreadDump request, boolean lockInfo) {
         Objects.requireNonNull(request, "request");
 
         int limit = getLimit(request.getLimit());
@@ -53,7 +58,7 @@ public class ThreadDumpRequest {
         final List<Long> localTransactionIdList = request.getLocalTraceIdList();
         final List<String> threadNameList = request.getThreadNameList();
 
-        return new ThreadDumpRequest(StackTrace.DUMP, limit, localTransactionIdList, threadNameList);
+        return new ThreadDumpRequest(StackTrace.DUMP, lockInfo, limit, localTransactionIdList, threadNameList);
     }
 
     public static ThreadDumpRequest create(PCmdActiveThreadLightDump request) {
@@ -68,7 +73,12 @@ public class ThreadDumpRequest {
     }
 
     ThreadDumpRequest(StackTrace stackTrace, int limit, List<Long> localTransactionIdList, List<String> threadNameList) {
+        this(stackTrace, false, limit, localTransactionIdList, threadNameList);
+    }
+
+    ThreadDumpRequest(StackTrace stackTrace, boolean lockInfo, int limit, List<Long> localTransactionIdList, List<String> threadNameList) {
         this.stackTrace = Objects.requireNonNull(stackTrace, "stackTrace");
+        this.lockInfo = lockInfo;
         this.limit = limit;
 
         this.localTransactionIdSet = newHashSet(localTransactionIdList);
@@ -134,4 +144,11 @@ public class ThreadDumpRequest {
     public StackTrace getStackTrace() {
         return this.stackTrace;
     }
+
+    /**
+     * locked monitors/synchronizers are collected only when requested
+     */
+    public boolean isLockInfo() {
+        return lockInfo;
+    }
 }
@@ -52,11 +52,18 @@ public class ThreadDumpUtils {
     }
 
     public static ThreadDumpMetricSnapshot createThreadDump(ThreadInfo threadInfo) {
+        return createThreadDump(threadInfo, Integer.MAX_VALUE);
+    }
+
+    /**
+     * the stack trace and the locked monitors are truncated to stackTraceMaxDepth
+     */
+    public static ThreadDumpMetricSnapshot createThreadDump(ThreadInfo threadInfo, int stackTraceMaxDepth) {
         final ThreadDumpMetricSnapshot threadDump = new ThreadDumpMetricSnapshot();
         setThreadInfo(threadDump, threadInfo);
         setThreadStatus(threadDump, threadInfo);
-        setStackTrace(threadDump, threadInfo);
-        setMonitorInfo(threadDump, threadInfo);
+        setStackTrace(threadDump, threadInfo, stackTraceMaxDepth);
+        setMonitorInfo(threadDump, threadInfo, stackTraceMaxDepth);
         setLockInfo(threadDump, threadInfo);
 
         return threadDump;
@@ -86,10 +93,12 @@ public class ThreadDumpUtils {
         threadDump.setThreadState(threadInfo.getThreadState());
     }
 
-    private static void setStackTrace(ThreadDumpMetricSnapshot threadDump, ThreadInfo threadInfo) {
+    private static void setStackTrace(ThreadDumpMetricSnapshot threadDump, ThreadInfo threadInfo, int stackTraceMaxDepth) {
         StackTraceElement[] stackTraceElements = threadInfo.getStackTrace();
         if (stackTraceElements != null) {
-            for (StackTraceElement element : stackTraceElements) {
+            final int depth = Math.min(stackTraceElements.length, stackTraceMaxDepth);
+            for (int i = 0; i < depth; i++) {
+                final StackTraceElement element = stackTraceElements[i];
                 if (element == null) {
                     continue;
                 }
@@ -100,13 +109,17 @@ public class ThreadDumpUtils {
         }
     }
 
-    private static void setMonitorInfo(ThreadDumpMetricSnapshot threadDump, ThreadInfo threadInfo) {
+    private static void setMonitorInfo(ThreadDumpMetricSnapshot threadDump, ThreadInfo threadInfo, int stackTraceMaxDepth) {
         MonitorInfo[] monitorInfos = threadInfo.getLockedMonitors();
         if (monitorInfos != null) {
             for (MonitorInfo each : monitorInfos) {
                 if (each == null) {
                     continue;
                 }
+                if (each.getLockedStackDepth() >= stackTraceMaxDepth) {
+                    // the frame is not part of the truncated stack trace
+                    continue;
+                }
                 MonitorInfoMetricSnapshot monitorInfoMetricSnapshot = new MonitorInfoMetricSnapshot();
                 monitorInfoMetricSnapshot.setStackDepth(each.getLockedStackDepth());
                 monitorInfoMetricSnapshot.setStackFrame(each.getLockedStackFrame().toString());
@@ -51,4 +51,18 @@ public class SimpleCacheTest {
         Assertions.assertTrue(newValue.isNewValue());
 
     }
+
+    @Test
+    public void alias() {
+        SimpleCache<String, Integer> cache = SimpleCache.newIdCache();
+        Assertions.assertNull(cache.getByAlias(1L));
+
+        Result<Integer> test = cache.put("test", 1L);
+        Assertions.assertTrue(test.isNewValue());
+        Assertions.assertEquals(test.getId(), cache.getByAlias(1L));
+
+        Result<Integer> recheck = cache.put("test", 2L);
+        Assertions.assertFalse(recheck.isNewValue());
+        Assertions.assertEquals(test.getId(), cache.getByAlias(2L));
+    }
 }
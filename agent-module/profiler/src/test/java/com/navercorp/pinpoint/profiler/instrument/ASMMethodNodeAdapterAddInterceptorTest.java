@@ -85,6 +85,39 @@ public class ASMMethodNodeAdapterAddInterceptorTest {
         addInterceptor(new BasicInterceptor());
     }
 
+    @Test
+    public void addIntLongInterceptor() throws Exception {
+        Class<?> clazz = addInterceptor0("com.navercorp.pinpoint.profiler.instrument.mock.PrimitiveArgsClass", new IntLongInterceptor());
+        Object target = clazz.getDeclaredConstructor().newInstance();
+
+        IntLongInterceptor.clear();
+        clazz.getDeclaredMethod("setLong", int.class, long.class).invoke(target, 1, Long.MAX_VALUE);
+        assertTrue(IntLongInterceptor.before);
+        assertTrue(IntLongInterceptor.after);
+        assertEquals(1, IntLongInterceptor.beforeArg0);
+        assertEquals(Long.MAX_VALUE, IntLongInterceptor.beforeArg1);
+        assertEquals(1, IntLongInterceptor.afterArg0);
+        assertEquals(Long.MAX_VALUE, IntLongInterceptor.afterArg1);
+
+        IntLongInterceptor.clear();
+        clazz.getDeclaredMethod("setStaticLong", int.class, long.class).invoke(null, 2, 3L);
+        assertEquals(2, IntLongInterceptor.afterArg0);
+        assertEquals(3L, IntLongInterceptor.afterArg1);
+
+        // missing argument
+        IntLongInterceptor.clear();
+        clazz.getDeclaredMethod("setIndex", int.class).invoke(target, 6);
+        assertEquals(6, IntLongInterceptor.afterArg0);
+        assertEquals(0L, IntLongInterceptor.afterArg1);
+
+        // arguments are captured on entry
+        IntLongInterceptor.clear();
+        clazz.getDeclaredMethod("reassign", int.class, long.class).invoke(target, 7, 8L);
+        assertEquals(7, IntLongInterceptor.afterArg0);
+        assertEquals(8L, IntLongInterceptor.afterArg1);
+        assertEquals(-1L, IntLongInterceptor.result);
+    }
+
     @Disabled
     @Test
     public void addExceptionInterceptor() throws Exception {
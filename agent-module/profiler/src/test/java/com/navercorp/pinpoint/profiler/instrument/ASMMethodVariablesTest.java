@@ -20,6 +20,7 @@ import com.navercorp.pinpoint.profiler.instrument.interceptor.InterceptorDefinit
 import com.navercorp.pinpoint.profiler.instrument.mock.ApiIdAwareInterceptor;
 import com.navercorp.pinpoint.profiler.instrument.mock.ArgsArrayInterceptor;
 import com.navercorp.pinpoint.profiler.instrument.mock.BasicInterceptor;
+import com.navercorp.pinpoint.profiler.instrument.mock.IntLongInterceptor;
 import com.navercorp.pinpoint.profiler.instrument.mock.StaticInterceptor;
 import com.navercorp.pinpoint.profiler.interceptor.registry.DefaultInterceptorRegistryBinder;
 import com.navercorp.pinpoint.profiler.interceptor.registry.InterceptorRegistryBinder;
@@ -37,6 +38,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  * @author
@@ -113,6 +115,24 @@ public class ASMMethodVariablesTest {
         assertNotNull(variables.getEnterInsnNode());
     }
 
+    @Test
+    public void initInterceptorLocalVariables_primitiveArgumentTypeMismatch() throws Exception {
+        InterceptorRegistryBinder interceptorRegistryBinder = new DefaultInterceptorRegistryBinder();
+        int interceptorId = interceptorRegistryBinder.getInterceptorRegistryAdaptor().addInterceptor(new IntLongInterceptor());
+        final InterceptorDefinition interceptorDefinition = new InterceptorDefinitionFactory().createInterceptorDefinition(IntLongInterceptor.class);
+
+        final ClassNode classNode = loader.get("com.navercorp.pinpoint.profiler.instrument.mock.PrimitiveArgsMismatchClass");
+        for (MethodNode methodNode : classNode.methods) {
+            if (methodNode.name.equals("<init>")) {
+                continue;
+            }
+            ASMMethodVariables variables = new ASMMethodVariables(classNode.name, methodNode);
+            // no implicit widening, e.g. int or float to long
+            assertThrows(IllegalArgumentException.class,
+                    () -> variables.initInterceptorLocalVariables(new InsnList(), interceptorId, interceptorDefinition, -1), methodNode.name);
+        }
+    }
+
     @Test
     public void findInitConstructorInstruction() throws Exception {
         MethodNode methodNode = loader.get("com.navercorp.pinpoint.profiler.instrument.mock.AbstractClass", "<init>");
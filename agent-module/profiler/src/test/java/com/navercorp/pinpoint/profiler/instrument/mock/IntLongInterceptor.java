@@ -0,0 +1,54 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.instrument.mock;
+
+import com.navercorp.pinpoint.bootstrap.interceptor.IntLongAroundInterceptor2;
+
+public class IntLongInterceptor implements IntLongAroundInterceptor2 {
+    public static boolean before;
+    public static boolean after;
+    public static int beforeArg0;
+    public static long beforeArg1;
+    public static int afterArg0;
+    public static long afterArg1;
+    public static Object result;
+
+    public static void clear() {
+        before = false;
+        after = false;
+        beforeArg0 = 0;
+        beforeArg1 = 0;
+        afterArg0 = 0;
+        afterArg1 = 0;
+        result = null;
+    }
+
+    @Override
+    public void before(Object target, int arg0, long arg1) {
+        before = true;
+        beforeArg0 = arg0;
+        beforeArg1 = arg1;
+    }
+
+    @Override
+    public void after(Object target, int arg0, long arg1, Object result, Throwable throwable) {
+        after = true;
+        afterArg0 = arg0;
+        afterArg1 = arg1;
+        IntLongInterceptor.result = result;
+    }
+}
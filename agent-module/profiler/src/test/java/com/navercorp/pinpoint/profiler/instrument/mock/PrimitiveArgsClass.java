@@ -0,0 +1,38 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.instrument.mock;
+
+public class PrimitiveArgsClass {
+
+    public PrimitiveArgsClass() {
+    }
+
+    public void setLong(int index, long value) {
+    }
+
+    public static void setStaticLong(int index, long value) {
+    }
+
+    public void setIndex(int index) {
+    }
+
+    public long reassign(int index, long value) {
+        index = -1;
+        value = -1;
+        return value;
+    }
+}
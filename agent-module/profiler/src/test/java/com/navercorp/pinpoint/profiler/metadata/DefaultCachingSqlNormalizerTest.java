@@ -48,6 +48,17 @@ public class DefaultCachingSqlNormalizerTest {
         Assertions.assertFalse(notCached2, "alreadyCached2");
     }
 
+    @Test
+    public void testNormalizedSql_fingerprint() {
+        ParsingResultInternal<Integer> parsingResult1 = new DefaultParsingResult("select * from dual where a = 1");
+        Assertions.assertTrue(normalizer.normalizedSql(parsingResult1), "newCacheState");
+        Assertions.assertEquals("select * from dual where a = 0#", parsingResult1.getSql());
+
+        ParsingResultInternal<Integer> parsingResult2 = new DefaultParsingResult("select * from dual where a = 2");
+        Assertions.assertFalse(normalizer.normalizedSql(parsingResult2), "fingerprintCached");
+        Assertions.assertEquals(parsingResult1.getId(), parsingResult2.getId());
+        Assertions.assertEquals("2", parsingResult2.getOutput());
+    }
 
     @Test
     public void testNormalizedSql_cache_expire() {
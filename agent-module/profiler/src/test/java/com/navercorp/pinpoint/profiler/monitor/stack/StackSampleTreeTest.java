@@ -0,0 +1,71 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.monitor.stack;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class StackSampleTreeTest {
+
+    @Test
+    public void encode() {
+        StackSampleTree tree = new StackSampleTree(100);
+        // innermost frame first
+        tree.addSample(stack("Main.run", "Service.call", "Dao.query"));
+        tree.addSample(stack("Main.run", "Service.call", "Dao.query"));
+        tree.addSample(stack("Main.run", "Service.render"));
+
+        Assertions.assertEquals(3, tree.getSampleCount());
+        Assertions.assertEquals(4, tree.getNodeCount());
+        Assertions.assertEquals("v1|3|Main.run;Service.call;Dao.query;Service.render|0,0,3;1,1,2;2,2,2;1,3,1", tree.encode());
+    }
+
+    @Test
+    public void maxNodes() {
+        StackSampleTree tree = new StackSampleTree(2);
+        tree.addSample(stack("Main.run", "Service.call", "Dao.query"));
+
+        Assertions.assertEquals(1, tree.getSampleCount());
+        Assertions.assertEquals(2, tree.getNodeCount());
+        Assertions.assertEquals("v1|1|Main.run;Service.call|0,0,1;1,1,1", tree.encode());
+
+        // rejected frames are not kept in the dictionary
+        tree.addSample(stack("Main.run", "Other.call"));
+        tree.addSample(stack("Batch.run"));
+        Assertions.assertEquals(3, tree.getSampleCount());
+        Assertions.assertEquals(2, tree.getNodeCount());
+        Assertions.assertEquals("v1|3|Main.run;Service.call|0,0,2;1,1,1", tree.encode());
+    }
+
+    @Test
+    public void emptyStack() {
+        StackSampleTree tree = new StackSampleTree(10);
+        tree.addSample(new StackTraceElement[0]);
+
+        Assertions.assertEquals(0, tree.getSampleCount());
+    }
+
+    private StackTraceElement[] stack(String... outermostFirst) {
+        StackTraceElement[] elements = new StackTraceElement[outermostFirst.length];
+        for (int i = 0; i < outermostFirst.length; i++) {
+            String frame = outermostFirst[i];
+            int index = frame.lastIndexOf('.');
+            elements[outermostFirst.length - 1 - i] = new StackTraceElement(frame.substring(0, index), frame.substring(index + 1), null, -1);
+        }
+        return elements;
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2024 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.receiver.service;
+
+import com.navercorp.pinpoint.profiler.context.active.ActiveTraceRepository;
+import com.navercorp.pinpoint.profiler.context.active.ActiveTraceSnapshot;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ActiveThreadDumpCoreServiceTest {
+
+    private final long currentThreadId = Thread.currentThread().getId();
+
+    @Test
+    public void getActiveThreadDumpList_limit() {
+        ActiveTraceSnapshot oldest = newSnapshot(1, 100, currentThreadId);
+        ActiveTraceSnapshot newest = newSnapshot(2, 300, currentThreadId);
+        ActiveTraceSnapshot middle = newSnapshot(3, 200, currentThreadId);
+        ActiveTraceSnapshot notTraced = newSnapshot(4, 50, -1);
+
+        ActiveThreadDumpCoreService service = newService(Arrays.asList(newest, notTraced, middle, oldest));
+        ThreadDumpRequest request = new ThreadDumpRequest(StackTrace.SKIP, 2, null, null);
+
+        Collection<ThreadDump> dumps = service.getActiveThreadDumpList(request);
+
+        Assertions.assertEquals(2, dumps.size());
+        for (ThreadDump dump : dumps) {
+            Assertions.assertNotSame(newest, dump.getActiveTraceSnapshot());
+            Assertions.assertNotSame(notTraced, dump.getActiveTraceSnapshot());
+        }
+    }
+
+    @Test
+    public void getActiveThreadDumpList_localTransactionIdFilter() {
+        ActiveTraceSnapshot snapshot1 = newSnapshot(1, 100, currentThreadId);
+        ActiveTraceSnapshot snapshot2 = newSnapshot(2, 200, currentThreadId);
+
+        ActiveThreadDumpCoreService service = newService(Arrays.asList(snapshot1, snapshot2));
+        ThreadDumpRequest request = new ThreadDumpRequest(StackTrace.DUMP, 10, Collections.singletonList(2L), null);
+
+        Collection<ThreadDump> dumps = service.getActiveThreadDumpList(request);
+
+        Assertions.assertEquals(1, dumps.size());
+        ThreadDump dump = dumps.iterator().next();
+        Assertions.assertSame(snapshot2, dump.getActiveTraceSnapshot());
+        Assertions.assertTrue(dump.getThreadInfo().getStackTrace().length > 0);
+    }
+
+    @Test
+    public void getActiveThreadDumpList_threadNameFilter() {
+        ActiveTraceSnapshot snapshot = newSnapshot(1, 100, currentThreadId);
+
+        ActiveThreadDumpCoreService service = newService(Collections.singletonList(snapshot));
+
+        String threadName = Thread.currentThread().getName();
+        ThreadDumpRequest match = new ThreadDumpRequest(StackTrace.SKIP, 10, null, Collections.singletonList(threadName));
+        Assertions.assertEquals(1, service.getActiveThreadDumpList(match).size());
+
+        ThreadDumpRequest mismatch = new ThreadDumpRequest(StackTrace.SKIP, 10, null, Collections.singletonList("unknown-" + threadName));
+        Assertions.assertTrue(service.getActiveThreadDumpList(mismatch).isEmpty());
+    }
+
+    private ActiveThreadDumpCoreService newService(List<ActiveTraceSnapshot> snapshots) {
+        ActiveTraceRepository repository = mock(ActiveTraceRepository.class);
+        when(repository.snapshot()).thenReturn(snapshots);
+        return new ActiveThreadDumpCoreService(repository);
+    }
+
+    private ActiveTraceSnapshot newSnapshot(long localTransactionId, long startTime, long threadId) {
+        ActiveTraceSnapshot snapshot = mock(ActiveTraceSnapshot.class);
+        when(snapshot.getLocalTransactionId()).thenReturn(localTransactionId);
+        when(snapshot.getStartTime()).thenReturn(startTime);
+        when(snapshot.getThreadId()).thenReturn(threadId);
+        return snapshot;
+    }
+}
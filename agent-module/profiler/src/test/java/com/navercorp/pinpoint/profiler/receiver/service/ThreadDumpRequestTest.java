@@ -0,0 +1,65 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.receiver.service;
+
+import com.navercorp.pinpoint.grpc.trace.PCmdActiveThreadDump;
+import com.navercorp.pinpoint.grpc.trace.PCmdActiveThreadLightDump;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ThreadDumpRequestTest {
+
+    @Test
+    public void create_dump() {
+        PCmdActiveThreadDump dump = PCmdActiveThreadDump.newBuilder()
+                .setLimit(10)
+                .addLocalTraceId(1L)
+                .build();
+
+        ThreadDumpRequest request = ThreadDumpRequest.create(dump);
+
+        Assertions.assertEquals(StackTrace.DUMP, request.getStackTrace());
+        Assertions.assertFalse(request.isLockInfo());
+        Assertions.assertEquals(10, request.getLimit());
+        Assertions.assertTrue(request.findLocalTransactionId(1L));
+    }
+
+    @Test
+    public void create_dump_lockInfo() {
+        PCmdActiveThreadDump dump = PCmdActiveThreadDump.newBuilder()
+                .build();
+
+        ThreadDumpRequest request = ThreadDumpRequest.create(dump, true);
+
+        Assertions.assertEquals(StackTrace.DUMP, request.getStackTrace());
+        Assertions.assertTrue(request.isLockInfo());
+    }
+
+    @Test
+    public void create_lightDump() {
+        PCmdActiveThreadLightDump lightDump = PCmdActiveThreadLightDump.newBuilder()
+                .addThreadName("main")
+                .build();
+
+        ThreadDumpRequest request = ThreadDumpRequest.create(lightDump);
+
+        Assertions.assertEquals(StackTrace.SKIP, request.getStackTrace());
+        Assertions.assertFalse(request.isLockInfo());
+        Assertions.assertEquals(ThreadDumpRequest.MAX_THREAD_DUMP_LIMIT, request.getLimit());
+        Assertions.assertTrue(request.findThreadName("main"));
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.util;
+
+import com.navercorp.pinpoint.common.util.ThreadMXBeanUtils;
+import com.navercorp.pinpoint.profiler.monitor.metric.deadlock.MonitorInfoMetricSnapshot;
+import com.navercorp.pinpoint.profiler.monitor.metric.deadlock.ThreadDumpMetricSnapshot;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ThreadInfo;
+
+public class ThreadDumpUtilsTest {
+
+    private final Object lock = new Object();
+
+    @Test
+    public void createThreadDump_stackTraceMaxDepth() {
+        final ThreadInfo threadInfo;
+        synchronized (lock) {
+            // unlimited stack trace with lock info
+            threadInfo = ThreadMXBeanUtils.getThreadInfo(new long[]{Thread.currentThread().getId()}, 0, true)[0];
+        }
+        Assertions.assertTrue(threadInfo.getStackTrace().length > 2);
+        Assertions.assertTrue(threadInfo.getLockedMonitors().length > 0);
+
+        ThreadDumpMetricSnapshot threadDump = ThreadDumpUtils.createThreadDump(threadInfo, 2);
+
+        Assertions.assertEquals(2, threadDump.getStackTrace().size());
+        for (MonitorInfoMetricSnapshot monitorInfo : threadDump.getLockedMonitors()) {
+            Assertions.assertTrue(monitorInfo.getStackDepth() < 2);
+        }
+    }
+
+    @Test
+    public void createThreadDump_unlimited() {
+        final ThreadInfo threadInfo = ThreadMXBeanUtils.getThreadInfo(new long[]{Thread.currentThread().getId()}, 0, true)[0];
+
+        ThreadDumpMetricSnapshot threadDump = ThreadDumpUtils.createThreadDump(threadInfo);
+
+        Assertions.assertEquals(threadInfo.getStackTrace().length, threadDump.getStackTrace().size());
+        Assertions.assertEquals(threadInfo.getLockedMonitors().length, threadDump.getLockedMonitors().size());
+    }
+}
@@ -19,61 +19,131 @@ package com.navercorp.pinpoint.batch.alarm;
 import com.google.common.base.Suppliers;
 import com.navercorp.pinpoint.batch.alarm.checker.AlarmChecker;
 import com.navercorp.pinpoint.batch.alarm.collector.DataCollector;
+import com.navercorp.pinpoint.batch.alarm.dao.PrefetchAlarmDao;
 import com.navercorp.pinpoint.batch.alarm.vo.AppAlarmChecker;
+import com.navercorp.pinpoint.batch.common.BatchProperties;
 import com.navercorp.pinpoint.common.timeseries.time.Range;
 import com.navercorp.pinpoint.common.util.CollectionUtils;
 import com.navercorp.pinpoint.web.alarm.CheckerCategory;
 import com.navercorp.pinpoint.web.alarm.DataCollectorCategory;
 import com.navercorp.pinpoint.web.alarm.vo.Rule;
-import com.navercorp.pinpoint.web.dao.ApplicationIndexDao;
 import com.navercorp.pinpoint.web.service.AlarmService;
 import com.navercorp.pinpoint.web.service.component.ActiveAgentValidator;
 import com.navercorp.pinpoint.web.vo.Application;
 import jakarta.annotation.Nonnull;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
 import org.springframework.batch.item.ItemProcessor;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
 
 /**
  * @author minwoo.jung
  */
-public class AlarmProcessor implements ItemProcessor<Application, AppAlarmChecker> {
+public class AlarmProcessor implements ItemProcessor<Application, AppAlarmChecker>, StepExecutionListener {
 
     private static final long activeDuration = TimeUnit.MINUTES.toMillis(5);
 
+    // prefetched queries are keyed by time range, applications processed within the same slot share a query
+    private static final long PREFETCH_TIME_SLOT = TimeUnit.SECONDS.toMillis(10);
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
     private final AlarmService alarmService;
 
     private final DataCollectorFactory dataCollectorFactory;
 
-    private final ApplicationIndexDao applicationIndexDao;
-
     private final ActiveAgentValidator activeAgentValidator;
 
     private final CheckerRegistry checkerRegistry;
 
+    private final BatchProperties batchProperties;
+
+    private volatile AlarmCycle alarmCycle;
+
     public AlarmProcessor(
             DataCollectorFactory dataCollectorFactory,
             AlarmService alarmService,
-            ApplicationIndexDao applicationIndexDao,
             ActiveAgentValidator activeAgentValidator,
-            CheckerRegistry checkerRegistry
+            CheckerRegistry checkerRegistry,
+            BatchProperties batchProperties
     ) {
         this.dataCollectorFactory = Objects.requireNonNull(dataCollectorFactory, "dataCollectorFactory");
         this.alarmService = Objects.requireNonNull(alarmService, "alarmService");
-        this.applicationIndexDao = Objects.requireNonNull(applicationIndexDao, "applicationIndexDao");
         this.activeAgentValidator = Objects.requireNonNull(activeAgentValidator, "activeAgentValidator");
         this.checkerRegistry = Objects.requireNonNull(checkerRegistry, "checkerRegistry");
+        this.batchProperties = Objects.requireNonNull(batchProperties, "batchProperties");
+    }
+
+    @Override
+    public void beforeStep(@Nonnull StepExecution stepExecution) {
+        final long startTime = System.currentTimeMillis();
+        if (batchProperties.isAlarmPrefetchEnable()) {
+            Map<String, List<Rule>> ruleMap = selectRules();
+            Map<DataCollectorCategory, PrefetchAlarmDao> prefetchAlarmDaoMap = newPrefetchAlarmDaoMap(ruleMap);
+            this.alarmCycle = new AlarmCycle(startTime, dataCollectorFactory.withAlarmDao(prefetchAlarmDaoMap), ruleMap, prefetchAlarmDaoMap);
+        } else {
+            this.alarmCycle = new AlarmCycle(startTime, dataCollectorFactory, Map.of(), Map.of());
+        }
+    }
+
+    private Map<String, List<Rule>> selectRules() {
+        Map<String, List<Rule>> ruleMap = new HashMap<>();
+        for (String applicationName : alarmService.selectApplicationName()) {
+            ruleMap.put(applicationName, alarmService.selectRuleByApplicationName(applicationName));
+        }
+        return ruleMap;
+    }
+
+    // each collector category prefetches only the applications having a rule of that category
+    private Map<DataCollectorCategory, PrefetchAlarmDao> newPrefetchAlarmDaoMap(Map<String, List<Rule>> ruleMap) {
+        Map<DataCollectorCategory, Set<String>> categoryApplications = new EnumMap<>(DataCollectorCategory.class);
+        for (Map.Entry<String, List<Rule>> entry : ruleMap.entrySet()) {
+            for (Rule rule : entry.getValue()) {
+                DataCollectorCategory category = CheckerCategory.getValue(rule.getCheckerName()).getDataCollectorCategory();
+                categoryApplications.computeIfAbsent(category, k -> new HashSet<>()).add(entry.getKey());
+            }
+        }
+
+        Map<DataCollectorCategory, PrefetchAlarmDao> prefetchAlarmDaoMap = new EnumMap<>(DataCollectorCategory.class);
+        for (Map.Entry<DataCollectorCategory, Set<String>> entry : categoryApplications.entrySet()) {
+            PrefetchAlarmDao prefetchAlarmDao = new PrefetchAlarmDao(dataCollectorFactory.getAlarmDao(),
+                    List.copyOf(entry.getValue()), batchProperties.getAlarmPrefetchApplicationsPerQuery());
+            prefetchAlarmDaoMap.put(entry.getKey(), prefetchAlarmDao);
+        }
+        return prefetchAlarmDaoMap;
+    }
+
+    @Override
+    public ExitStatus afterStep(@Nonnull StepExecution stepExecution) {
+        AlarmCycle cycle = this.alarmCycle;
+        if (cycle != null) {
+            cycle.logSummary(logger);
+            this.alarmCycle = null;
+        }
+        return null;
     }
 
     @Override
     public AppAlarmChecker process(@Nonnull Application application) {
-        List<AlarmChecker<?>> checkers = getAlarmCheckers(application);
+        final long startTime = System.nanoTime();
+        final AlarmCycle cycle = this.alarmCycle;
+
+        List<AlarmChecker<?>> checkers = getAlarmCheckers(application, cycle);
         if (CollectionUtils.isEmpty(checkers)) {
             return null;
         }
@@ -81,17 +151,24 @@ public class AlarmProcessor implements ItemProcessor<Application, AppAlarmChecke
         AppAlarmChecker appChecker = new AppAlarmChecker(checkers);
         appChecker.check();
 
+        if (cycle != null) {
+            cycle.record(checkers.size(), System.nanoTime() - startTime);
+        }
         return appChecker;
     }
 
-    private List<AlarmChecker<?>> getAlarmCheckers(Application application) {
-        List<Rule> rules = alarmService.selectRuleByApplicationName(application.getName());
+    private List<AlarmChecker<?>> getAlarmCheckers(Application application, AlarmCycle cycle) {
+        List<Rule> rules = selectRules(application, cycle);
 
         long now = System.currentTimeMillis();
+        if (isPrefetch(cycle)) {
+            now -= now % PREFETCH_TIME_SLOT;
+        }
+        DataCollectorFactory collectorFactory = cycle != null ? cycle.dataCollectorFactory : dataCollectorFactory;
         Supplier<List<String>> agentIds = getAgentIdsSupplier(application, now);
 
         AlarmCheckerFactory alarmCheckerFactory = new AlarmCheckerFactory(
-                application, agentIds, now, dataCollectorFactory, checkerRegistry);
+                application, agentIds, now, collectorFactory, checkerRegistry);
 
         List<AlarmChecker<?>> checkers = new ArrayList<>(rules.size());
         for (Rule rule: rules) {
@@ -100,20 +177,27 @@ public class AlarmProcessor implements ItemProcessor<Application, AppAlarmChecke
         return checkers;
     }
 
+    private List<Rule> selectRules(Application application, AlarmCycle cycle) {
+        if (cycle != null) {
+            List<Rule> rules = cycle.ruleMap.get(application.getName());
+            if (rules != null) {
+                return rules;
+            }
+        }
+        return alarmService.selectRuleByApplicationName(application.getName());
+    }
+
+    private static boolean isPrefetch(AlarmCycle cycle) {
+        return cycle != null && !cycle.prefetchAlarmDaoMap.isEmpty();
+    }
+
     private Supplier<List<String>> getAgentIdsSupplier(Application application, long now) {
         Range range = Range.between(now - activeDuration, now);
         return Suppliers.memoize(() -> fetchActiveAgents(application, range));
     }
 
     private List<String> fetchActiveAgents(Application application, Range activeRange) {
-        List<String> agentList = applicationIndexDao.selectAgentIds(application.getName());
-        return agentList
-                .stream()
-                .filter(id -> {
-                    Application app = new Application(id, application.getServiceType());
-                    return activeAgentValidator.isActiveAgent(app, activeRange);
-                })
-                .toList();
+        return activeAgentValidator.getActiveAgentIds(application, activeRange);
     }
 
     private static class AlarmCheckerFactory {
@@ -155,4 +239,54 @@ public class AlarmProcessor implements ItemProcessor<Application, AppAlarmChecke
         }
     }
 
+    private static class AlarmCycle {
+
+        private final long startTime;
+        private final DataCollectorFactory dataCollectorFactory;
+        private final Map<String, List<Rule>> ruleMap;
+        private final Map<DataCollectorCategory, PrefetchAlarmDao> prefetchAlarmDaoMap;
+
+        private final LongAdder applicationCount = new LongAdder();
+        private final LongAdder checkerCount = new LongAdder();
+        private final LongAdder processTimeNanos = new LongAdder();
+        private final LongAccumulator maxProcessTimeNanos = new LongAccumulator(Long::max, 0);
+
+        private AlarmCycle(long startTime,
+                           DataCollectorFactory dataCollectorFactory,
+                           Map<String, List<Rule>> ruleMap,
+                           Map<DataCollectorCategory, PrefetchAlarmDao> prefetchAlarmDaoMap) {
+            this.startTime = startTime;
+            this.dataCollectorFactory = Objects.requireNonNull(dataCollectorFactory, "dataCollectorFactory");
+            this.ruleMap = Objects.requireNonNull(ruleMap, "ruleMap");
+            this.prefetchAlarmDaoMap = Objects.requireNonNull(prefetchAlarmDaoMap, "prefetchAlarmDaoMap");
+        }
+
+        private void record(int checkers, long elapsedNanos) {
+            applicationCount.increment();
+            checkerCount.add(checkers);
+            processTimeNanos.add(elapsedNanos);
+            maxProcessTimeNanos.accumulate(elapsedNanos);
+        }
+
+        private void logSummary(Logger logger) {
+            long elapsed = System.currentTimeMillis() - startTime;
+            long processTime = TimeUnit.NANOSECONDS.toMillis(processTimeNanos.sum());
+            long maxProcessTime = TimeUnit.NANOSECONDS.toMillis(maxProcessTimeNanos.get());
+            if (!prefetchAlarmDaoMap.isEmpty()) {
+                long queryCount = 0;
+                long queryTime = 0;
+                for (PrefetchAlarmDao prefetchAlarmDao : prefetchAlarmDaoMap.values()) {
+                    queryCount += prefetchAlarmDao.getQueryCount();
+                    queryTime += prefetchAlarmDao.getQueryTimeMillis();
+                }
+                logger.info("alarm cycle finished. applications:{} checkers:{} elapsed:{}ms process(total:{}ms max:{}ms) prefetch(queries:{} time:{}ms)",
+                        applicationCount.sum(), checkerCount.sum(), elapsed, processTime, maxProcessTime,
+                        queryCount, queryTime);
+            } else {
+                logger.info("alarm cycle finished. applications:{} checkers:{} elapsed:{}ms process(total:{}ms max:{}ms)",
+                        applicationCount.sum(), checkerCount.sum(), elapsed, processTime, maxProcessTime);
+            }
+        }
+    }
+
 }
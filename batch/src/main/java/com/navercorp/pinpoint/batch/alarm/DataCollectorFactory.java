@@ -32,9 +32,11 @@ import com.navercorp.pinpoint.web.applicationmap.dao.MapOutLinkDao;
 import com.navercorp.pinpoint.web.applicationmap.dao.MapResponseDao;
 import com.navercorp.pinpoint.web.dao.AgentEventDao;
 import com.navercorp.pinpoint.web.vo.Application;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.Supplier;
 
@@ -53,15 +55,42 @@ public class DataCollectorFactory {
     private final MapOutLinkDao outLinkDao;
 
     private final AlarmDao alarmDao;
-    
+
+    private final Map<DataCollectorCategory, AlarmDao> categoryAlarmDaoMap;
+
+    @Autowired
     public DataCollectorFactory(MapResponseDao mapResponseDao,
                                 AgentEventDao agentEventDao,
                                 MapOutLinkDao outLinkDao,
                                 AlarmDao alarmDao) {
+        this(mapResponseDao, agentEventDao, outLinkDao, alarmDao, Map.of());
+    }
+
+    private DataCollectorFactory(MapResponseDao mapResponseDao,
+                                 AgentEventDao agentEventDao,
+                                 MapOutLinkDao outLinkDao,
+                                 AlarmDao alarmDao,
+                                 Map<DataCollectorCategory, AlarmDao> categoryAlarmDaoMap) {
         this.mapResponseDao = Objects.requireNonNull(mapResponseDao, "mapResponseDao");
         this.agentEventDao = Objects.requireNonNull(agentEventDao, "agentEventDao");
         this.outLinkDao = Objects.requireNonNull(outLinkDao, "outLinkDao");
         this.alarmDao = Objects.requireNonNull(alarmDao, "alarmDao");
+        this.categoryAlarmDaoMap = Objects.requireNonNull(categoryAlarmDaoMap, "categoryAlarmDaoMap");
+    }
+
+    public AlarmDao getAlarmDao() {
+        return alarmDao;
+    }
+
+    /**
+     * @param categoryAlarmDaoMap alarmDao per collector category, the other categories keep the default alarmDao
+     */
+    public DataCollectorFactory withAlarmDao(Map<DataCollectorCategory, ? extends AlarmDao> categoryAlarmDaoMap) {
+        return new DataCollectorFactory(mapResponseDao, agentEventDao, outLinkDao, alarmDao, Map.copyOf(categoryAlarmDaoMap));
+    }
+
+    private AlarmDao getAlarmDao(DataCollectorCategory category) {
+        return categoryAlarmDaoMap.getOrDefault(category, alarmDao);
     }
 
     public DataCollector createDataCollector(CheckerCategory checker, Application application, Supplier<List<String>> agentIds, long timeSlotEndTime) {
@@ -73,15 +102,15 @@ public class DataCollectorFactory {
             case CALLER_STAT ->
                     new MapOutLinkDataCollector(DataCollectorCategory.CALLER_STAT, application, outLinkDao, timeSlotEndTime, SLOT_INTERVAL_FIVE_MIN);
             case DATA_SOURCE_STAT ->
-                    new DataSourceDataCollector(DataCollectorCategory.DATA_SOURCE_STAT, alarmDao, application, agentIds.get(), timeSlotEndTime, SLOT_INTERVAL_FIVE_MIN);
+                    new DataSourceDataCollector(DataCollectorCategory.DATA_SOURCE_STAT, getAlarmDao(DataCollectorCategory.DATA_SOURCE_STAT), application, agentIds.get(), timeSlotEndTime, SLOT_INTERVAL_FIVE_MIN);
             case FILE_DESCRIPTOR ->
-                    new FileDescriptorDataCollector(DataCollectorCategory.FILE_DESCRIPTOR, alarmDao, application, timeSlotEndTime, SLOT_INTERVAL_FIVE_MIN);
+                    new FileDescriptorDataCollector(DataCollectorCategory.FILE_DESCRIPTOR, getAlarmDao(DataCollectorCategory.FILE_DESCRIPTOR), application, timeSlotEndTime, SLOT_INTERVAL_FIVE_MIN);
             case HEAP_USAGE_RATE ->
-                    new HeapDataCollector(DataCollectorCategory.HEAP_USAGE_RATE, alarmDao, application, timeSlotEndTime, SLOT_INTERVAL_FIVE_MIN);
+                    new HeapDataCollector(DataCollectorCategory.HEAP_USAGE_RATE, getAlarmDao(DataCollectorCategory.HEAP_USAGE_RATE), application, timeSlotEndTime, SLOT_INTERVAL_FIVE_MIN);
             case JVM_CPU_USAGE_RATE ->
-                    new JvmCpuDataCollector(DataCollectorCategory.JVM_CPU_USAGE_RATE, alarmDao, application, timeSlotEndTime, SLOT_INTERVAL_FIVE_MIN);
+                    new JvmCpuDataCollector(DataCollectorCategory.JVM_CPU_USAGE_RATE, getAlarmDao(DataCollectorCategory.JVM_CPU_USAGE_RATE), application, timeSlotEndTime, SLOT_INTERVAL_FIVE_MIN);
             case SYSTEM_CPU_USAGE_RATE ->
-                    new SystemCpuDataCollector(DataCollectorCategory.SYSTEM_CPU_USAGE_RATE, alarmDao, application, timeSlotEndTime, SLOT_INTERVAL_FIVE_MIN);
+                    new SystemCpuDataCollector(DataCollectorCategory.SYSTEM_CPU_USAGE_RATE, getAlarmDao(DataCollectorCategory.SYSTEM_CPU_USAGE_RATE), application, timeSlotEndTime, SLOT_INTERVAL_FIVE_MIN);
         };
     }
 
@@ -24,6 +24,7 @@ import com.navercorp.pinpoint.common.timeseries.time.Range;
 import com.navercorp.pinpoint.metric.common.model.Tag;
 
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -39,6 +40,12 @@ public interface AlarmDao {
 
     List<AgentUsage> selectAvg(String applicationName, String metricName, String fieldName, Range range);
 
+    Map<String, List<AgentFieldUsage>> selectSumGroupByFieldForApplications(List<String> applicationNames, String metricName, List<String> fieldList, Range range);
+
+    Map<String, List<AgentUsageCount>> selectSumCountForApplications(List<String> applicationNames, String metricName, String fieldName, Range range);
+
+    Map<String, List<AgentUsage>> selectAvgForApplications(List<String> applicationNames, String metricName, String fieldName, Range range);
+
     CompletableFuture<List<Tag>> selectTagInfo(String applicationName, String agentId, String metricName, String fieldName, Range range);
 
     CompletableFuture<List<TagInformation>> getTagInfoContainedSpecificTag(String applicationName, String agentId, String metricName, String fieldActiveConnection, List<Tag> tagList, Range range);
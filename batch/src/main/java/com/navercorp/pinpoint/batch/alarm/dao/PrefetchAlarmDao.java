@@ -0,0 +1,220 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.batch.alarm.dao;
+
+import com.google.common.base.Suppliers;
+import com.google.common.collect.Lists;
+import com.navercorp.pinpoint.batch.alarm.vo.AgentFieldUsage;
+import com.navercorp.pinpoint.batch.alarm.vo.AgentUsage;
+import com.navercorp.pinpoint.batch.alarm.vo.AgentUsageCount;
+import com.navercorp.pinpoint.common.model.TagInformation;
+import com.navercorp.pinpoint.common.timeseries.time.Range;
+import com.navercorp.pinpoint.metric.common.model.Tag;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Serves single application stat queries from one multi-application query per (metric, field, range).
+ * <p>
+ * The first request for a key fetches the stats of every application of the alarm cycle that has not been served yet,
+ * later requests for the same key are answered from memory.
+ * A newer range of the same metric evicts the older ones.
+ * Meant to live for a single alarm step execution.
+ */
+public class PrefetchAlarmDao implements AlarmDao {
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    private final AlarmDao delegate;
+    private final List<String> applicationNames;
+    private final Set<String> applicationNameSet;
+    private final int applicationsPerQuery;
+
+    private final ConcurrentMap<QueryKey, Supplier<Prefetched<AgentFieldUsage>>> sumGroupByFieldCache = new ConcurrentHashMap<>();
+    private final ConcurrentMap<QueryKey, Supplier<Prefetched<AgentUsageCount>>> sumCountCache = new ConcurrentHashMap<>();
+    private final ConcurrentMap<QueryKey, Supplier<Prefetched<AgentUsage>>> avgCache = new ConcurrentHashMap<>();
+    private final ConcurrentMap<MetricKey, Set<String>> servedApplications = new ConcurrentHashMap<>();
+
+    private final LongAdder queryCount = new LongAdder();
+    private final LongAdder queryTimeNanos = new LongAdder();
+
+    public PrefetchAlarmDao(AlarmDao delegate, List<String> applicationNames, int applicationsPerQuery) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.applicationNames = List.copyOf(applicationNames);
+        this.applicationNameSet = new HashSet<>(this.applicationNames);
+        if (applicationsPerQuery <= 0) {
+            throw new IllegalArgumentException("applicationsPerQuery must be positive");
+        }
+        this.applicationsPerQuery = applicationsPerQuery;
+    }
+
+    @Override
+    public List<AgentFieldUsage> selectSumGroupByField(String applicationName, String metricName, List<String> fieldList, Range range) {
+        if (!applicationNameSet.contains(applicationName)) {
+            return delegate.selectSumGroupByField(applicationName, metricName, fieldList, range);
+        }
+        QueryKey key = new QueryKey(new MetricKey(metricName, List.copyOf(fieldList)), range);
+        return prefetch(sumGroupByFieldCache, key, applicationName,
+                names -> delegate.selectSumGroupByFieldForApplications(names, metricName, fieldList, range),
+                () -> delegate.selectSumGroupByField(applicationName, metricName, fieldList, range));
+    }
+
+    @Override
+    public CompletableFuture<List<AgentFieldUsage>> selectAvgGroupByField(String applicationName, String agentId, String metricName, List<String> fieldList, List<Tag> tagList, Range range) {
+        return delegate.selectAvgGroupByField(applicationName, agentId, metricName, fieldList, tagList, range);
+    }
+
+    @Override
+    public List<AgentUsageCount> selectSumCount(String applicationName, String metricName, String fieldName, Range range) {
+        if (!applicationNameSet.contains(applicationName)) {
+            return delegate.selectSumCount(applicationName, metricName, fieldName, range);
+        }
+        QueryKey key = new QueryKey(new MetricKey(metricName, List.of(fieldName)), range);
+        return prefetch(sumCountCache, key, applicationName,
+                names -> delegate.selectSumCountForApplications(names, metricName, fieldName, range),
+                () -> delegate.selectSumCount(applicationName, metricName, fieldName, range));
+    }
+
+    @Override
+    public List<AgentUsage> selectAvg(String applicationName, String metricName, String fieldName, Range range) {
+        if (!applicationNameSet.contains(applicationName)) {
+            return delegate.selectAvg(applicationName, metricName, fieldName, range);
+        }
+        QueryKey key = new QueryKey(new MetricKey(metricName, List.of(fieldName)), range);
+        return prefetch(avgCache, key, applicationName,
+                names -> delegate.selectAvgForApplications(names, metricName, fieldName, range),
+                () -> delegate.selectAvg(applicationName, metricName, fieldName, range));
+    }
+
+    @Override
+    public Map<String, List<AgentFieldUsage>> selectSumGroupByFieldForApplications(List<String> applicationNames, String metricName, List<String> fieldList, Range range) {
+        return delegate.selectSumGroupByFieldForApplications(applicationNames, metricName, fieldList, range);
+    }
+
+    @Override
+    public Map<String, List<AgentUsageCount>> selectSumCountForApplications(List<String> applicationNames, String metricName, String fieldName, Range range) {
+        return delegate.selectSumCountForApplications(applicationNames, metricName, fieldName, range);
+    }
+
+    @Override
+    public Map<String, List<AgentUsage>> selectAvgForApplications(List<String> applicationNames, String metricName, String fieldName, Range range) {
+        return delegate.selectAvgForApplications(applicationNames, metricName, fieldName, range);
+    }
+
+    @Override
+    public CompletableFuture<List<Tag>> selectTagInfo(String applicationName, String agentId, String metricName, String fieldName, Range range) {
+        return delegate.selectTagInfo(applicationName, agentId, metricName, fieldName, range);
+    }
+
+    @Override
+    public CompletableFuture<List<TagInformation>> getTagInfoContainedSpecificTag(String applicationName, String agentId, String metricName, String fieldActiveConnection, List<Tag> tagList, Range range) {
+        return delegate.getTagInfoContainedSpecificTag(applicationName, agentId, metricName, fieldActiveConnection, tagList, range);
+    }
+
+    private <T> List<T> prefetch(ConcurrentMap<QueryKey, Supplier<Prefetched<T>>> cache,
+                                 QueryKey key,
+                                 String applicationName,
+                                 Function<List<String>, Map<String, List<T>>> bulkQuery,
+                                 Supplier<List<T>> singleQuery) {
+        Prefetched<T> prefetched = getSupplier(cache, key, bulkQuery).get();
+        servedApplications.computeIfAbsent(key.metric(), k -> ConcurrentHashMap.newKeySet()).add(applicationName);
+        if (!prefetched.applicationNames().contains(applicationName)) {
+            // already served by an older range of the same metric
+            return singleQuery.get();
+        }
+        return prefetched.usage().getOrDefault(applicationName, List.of());
+    }
+
+    private <T> Supplier<Prefetched<T>> getSupplier(ConcurrentMap<QueryKey, Supplier<Prefetched<T>>> cache,
+                                                    QueryKey key,
+                                                    Function<List<String>, Map<String, List<T>>> bulkQuery) {
+        Supplier<Prefetched<T>> supplier = cache.get(key);
+        if (supplier != null) {
+            return supplier;
+        }
+        // memoized supplier: concurrent readers of the same key wait for a single fetch, a failed fetch is retried by the next reader
+        Supplier<Prefetched<T>> newSupplier = Suppliers.memoize(() -> fetch(key, bulkQuery));
+        supplier = cache.putIfAbsent(key, newSupplier);
+        if (supplier != null) {
+            return supplier;
+        }
+        cache.keySet().removeIf(old -> old.metric().equals(key.metric()) && old.range().getTo() < key.range().getTo());
+        return newSupplier;
+    }
+
+    private <T> Prefetched<T> fetch(QueryKey key, Function<List<String>, Map<String, List<T>>> bulkQuery) {
+        final long startTime = System.nanoTime();
+        List<String> pendingApplications = getPendingApplications(key.metric());
+        Map<String, List<T>> result = new HashMap<>();
+        for (List<String> partition : Lists.partition(pendingApplications, applicationsPerQuery)) {
+            result.putAll(bulkQuery.apply(partition));
+            queryCount.increment();
+        }
+        final long elapsed = System.nanoTime() - startTime;
+        queryTimeNanos.add(elapsed);
+        if (logger.isDebugEnabled()) {
+            logger.debug("prefetch {} applications:{} hit:{} {}ms", key, pendingApplications.size(), result.size(), TimeUnit.NANOSECONDS.toMillis(elapsed));
+        }
+        return new Prefetched<>(new HashSet<>(pendingApplications), result);
+    }
+
+    private List<String> getPendingApplications(MetricKey metric) {
+        Set<String> served = servedApplications.get(metric);
+        if (served == null) {
+            return applicationNames;
+        }
+        List<String> pending = new ArrayList<>(applicationNames.size());
+        for (String applicationName : applicationNames) {
+            if (!served.contains(applicationName)) {
+                pending.add(applicationName);
+            }
+        }
+        return pending;
+    }
+
+    public long getQueryCount() {
+        return queryCount.sum();
+    }
+
+    public long getQueryTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(queryTimeNanos.sum());
+    }
+
+    private record MetricKey(String metricName, List<String> fieldList) {
+    }
+
+    private record QueryKey(MetricKey metric, Range range) {
+    }
+
+    private record Prefetched<T>(Set<String> applicationNames, Map<String, List<T>> usage) {
+    }
+}
@@ -34,6 +34,7 @@ public class BatchQueryParameter {
     private final static String DEFAULT_FIELD_NAME = "fieldName";
     private final String tableName;
     private final String applicationName;
+    private final List<String> applicationNameList;
     private final String agentId;
     private final String metricName;
     private final String sortKey;
@@ -41,6 +42,7 @@ public class BatchQueryParameter {
     private final List<Tag> tagList;
     private final String fieldName;
     private final Range range;
+    private final int limit;
 
     public BatchQueryParameter(String tableName,
                                String applicationName,
@@ -96,6 +98,51 @@ public class BatchQueryParameter {
         this(tableName, applicationName, DEFAULT_AGENT_ID, metricName, DEFAULT_FIELD_NAME, fieldList, Collections.EMPTY_LIST, range);
     }
 
+    public BatchQueryParameter(String tableName,
+                               List<String> applicationNameList,
+                               String metricName,
+                               String fieldName,
+                               Range range,
+                               int limit) {
+        this(tableName, applicationNameList, metricName, fieldName, Collections.EMPTY_LIST, range, limit);
+    }
+
+    public BatchQueryParameter(String tableName,
+                               List<String> applicationNameList,
+                               String metricName,
+                               List<String> fieldList,
+                               Range range,
+                               int limit) {
+        this(tableName, applicationNameList, metricName, DEFAULT_FIELD_NAME, fieldList, range, limit);
+    }
+
+    private BatchQueryParameter(String tableName,
+                                List<String> applicationNameList,
+                                String metricName,
+                                String fieldName,
+                                List<String> fieldList,
+                                Range range,
+                                int limit) {
+        this.tableName = StringPrecondition.requireHasLength(tableName, "tableName");
+        Objects.requireNonNull(applicationNameList, "applicationNameList");
+        if (applicationNameList.isEmpty()) {
+            throw new IllegalArgumentException("applicationNameList must not be empty");
+        }
+        this.applicationNameList = applicationNameList;
+        this.applicationName = null;
+        this.agentId = DEFAULT_AGENT_ID;
+        this.metricName = StringPrecondition.requireHasLength(metricName, "metricName");
+        this.sortKey = null;
+        this.fieldName = StringPrecondition.requireHasLength(fieldName, "fieldName");
+        this.fieldList = Objects.requireNonNull(fieldList, "fieldList");
+        this.tagList = Collections.emptyList();
+        this.range = Objects.requireNonNull(range, "range");
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+        this.limit = limit;
+    }
+
     private BatchQueryParameter(String tableName,
                                 String applicationName,
                                 String agentId,
@@ -106,6 +153,7 @@ public class BatchQueryParameter {
                                 Range range) {
         this.tableName = StringPrecondition.requireHasLength(tableName, "tableName");
         this.applicationName = StringPrecondition.requireHasLength(applicationName, "applicationName");
+        this.applicationNameList = Collections.emptyList();
         this.agentId = StringPrecondition.requireHasLength(agentId, "agentId");
         this.metricName = StringPrecondition.requireHasLength(metricName, "metricName");
         this.sortKey = SortKeyUtils.generateKeyForAgentStat(applicationName, agentId, metricName);
@@ -113,6 +161,7 @@ public class BatchQueryParameter {
         this.fieldList = Objects.requireNonNull(fieldList, "fieldList");
         this.tagList = Objects.requireNonNull(tagList, "tagList");
         this.range = Objects.requireNonNull(range, "range");
+        this.limit = 0;
     }
 
     public String getTableName() {
@@ -123,6 +172,10 @@ public class BatchQueryParameter {
         return applicationName;
     }
 
+    public List<String> getApplicationNameList() {
+        return applicationNameList;
+    }
+
     public List<String> getFieldList() {
         return fieldList;
     }
@@ -151,9 +204,14 @@ public class BatchQueryParameter {
         return sortKey;
     }
 
+    public int getLimit() {
+        return limit;
+    }
+
     public BatchQueryParameter(String tableName, String applicationName, String agentId, String metricName, String sortKey, List<String> fieldList, List<Tag> tagList, String fieldName, Range range) {
         this.tableName = tableName;
         this.applicationName = applicationName;
+        this.applicationNameList = Collections.emptyList();
         this.agentId = agentId;
         this.metricName = metricName;
         this.sortKey = sortKey;
@@ -161,6 +219,7 @@ public class BatchQueryParameter {
         this.tagList = tagList;
         this.fieldName = fieldName;
         this.range = range;
+        this.limit = 0;
     }
 
     @Override
@@ -168,6 +227,7 @@ public class BatchQueryParameter {
         return "BatchQueryParameter{" +
                 "tableName='" + tableName + '\'' +
                 ", applicationName='" + applicationName + '\'' +
+                ", applicationNameList=" + applicationNameList +
                 ", agentId='" + agentId + '\'' +
                 ", metricName='" + metricName + '\'' +
                 ", sortKey='" + sortKey + '\'' +
@@ -175,6 +235,7 @@ public class BatchQueryParameter {
                 ", tagList=" + tagList +
                 ", fieldName='" + fieldName + '\'' +
                 ", range=" + range.prettyToString() +
+                ", limit=" + limit +
                 '}';
     }
 }
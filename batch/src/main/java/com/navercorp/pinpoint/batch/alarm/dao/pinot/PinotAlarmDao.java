@@ -21,19 +21,26 @@ import com.navercorp.pinpoint.batch.alarm.dao.model.BatchQueryParameter;
 import com.navercorp.pinpoint.batch.alarm.vo.AgentFieldUsage;
 import com.navercorp.pinpoint.batch.alarm.vo.AgentUsage;
 import com.navercorp.pinpoint.batch.alarm.vo.AgentUsageCount;
+import com.navercorp.pinpoint.batch.alarm.vo.ApplicationAgentUsage;
 import com.navercorp.pinpoint.batch.common.BatchProperties;
 import com.navercorp.pinpoint.common.model.TagInformation;
 import com.navercorp.pinpoint.common.server.metric.dao.TableNameManager;
 import com.navercorp.pinpoint.common.timeseries.time.Range;
 import com.navercorp.pinpoint.metric.common.model.Tag;
 import com.navercorp.pinpoint.pinot.mybatis.PinotAsyncTemplate;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.mybatis.spring.SqlSessionTemplate;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.retry.annotation.Retryable;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 /**
  * @author minwoo-jung
@@ -43,15 +50,19 @@ public class PinotAlarmDao implements AlarmDao {
 
     private static final String NAMESPACE = PinotAlarmDao.class.getName() + ".";
 
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
     private final PinotAsyncTemplate asyncTemplate;
     private final SqlSessionTemplate syncTemplate;
     private final TableNameManager tableNameManager;
+    private final int agentsPerApplication;
 
     public PinotAlarmDao(@Qualifier("batchPinotAsyncTemplate") PinotAsyncTemplate asyncTemplate, @Qualifier("batchPinotTemplate") SqlSessionTemplate syncTemplate, BatchProperties batchProperties) {
         this.asyncTemplate = Objects.requireNonNull(asyncTemplate, "asyncTemplate");
         this.syncTemplate = Objects.requireNonNull(syncTemplate, "syncTemplate");
         Objects.requireNonNull(batchProperties, "batchProperties");
         this.tableNameManager = new TableNameManager(batchProperties.getAgentInspectorStatTablePrefix(), batchProperties.getAgentInspectorStatTablePaddingLength(), batchProperties.getAgentInspectorStatTableCount());
+        this.agentsPerApplication = batchProperties.getAlarmPrefetchAgentsPerApplication();
     }
 
     @Override
@@ -78,6 +89,42 @@ public class PinotAlarmDao implements AlarmDao {
         return syncTemplate.selectList(NAMESPACE + "selectAvg", batchQueryParameter);
     }
 
+    @Override
+    public Map<String, List<AgentFieldUsage>> selectSumGroupByFieldForApplications(List<String> applicationNames, String metricName, List<String> fieldList, Range range) {
+        Map<String, List<AgentFieldUsage>> result = new HashMap<>();
+        for (Map.Entry<String, List<String>> entry : groupByTableName(applicationNames).entrySet()) {
+            BatchQueryParameter batchQueryParameter = new BatchQueryParameter(entry.getKey(), entry.getValue(), metricName, fieldList, range, limit(entry.getValue(), fieldList.size()));
+            List<ApplicationAgentUsage> usageList = syncTemplate.selectList(NAMESPACE + "selectSumGroupByFieldForApplications", batchQueryParameter);
+            checkTruncated(usageList, batchQueryParameter);
+            groupByApplicationName(usageList, ApplicationAgentUsage::toAgentFieldUsage, result);
+        }
+        return result;
+    }
+
+    @Override
+    public Map<String, List<AgentUsageCount>> selectSumCountForApplications(List<String> applicationNames, String metricName, String fieldName, Range range) {
+        Map<String, List<AgentUsageCount>> result = new HashMap<>();
+        for (Map.Entry<String, List<String>> entry : groupByTableName(applicationNames).entrySet()) {
+            BatchQueryParameter batchQueryParameter = new BatchQueryParameter(entry.getKey(), entry.getValue(), metricName, fieldName, range, limit(entry.getValue(), 1));
+            List<ApplicationAgentUsage> usageList = syncTemplate.selectList(NAMESPACE + "selectSumCountForApplications", batchQueryParameter);
+            checkTruncated(usageList, batchQueryParameter);
+            groupByApplicationName(usageList, ApplicationAgentUsage::toAgentUsageCount, result);
+        }
+        return result;
+    }
+
+    @Override
+    public Map<String, List<AgentUsage>> selectAvgForApplications(List<String> applicationNames, String metricName, String fieldName, Range range) {
+        Map<String, List<AgentUsage>> result = new HashMap<>();
+        for (Map.Entry<String, List<String>> entry : groupByTableName(applicationNames).entrySet()) {
+            BatchQueryParameter batchQueryParameter = new BatchQueryParameter(entry.getKey(), entry.getValue(), metricName, fieldName, range, limit(entry.getValue(), 1));
+            List<ApplicationAgentUsage> usageList = syncTemplate.selectList(NAMESPACE + "selectAvgForApplications", batchQueryParameter);
+            checkTruncated(usageList, batchQueryParameter);
+            groupByApplicationName(usageList, ApplicationAgentUsage::toAgentUsage, result);
+        }
+        return result;
+    }
+
     @Override
     public CompletableFuture<List<Tag>> selectTagInfo(String applicationName, String agentId, String metricName, String fieldName, Range range) {
         BatchQueryParameter batchQueryParameter = new BatchQueryParameter(getTableName(applicationName), applicationName, agentId, metricName, fieldName, range);
@@ -90,6 +137,35 @@ public class PinotAlarmDao implements AlarmDao {
         return asyncTemplate.selectList(NAMESPACE + "selectTagInfoContainedSpecificTag", batchQueryParameter);
     }
 
+    private Map<String, List<String>> groupByTableName(List<String> applicationNames) {
+        Map<String, List<String>> tableApplications = new HashMap<>();
+        for (String applicationName : applicationNames) {
+            tableApplications.computeIfAbsent(getTableName(applicationName), k -> new ArrayList<>()).add(applicationName);
+        }
+        return tableApplications;
+    }
+
+    // Pinot returns only 10 groups unless a limit is given, one row per application, agent and field
+    private int limit(List<String> applicationNames, int fieldCount) {
+        long limit = (long) applicationNames.size() * agentsPerApplication * Math.max(1, fieldCount);
+        return (int) Math.min(Integer.MAX_VALUE, limit);
+    }
+
+    private void checkTruncated(List<ApplicationAgentUsage> usageList, BatchQueryParameter batchQueryParameter) {
+        if (usageList.size() >= batchQueryParameter.getLimit()) {
+            logger.warn("prefetch result truncated by job.alarm.prefetch.agents.per.application={}, some agents are not checked. table:{} metric:{} applications:{} rows:{}",
+                    agentsPerApplication, batchQueryParameter.getTableName(), batchQueryParameter.getMetricName(), batchQueryParameter.getApplicationNameList().size(), usageList.size());
+        }
+    }
+
+    private static <T> void groupByApplicationName(List<ApplicationAgentUsage> usageList,
+                                                   Function<ApplicationAgentUsage, T> mapper,
+                                                   Map<String, List<T>> result) {
+        for (ApplicationAgentUsage usage : usageList) {
+            result.computeIfAbsent(usage.getApplicationName(), k -> new ArrayList<>()).add(mapper.apply(usage));
+        }
+    }
+
     private String getTableName(String applicationName) {
         return tableNameManager.getTableName(applicationName);
     }
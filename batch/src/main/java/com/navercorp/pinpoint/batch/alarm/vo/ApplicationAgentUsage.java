@@ -0,0 +1,69 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.batch.alarm.vo;
+
+/**
+ * Row of a multi-application stat query, grouped by application, agent and field.
+ */
+public class ApplicationAgentUsage {
+
+    private final String applicationName;
+    private final String agentId;
+    private final String fieldName;
+    private final Double value;
+    private final Double countValue;
+
+    public ApplicationAgentUsage(String applicationName, String agentId, String fieldName, Double value, Double countValue) {
+        this.applicationName = applicationName;
+        this.agentId = agentId;
+        this.fieldName = fieldName;
+        this.value = value;
+        this.countValue = countValue;
+    }
+
+    public String getApplicationName() {
+        return applicationName;
+    }
+
+    public String getAgentId() {
+        return agentId;
+    }
+
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    public Double getValue() {
+        return value;
+    }
+
+    public Double getCountValue() {
+        return countValue;
+    }
+
+    public AgentUsage toAgentUsage() {
+        return new AgentUsage(agentId, value);
+    }
+
+    public AgentFieldUsage toAgentFieldUsage() {
+        return new AgentFieldUsage(agentId, fieldName, value);
+    }
+
+    public AgentUsageCount toAgentUsageCount() {
+        return new AgentUsageCount(agentId, value, countValue);
+    }
+}
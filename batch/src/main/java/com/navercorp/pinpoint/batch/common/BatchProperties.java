@@ -52,6 +52,15 @@ public class BatchProperties {
     @Value("${job.alarm.agent.inspector.stat.table.padding.length}")
     private int agentInspectorStatTablePaddingLength;
 
+    @Value("${job.alarm.prefetch.enable:false}")
+    private boolean alarmPrefetchEnable;
+
+    @Value("${job.alarm.prefetch.applications.per.query:200}")
+    private int alarmPrefetchApplicationsPerQuery;
+
+    @Value("${job.alarm.prefetch.agents.per.application:1000}")
+    private int alarmPrefetchAgentsPerApplication;
+
     @Value("${job.agent.count.enable:true}")
     private boolean agentCountJobEnable;
 
@@ -88,6 +97,12 @@ public class BatchProperties {
         if (cleanupInactiveAgentsDurationDays < MINIMUM_CLEANUP_INACTIVE_AGENTS_DURATION_DAYS) {
             throw new IllegalArgumentException("'cleanupInactiveAgentsDuration' must be 'cleanupInactiveAgentsDuration >= 30'");
         }
+        if (alarmPrefetchEnable && alarmPrefetchApplicationsPerQuery <= 0) {
+            throw new IllegalArgumentException("'alarmPrefetchApplicationsPerQuery' must be 'alarmPrefetchApplicationsPerQuery > 0'");
+        }
+        if (alarmPrefetchAgentsPerApplication <= 0) {
+            throw new IllegalArgumentException("'alarmPrefetchAgentsPerApplication' must be 'alarmPrefetchAgentsPerApplication > 0'");
+        }
 
         afterLog();
     }
@@ -128,6 +143,18 @@ public class BatchProperties {
         return alarmJobCron;
     }
 
+    public boolean isAlarmPrefetchEnable() {
+        return alarmPrefetchEnable;
+    }
+
+    public int getAlarmPrefetchApplicationsPerQuery() {
+        return alarmPrefetchApplicationsPerQuery;
+    }
+
+    public int getAlarmPrefetchAgentsPerApplication() {
+        return alarmPrefetchAgentsPerApplication;
+    }
+
     public boolean isAgentCountJobEnable() {
         return agentCountJobEnable;
     }
@@ -173,6 +200,9 @@ public class BatchProperties {
                 ", alarmAgentInspectorStatTableCount=" + alarmAgentInspectorStatTableCount +
                 ", agentInspectorStatTablePrefix='" + agentInspectorStatTablePrefix + '\'' +
                 ", agentInspectorStatTablePaddingLength=" + agentInspectorStatTablePaddingLength +
+                ", alarmPrefetchEnable=" + alarmPrefetchEnable +
+                ", alarmPrefetchApplicationsPerQuery=" + alarmPrefetchApplicationsPerQuery +
+                ", alarmPrefetchAgentsPerApplication=" + alarmPrefetchAgentsPerApplication +
                 ", agentCountJobEnable=" + agentCountJobEnable +
                 ", agentCountJobCron='" + agentCountJobCron + '\'' +
                 ", cleanupInactiveAgentsJobEnable=" + cleanupInactiveAgentsJobEnable +
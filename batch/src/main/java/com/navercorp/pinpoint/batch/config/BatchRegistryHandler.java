@@ -20,6 +20,7 @@ import com.navercorp.pinpoint.batch.alarm.dao.model.BatchQueryParameter;
 import com.navercorp.pinpoint.batch.alarm.vo.AgentFieldUsage;
 import com.navercorp.pinpoint.batch.alarm.vo.AgentUsage;
 import com.navercorp.pinpoint.batch.alarm.vo.AgentUsageCount;
+import com.navercorp.pinpoint.batch.alarm.vo.ApplicationAgentUsage;
 import com.navercorp.pinpoint.common.dao.pinot.MultiValueTagTypeHandler;
 import com.navercorp.pinpoint.common.model.TagInformation;
 import com.navercorp.pinpoint.metric.common.model.Tag;
@@ -38,6 +39,7 @@ public class BatchRegistryHandler implements MyBatisRegistryHandler {
         typeAliasRegistry.registerAlias(AgentUsage.class);
         typeAliasRegistry.registerAlias(AgentFieldUsage.class);
         typeAliasRegistry.registerAlias(AgentUsageCount.class);
+        typeAliasRegistry.registerAlias(ApplicationAgentUsage.class);
         typeAliasRegistry.registerAlias(BatchQueryParameter.class);
         typeAliasRegistry.registerAlias(Tag.class);
         typeAliasRegistry.registerAlias(MultiValueTagTypeHandler.class);
@@ -17,7 +17,6 @@ package com.navercorp.pinpoint.batch.job;
 
 import com.navercorp.pinpoint.batch.common.BatchProperties;
 import com.navercorp.pinpoint.common.timeseries.time.Range;
-import com.navercorp.pinpoint.web.dao.ApplicationIndexDao;
 import com.navercorp.pinpoint.web.service.component.ActiveAgentValidator;
 import jakarta.annotation.Nonnull;
 import org.apache.logging.log4j.LogManager;
@@ -34,16 +33,13 @@ public class AgentCountProcessor implements ItemProcessor<String, Integer> {
 
     private final Logger logger = LogManager.getLogger(this.getClass());
 
-    private final ApplicationIndexDao applicationIndexDao;
     private final ActiveAgentValidator activeAgentValidator;
     private final long duration;
 
     public AgentCountProcessor(
-            ApplicationIndexDao applicationIndexDao,
             ActiveAgentValidator activeAgentValidator,
             BatchProperties batchProperties
     ) {
-        this.applicationIndexDao = Objects.requireNonNull(applicationIndexDao, "applicationIndexDao");
         this.activeAgentValidator = Objects.requireNonNull(activeAgentValidator, "activeAgentValidator");
 
         long durationDays = batchProperties.getCleanupInactiveAgentsDurationDays();
@@ -52,17 +48,10 @@ public class AgentCountProcessor implements ItemProcessor<String, Integer> {
 
     @Override
     public Integer process(@Nonnull String applicationName) {
-        long localCount = applicationIndexDao.selectAgentIds(applicationName)
-                .stream()
-                .filter(this::isActive)
-                .count();
-        logger.info("Application {} has {} agents", applicationName, localCount);
-        return Math.toIntExact(localCount);
-    }
-
-    private boolean isActive(String agentId) {
         long now = System.currentTimeMillis();
         Range range = Range.between(now - duration, now);
-        return activeAgentValidator.isActiveAgent(agentId, range);
+        int localCount = activeAgentValidator.getActiveAgentIds(applicationName, range).size();
+        logger.info("Application {} has {} agents", applicationName, localCount);
+        return localCount;
     }
 }
@@ -1,19 +1,23 @@
 package com.navercorp.pinpoint.batch.alarm;
 
 import com.navercorp.pinpoint.batch.alarm.collector.pinot.HeapDataCollector;
+import com.navercorp.pinpoint.batch.alarm.dao.AlarmDao;
 import com.navercorp.pinpoint.batch.alarm.vo.AppAlarmChecker;
+import com.navercorp.pinpoint.batch.common.BatchProperties;
 import com.navercorp.pinpoint.batch.config.AlarmCheckerConfiguration;
 import com.navercorp.pinpoint.common.trace.ServiceType;
 import com.navercorp.pinpoint.web.alarm.CheckerCategory;
+import com.navercorp.pinpoint.web.alarm.DataCollectorCategory;
 import com.navercorp.pinpoint.web.alarm.vo.Rule;
-import com.navercorp.pinpoint.web.dao.ApplicationIndexDao;
 import com.navercorp.pinpoint.web.service.AlarmService;
 import com.navercorp.pinpoint.web.service.component.ActiveAgentValidator;
 import com.navercorp.pinpoint.web.vo.Application;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.StepExecution;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
@@ -26,6 +30,8 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -41,9 +47,6 @@ public class AlarmProcessorTest {
     @Mock
     private AlarmService alarmService;
 
-    @Mock
-    private ApplicationIndexDao applicationIndexDao;
-
     @Mock
     private ActiveAgentValidator activeAgentValidator;
 
@@ -63,7 +66,7 @@ public class AlarmProcessorTest {
 
         when(alarmService.selectRuleByApplicationName(SERVICE_NAME)).thenReturn(List.of());
 
-        AlarmProcessor proc = new AlarmProcessor(dataCollectorFactory, alarmService, applicationIndexDao, activeAgentValidator, checkerRegistry);
+        AlarmProcessor proc = new AlarmProcessor(dataCollectorFactory, alarmService, activeAgentValidator, checkerRegistry, new BatchProperties());
         AppAlarmChecker checker = proc.process(app);
 
         assertNull(checker, "should be skipped");
@@ -82,7 +85,7 @@ public class AlarmProcessorTest {
         when(heapDataCollector.getHeapUsageRate()).thenReturn(heapUsageRate);
 
         // Executions
-        AlarmProcessor processor = new AlarmProcessor(dataCollectorFactory, alarmService, applicationIndexDao, activeAgentValidator, checkerRegistry);
+        AlarmProcessor processor = new AlarmProcessor(dataCollectorFactory, alarmService, activeAgentValidator, checkerRegistry, new BatchProperties());
         AppAlarmChecker appChecker = processor.process(application);
 
         // Validations
@@ -96,4 +99,34 @@ public class AlarmProcessorTest {
         assertThat(appChecker.getChildren().get(1).isDetected()).isFalse();
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void prefetch_scopedToRuleCategory() {
+        Application application = new Application(SERVICE_NAME, ServiceType.STAND_ALONE);
+        Rule rule = new Rule(SERVICE_NAME, ServiceType.STAND_ALONE.getName(), CheckerCategory.HEAP_USAGE_RATE.getName(), 70, "testGroup", false, false, false, "");
+
+        BatchProperties batchProperties = mock(BatchProperties.class);
+        when(batchProperties.isAlarmPrefetchEnable()).thenReturn(true);
+        when(batchProperties.getAlarmPrefetchApplicationsPerQuery()).thenReturn(10);
+        when(alarmService.selectApplicationName()).thenReturn(List.of(SERVICE_NAME, "noRuleApplication"));
+        when(alarmService.selectRuleByApplicationName(SERVICE_NAME)).thenReturn(List.of(rule));
+        when(alarmService.selectRuleByApplicationName("noRuleApplication")).thenReturn(List.of());
+        when(dataCollectorFactory.getAlarmDao()).thenReturn(mock(AlarmDao.class));
+        when(dataCollectorFactory.withAlarmDao(any())).thenReturn(dataCollectorFactory);
+        when(dataCollectorFactory.createDataCollector(any(), any(), any(), anyLong())).thenReturn(heapDataCollector);
+        when(heapDataCollector.getHeapUsageRate()).thenReturn(Map.of());
+
+        AlarmProcessor processor = new AlarmProcessor(dataCollectorFactory, alarmService, activeAgentValidator, checkerRegistry, batchProperties);
+        processor.beforeStep(mock(StepExecution.class));
+        AppAlarmChecker appChecker = processor.process(application);
+
+        ArgumentCaptor<Map<DataCollectorCategory, AlarmDao>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(dataCollectorFactory).withAlarmDao(captor.capture());
+        assertThat(captor.getValue()).containsOnlyKeys(DataCollectorCategory.HEAP_USAGE_RATE);
+
+        // rules selected before the step are reused
+        verify(alarmService, times(1)).selectRuleByApplicationName(SERVICE_NAME);
+        assertNotNull(appChecker);
+    }
+
 }
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.batch.alarm.dao;
+
+import com.navercorp.pinpoint.batch.alarm.vo.AgentFieldUsage;
+import com.navercorp.pinpoint.batch.alarm.vo.AgentUsage;
+import com.navercorp.pinpoint.common.timeseries.time.Range;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith({MockitoExtension.class})
+class PrefetchAlarmDaoTest {
+
+    private static final String METRIC_NAME = "jvmGc";
+    private static final List<String> FIELD_LIST = List.of("heapMax", "heapUsed");
+
+    @Mock
+    AlarmDao alarmDao;
+
+    @Test
+    void selectSumGroupByField_sharedQuery() {
+        Range range = Range.between(1000, 2000);
+        List<String> applicationNames = List.of("app1", "app2", "app3");
+
+        when(alarmDao.selectSumGroupByFieldForApplications(applicationNames, METRIC_NAME, FIELD_LIST, range)).thenReturn(Map.of(
+                "app1", List.of(new AgentFieldUsage("agent1", "heapMax", 100D)),
+                "app2", List.of(new AgentFieldUsage("agent2", "heapMax", 200D))
+        ));
+
+        PrefetchAlarmDao dao = new PrefetchAlarmDao(alarmDao, applicationNames, 10);
+
+        assertThat(dao.selectSumGroupByField("app1", METRIC_NAME, FIELD_LIST, range))
+                .extracting(AgentFieldUsage::getAgentId).containsExactly("agent1");
+        assertThat(dao.selectSumGroupByField("app2", METRIC_NAME, FIELD_LIST, range))
+                .extracting(AgentFieldUsage::getAgentId).containsExactly("agent2");
+        assertThat(dao.selectSumGroupByField("app3", METRIC_NAME, FIELD_LIST, range)).isEmpty();
+
+        verify(alarmDao, times(1)).selectSumGroupByFieldForApplications(any(), any(), any(), any());
+        verify(alarmDao, never()).selectSumGroupByField(any(), any(), any(), any());
+        assertThat(dao.getQueryCount()).isEqualTo(1);
+    }
+
+    @Test
+    void selectAvg_partitioned() {
+        Range range = Range.between(1000, 2000);
+
+        when(alarmDao.selectAvgForApplications(eq(List.of("app1", "app2")), any(), any(), any()))
+                .thenReturn(Map.of("app1", List.of(new AgentUsage("agent1", 1D))));
+        when(alarmDao.selectAvgForApplications(eq(List.of("app3")), any(), any(), any()))
+                .thenReturn(Map.of("app3", List.of(new AgentUsage("agent3", 3D))));
+
+        PrefetchAlarmDao dao = new PrefetchAlarmDao(alarmDao, List.of("app1", "app2", "app3"), 2);
+
+        assertThat(dao.selectAvg("app3", "fileDescriptor", "openFileDescriptorCount", range))
+                .extracting(AgentUsage::getValue).containsExactly(3D);
+        assertThat(dao.selectAvg("app1", "fileDescriptor", "openFileDescriptorCount", range))
+                .extracting(AgentUsage::getValue).containsExactly(1D);
+        assertThat(dao.getQueryCount()).isEqualTo(2);
+    }
+
+    @Test
+    void differentRange_pendingApplications() {
+        Range range1 = Range.between(1000, 2000);
+        Range range2 = Range.between(2000, 3000);
+        when(alarmDao.selectSumGroupByFieldForApplications(any(), any(), any(), any())).thenReturn(Map.of());
+
+        PrefetchAlarmDao dao = new PrefetchAlarmDao(alarmDao, List.of("app1", "app2", "app3"), 10);
+        dao.selectSumGroupByField("app1", METRIC_NAME, FIELD_LIST, range1);
+        dao.selectSumGroupByField("app2", METRIC_NAME, FIELD_LIST, range2);
+
+        verify(alarmDao).selectSumGroupByFieldForApplications(List.of("app1", "app2", "app3"), METRIC_NAME, FIELD_LIST, range1);
+        // app1 is already served by the older range
+        verify(alarmDao).selectSumGroupByFieldForApplications(List.of("app2", "app3"), METRIC_NAME, FIELD_LIST, range2);
+    }
+
+    @Test
+    void differentRange_servedApplication_delegate() {
+        Range range1 = Range.between(1000, 2000);
+        Range range2 = Range.between(2000, 3000);
+        when(alarmDao.selectSumGroupByFieldForApplications(any(), any(), any(), any())).thenReturn(Map.of());
+        when(alarmDao.selectSumGroupByField("app1", METRIC_NAME, FIELD_LIST, range2))
+                .thenReturn(List.of(new AgentFieldUsage("agent1", "heapMax", 100D)));
+
+        PrefetchAlarmDao dao = new PrefetchAlarmDao(alarmDao, List.of("app1"), 10);
+        dao.selectSumGroupByField("app1", METRIC_NAME, FIELD_LIST, range1);
+        assertThat(dao.selectSumGroupByField("app1", METRIC_NAME, FIELD_LIST, range2))
+                .extracting(AgentFieldUsage::getAgentId).containsExactly("agent1");
+
+        verify(alarmDao, times(1)).selectSumGroupByFieldForApplications(any(), any(), any(), any());
+    }
+
+    @Test
+    void unknownApplication_delegate() {
+        Range range = Range.between(1000, 2000);
+        when(alarmDao.selectSumCount("other", "cpuLoad", "jvm", range)).thenReturn(List.of());
+
+        PrefetchAlarmDao dao = new PrefetchAlarmDao(alarmDao, List.of("app1"), 10);
+        assertThat(dao.selectSumCount("other", "cpuLoad", "jvm", range)).isEmpty();
+
+        verify(alarmDao, never()).selectSumCountForApplications(any(), any(), any(), any());
+    }
+}
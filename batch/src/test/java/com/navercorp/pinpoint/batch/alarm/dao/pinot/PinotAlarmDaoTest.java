@@ -0,0 +1,116 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.batch.alarm.dao.pinot;
+
+import com.navercorp.pinpoint.batch.alarm.dao.model.BatchQueryParameter;
+import com.navercorp.pinpoint.batch.alarm.vo.AgentFieldUsage;
+import com.navercorp.pinpoint.batch.alarm.vo.AgentUsage;
+import com.navercorp.pinpoint.batch.alarm.vo.ApplicationAgentUsage;
+import com.navercorp.pinpoint.batch.common.BatchProperties;
+import com.navercorp.pinpoint.common.timeseries.time.Range;
+import com.navercorp.pinpoint.pinot.mybatis.PinotAsyncTemplate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mybatis.spring.SqlSessionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith({MockitoExtension.class})
+class PinotAlarmDaoTest {
+
+    private static final String NAMESPACE = PinotAlarmDao.class.getName() + ".";
+    private static final int APPLICATION_COUNT = 20;
+    private static final int AGENTS_PER_APPLICATION = 3;
+
+    @Mock
+    PinotAsyncTemplate asyncTemplate;
+
+    @Mock
+    SqlSessionTemplate syncTemplate;
+
+    @Mock
+    BatchProperties batchProperties;
+
+    PinotAlarmDao dao;
+
+    @BeforeEach
+    void setUp() {
+        when(batchProperties.getAgentInspectorStatTablePrefix()).thenReturn("inspectorStatAgent");
+        when(batchProperties.getAgentInspectorStatTablePaddingLength()).thenReturn(2);
+        when(batchProperties.getAgentInspectorStatTableCount()).thenReturn(1);
+        when(batchProperties.getAlarmPrefetchAgentsPerApplication()).thenReturn(AGENTS_PER_APPLICATION);
+        dao = new PinotAlarmDao(asyncTemplate, syncTemplate, batchProperties);
+    }
+
+    @Test
+    void selectSumGroupByFieldForApplications_moreThanDefaultGroupLimit() {
+        List<String> applicationNames = applicationNames();
+        List<String> fieldList = List.of("heapMax", "heapUsed");
+        List<ApplicationAgentUsage> rows = new ArrayList<>();
+        for (String applicationName : applicationNames) {
+            for (int i = 0; i < AGENTS_PER_APPLICATION; i++) {
+                for (String fieldName : fieldList) {
+                    rows.add(new ApplicationAgentUsage(applicationName, applicationName + "-agent" + i, fieldName, 1D, 1D));
+                }
+            }
+        }
+        when(syncTemplate.<ApplicationAgentUsage>selectList(eq(NAMESPACE + "selectSumGroupByFieldForApplications"), any())).thenReturn(rows);
+
+        Map<String, List<AgentFieldUsage>> result = dao.selectSumGroupByFieldForApplications(applicationNames, "jvmGc", fieldList, Range.between(1000, 2000));
+
+        ArgumentCaptor<BatchQueryParameter> captor = ArgumentCaptor.forClass(BatchQueryParameter.class);
+        verify(syncTemplate).selectList(eq(NAMESPACE + "selectSumGroupByFieldForApplications"), captor.capture());
+        assertThat(captor.getValue().getLimit()).isEqualTo(APPLICATION_COUNT * AGENTS_PER_APPLICATION * fieldList.size());
+        assertThat(captor.getValue().getLimit()).isGreaterThanOrEqualTo(rows.size());
+
+        assertThat(result).hasSize(APPLICATION_COUNT);
+        assertThat(result.get("app0")).hasSize(AGENTS_PER_APPLICATION * fieldList.size());
+    }
+
+    @Test
+    void selectAvgForApplications_limit() {
+        List<String> applicationNames = applicationNames();
+        when(syncTemplate.<ApplicationAgentUsage>selectList(eq(NAMESPACE + "selectAvgForApplications"), any())).thenReturn(List.of());
+
+        Map<String, List<AgentUsage>> result = dao.selectAvgForApplications(applicationNames, "fileDescriptor", "openFileDescriptorCount", Range.between(1000, 2000));
+
+        ArgumentCaptor<BatchQueryParameter> captor = ArgumentCaptor.forClass(BatchQueryParameter.class);
+        verify(syncTemplate).selectList(eq(NAMESPACE + "selectAvgForApplications"), captor.capture());
+        assertThat(captor.getValue().getLimit()).isEqualTo(APPLICATION_COUNT * AGENTS_PER_APPLICATION);
+        assertThat(result).isEmpty();
+    }
+
+    private static List<String> applicationNames() {
+        List<String> applicationNames = new ArrayList<>();
+        for (int i = 0; i < APPLICATION_COUNT; i++) {
+            applicationNames.add("app" + i);
+        }
+        return applicationNames;
+    }
+}
@@ -34,16 +34,20 @@ public class BulkConfiguration {
 
     private final int selfLimitSize;
 
+    private final int scatterRollupLimitSize;
+
     private final boolean enableBulk;
 
 
     public BulkConfiguration(@Value("${collector.cachedStatDao.caller.limit:-1}") int callerLimitSize,
                              @Value("${collector.cachedStatDao.callee.limit:-1}") int calleeLimitSize,
                              @Value("${collector.cachedStatDao.self.limit:-1}") int selfLimitSize,
+                             @Value("${collector.cachedStatDao.scatter-rollup.limit:-1}") int scatterRollupLimitSize,
                              @Value("${collector.cachedStatDao.bulk.enable:true}") boolean enableBulk) {
         this.callerLimitSize = callerLimitSize;
         this.calleeLimitSize = calleeLimitSize;
         this.selfLimitSize = selfLimitSize;
+        this.scatterRollupLimitSize = scatterRollupLimitSize;
         this.enableBulk = enableBulk;
     }
 
@@ -59,6 +63,10 @@ public class BulkConfiguration {
         return selfLimitSize;
     }
 
+    public int getScatterRollupLimitSize() {
+        return scatterRollupLimitSize;
+    }
+
     public boolean enableBulk() {
         return enableBulk;
     }
@@ -74,6 +82,7 @@ public class BulkConfiguration {
                 "callerLimitSize=" + callerLimitSize +
                 ", calleeLimitSize=" + calleeLimitSize +
                 ", selfLimitSize=" + selfLimitSize +
+                ", scatterRollupLimitSize=" + scatterRollupLimitSize +
                 ", enableBulk=" + enableBulk +
                 '}';
     }
@@ -11,6 +11,7 @@ import com.navercorp.pinpoint.collector.applicationmap.statistics.DefaultBulkUpd
 import com.navercorp.pinpoint.collector.applicationmap.statistics.DefaultBulkWriter;
 import com.navercorp.pinpoint.collector.applicationmap.statistics.RowKeyMerge;
 import com.navercorp.pinpoint.collector.applicationmap.statistics.SyncWriter;
+import com.navercorp.pinpoint.collector.dao.hbase.HbaseScatterRollupDao;
 import com.navercorp.pinpoint.collector.monitor.dao.hbase.BulkOperationReporter;
 import com.navercorp.pinpoint.common.hbase.HbaseColumnFamily;
 import com.navercorp.pinpoint.common.hbase.HbaseOperations;
@@ -19,6 +20,7 @@ import com.navercorp.pinpoint.common.hbase.TableNameProvider;
 import com.navercorp.pinpoint.common.hbase.async.HbaseAsyncTemplate;
 import com.sematext.hbase.wd.RowKeyDistributorByHashPrefix;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -155,6 +157,35 @@ public class BulkFactory {
         return newBulkWriter(loggerName, hbaseTemplate, asyncTemplate, HbaseTables.MAP_STATISTICS_SELF_VER2_COUNTER, tableNameProvider, rowKeyDistributorByHashPrefix, bulkIncrementer, bulkUpdater);
     }
 
+    @Bean
+    @ConditionalOnProperty(name = "collector.scatter.rollup.enable", havingValue = "true")
+    public BulkIncrementer scatterRollupBulkIncrementer() {
+        String reporterName = "scatterRollupBulkIncrementerReporter";
+        HbaseColumnFamily hbaseColumnFamily = HbaseTables.APPLICATION_SCATTER_ROLLUP_COUNTER;
+        int limitSize = bulkConfiguration.getScatterRollupLimitSize();
+
+        return newBulkIncrementer(reporterName, hbaseColumnFamily, limitSize);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "collector.scatter.rollup.enable", havingValue = "true")
+    public BulkUpdater scatterRollupBulkUpdater() {
+        String reporterName = "scatterRollupBulkUpdaterReporter";
+        return getBulkUpdater(reporterName);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "collector.scatter.rollup.enable", havingValue = "true")
+    public BulkWriter scatterRollupBulkWriter(HbaseOperations hbaseTemplate,
+                                              HbaseAsyncTemplate asyncTemplate,
+                                              TableNameProvider tableNameProvider,
+                                              @Qualifier("applicationTraceIndexDistributor") RowKeyDistributorByHashPrefix rowKeyDistributorByHashPrefix,
+                                              @Qualifier("scatterRollupBulkIncrementer") BulkIncrementer bulkIncrementer,
+                                              @Qualifier("scatterRollupBulkUpdater") BulkUpdater bulkUpdater) {
+        String loggerName = newBulkWriterName(HbaseScatterRollupDao.class.getName());
+        return newBulkWriter(loggerName, hbaseTemplate, asyncTemplate, HbaseTables.APPLICATION_SCATTER_ROLLUP_COUNTER, tableNameProvider, rowKeyDistributorByHashPrefix, bulkIncrementer, bulkUpdater);
+    }
+
     private String newBulkWriterName(String className) {
         return className + "-writer";
     }
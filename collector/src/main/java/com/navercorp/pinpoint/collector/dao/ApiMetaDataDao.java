@@ -18,9 +18,11 @@ package com.navercorp.pinpoint.collector.dao;
 
 import com.navercorp.pinpoint.common.server.bo.ApiMetaDataBo;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * @author emeroad
  */
 public interface ApiMetaDataDao {
-    void insert(ApiMetaDataBo apiMetaData);
+    CompletableFuture<Void> insert(ApiMetaDataBo apiMetaData);
 }
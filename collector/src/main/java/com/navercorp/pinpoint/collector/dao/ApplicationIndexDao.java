@@ -23,4 +23,9 @@ import com.navercorp.pinpoint.common.server.bo.AgentInfoBo;
  */
 public interface ApplicationIndexDao {
     void insert(final AgentInfoBo agentInfo);
+
+    /**
+     * rewrite the agent column, so the cell timestamp tells when the agent was last seen
+     */
+    void updateLiveness(String applicationName, String agentId, int serviceTypeCode);
 }
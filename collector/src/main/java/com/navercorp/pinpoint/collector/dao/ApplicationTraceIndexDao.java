@@ -18,9 +18,26 @@ package com.navercorp.pinpoint.collector.dao;
 
 import com.navercorp.pinpoint.common.server.bo.SpanBo;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * @author emeroad
  */
 public interface ApplicationTraceIndexDao {
     void insert(SpanBo span);
+
+    /**
+     * Inserts spans handed off together.
+     * @return one future per written row
+     */
+    default List<CompletableFuture<Void>> insert(List<SpanBo> spans) {
+        final List<CompletableFuture<Void>> futures = new ArrayList<>(spans.size());
+        for (SpanBo span : spans) {
+            insert(span);
+            futures.add(CompletableFuture.completedFuture(null));
+        }
+        return futures;
+    }
 }
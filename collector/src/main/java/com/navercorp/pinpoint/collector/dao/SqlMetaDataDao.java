@@ -18,9 +18,11 @@ package com.navercorp.pinpoint.collector.dao;
 
 import com.navercorp.pinpoint.common.server.bo.SqlMetaDataBo;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * @author emeroad
  */
 public interface SqlMetaDataDao {
-    void insert(SqlMetaDataBo sqlMetaData);
+    CompletableFuture<Void> insert(SqlMetaDataBo sqlMetaData);
 }
@@ -18,9 +18,11 @@ package com.navercorp.pinpoint.collector.dao;
 
 import com.navercorp.pinpoint.common.server.bo.StringMetaDataBo;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * @author emeroad
  */
 public interface StringMetaDataDao {
-    void insert(StringMetaDataBo stringMetaData);
+    CompletableFuture<Void> insert(StringMetaDataBo stringMetaData);
 }
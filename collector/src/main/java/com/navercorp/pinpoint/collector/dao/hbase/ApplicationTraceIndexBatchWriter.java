@@ -0,0 +1,207 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.dao.hbase;
+
+import com.navercorp.pinpoint.collector.dao.ApplicationTraceIndexDao;
+import com.navercorp.pinpoint.common.profiler.concurrent.PinpointThreadFactory;
+import com.navercorp.pinpoint.common.server.bo.SpanBo;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects spans and writes their application trace index in batches.
+ * <p>
+ * The batch size follows the observed write latency: it doubles while HBase answers slower
+ * than {@code targetLatency}, so that fewer and larger requests are sent, and shrinks back
+ * step by step once HBase is fast again.
+ * The flush, span, put and overflow counters are exported through micrometer.
+ */
+@Component
+@ConditionalOnProperty(name = "collector.span.index.batch.enable", havingValue = "true")
+public class ApplicationTraceIndexBatchWriter implements MeterBinder {
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    private final ApplicationTraceIndexDao applicationTraceIndexDao;
+
+    private final BlockingQueue<SpanBo> queue;
+    private final int minBatchSize;
+    private final int maxBatchSize;
+    private final long flushIntervalMillis;
+    private final long targetLatencyNanos;
+
+    private volatile int batchSize;
+
+    private final LongAdder flushCount = new LongAdder();
+    private final LongAdder spanCount = new LongAdder();
+    private final LongAdder putCount = new LongAdder();
+    private final LongAdder overflowCount = new LongAdder();
+
+    private final Thread flusher;
+    private volatile boolean running = true;
+
+    public ApplicationTraceIndexBatchWriter(ApplicationTraceIndexDao applicationTraceIndexDao,
+                                            @Value("${collector.span.index.batch.queueSize:10000}") int queueSize,
+                                            @Value("${collector.span.index.batch.minSize:32}") int minBatchSize,
+                                            @Value("${collector.span.index.batch.maxSize:1024}") int maxBatchSize,
+                                            @Value("${collector.span.index.batch.flushInterval:50}") long flushIntervalMillis,
+                                            @Value("${collector.span.index.batch.targetLatency:100}") long targetLatencyMillis) {
+        this.applicationTraceIndexDao = Objects.requireNonNull(applicationTraceIndexDao, "applicationTraceIndexDao");
+        if (minBatchSize <= 0 || maxBatchSize < minBatchSize) {
+            throw new IllegalArgumentException("invalid batch size. minSize:" + minBatchSize + " maxSize:" + maxBatchSize);
+        }
+        this.queue = new ArrayBlockingQueue<>(queueSize);
+        this.minBatchSize = minBatchSize;
+        this.maxBatchSize = maxBatchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.targetLatencyNanos = TimeUnit.MILLISECONDS.toNanos(targetLatencyMillis);
+        this.batchSize = minBatchSize;
+
+        this.flusher = PinpointThreadFactory.createThreadFactory("ApplicationTraceIndexBatchWriter", true).newThread(this::dispatch);
+        this.flusher.start();
+        logger.info("ApplicationTraceIndexBatchWriter queueSize:{} batchSize:{}~{} flushInterval:{}ms targetLatency:{}ms",
+                queueSize, minBatchSize, maxBatchSize, flushIntervalMillis, targetLatencyMillis);
+    }
+
+    public void insert(SpanBo span) {
+        Objects.requireNonNull(span, "span");
+        if (running && queue.offer(span)) {
+            return;
+        }
+        // do not drop the index, write it directly
+        overflowCount.increment();
+        applicationTraceIndexDao.insert(span);
+    }
+
+    private void dispatch() {
+        while (running) {
+            try {
+                final SpanBo first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                final int size = this.batchSize;
+                final List<SpanBo> batch = new ArrayList<>(size);
+                batch.add(first);
+                queue.drainTo(batch, size - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Throwable th) {
+                logger.warn("ApplicationTraceIndex flush error", th);
+            }
+        }
+        logger.info("ApplicationTraceIndexBatchWriter terminated");
+    }
+
+    private void flush(List<SpanBo> batch) {
+        final long startTime = System.nanoTime();
+        final List<CompletableFuture<Void>> futures = applicationTraceIndexDao.insert(batch);
+
+        flushCount.increment();
+        spanCount.add(batch.size());
+        putCount.add(futures.size());
+        if (logger.isDebugEnabled()) {
+            logger.debug("flush spans:{} puts:{} batchSize:{}", batch.size(), futures.size(), batchSize);
+        }
+
+        if (futures.isEmpty()) {
+            // the write latency is not observable, keep the current batch size
+            return;
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .whenComplete((unused, throwable) -> adjustBatchSize(System.nanoTime() - startTime));
+    }
+
+    void adjustBatchSize(long latencyNanos) {
+        final int current = this.batchSize;
+        if (latencyNanos > targetLatencyNanos) {
+            this.batchSize = Math.min(maxBatchSize, current * 2);
+        } else {
+            this.batchSize = Math.max(minBatchSize, current - minBatchSize);
+        }
+    }
+
+    int getBatchSize() {
+        return batchSize;
+    }
+
+    public long getFlushCount() {
+        return flushCount.sum();
+    }
+
+    public long getSpanCount() {
+        return spanCount.sum();
+    }
+
+    public long getPutCount() {
+        return putCount.sum();
+    }
+
+    public long getOverflowCount() {
+        return overflowCount.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("collector.span.index.batch.flush", this, ApplicationTraceIndexBatchWriter::getFlushCount)
+                .register(registry);
+        FunctionCounter.builder("collector.span.index.batch.spans", this, ApplicationTraceIndexBatchWriter::getSpanCount)
+                .register(registry);
+        FunctionCounter.builder("collector.span.index.batch.puts", this, ApplicationTraceIndexBatchWriter::getPutCount)
+                .register(registry);
+        FunctionCounter.builder("collector.span.index.batch.overflow", this, ApplicationTraceIndexBatchWriter::getOverflowCount)
+                .register(registry);
+        Gauge.builder("collector.span.index.batch.size", this, ApplicationTraceIndexBatchWriter::getBatchSize)
+                .register(registry);
+        Gauge.builder("collector.span.index.batch.queue", queue, BlockingQueue::size)
+                .register(registry);
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        this.running = false;
+        this.flusher.join(TimeUnit.SECONDS.toMillis(10));
+
+        // write the remaining spans
+        final List<SpanBo> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            flush(remaining);
+        }
+        logger.info("ApplicationTraceIndexBatchWriter flush:{} spans:{} puts:{} overflow:{}",
+                getFlushCount(), getSpanCount(), getPutCount(), getOverflowCount());
+    }
+}
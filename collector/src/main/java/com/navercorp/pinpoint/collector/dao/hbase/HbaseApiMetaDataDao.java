@@ -19,9 +19,9 @@ package com.navercorp.pinpoint.collector.dao.hbase;
 import com.navercorp.pinpoint.collector.dao.ApiMetaDataDao;
 import com.navercorp.pinpoint.common.buffer.AutomaticBuffer;
 import com.navercorp.pinpoint.common.buffer.Buffer;
-import com.navercorp.pinpoint.common.hbase.HbaseOperations;
 import com.navercorp.pinpoint.common.hbase.HbaseTables;
 import com.navercorp.pinpoint.common.hbase.TableNameProvider;
+import com.navercorp.pinpoint.common.hbase.async.HbasePutWriter;
 import com.navercorp.pinpoint.common.server.bo.ApiMetaDataBo;
 import com.navercorp.pinpoint.common.server.bo.serializer.RowKeyEncoder;
 import com.navercorp.pinpoint.common.server.bo.serializer.metadata.MetaDataRowKey;
@@ -35,6 +35,7 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Repository;
 
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * @author emeroad
@@ -47,7 +48,7 @@ public class HbaseApiMetaDataDao implements ApiMetaDataDao {
 
     private static final HbaseTables.ApiMetadata description = HbaseTables.API_METADATA_API;
 
-    private final HbaseOperations hbaseTemplate;
+    private final HbasePutWriter putWriter;
 
     private final TableNameProvider tableNameProvider;
 
@@ -55,16 +56,16 @@ public class HbaseApiMetaDataDao implements ApiMetaDataDao {
 
     private final RowKeyEncoder<MetaDataRowKey> rowKeyEncoder = new MetadataEncoder();
 
-    public HbaseApiMetaDataDao(HbaseOperations hbaseTemplate,
+    public HbaseApiMetaDataDao(@Qualifier("metadataPutWriter") HbasePutWriter putWriter,
                                TableNameProvider tableNameProvider,
                                @Qualifier("metadataRowKeyDistributor") RowKeyDistributorByHashPrefix rowKeyDistributorByHashPrefix) {
-        this.hbaseTemplate = Objects.requireNonNull(hbaseTemplate, "hbaseTemplate");
+        this.putWriter = Objects.requireNonNull(putWriter, "putWriter");
         this.tableNameProvider = Objects.requireNonNull(tableNameProvider, "tableNameProvider");
         this.rowKeyDistributorByHashPrefix = Objects.requireNonNull(rowKeyDistributorByHashPrefix, "rowKeyDistributorByHashPrefix");
     }
 
     @Override
-    public void insert(ApiMetaDataBo apiMetaData) {
+    public CompletableFuture<Void> insert(ApiMetaDataBo apiMetaData) {
         Objects.requireNonNull(apiMetaData, "apiMetaData");
         if (logger.isDebugEnabled()) {
             logger.debug("insert:{}", apiMetaData);
@@ -83,7 +84,7 @@ public class HbaseApiMetaDataDao implements ApiMetaDataDao {
         put.addColumn(description.getName(), description.QUALIFIER_SIGNATURE, apiMetaDataBytes);
 
         final TableName apiMetaDataTableName = tableNameProvider.getTableName(description.getTable());
-        hbaseTemplate.put(apiMetaDataTableName, put);
+        return putWriter.put(apiMetaDataTableName, put);
     }
 
     private byte[] getDistributedKey(byte[] rowKey) {
@@ -68,4 +68,21 @@ public class HbaseApplicationIndexDao implements ApplicationIndexDao {
 
         logger.debug("Insert ApplicationIndex: {}", agentInfo);
     }
+
+    @Override
+    public void updateLiveness(String applicationName, String agentId, int serviceTypeCode) {
+        Objects.requireNonNull(applicationName, "applicationName");
+        Objects.requireNonNull(agentId, "agentId");
+
+        final Put put = new Put(Bytes.toBytes(applicationName), true);
+        final byte[] qualifier = Bytes.toBytes(agentId);
+        final byte[] value = Bytes.toBytes((short) serviceTypeCode);
+        // server timestamp, same as insert
+        put.addColumn(DESCRIPTOR.getName(), qualifier, value);
+
+        final TableName applicationIndexTableName = tableNameProvider.getTableName(DESCRIPTOR.getTable());
+        hbaseTemplate.put(applicationIndexTableName, put);
+
+        logger.debug("Update ApplicationIndex liveness: {}/{}", applicationName, agentId);
+    }
 }
\ No newline at end of file
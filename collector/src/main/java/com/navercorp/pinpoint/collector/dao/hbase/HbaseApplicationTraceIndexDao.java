@@ -33,7 +33,13 @@ import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Repository;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 
 /**
@@ -50,6 +56,9 @@ public class HbaseApplicationTraceIndexDao implements ApplicationTraceIndexDao {
     private static final HbaseTables.ApplicationTraceIndexTrace INDEX = HbaseTables.APPLICATION_TRACE_INDEX_TRACE;
     private static final HbaseTables.ApplicationTraceIndexTrace META = HbaseTables.APPLICATION_TRACE_INDEX_META;
 
+    private static final int INDEX_VALUE_SIZE = 10 + HbaseTableConstants.AGENT_ID_MAX_LEN;
+    private static final int META_DATA_SIZE = 64;
+
     private final HbasePutWriter putWriter;
     private final TableNameProvider tableNameProvider;
 
@@ -80,29 +89,67 @@ public class HbaseApplicationTraceIndexDao implements ApplicationTraceIndexDao {
 
         final byte[] qualifier = SpanUtils.getVarTransactionId(span);
 
-        final byte[] indexValue = buildIndexValue(span);
-        put.addColumn(INDEX.getName(), qualifier, acceptedTime, indexValue);
+        final Buffer indexBuffer = new AutomaticBuffer(INDEX_VALUE_SIZE);
+        writeIndexValue(indexBuffer, span);
+        put.addColumn(INDEX.getName(), qualifier, acceptedTime, indexBuffer.getBuffer());
 
-        final byte[] metaDataValue = buildMetaData(span);
-        put.addColumn(META.getName(), qualifier, metaDataValue);
+        final Buffer metaDataBuffer = new AutomaticBuffer(META_DATA_SIZE);
+        writeMetaData(metaDataBuffer, span);
+        put.addColumn(META.getName(), qualifier, metaDataBuffer.getBuffer());
 
         final TableName applicationTraceIndexTableName = tableNameProvider.getTableName(INDEX.getTable());
         putWriter.put(applicationTraceIndexTableName, put);
     }
 
-    private byte[] buildIndexValue(SpanBo span) {
-        final Buffer buffer = new AutomaticBuffer(10 + HbaseTableConstants.AGENT_ID_MAX_LEN);
+    /**
+     * Spans sharing a distributed row key are merged into one multi-column Put.
+     */
+    @Override
+    public List<CompletableFuture<Void>> insert(final List<SpanBo> spans) {
+        Objects.requireNonNull(spans, "spans");
+        if (spans.isEmpty()) {
+            return List.of();
+        }
+
+        // one scratch buffer for the whole batch, values are copied out at their exact size.
+        final Buffer buffer = new AutomaticBuffer(META_DATA_SIZE);
+        final Map<ByteBuffer, Put> rows = new LinkedHashMap<>(spans.size());
+        for (SpanBo span : spans) {
+            final byte[] distributedKey = applicationIndexRowKeyEncoder.encodeRowKey(span);
+            final Put put = rows.computeIfAbsent(ByteBuffer.wrap(distributedKey), key -> new Put(distributedKey, true));
+
+            final byte[] qualifier = SpanUtils.getVarTransactionId(span);
+
+            buffer.setOffset(0);
+            writeIndexValue(buffer, span);
+            put.addColumn(INDEX.getName(), qualifier, span.getCollectorAcceptTime(), buffer.copyBuffer());
+
+            buffer.setOffset(0);
+            writeMetaData(buffer, span);
+            put.addColumn(META.getName(), qualifier, buffer.copyBuffer());
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug("insert ApplicationTraceIndex spans:{} rows:{}", spans.size(), rows.size());
+        }
+
+        final TableName applicationTraceIndexTableName = tableNameProvider.getTableName(INDEX.getTable());
+        final List<CompletableFuture<Void>> futures = putWriter.put(applicationTraceIndexTableName, new ArrayList<>(rows.values()));
+        if (futures == null) {
+            return List.of();
+        }
+        return futures;
+    }
+
+    private void writeIndexValue(Buffer buffer, SpanBo span) {
         buffer.putVInt(span.getElapsed());
         buffer.putSVInt(span.getErrCode());
         buffer.putPrefixedString(span.getAgentId());
-        return buffer.getBuffer();
     }
 
     /**
      * DotMetaData.Builder.read();
      */
-    private byte[] buildMetaData(SpanBo span) {
-        Buffer buffer = new AutomaticBuffer(64);
+    private void writeMetaData(Buffer buffer, SpanBo span) {
         buffer.putByte((byte) 0);
         buffer.putLong(span.getSpanId());
         buffer.putLong(span.getStartTime());
@@ -113,8 +160,6 @@ public class HbaseApplicationTraceIndexDao implements ApplicationTraceIndexDao {
         buffer.putPrefixedString(span.getRemoteAddr());
         buffer.putPrefixedString(span.getEndPoint());
         buffer.putPrefixedString(span.getAgentName());
-
-        return buffer.getBuffer();
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,284 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.dao.hbase;
+
+import com.navercorp.pinpoint.collector.applicationmap.statistics.BulkWriter;
+import com.navercorp.pinpoint.collector.applicationmap.statistics.ColumnName;
+import com.navercorp.pinpoint.collector.applicationmap.statistics.RowKey;
+import com.navercorp.pinpoint.collector.dao.ScatterRollupDao;
+import com.navercorp.pinpoint.common.hbase.HbaseColumnFamily;
+import com.navercorp.pinpoint.common.hbase.HbaseTables;
+import com.navercorp.pinpoint.common.hbase.TableNameProvider;
+import com.navercorp.pinpoint.common.hbase.async.AsyncHbaseOperations;
+import com.navercorp.pinpoint.common.hbase.async.HbasePutWriter;
+import com.navercorp.pinpoint.common.server.bo.SpanBo;
+import com.navercorp.pinpoint.common.server.scatter.ScatterRollupUtils;
+import com.navercorp.pinpoint.common.server.util.SpanUtils;
+import com.sematext.hbase.wd.RowKeyDistributorByHashPrefix;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Durability;
+import org.apache.hadoop.hbase.client.Increment;
+import org.apache.hadoop.hbase.client.Put;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Companion rollup of the ApplicationTraceIndex.
+ * Counters are merged through the bulk incrementer, and a small reservoir of transaction ids is kept per cell
+ * so that the web can link a rollup cell back to representative transactions.
+ * <p>
+ * Only the transaction ids that entered the reservoir since the last flush are written.
+ * They go into the ring of {@link ScatterRollupUtils#SAMPLE_SLOT_COUNT} sample slots of the cell,
+ * at the positions reserved by incrementing the sample sequence of the cell,
+ * so the columns of a row stay bounded however many collectors write it.
+ */
+@Repository
+@ConditionalOnProperty(name = "collector.scatter.rollup.enable", havingValue = "true")
+public class HbaseScatterRollupDao implements ScatterRollupDao {
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    private static final HbaseColumnFamily SAMPLE = HbaseTables.APPLICATION_SCATTER_ROLLUP_SAMPLE;
+
+    private final BulkWriter bulkWriter;
+    private final AsyncHbaseOperations asyncTemplate;
+    private final HbasePutWriter putWriter;
+    private final TableNameProvider tableNameProvider;
+    private final RowKeyDistributorByHashPrefix rowKeyDistributor;
+    private final int sampleSize;
+
+    private final ConcurrentMap<Cell, Reservoir> samples = new ConcurrentHashMap<>();
+
+    public HbaseScatterRollupDao(@Qualifier("scatterRollupBulkWriter") BulkWriter bulkWriter,
+                                 @Qualifier("asyncTemplate") AsyncHbaseOperations asyncTemplate,
+                                 HbasePutWriter putWriter,
+                                 TableNameProvider tableNameProvider,
+                                 @Qualifier("applicationTraceIndexDistributor") RowKeyDistributorByHashPrefix rowKeyDistributor,
+                                 @Value("${collector.scatter.rollup.sample-size:4}") int sampleSize) {
+        this.bulkWriter = Objects.requireNonNull(bulkWriter, "bulkWriter");
+        this.asyncTemplate = Objects.requireNonNull(asyncTemplate, "asyncTemplate");
+        this.putWriter = Objects.requireNonNull(putWriter, "putWriter");
+        this.tableNameProvider = Objects.requireNonNull(tableNameProvider, "tableNameProvider");
+        this.rowKeyDistributor = Objects.requireNonNull(rowKeyDistributor, "rowKeyDistributor");
+        if (sampleSize < 0 || sampleSize > ScatterRollupUtils.SAMPLE_SLOT_COUNT) {
+            throw new IllegalArgumentException("sampleSize out of range:" + sampleSize);
+        }
+        this.sampleSize = sampleSize;
+    }
+
+    @Override
+    public void insert(SpanBo span) {
+        Objects.requireNonNull(span, "span");
+
+        final long timeBucket = ScatterRollupUtils.getTimeBucket(span.getCollectorAcceptTime());
+        final int elapsedBucket = ScatterRollupUtils.getElapsedBucket(span.getElapsed());
+        final boolean error = span.getErrCode() != 0;
+
+        final Row row = new Row(span.getApplicationName(), timeBucket);
+        final Counter counter = new Counter(elapsedBucket, error);
+        this.bulkWriter.increment(row, counter);
+
+        if (sampleSize > 0) {
+            final Reservoir reservoir = samples.computeIfAbsent(new Cell(row, counter), k -> new Reservoir(sampleSize));
+            reservoir.offer(SpanUtils.getVarTransactionId(span));
+        }
+    }
+
+    @Override
+    public void flushLink() {
+        this.bulkWriter.flushLink();
+        flushSamples();
+    }
+
+    @Override
+    public void flushAvgMax() {
+        this.bulkWriter.flushAvgMax();
+    }
+
+    private void flushSamples() {
+        if (samples.isEmpty()) {
+            return;
+        }
+        final long currentTimeBucket = ScatterRollupUtils.getTimeBucket(System.currentTimeMillis());
+
+        final List<Increment> increments = new ArrayList<>();
+        final List<Sample> pending = new ArrayList<>();
+        for (Map.Entry<Cell, Reservoir> entry : samples.entrySet()) {
+            final Cell cell = entry.getKey();
+            final Reservoir reservoir = entry.getValue();
+            final byte[][] transactionIds = reservoir.drainChanged();
+            if (transactionIds != null) {
+                final Sample sample = newSample(cell, transactionIds);
+                increments.add(sample.newIncrement());
+                pending.add(sample);
+            } else if (cell.row().timeBucket() < currentTimeBucket) {
+                // written and closed
+                samples.remove(cell, reservoir);
+            }
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug("flush scatter rollup samples changed:{} cells:{}", pending.size(), samples.size());
+        }
+
+        final TableName tableName = tableNameProvider.getTableName(SAMPLE.getTable());
+        final List<CompletableFuture<Result>> futures = asyncTemplate.increment(tableName, increments);
+        for (int i = 0; i < futures.size(); i++) {
+            final Sample sample = pending.get(i);
+            futures.get(i).whenComplete((result, throwable) -> {
+                if (throwable != null) {
+                    logger.warn("scatter rollup sample sequence increment failed. {}", sample, throwable);
+                    return;
+                }
+                putWriter.put(tableName, sample.newPut(result));
+            });
+        }
+    }
+
+    private Sample newSample(Cell cell, byte[][] transactionIds) {
+        final byte[] rowKey = rowKeyDistributor.getDistributedKey(cell.row().getRowKey());
+        return new Sample(rowKey, cell.counter(), transactionIds);
+    }
+
+    private record Row(String applicationName, long timeBucket) implements RowKey {
+        @Override
+        public byte[] getRowKey() {
+            return ScatterRollupUtils.makeRowKey(applicationName, timeBucket);
+        }
+    }
+
+    private record Counter(int elapsedBucket, boolean error) implements ColumnName {
+        @Override
+        public byte[] getColumnName() {
+            return ScatterRollupUtils.makeCounterQualifier(elapsedBucket, error);
+        }
+    }
+
+    private record Cell(Row row, Counter counter) {
+    }
+
+    /**
+     * Transaction ids of a cell waiting for their slots in the sample ring.
+     */
+    private record Sample(byte[] rowKey, Counter counter, byte[][] transactionIds) {
+
+        private byte[] sequenceQualifier() {
+            return ScatterRollupUtils.makeSampleSequenceQualifier(counter.elapsedBucket(), counter.error());
+        }
+
+        Increment newIncrement() {
+            return new Increment(rowKey)
+                    .addColumn(SAMPLE.getName(), sequenceQualifier(), transactionIds.length)
+                    .setDurability(Durability.SKIP_WAL);
+        }
+
+        /**
+         * @param result the incremented sample sequence, the slots before it are reserved for this sample
+         */
+        Put newPut(Result result) {
+            final long sequence = Bytes.toLong(result.getValue(SAMPLE.getName(), sequenceQualifier()));
+            final long first = sequence - transactionIds.length;
+
+            final Put put = new Put(rowKey, true);
+            for (int i = 0; i < transactionIds.length; i++) {
+                final int slot = ScatterRollupUtils.getSampleSlot(first + i);
+                final byte[] qualifier = ScatterRollupUtils.makeSampleQualifier(counter.elapsedBucket(), counter.error(), slot);
+                put.addColumn(SAMPLE.getName(), qualifier, transactionIds[i]);
+            }
+            return put;
+        }
+
+        @Override
+        public String toString() {
+            return "Sample{" +
+                    "counter=" + counter +
+                    ", size=" + transactionIds.length +
+                    '}';
+        }
+    }
+
+    /**
+     * Reservoir sampling(Algorithm R) over the transactions of a single cell within its time bucket.
+     */
+    private static class Reservoir {
+        private final byte[][] slots;
+        private final boolean[] changed;
+        private long seen;
+        private int changedCount;
+
+        private Reservoir(int size) {
+            this.slots = new byte[size][];
+            this.changed = new boolean[size];
+        }
+
+        synchronized void offer(byte[] transactionId) {
+            final long index = seen++;
+            if (index < slots.length) {
+                set((int) index, transactionId);
+                return;
+            }
+            final long replace = ThreadLocalRandom.current().nextLong(seen);
+            if (replace < slots.length) {
+                set((int) replace, transactionId);
+            }
+        }
+
+        private void set(int slot, byte[] transactionId) {
+            slots[slot] = transactionId;
+            if (!changed[slot]) {
+                changed[slot] = true;
+                changedCount++;
+            }
+        }
+
+        /**
+         * @return the transaction ids that entered the sample since the last call, otherwise null
+         */
+        synchronized byte[][] drainChanged() {
+            if (changedCount == 0) {
+                return null;
+            }
+            final byte[][] result = new byte[changedCount][];
+            int index = 0;
+            for (int slot = 0; slot < slots.length; slot++) {
+                if (changed[slot]) {
+                    changed[slot] = false;
+                    result[index++] = slots[slot];
+                }
+            }
+            changedCount = 0;
+            return result;
+        }
+    }
+}
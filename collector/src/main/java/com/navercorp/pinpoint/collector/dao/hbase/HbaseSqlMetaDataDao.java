@@ -17,9 +17,9 @@
 package com.navercorp.pinpoint.collector.dao.hbase;
 
 import com.navercorp.pinpoint.collector.dao.SqlMetaDataDao;
-import com.navercorp.pinpoint.common.hbase.HbaseOperations;
 import com.navercorp.pinpoint.common.hbase.HbaseTables;
 import com.navercorp.pinpoint.common.hbase.TableNameProvider;
+import com.navercorp.pinpoint.common.hbase.async.HbasePutWriter;
 import com.navercorp.pinpoint.common.server.bo.SqlMetaDataBo;
 import com.navercorp.pinpoint.common.server.bo.serializer.RowKeyEncoder;
 import com.navercorp.pinpoint.common.server.bo.serializer.metadata.MetaDataRowKey;
@@ -34,6 +34,7 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Repository;
 
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * @author minwoo.jung
@@ -45,7 +46,7 @@ public class HbaseSqlMetaDataDao implements SqlMetaDataDao {
 
     private static final HbaseTables.SqlMetadataV2 descriptor = HbaseTables.SQL_METADATA_VER2_SQL;
 
-    private final HbaseOperations hbaseTemplate;
+    private final HbasePutWriter putWriter;
     private final TableNameProvider tableNameProvider;
 
     private final RowKeyDistributorByHashPrefix rowKeyDistributorByHashPrefix;
@@ -53,16 +54,16 @@ public class HbaseSqlMetaDataDao implements SqlMetaDataDao {
     private final RowKeyEncoder<MetaDataRowKey> rowKeyEncoder = new MetadataEncoder();
 
 
-    public HbaseSqlMetaDataDao(HbaseOperations hbaseTemplate,
+    public HbaseSqlMetaDataDao(@Qualifier("metadataPutWriter") HbasePutWriter putWriter,
                                TableNameProvider tableNameProvider,
                                @Qualifier("metadataRowKeyDistributor2") RowKeyDistributorByHashPrefix rowKeyDistributorByHashPrefix) {
-        this.hbaseTemplate = Objects.requireNonNull(hbaseTemplate, "hbaseTemplate");
+        this.putWriter = Objects.requireNonNull(putWriter, "putWriter");
         this.rowKeyDistributorByHashPrefix = Objects.requireNonNull(rowKeyDistributorByHashPrefix, "rowKeyDistributorByHashPrefix");
         this.tableNameProvider = Objects.requireNonNull(tableNameProvider, "tableNameProvider");
     }
 
     @Override
-    public void insert(SqlMetaDataBo sqlMetaData) {
+    public CompletableFuture<Void> insert(SqlMetaDataBo sqlMetaData) {
         Objects.requireNonNull(sqlMetaData, "sqlMetaData");
         if (logger.isDebugEnabled()) {
             logger.debug("insert:{}", sqlMetaData);
@@ -75,7 +76,7 @@ public class HbaseSqlMetaDataDao implements SqlMetaDataDao {
         put.addColumn(descriptor.getName(), descriptor.QUALIFIER_SQLSTATEMENT, sqlBytes);
 
         final TableName sqlMetaDataTableName = tableNameProvider.getTableName(descriptor.getTable());
-        hbaseTemplate.put(sqlMetaDataTableName, put);
+        return putWriter.put(sqlMetaDataTableName, put);
     }
 
 
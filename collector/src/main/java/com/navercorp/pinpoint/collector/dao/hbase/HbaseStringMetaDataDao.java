@@ -17,9 +17,9 @@
 package com.navercorp.pinpoint.collector.dao.hbase;
 
 import com.navercorp.pinpoint.collector.dao.StringMetaDataDao;
-import com.navercorp.pinpoint.common.hbase.HbaseOperations;
 import com.navercorp.pinpoint.common.hbase.HbaseTables;
 import com.navercorp.pinpoint.common.hbase.TableNameProvider;
+import com.navercorp.pinpoint.common.hbase.async.HbasePutWriter;
 import com.navercorp.pinpoint.common.server.bo.StringMetaDataBo;
 import com.navercorp.pinpoint.common.server.bo.serializer.RowKeyEncoder;
 import com.navercorp.pinpoint.common.server.bo.serializer.metadata.MetaDataRowKey;
@@ -34,6 +34,7 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Repository;
 
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * @author emeroad
@@ -46,7 +47,7 @@ public class HbaseStringMetaDataDao implements StringMetaDataDao {
 
     private static final HbaseTables.StringMetadataStr DESCRIPTOR = HbaseTables.STRING_METADATA_STR;
 
-    private final HbaseOperations hbaseTemplate;
+    private final HbasePutWriter putWriter;
     private final TableNameProvider tableNameProvider;
 
 
@@ -54,16 +55,16 @@ public class HbaseStringMetaDataDao implements StringMetaDataDao {
 
     private final RowKeyEncoder<MetaDataRowKey> rowKeyEncoder = new MetadataEncoder();
 
-    public HbaseStringMetaDataDao(HbaseOperations hbaseTemplate,
+    public HbaseStringMetaDataDao(@Qualifier("metadataPutWriter") HbasePutWriter putWriter,
                                   TableNameProvider tableNameProvider,
                                   @Qualifier("metadataRowKeyDistributor") RowKeyDistributorByHashPrefix rowKeyDistributorByHashPrefix) {
-        this.hbaseTemplate = Objects.requireNonNull(hbaseTemplate, "hbaseTemplate");
+        this.putWriter = Objects.requireNonNull(putWriter, "putWriter");
         this.tableNameProvider = Objects.requireNonNull(tableNameProvider, "tableNameProvider");
         this.rowKeyDistributorByHashPrefix = Objects.requireNonNull(rowKeyDistributorByHashPrefix, "rowKeyDistributorByHashPrefix");
     }
 
     @Override
-    public void insert(StringMetaDataBo stringMetaData) {
+    public CompletableFuture<Void> insert(StringMetaDataBo stringMetaData) {
         Objects.requireNonNull(stringMetaData, "stringMetaData");
         if (logger.isDebugEnabled()) {
             logger.debug("insert:{}", stringMetaData);
@@ -77,7 +78,7 @@ public class HbaseStringMetaDataDao implements StringMetaDataDao {
         put.addColumn(DESCRIPTOR.getName(), DESCRIPTOR.QUALIFIER_STRING, sqlBytes);
 
         final TableName stringMetaDataTableName = tableNameProvider.getTableName(DESCRIPTOR.getTable());
-        hbaseTemplate.put(stringMetaDataTableName, put);
+        return putWriter.put(stringMetaDataTableName, put);
     }
 
     private byte[] getDistributedKey(byte[] rowKey) {
@@ -35,6 +35,7 @@ import org.apache.logging.log4j.Logger;
 import org.springframework.stereotype.Service;
 
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * @author emeroad
@@ -61,15 +62,16 @@ public class GrpcApiMetaDataHandler implements RequestResponseHandler<GeneratedM
         final GeneratedMessageV3 data = serverRequest.getData();
         final ServerHeader header = serverRequest.getHeader();
         if (data instanceof PApiMetaData apiMetaData) {
-            GeneratedMessageV3 result = handleApiMetaData(header, apiMetaData);
-            serverResponse.write(result);
+            // respond once the put is acknowledged, without holding the request thread
+            handleApiMetaData(header, apiMetaData)
+                    .whenComplete((result, throwable) -> MetaDataResultWriter.write(serverResponse, result, throwable, "apiMetaData"));
         } else {
             logger.warn("Invalid request type. serverRequest={}", serverRequest);
             throw Status.INTERNAL.withDescription("Bad Request(invalid request type)").asRuntimeException();
         }
     }
 
-    PResult handleApiMetaData(ServerHeader header, final PApiMetaData apiMetaData) {
+    CompletableFuture<PResult> handleApiMetaData(ServerHeader header, final PApiMetaData apiMetaData) {
         if (isDebug) {
             logger.debug("Handle PApiMetaData={}", MessageFormatUtils.debugLog(apiMetaData));
         }
@@ -86,12 +88,19 @@ public class GrpcApiMetaDataHandler implements RequestResponseHandler<GeneratedM
                     .setLocation(apiMetaData.getLocation())
                     .build();
 
-            this.apiMetaDataService.insert(apiMetaDataBo);
-            return PResult.newBuilder().setSuccess(true).build();
+            return this.apiMetaDataService.insert(apiMetaDataBo)
+                    .handle((unused, throwable) -> newResult(apiMetaData, throwable));
         } catch (Exception e) {
-            logger.warn("Failed to handle apiMetaData={}", MessageFormatUtils.debugLog(apiMetaData), e);
-            // Avoid detailed error messages.
-            return PResult.newBuilder().setSuccess(false).setMessage("Internal Server Error").build();
+            return CompletableFuture.completedFuture(newResult(apiMetaData, e));
+        }
+    }
+
+    private PResult newResult(PApiMetaData apiMetaData, Throwable throwable) {
+        if (throwable == null) {
+            return PResult.newBuilder().setSuccess(true).build();
         }
+        logger.warn("Failed to handle apiMetaData={}", MessageFormatUtils.debugLog(apiMetaData), throwable);
+        // Avoid detailed error messages.
+        return PResult.newBuilder().setSuccess(false).setMessage("Internal Server Error").build();
     }
-}
\ No newline at end of file
+}
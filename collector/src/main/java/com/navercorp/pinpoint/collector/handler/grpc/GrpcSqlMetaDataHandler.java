@@ -34,6 +34,7 @@ import org.springframework.stereotype.Service;
 
 import java.util.Arrays;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * @author emeroad
@@ -59,33 +60,43 @@ public class GrpcSqlMetaDataHandler implements RequestResponseHandler<GeneratedM
     public void handleRequest(ServerRequest<GeneratedMessageV3> serverRequest, ServerResponse<GeneratedMessageV3> serverResponse) {
         final GeneratedMessageV3 data = serverRequest.getData();
         if (data instanceof PSqlMetaData sqlMetaData) {
-            PResult result = handleSqlMetaData(serverRequest.getHeader(), sqlMetaData);
-            serverResponse.write(result);
+            handleSqlMetaData(serverRequest.getHeader(), sqlMetaData)
+                    .whenComplete((result, throwable) -> MetaDataResultWriter.write(serverResponse, result, throwable, "sqlMetaData"));
         } else {
             logger.warn("Invalid request type. serverRequest={}", serverRequest);
             throw Status.INTERNAL.withDescription("Bad Request(invalid request type)").asRuntimeException();
         }
     }
 
-    private PResult handleSqlMetaData(ServerHeader header, PSqlMetaData sqlMetaData) {
+    private CompletableFuture<PResult> handleSqlMetaData(ServerHeader header, PSqlMetaData sqlMetaData) {
         if (isDebug) {
             logger.debug("Handle PSqlMetaData={}", MessageFormatUtils.debugLog(sqlMetaData));
         }
 
         final SqlMetaDataBo sqlMetaDataBo = mapSqlMetaDataBo(header, sqlMetaData);
 
-        boolean result = true;
-        for (SqlMetaDataService sqlMetaDataService : sqlMetaDataServices) {
-            try {
-                sqlMetaDataService.insert(sqlMetaDataBo);
-            } catch (Throwable e) {
-                // Avoid detailed error messages.
-                logger.warn("Failed to handle sqlMetaData={}", MessageFormatUtils.debugLog(sqlMetaData), e);
-                result = false;
-            }
+        final CompletableFuture<?>[] futures = new CompletableFuture[sqlMetaDataServices.length];
+        for (int i = 0; i < sqlMetaDataServices.length; i++) {
+            futures[i] = insert(sqlMetaDataServices[i], sqlMetaDataBo, sqlMetaData);
         }
 
-        return newResult(result);
+        return CompletableFuture.allOf(futures)
+                .handle((unused, throwable) -> newResult(throwable == null));
+    }
+
+    private CompletableFuture<Void> insert(SqlMetaDataService sqlMetaDataService, SqlMetaDataBo sqlMetaDataBo, PSqlMetaData sqlMetaData) {
+        CompletableFuture<Void> future;
+        try {
+            future = sqlMetaDataService.insert(sqlMetaDataBo);
+        } catch (Throwable e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        return future.whenComplete((unused, throwable) -> {
+            if (throwable != null) {
+                // Avoid detailed error messages.
+                logger.warn("Failed to handle sqlMetaData={}", MessageFormatUtils.debugLog(sqlMetaData), throwable);
+            }
+        });
     }
 
     private static SqlMetaDataBo mapSqlMetaDataBo(ServerHeader agentInfo, PSqlMetaData sqlMetaData) {
@@ -106,4 +117,4 @@ public class GrpcSqlMetaDataHandler implements RequestResponseHandler<GeneratedM
         }
         return builder.build();
     }
-}
\ No newline at end of file
+}
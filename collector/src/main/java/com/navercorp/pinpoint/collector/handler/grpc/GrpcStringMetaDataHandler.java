@@ -33,6 +33,7 @@ import org.apache.logging.log4j.Logger;
 import org.springframework.stereotype.Service;
 
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * @author emeroad
@@ -58,15 +59,15 @@ public class GrpcStringMetaDataHandler implements RequestResponseHandler<Generat
         final GeneratedMessageV3 data = serverRequest.getData();
         final ServerHeader header = serverRequest.getHeader();
         if (data instanceof PStringMetaData stringMetaData) {
-            PResult result = handleStringMetaData(header, stringMetaData);
-            serverResponse.write(result);
+            handleStringMetaData(header, stringMetaData)
+                    .whenComplete((result, throwable) -> MetaDataResultWriter.write(serverResponse, result, throwable, "stringMetaData"));
         } else {
             logger.warn("Invalid request type. serverRequest={}", serverRequest);
             throw Status.INTERNAL.withDescription("Bad Request(invalid request type)").asRuntimeException();
         }
     }
 
-    private PResult handleStringMetaData(ServerHeader header, final PStringMetaData stringMetaData) {
+    private CompletableFuture<PResult> handleStringMetaData(ServerHeader header, final PStringMetaData stringMetaData) {
         if (logger.isDebugEnabled()) {
             logger.debug("Handle PStringMetaData={}", MessageFormatUtils.debugLog(stringMetaData));
         }
@@ -80,12 +81,19 @@ public class GrpcStringMetaDataHandler implements RequestResponseHandler<Generat
             final StringMetaDataBo stringMetaDataBo = new StringMetaDataBo(agentId, agentStartTime,
                     stringMetaData.getStringId(), stringValue);
 
-            stringMetaDataService.insert(stringMetaDataBo);
-            return PResult.newBuilder().setSuccess(true).build();
+            return stringMetaDataService.insert(stringMetaDataBo)
+                    .handle((unused, throwable) -> newResult(stringMetaData, throwable));
         } catch (Exception e) {
-            logger.warn("Failed to handle stringMetaData={}", MessageFormatUtils.debugLog(stringMetaData), e);
-            // Avoid detailed error messages.
-            return PResult.newBuilder().setSuccess(false).setMessage("Internal Server Error").build();
+            return CompletableFuture.completedFuture(newResult(stringMetaData, e));
+        }
+    }
+
+    private PResult newResult(PStringMetaData stringMetaData, Throwable throwable) {
+        if (throwable == null) {
+            return PResult.newBuilder().setSuccess(true).build();
         }
+        logger.warn("Failed to handle stringMetaData={}", MessageFormatUtils.debugLog(stringMetaData), throwable);
+        // Avoid detailed error messages.
+        return PResult.newBuilder().setSuccess(false).setMessage("Internal Server Error").build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.handler.grpc;
+
+import com.google.protobuf.GeneratedMessageV3;
+import com.navercorp.pinpoint.grpc.trace.PResult;
+import com.navercorp.pinpoint.io.request.ServerResponse;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Writes the result of an asynchronous metadata request.
+ * A failed request is still answered, so the agent does not wait for a response.
+ */
+final class MetaDataResultWriter {
+
+    private static final Logger logger = LogManager.getLogger(MetaDataResultWriter.class);
+
+    private MetaDataResultWriter() {
+    }
+
+    static void write(ServerResponse<GeneratedMessageV3> serverResponse, PResult result, Throwable throwable, String name) {
+        try {
+            if (throwable != null) {
+                logger.warn("Failed to handle {}", name, throwable);
+                // Avoid detailed error messages.
+                result = PResult.newBuilder().setSuccess(false).setMessage("Internal Server Error").build();
+            }
+            serverResponse.write(result);
+        } catch (Exception e) {
+            logger.warn("Failed to write {} result", name, e);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.collector.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.navercorp.pinpoint.collector.dao.ApplicationIndexDao;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Keeps the ApplicationIndex cell timestamp of each agent close to its last ping,
+ * so that "which agents of this application were active" is answered with one Get per application.
+ * <p>
+ * The cell is rewritten at most once per bucket and agent.
+ * The last written bucket is kept for at most {@code collector.agent.liveness.maxAgents} agents,
+ * beyond that an evicted agent is written again on its next ping.
+ */
+@Service
+public class AgentLivenessService {
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    private final ApplicationIndexDao applicationIndexDao;
+    private final boolean enable;
+    private final long bucketMillis;
+
+    private final Cache<AgentKey, Long> lastBuckets;
+
+    public AgentLivenessService(ApplicationIndexDao applicationIndexDao,
+                                @Value("${collector.agent.liveness.enable:true}") boolean enable,
+                                @Value("${collector.agent.liveness.bucket:600000}") long bucketMillis,
+                                @Value("${collector.agent.liveness.maxAgents:100000}") long maxAgents) {
+        this.applicationIndexDao = Objects.requireNonNull(applicationIndexDao, "applicationIndexDao");
+        if (bucketMillis <= 0) {
+            throw new IllegalArgumentException("invalid bucket:" + bucketMillis);
+        }
+        this.enable = enable;
+        this.bucketMillis = bucketMillis;
+        this.lastBuckets = Caffeine.newBuilder()
+                .maximumSize(maxAgents)
+                .expireAfterAccess(Duration.ofMillis(bucketMillis * 2))
+                .build();
+        logger.info("AgentLivenessService enable:{} bucket:{}ms", enable, bucketMillis);
+    }
+
+    public void update(String applicationName, String agentId, int serviceTypeCode, long timestamp) {
+        if (!enable) {
+            return;
+        }
+        final long bucket = timestamp / bucketMillis;
+        final AgentKey agentKey = new AgentKey(applicationName, agentId);
+        final Long prevBucket = lastBuckets.getIfPresent(agentKey);
+        if (prevBucket != null && prevBucket == bucket) {
+            return;
+        }
+        applicationIndexDao.updateLiveness(applicationName, agentId, serviceTypeCode);
+        // mark the bucket only once the cell is written, a failed write is retried on the next ping
+        lastBuckets.put(agentKey, bucket);
+    }
+
+    private record AgentKey(String applicationName, String agentId) {
+    }
+}
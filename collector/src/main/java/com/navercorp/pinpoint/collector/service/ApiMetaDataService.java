@@ -23,6 +23,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @Validated
@@ -34,7 +35,7 @@ public class ApiMetaDataService {
         this.sqlMetaDataDao = Objects.requireNonNull(sqlMetaDataDao, "sqlMetaDataDao");
     }
 
-    public void insert(@Valid final ApiMetaDataBo apiMetaDataBo) {
-        sqlMetaDataDao.insert(apiMetaDataBo);
+    public CompletableFuture<Void> insert(@Valid final ApiMetaDataBo apiMetaDataBo) {
+        return sqlMetaDataDao.insert(apiMetaDataBo);
     }
 }
\ No newline at end of file
@@ -25,6 +25,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @Validated
@@ -40,11 +41,11 @@ public class HbaseSqlMetaDataService implements SqlMetaDataService {
     }
 
     @Override
-    public void insert(@Valid SqlMetaDataBo sqlMetaDataBo) {
+    public CompletableFuture<Void> insert(@Valid SqlMetaDataBo sqlMetaDataBo) {
         if (sqlMetaDataBo.getSql().length() > maxSqlLength) {
             String sql = StringUtils.abbreviate(sqlMetaDataBo.getSql(), maxSqlLength);
             sqlMetaDataBo = new SqlMetaDataBo(sqlMetaDataBo.getAgentId(), sqlMetaDataBo.getAgentStartTime(), sqlMetaDataBo.getId(), sql);
         }
-        this.sqlMetaDataDao.insert(sqlMetaDataBo);
+        return this.sqlMetaDataDao.insert(sqlMetaDataBo);
     }
 }
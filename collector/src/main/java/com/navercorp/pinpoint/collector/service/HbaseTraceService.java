@@ -19,7 +19,9 @@ package com.navercorp.pinpoint.collector.service;
 import com.navercorp.pinpoint.collector.applicationmap.dao.HostApplicationMapDao;
 import com.navercorp.pinpoint.collector.applicationmap.service.LinkService;
 import com.navercorp.pinpoint.collector.dao.ApplicationTraceIndexDao;
+import com.navercorp.pinpoint.collector.dao.ScatterRollupDao;
 import com.navercorp.pinpoint.collector.dao.TraceDao;
+import com.navercorp.pinpoint.collector.dao.hbase.ApplicationTraceIndexBatchWriter;
 import com.navercorp.pinpoint.collector.event.SpanStorePublisher;
 import com.navercorp.pinpoint.common.profiler.logging.ThrottledLogger;
 import com.navercorp.pinpoint.common.server.bo.BasicSpan;
@@ -31,6 +33,7 @@ import com.navercorp.pinpoint.common.server.event.SpanInsertEvent;
 import com.navercorp.pinpoint.common.trace.ServiceType;
 import com.navercorp.pinpoint.common.trace.ServiceTypeCategory;
 import com.navercorp.pinpoint.loader.service.ServiceTypeRegistryService;
+import jakarta.annotation.Nullable;
 import jakarta.validation.Valid;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.logging.log4j.LogManager;
@@ -41,6 +44,7 @@ import org.springframework.validation.annotation.Validated;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 
@@ -57,6 +61,12 @@ public class HbaseTraceService implements TraceService {
 
     private final ApplicationTraceIndexDao applicationTraceIndexDao;
 
+    // @Nullable
+    private final ApplicationTraceIndexBatchWriter applicationTraceIndexBatchWriter;
+
+    // @Nullable
+    private final ScatterRollupDao scatterRollupDao;
+
     private final HostApplicationMapDao hostApplicationMapDao;
 
     private final LinkService linkService;
@@ -68,18 +78,22 @@ public class HbaseTraceService implements TraceService {
 
     public HbaseTraceService(TraceDao traceDao,
                              ApplicationTraceIndexDao applicationTraceIndexDao,
+                             Optional<ScatterRollupDao> scatterRollupDao,
                              HostApplicationMapDao hostApplicationMapDao,
                              LinkService linkService,
                              ServiceTypeRegistryService registry,
                              SpanStorePublisher spanStorePublisher,
-                             @Qualifier("grpcSpanServerExecutor") Executor grpcSpanServerExecutor) {
+                             @Qualifier("grpcSpanServerExecutor") Executor grpcSpanServerExecutor,
+                             @Nullable ApplicationTraceIndexBatchWriter applicationTraceIndexBatchWriter) {
         this.traceDao = Objects.requireNonNull(traceDao, "traceDao");
         this.applicationTraceIndexDao = Objects.requireNonNull(applicationTraceIndexDao, "applicationTraceIndexDao");
+        this.scatterRollupDao = scatterRollupDao.orElse(null);
         this.hostApplicationMapDao = Objects.requireNonNull(hostApplicationMapDao, "hostApplicationMapDao");
         this.linkService = Objects.requireNonNull(linkService, "statisticsService");
         this.registry = Objects.requireNonNull(registry, "registry");
         this.publisher = Objects.requireNonNull(spanStorePublisher, "spanStorePublisher");
         this.grpcSpanServerExecutor = Objects.requireNonNull(grpcSpanServerExecutor, "grpcSpanServerExecutor");
+        this.applicationTraceIndexBatchWriter = applicationTraceIndexBatchWriter;
     }
 
     @Override
@@ -106,7 +120,14 @@ public class HbaseTraceService implements TraceService {
     public void insertSpan(@Valid final SpanBo spanBo) {
         SpanInsertEvent event = publisher.captureContext(spanBo);
         CompletableFuture<Void> future = traceDao.asyncInsert(spanBo);
-        applicationTraceIndexDao.insert(spanBo);
+        if (applicationTraceIndexBatchWriter != null) {
+            applicationTraceIndexBatchWriter.insert(spanBo);
+        } else {
+            applicationTraceIndexDao.insert(spanBo);
+        }
+        if (scatterRollupDao != null) {
+            scatterRollupDao.insert(spanBo);
+        }
         insertAcceptorHost(spanBo);
         insertSpanStat(spanBo);
         insertSpanEventStat(spanBo);
@@ -3,6 +3,8 @@ package com.navercorp.pinpoint.collector.service;
 import com.navercorp.pinpoint.common.server.bo.SqlMetaDataBo;
 import jakarta.validation.Valid;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface SqlMetaDataService {
-    void insert(@Valid SqlMetaDataBo sqlMetaDataBo);
+    CompletableFuture<Void> insert(@Valid SqlMetaDataBo sqlMetaDataBo);
 }
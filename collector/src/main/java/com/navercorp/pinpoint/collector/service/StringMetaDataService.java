@@ -23,6 +23,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @Validated
@@ -33,7 +34,7 @@ public class StringMetaDataService {
         this.stringMetaDataDao = Objects.requireNonNull(stringMetaDataDao, "stringMetaDataDao");
     }
 
-    public void insert(@Valid final StringMetaDataBo stringMetaDataBo) {
-        this.stringMetaDataDao.insert(stringMetaDataBo);
+    public CompletableFuture<Void> insert(@Valid final StringMetaDataBo stringMetaDataBo) {
+        return this.stringMetaDataDao.insert(stringMetaDataBo);
     }
 }
@@ -19,6 +19,7 @@ package com.navercorp.pinpoint.collector.service.async;
 import com.navercorp.pinpoint.collector.applicationmap.service.LinkService;
 import com.navercorp.pinpoint.collector.config.CollectorProperties;
 import com.navercorp.pinpoint.collector.service.AgentLifeCycleService;
+import com.navercorp.pinpoint.collector.service.AgentLivenessService;
 import com.navercorp.pinpoint.common.server.bo.AgentLifeCycleBo;
 import com.navercorp.pinpoint.common.server.util.AgentLifeCycleState;
 import com.navercorp.pinpoint.common.trace.ServiceType;
@@ -41,15 +42,18 @@ public class AgentLifeCycleAsyncTaskService {
     private final Logger logger = LogManager.getLogger(this.getClass());
 
     private final AgentLifeCycleService agentLifeCycleService;
+    private final AgentLivenessService agentLivenessService;
     private final LinkService linkService;
     private final ServiceTypeRegistryService registry;
     private final CollectorProperties collectorProperties;
 
     public AgentLifeCycleAsyncTaskService(AgentLifeCycleService agentLifeCycleService,
+                                          AgentLivenessService agentLivenessService,
                                           LinkService linkService,
                                           ServiceTypeRegistryService registry,
                                           CollectorProperties collectorProperties) {
         this.agentLifeCycleService = agentLifeCycleService;
+        this.agentLivenessService = agentLivenessService;
         this.linkService = linkService;
         this.registry = registry;
         this.collectorProperties = collectorProperties;
@@ -85,6 +89,12 @@ public class AgentLifeCycleAsyncTaskService {
         if (isUpdateAgentState(serviceType)) {
             linkService.updateAgentState(eventTimestamp, applicationName, serviceType, agentId);
         }
+
+        try {
+            agentLivenessService.update(applicationName, agentId, serviceTypeCode, eventTimestamp);
+        } catch (Exception e) {
+            logger.warn("Failed to update agent liveness. {}/{}", applicationName, agentId, e);
+        }
     }
 
     private boolean isUpdateAgentState(ServiceType serviceType) {
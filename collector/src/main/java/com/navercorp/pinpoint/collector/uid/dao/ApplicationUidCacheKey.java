@@ -0,0 +1,16 @@
+package com.navercorp.pinpoint.collector.uid.dao;
+
+import com.navercorp.pinpoint.common.server.uid.ServiceUid;
+
+import java.util.Objects;
+
+/**
+ * Key of the applicationUid cache
+ */
+public record ApplicationUidCacheKey(ServiceUid serviceUid, String applicationName) {
+
+    public ApplicationUidCacheKey {
+        Objects.requireNonNull(serviceUid, "serviceUid");
+        Objects.requireNonNull(applicationName, "applicationName");
+    }
+}
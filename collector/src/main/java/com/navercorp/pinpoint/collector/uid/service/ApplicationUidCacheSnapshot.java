@@ -0,0 +1,226 @@
+package com.navercorp.pinpoint.collector.uid.service;
+
+import com.navercorp.pinpoint.collector.uid.config.ApplicationUidConfig;
+import com.navercorp.pinpoint.collector.uid.dao.ApplicationUidCacheKey;
+import com.navercorp.pinpoint.common.profiler.concurrent.PinpointThreadFactory;
+import com.navercorp.pinpoint.common.server.uid.ApplicationUid;
+import com.navercorp.pinpoint.common.server.uid.ServiceUid;
+import com.navercorp.pinpoint.common.server.uid.cache.CaffeineCacheProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps a local snapshot of the applicationName -> applicationUid mappings of the applicationUid cache.
+ * The snapshot is loaded into the cache at startup, so that a restarted collector does not look up
+ * every application of the reconnecting agents in HBase at once.
+ * Entries loaded from the snapshot still expire by the cache policy and are then read again from HBase.
+ * A snapshot older than the cache expiration is not loaded, and loaded entries are saved again
+ * only after they have been read again from HBase.
+ */
+@Component
+@ConditionalOnProperty(value = "pinpoint.collector.application.uid.enable", havingValue = "true")
+public class ApplicationUidCacheSnapshot {
+
+    private static final char SEPARATOR = '\t';
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    private final Cache cache;
+    private final Path path;
+    private final Duration interval;
+    // nullable : no age limit
+    private final Duration maxAge;
+
+    // entries loaded from the snapshot and not yet read again from HBase
+    private final Map<ApplicationUidCacheKey, ApplicationUid> unconfirmed = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService scheduler;
+
+    public ApplicationUidCacheSnapshot(@Qualifier(ApplicationUidConfig.APPLICATION_UID_CACHE_NAME) CacheManager cacheManager,
+                                       @Value("${collector.application.uid.snapshot.path:}") String path,
+                                       @Value("${collector.application.uid.snapshot.interval:10m}") Duration interval,
+                                       @Qualifier("applicationUidCacheProperties") CaffeineCacheProperties cacheProperties) {
+        this(Objects.requireNonNull(cacheManager, "cacheManager").getCache(ApplicationUidConfig.APPLICATION_UID_CACHE_NAME),
+                StringUtils.hasLength(path) ? Paths.get(path) : null, interval,
+                Objects.requireNonNull(cacheProperties, "cacheProperties").getExpireAfterWrite());
+    }
+
+    ApplicationUidCacheSnapshot(Cache cache, Path path, Duration interval, Duration maxAge) {
+        this.cache = Objects.requireNonNull(cache, "cache");
+        this.path = path;
+        this.interval = Objects.requireNonNull(interval, "interval");
+        this.maxAge = maxAge;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (path == null) {
+            logger.info("ApplicationUid cache snapshot disabled");
+            return;
+        }
+        load();
+        if (!interval.isZero() && !interval.isNegative()) {
+            this.scheduler = Executors.newSingleThreadScheduledExecutor(PinpointThreadFactory.createThreadFactory("ApplicationUidCacheSnapshot", true));
+            this.scheduler.scheduleWithFixedDelay(this::save, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (path == null) {
+            return;
+        }
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+        save();
+    }
+
+    int load() {
+        if (path == null || !Files.exists(path)) {
+            return 0;
+        }
+        final long startTime = System.currentTimeMillis();
+        if (isExpired(startTime)) {
+            return 0;
+        }
+        int count = 0;
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (loadLine(line)) {
+                    count++;
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to load applicationUid snapshot. path:{}", path, e);
+        }
+        logger.info("ApplicationUid snapshot loaded. path:{} count:{} elapsed:{}ms", path, count, System.currentTimeMillis() - startTime);
+        return count;
+    }
+
+    private boolean isExpired(long currentTime) {
+        if (maxAge == null) {
+            return false;
+        }
+        try {
+            final long age = currentTime - Files.getLastModifiedTime(path).toMillis();
+            if (age > maxAge.toMillis()) {
+                logger.info("Skip applicationUid snapshot older than the cache expiration. path:{} age:{}ms maxAge:{}", path, age, maxAge);
+                return true;
+            }
+            return false;
+        } catch (IOException e) {
+            logger.warn("Failed to read applicationUid snapshot time. path:{}", path, e);
+            return true;
+        }
+    }
+
+    private boolean loadLine(String line) {
+        final int first = line.indexOf(SEPARATOR);
+        final int second = line.indexOf(SEPARATOR, first + 1);
+        if (first == -1 || second == -1) {
+            return false;
+        }
+        try {
+            final ServiceUid serviceUid = ServiceUid.of(Integer.parseInt(line.substring(0, first)));
+            final ApplicationUid applicationUid = ApplicationUid.of(Long.parseLong(line.substring(first + 1, second)));
+            final String applicationName = line.substring(second + 1);
+            if (applicationName.isEmpty()) {
+                return false;
+            }
+            final ApplicationUidCacheKey key = new ApplicationUidCacheKey(serviceUid, applicationName);
+            cache.put(key, applicationUid);
+            unconfirmed.put(key, applicationUid);
+            return true;
+        } catch (RuntimeException e) {
+            logger.debug("Skip invalid applicationUid snapshot line:{}", line, e);
+            return false;
+        }
+    }
+
+    int save() {
+        if (path == null) {
+            return 0;
+        }
+        final Object nativeCache = cache.getNativeCache();
+        if (!(nativeCache instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeineCache)) {
+            logger.warn("Unsupported applicationUid cache:{}", nativeCache.getClass());
+            return 0;
+        }
+
+        int count = 0;
+        Path tempFile = null;
+        try {
+            final Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            tempFile = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+                for (Map.Entry<?, ?> entry : caffeineCache.asMap().entrySet()) {
+                    if (entry.getKey() instanceof ApplicationUidCacheKey key && entry.getValue() instanceof ApplicationUid applicationUid
+                            && !ApplicationUid.ERROR_APPLICATION_UID.equals(applicationUid)
+                            && !isUnconfirmed(key, applicationUid)) {
+                        writer.write(String.valueOf(key.serviceUid().getUid()));
+                        writer.write(SEPARATOR);
+                        writer.write(String.valueOf(applicationUid.getUid()));
+                        writer.write(SEPARATOR);
+                        writer.write(key.applicationName());
+                        writer.newLine();
+                        count++;
+                    }
+                }
+            }
+            Files.move(tempFile, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            // a cache miss replaces the loaded instance with the one read from HBase
+            unconfirmed.entrySet().removeIf(entry -> caffeineCache.asMap().get(entry.getKey()) != entry.getValue());
+        } catch (IOException e) {
+            logger.warn("Failed to save applicationUid snapshot. path:{}", path, e);
+            deleteTempFile(tempFile);
+            return 0;
+        }
+        logger.info("ApplicationUid snapshot saved. path:{} count:{}", path, count);
+        return count;
+    }
+
+    private boolean isUnconfirmed(ApplicationUidCacheKey key, ApplicationUid applicationUid) {
+        return unconfirmed.get(key) == applicationUid;
+    }
+
+    private void deleteTempFile(Path tempFile) {
+        if (tempFile == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(tempFile);
+        } catch (IOException e) {
+            logger.warn("Failed to delete applicationUid snapshot temp file. path:{}", tempFile, e);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.navercorp.pinpoint.collector.uid.service;
 
+import com.navercorp.pinpoint.collector.uid.config.ApplicationUidConfig;
 import com.navercorp.pinpoint.collector.uid.dao.ApplicationNameDao;
+import com.navercorp.pinpoint.collector.uid.dao.ApplicationUidCacheKey;
 import com.navercorp.pinpoint.collector.uid.dao.ApplicationUidDao;
 import com.navercorp.pinpoint.common.server.uid.ApplicationUid;
 import com.navercorp.pinpoint.common.server.uid.ServiceUid;
@@ -9,6 +11,8 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 
 import java.util.Objects;
@@ -22,26 +26,49 @@ public class ApplicationUidServiceImpl implements ApplicationUidService {
     private final ApplicationUidDao applicationUidDao;
     private final ApplicationNameDao applicationNameDao;
     private final IdGenerator<ApplicationUid> applicationUidGenerator;
+    private final Cache applicationUidCache;
+
+    // concurrent cache misses of the same application share one HBase lookup
+    // @Cacheable(sync = true) is not used : the cache does not allow null values and an unknown application is null
+    private final UidRequestCoalescer<ApplicationUidCacheKey, ApplicationUid> selectCoalescer = new UidRequestCoalescer<>();
+    private final UidRequestCoalescer<ApplicationUidCacheKey, ApplicationUid> createCoalescer = new UidRequestCoalescer<>();
 
     public ApplicationUidServiceImpl(ApplicationUidDao applicationUidDao, ApplicationNameDao applicationNameDao,
-                                     @Qualifier("applicationUidGenerator") IdGenerator<ApplicationUid> applicationUidGenerator) {
+                                     @Qualifier("applicationUidGenerator") IdGenerator<ApplicationUid> applicationUidGenerator,
+                                     @Qualifier(ApplicationUidConfig.APPLICATION_UID_CACHE_NAME) CacheManager cacheManager) {
         this.applicationUidDao = Objects.requireNonNull(applicationUidDao, "applicationIdDao");
         this.applicationNameDao = Objects.requireNonNull(applicationNameDao, "applicationInfoDao");
         this.applicationUidGenerator = Objects.requireNonNull(applicationUidGenerator, "applicationIdGenerator");
+        this.applicationUidCache = Objects.requireNonNull(cacheManager, "cacheManager").getCache(ApplicationUidConfig.APPLICATION_UID_CACHE_NAME);
     }
 
     @Override
     public ApplicationUid getApplicationUid(ServiceUid serviceUid, String applicationName) {
         Objects.requireNonNull(serviceUid, "serviceUid");
         Objects.requireNonNull(applicationName, "applicationName");
-        return applicationUidDao.selectApplicationUid(serviceUid, applicationName);
+        final ApplicationUidCacheKey cacheKey = new ApplicationUidCacheKey(serviceUid, applicationName);
+        final ApplicationUid applicationUid = applicationUidCache.get(cacheKey, ApplicationUid.class);
+        if (applicationUid != null) {
+            return applicationUid;
+        }
+        return selectCoalescer.get(cacheKey, () -> applicationUidDao.selectApplicationUid(serviceUid, applicationName));
     }
 
     @Override
     public ApplicationUid getOrCreateApplicationUid(ServiceUid serviceUid, String applicationName) {
         Objects.requireNonNull(serviceUid, "serviceUid");
         Objects.requireNonNull(applicationName, "applicationName");
+        final ApplicationUidCacheKey cacheKey = new ApplicationUidCacheKey(serviceUid, applicationName);
+        final ApplicationUid applicationUid = applicationUidCache.get(cacheKey, ApplicationUid.class);
+        if (applicationUid != null) {
+            return applicationUid;
+        }
+        return createCoalescer.get(cacheKey, () -> selectOrCreateApplicationUid(cacheKey));
+    }
 
+    private ApplicationUid selectOrCreateApplicationUid(ApplicationUidCacheKey cacheKey) {
+        final ServiceUid serviceUid = cacheKey.serviceUid();
+        final String applicationName = cacheKey.applicationName();
         ApplicationUid applicationUid = applicationUidDao.selectApplicationUid(serviceUid, applicationName);
         if (applicationUid != null) {
             return applicationUid;
@@ -49,6 +76,7 @@ public class ApplicationUidServiceImpl implements ApplicationUidService {
 
         ApplicationUid newApplicationUid = tryInsertApplicationUid(serviceUid, applicationName);
         if (newApplicationUid != null) {
+            applicationUidCache.put(cacheKey, newApplicationUid);
             return newApplicationUid;
         }
 
@@ -14,6 +14,9 @@ import java.util.Objects;
 public class ServiceGroupServiceImpl implements ServiceGroupService {
 
     private final ServiceUidDao serviceUidDao;
+    // runs behind @Cacheable, only cache misses are coalesced
+    // @Cacheable(sync = true) is not used : it would cache an unknown service as null until it expires
+    private final UidRequestCoalescer<String, ServiceUid> selectCoalescer = new UidRequestCoalescer<>();
 
     public ServiceGroupServiceImpl(ServiceUidDao serviceUidDao) {
         this.serviceUidDao = Objects.requireNonNull(serviceUidDao, "serviceUidDao");
@@ -23,7 +26,7 @@ public class ServiceGroupServiceImpl implements ServiceGroupService {
     @Cacheable(cacheNames = "collectorServiceUidCache", key = "#serviceName", cacheManager = ServiceUidCacheConfig.SERVICE_UID_CACHE_NAME, unless = "#result == null")
     public ServiceUid getServiceUid(String serviceName) {
         Objects.requireNonNull(serviceName, "serviceName");
-        return serviceUidDao.selectServiceUid(serviceName);
+        return selectCoalescer.get(serviceName, () -> serviceUidDao.selectServiceUid(serviceName));
     }
 
 }
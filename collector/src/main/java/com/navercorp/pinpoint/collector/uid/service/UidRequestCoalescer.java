@@ -0,0 +1,75 @@
+package com.navercorp.pinpoint.collector.uid.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Concurrent lookups of the same key share the one that is already in flight.
+ * Completed lookups are not kept, caching is left to the caller.
+ */
+public class UidRequestCoalescer<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inflight = new ConcurrentHashMap<>();
+
+    public V get(K key, Supplier<V> loader) {
+        final CompletableFuture<V> future = new CompletableFuture<>();
+        final CompletableFuture<V> running = inflight.putIfAbsent(key, future);
+        if (running != null) {
+            return join(running);
+        }
+        try {
+            final V value = loader.get();
+            future.complete(value);
+            return value;
+        } catch (Throwable th) {
+            // followers are released whatever the loader throws
+            future.completeExceptionally(th);
+            throw th;
+        } finally {
+            inflight.remove(key, future);
+        }
+    }
+
+    public CompletableFuture<V> execute(K key, Supplier<CompletableFuture<V>> loader) {
+        final CompletableFuture<V> future = new CompletableFuture<>();
+        final CompletableFuture<V> running = inflight.putIfAbsent(key, future);
+        if (running != null) {
+            return running;
+        }
+        try {
+            loader.get().whenComplete((value, throwable) -> {
+                inflight.remove(key, future);
+                if (throwable != null) {
+                    future.completeExceptionally(throwable);
+                } else {
+                    future.complete(value);
+                }
+            });
+        } catch (Throwable th) {
+            inflight.remove(key, future);
+            future.completeExceptionally(th);
+        }
+        return future;
+    }
+
+    private V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    public int inflightSize() {
+        return inflight.size();
+    }
+}
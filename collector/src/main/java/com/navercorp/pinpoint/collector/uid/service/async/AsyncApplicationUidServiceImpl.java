@@ -2,7 +2,9 @@ package com.navercorp.pinpoint.collector.uid.service.async;
 
 import com.navercorp.pinpoint.collector.uid.config.ApplicationUidConfig;
 import com.navercorp.pinpoint.collector.uid.dao.ApplicationNameDao;
+import com.navercorp.pinpoint.collector.uid.dao.ApplicationUidCacheKey;
 import com.navercorp.pinpoint.collector.uid.dao.ApplicationUidDao;
+import com.navercorp.pinpoint.collector.uid.service.UidRequestCoalescer;
 import com.navercorp.pinpoint.common.server.uid.ApplicationUid;
 import com.navercorp.pinpoint.common.server.uid.ServiceUid;
 import com.navercorp.pinpoint.common.server.util.IdGenerator;
@@ -12,7 +14,6 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
-import org.springframework.cache.interceptor.SimpleKey;
 import org.springframework.stereotype.Service;
 
 import java.util.Objects;
@@ -28,6 +29,7 @@ public class AsyncApplicationUidServiceImpl implements AsyncApplicationUidServic
     private final ApplicationNameDao applicationNameDao;
     private final IdGenerator<ApplicationUid> applicationIdGenerator;
     private final Cache applicationUidCache;
+    private final UidRequestCoalescer<ApplicationUidCacheKey, ApplicationUid> selectCoalescer = new UidRequestCoalescer<>();
 
     public AsyncApplicationUidServiceImpl(ApplicationUidDao applicationUidDao, ApplicationNameDao applicationNameDao,
                                           IdGenerator<ApplicationUid> applicationIdGenerator,
@@ -38,8 +40,8 @@ public class AsyncApplicationUidServiceImpl implements AsyncApplicationUidServic
         this.applicationUidCache = Objects.requireNonNull(cacheManager, "cacheManager").getCache("applicationUidCache");
     }
 
-    private SimpleKey createCacheKey(ServiceUid serviceUid, String applicationName) {
-        return new SimpleKey(serviceUid, applicationName);
+    private ApplicationUidCacheKey createCacheKey(ServiceUid serviceUid, String applicationName) {
+        return new ApplicationUidCacheKey(serviceUid, applicationName);
     }
 
     // Returns from cache if available but does not cache the result
@@ -49,12 +51,13 @@ public class AsyncApplicationUidServiceImpl implements AsyncApplicationUidServic
         Objects.requireNonNull(serviceUid, "serviceUid");
         Objects.requireNonNull(applicationName, "applicationName");
 
-        ApplicationUid applicationUid = applicationUidCache.get(createCacheKey(serviceUid, applicationName), ApplicationUid.class);
+        ApplicationUidCacheKey cacheKey = createCacheKey(serviceUid, applicationName);
+        ApplicationUid applicationUid = applicationUidCache.get(cacheKey, ApplicationUid.class);
         if (applicationUid != null) {
             return CompletableFuture.completedFuture(applicationUid);
         }
 
-        return applicationUidDao.asyncSelectApplicationUid(serviceUid, applicationName);
+        return selectCoalescer.execute(cacheKey, () -> applicationUidDao.asyncSelectApplicationUid(serviceUid, applicationName));
     }
 
     @Override
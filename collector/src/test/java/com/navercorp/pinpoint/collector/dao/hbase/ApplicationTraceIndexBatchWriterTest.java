@@ -0,0 +1,55 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.collector.dao.hbase;
+
+import com.navercorp.pinpoint.collector.dao.ApplicationTraceIndexDao;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class ApplicationTraceIndexBatchWriterTest {
+
+    @Test
+    void adjustBatchSize() throws InterruptedException {
+        ApplicationTraceIndexDao dao = mock(ApplicationTraceIndexDao.class);
+        ApplicationTraceIndexBatchWriter writer = new ApplicationTraceIndexBatchWriter(dao, 100, 32, 128, 10, 100);
+        try {
+            assertThat(writer.getBatchSize()).isEqualTo(32);
+
+            long slow = TimeUnit.MILLISECONDS.toNanos(200);
+            writer.adjustBatchSize(slow);
+            assertThat(writer.getBatchSize()).isEqualTo(64);
+            writer.adjustBatchSize(slow);
+            writer.adjustBatchSize(slow);
+            assertThat(writer.getBatchSize()).isEqualTo(128);
+
+            long fast = TimeUnit.MILLISECONDS.toNanos(10);
+            writer.adjustBatchSize(fast);
+            assertThat(writer.getBatchSize()).isEqualTo(96);
+            writer.adjustBatchSize(fast);
+            writer.adjustBatchSize(fast);
+            writer.adjustBatchSize(fast);
+            assertThat(writer.getBatchSize()).isEqualTo(32);
+        } finally {
+            writer.close();
+        }
+    }
+}
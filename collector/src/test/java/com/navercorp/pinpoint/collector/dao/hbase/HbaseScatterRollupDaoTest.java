@@ -0,0 +1,191 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.dao.hbase;
+
+import com.navercorp.pinpoint.collector.applicationmap.statistics.BulkWriter;
+import com.navercorp.pinpoint.common.hbase.HbaseTables;
+import com.navercorp.pinpoint.common.hbase.TableNameProvider;
+import com.navercorp.pinpoint.common.hbase.async.AsyncHbaseOperations;
+import com.navercorp.pinpoint.common.hbase.async.HbasePutWriter;
+import com.navercorp.pinpoint.common.profiler.util.TransactionId;
+import com.navercorp.pinpoint.common.server.bo.SpanBo;
+import com.navercorp.pinpoint.common.server.scatter.ScatterRollupUtils;
+import com.navercorp.pinpoint.common.server.util.SpanUtils;
+import com.sematext.hbase.wd.RowKeyDistributorByHashPrefix;
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.CellUtil;
+import org.apache.hadoop.hbase.KeyValue;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Increment;
+import org.apache.hadoop.hbase.client.Put;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class HbaseScatterRollupDaoTest {
+
+    private static final TableName TABLE_NAME = TableName.valueOf("ApplicationScatterRollup");
+
+    private final RowKeyDistributorByHashPrefix rowKeyDistributor = new RowKeyDistributorByHashPrefix(new RowKeyDistributorByHashPrefix.OneByteSimpleHash(32));
+
+    @Mock
+    private BulkWriter bulkWriter;
+    @Mock
+    private AsyncHbaseOperations asyncTemplate;
+    @Mock
+    private HbasePutWriter putWriter;
+    @Mock
+    private TableNameProvider tableNameProvider;
+    @Captor
+    private ArgumentCaptor<Put> putCaptor;
+
+    // sample sequence counters of the in-memory table
+    private final Map<String, Long> sequences = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        when(tableNameProvider.getTableName(HbaseTables.APPLICATION_SCATTER_ROLLUP_SAMPLE.getTable())).thenReturn(TABLE_NAME);
+        when(asyncTemplate.increment(any(TableName.class), anyList())).thenAnswer(invocation -> {
+            List<Increment> increments = invocation.getArgument(1);
+            List<CompletableFuture<Result>> futures = new ArrayList<>(increments.size());
+            for (Increment increment : increments) {
+                futures.add(CompletableFuture.completedFuture(increment(increment)));
+            }
+            return futures;
+        });
+    }
+
+    private Result increment(Increment increment) {
+        List<Cell> cells = new ArrayList<>();
+        for (List<Cell> familyCells : increment.getFamilyCellMap().values()) {
+            for (Cell cell : familyCells) {
+                String key = Bytes.toStringBinary(increment.getRow()) + Bytes.toStringBinary(CellUtil.cloneQualifier(cell));
+                long amount = Bytes.toLong(CellUtil.cloneValue(cell));
+                long sequence = sequences.merge(key, amount, Long::sum);
+                cells.add(new KeyValue(increment.getRow(), CellUtil.cloneFamily(cell), CellUtil.cloneQualifier(cell), Bytes.toBytes(sequence)));
+            }
+        }
+        return Result.create(cells);
+    }
+
+    private HbaseScatterRollupDao newDao() {
+        return new HbaseScatterRollupDao(bulkWriter, asyncTemplate, putWriter, tableNameProvider, rowKeyDistributor, 4);
+    }
+
+    @Test
+    void twoFlushesIntoOneBucket() {
+        HbaseScatterRollupDao dao = newDao();
+        long acceptTime = System.currentTimeMillis();
+        SpanBo first = newSpan(acceptTime, 1);
+        SpanBo second = newSpan(acceptTime, 2);
+
+        dao.insert(first);
+        dao.flushLink();
+        dao.insert(second);
+        dao.flushLink();
+        // nothing changed
+        dao.flushLink();
+
+        verify(asyncTemplate, times(2)).increment(any(TableName.class), anyList());
+        verify(putWriter, times(2)).put(any(TableName.class), putCaptor.capture());
+        List<Cell> firstFlush = sampleCells(putCaptor.getAllValues().get(0));
+        List<Cell> secondFlush = sampleCells(putCaptor.getAllValues().get(1));
+
+        assertThat(values(firstFlush)).containsExactly(SpanUtils.getVarTransactionId(first));
+        // only the new transaction is written, into the next slot of the ring
+        assertThat(values(secondFlush)).containsExactly(SpanUtils.getVarTransactionId(second));
+        assertThat(slot(firstFlush.get(0))).isEqualTo(0);
+        assertThat(slot(secondFlush.get(0))).isEqualTo(1);
+    }
+
+    @Test
+    void boundedSampleColumns() {
+        // collectors writing the same cell, the first 4 transactions of each collector always enter its reservoir
+        List<HbaseScatterRollupDao> daoList = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            daoList.add(newDao());
+        }
+        long acceptTime = System.currentTimeMillis();
+
+        long sequence = 0;
+        for (int i = 0; i < 20; i++) {
+            for (HbaseScatterRollupDao dao : daoList) {
+                dao.insert(newSpan(acceptTime, sequence++));
+                dao.flushLink();
+            }
+        }
+
+        verify(putWriter, atLeast(ScatterRollupUtils.SAMPLE_SLOT_COUNT)).put(any(TableName.class), putCaptor.capture());
+        Set<String> qualifiers = new HashSet<>();
+        for (Put put : putCaptor.getAllValues()) {
+            for (Cell cell : sampleCells(put)) {
+                assertThat(cell.getQualifierLength()).isEqualTo(ScatterRollupUtils.SAMPLE_QUALIFIER_SIZE);
+                qualifiers.add(Bytes.toStringBinary(CellUtil.cloneQualifier(cell)));
+            }
+        }
+        assertThat(qualifiers).hasSize(ScatterRollupUtils.SAMPLE_SLOT_COUNT);
+    }
+
+    private SpanBo newSpan(long acceptTime, long sequence) {
+        SpanBo span = new SpanBo();
+        span.setApplicationName("testApp");
+        span.setTransactionId(TransactionId.of("agent", 1000L, sequence));
+        span.setCollectorAcceptTime(acceptTime);
+        span.setElapsed(120);
+        return span;
+    }
+
+    private List<Cell> sampleCells(Put put) {
+        return put.getFamilyCellMap().get(HbaseTables.APPLICATION_SCATTER_ROLLUP_SAMPLE.getName());
+    }
+
+    private int slot(Cell cell) {
+        byte[] qualifier = CellUtil.cloneQualifier(cell);
+        return qualifier[ScatterRollupUtils.SAMPLE_QUALIFIER_SIZE - 1];
+    }
+
+    private List<byte[]> values(List<Cell> cells) {
+        List<byte[]> values = new ArrayList<>(cells.size());
+        for (Cell cell : cells) {
+            values.add(CellUtil.cloneValue(cell));
+        }
+        return values;
+    }
+}
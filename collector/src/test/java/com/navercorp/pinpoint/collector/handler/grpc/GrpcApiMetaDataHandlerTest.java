@@ -10,13 +10,22 @@ import com.navercorp.pinpoint.grpc.trace.PApiMetaData;
 import com.navercorp.pinpoint.grpc.trace.PResult;
 import com.navercorp.pinpoint.io.request.GrpcServerHeaderV1;
 import com.navercorp.pinpoint.io.request.ServerHeader;
+import com.navercorp.pinpoint.io.request.ServerRequest;
+import com.navercorp.pinpoint.io.request.ServerResponse;
+import com.google.protobuf.GeneratedMessageV3;
 import io.grpc.Context;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public class GrpcApiMetaDataHandlerTest {
 
@@ -46,13 +55,60 @@ public class GrpcApiMetaDataHandlerTest {
                     ApiMetaDataBo actual = invocation.getArgument(0);
                     assertThat(actual).extracting("agentId", "startTime", "apiId", "apiInfo", "lineNumber", "methodTypeEnum", "location")
                             .contains("express-node-sample-id", 1668495162817L, 13, "express.Function.proto.get(path, callback)", 177, MethodTypeEnum.DEFAULT, "/Users/workspace/pinpoint/@pinpoint-naver-apm/pinpoint-agent-node/samples/express/src/routes/index.js");
-                    return null;
+                    return CompletableFuture.completedFuture(null);
                 }).when(mockedService).insert(any());
 
-                PResult result = dut.handleApiMetaData(serverHeader, actualStub);
+                PResult result = dut.handleApiMetaData(serverHeader, actualStub).join();
                 assertThat(result.getSuccess()).isTrue();
             }
         });
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void handleRequest_asyncFailure() {
+        ApiMetaDataService mockedService = mock(ApiMetaDataService.class);
+        when(mockedService.insert(any())).thenReturn(CompletableFuture.failedFuture(new RuntimeException("put failed")));
+        GrpcApiMetaDataHandler dut = new GrpcApiMetaDataHandler(mockedService);
+
+        ServerRequest<GeneratedMessageV3> request = newRequest();
+        ServerResponse<GeneratedMessageV3> response = mock(ServerResponse.class);
+        dut.handleRequest(request, response);
+
+        ArgumentCaptor<GeneratedMessageV3> captor = ArgumentCaptor.forClass(GeneratedMessageV3.class);
+        verify(response).write(captor.capture());
+        PResult result = (PResult) captor.getValue();
+        assertThat(result.getSuccess()).isFalse();
+        assertThat(result.getMessage()).isEqualTo("Internal Server Error");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void handleRequest_writeFailure() {
+        ApiMetaDataService mockedService = mock(ApiMetaDataService.class);
+        when(mockedService.insert(any())).thenReturn(CompletableFuture.completedFuture(null));
+        GrpcApiMetaDataHandler dut = new GrpcApiMetaDataHandler(mockedService);
+
+        ServerResponse<GeneratedMessageV3> response = mock(ServerResponse.class);
+        doThrow(new IllegalStateException("closed")).when(response).write(any());
+
+        dut.handleRequest(newRequest(), response);
+
+        verify(response).write(any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private ServerRequest<GeneratedMessageV3> newRequest() {
+        Header header = HeaderV1.simple("name", "agentId", "agentName", "applicationName", 0, 1668495162817L);
+        PApiMetaData apiMetaData = PApiMetaData.newBuilder()
+                .setApiId(13)
+                .setApiInfo("apiInfo")
+                .setType(MethodTypeEnum.DEFAULT.getCode())
+                .build();
+
+        ServerRequest<GeneratedMessageV3> request = mock(ServerRequest.class);
+        when(request.getHeader()).thenReturn(new GrpcServerHeaderV1(header));
+        when(request.getData()).thenReturn(apiMetaData);
+        return request;
+    }
 }
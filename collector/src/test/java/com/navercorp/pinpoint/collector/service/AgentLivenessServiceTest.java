@@ -0,0 +1,87 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.service;
+
+import com.navercorp.pinpoint.collector.dao.ApplicationIndexDao;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class AgentLivenessServiceTest {
+
+    private static final long BUCKET = 1000;
+
+    @Mock
+    private ApplicationIndexDao applicationIndexDao;
+
+    @Test
+    void updateOncePerBucket() {
+        AgentLivenessService service = new AgentLivenessService(applicationIndexDao, true, BUCKET, 100);
+
+        service.update("app", "agent", 1000, 1000);
+        service.update("app", "agent", 1000, 1999);
+        service.update("app", "agent", 1000, 2000);
+
+        verify(applicationIndexDao, times(2)).updateLiveness("app", "agent", 1000);
+        verify(applicationIndexDao, times(2)).updateLiveness(anyString(), anyString(), anyInt());
+    }
+
+    @Test
+    void retryFailedUpdateInSameBucket() {
+        AgentLivenessService service = new AgentLivenessService(applicationIndexDao, true, BUCKET, 100);
+        doThrow(new IllegalStateException("put failed")).doNothing()
+                .when(applicationIndexDao).updateLiveness("app", "agent", 1000);
+
+        assertThatThrownBy(() -> service.update("app", "agent", 1000, 1000))
+                .isInstanceOf(IllegalStateException.class);
+        // the failed write did not mark the bucket
+        service.update("app", "agent", 1000, 1500);
+        service.update("app", "agent", 1000, 1600);
+
+        verify(applicationIndexDao, times(2)).updateLiveness("app", "agent", 1000);
+    }
+
+    @Test
+    void agentsAreTrackedSeparately() {
+        AgentLivenessService service = new AgentLivenessService(applicationIndexDao, true, BUCKET, 100);
+
+        service.update("app", "agent1", 1000, 1000);
+        service.update("app", "agent2", 1000, 1000);
+        service.update("app2", "agent1", 1000, 1000);
+
+        verify(applicationIndexDao, times(3)).updateLiveness(anyString(), anyString(), anyInt());
+    }
+
+    @Test
+    void disabled() {
+        AgentLivenessService service = new AgentLivenessService(applicationIndexDao, false, BUCKET, 100);
+
+        service.update("app", "agent", 1000, 1000);
+
+        verifyNoInteractions(applicationIndexDao);
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.service.async;
+
+import com.navercorp.pinpoint.collector.applicationmap.service.LinkService;
+import com.navercorp.pinpoint.collector.config.CollectorProperties;
+import com.navercorp.pinpoint.collector.service.AgentLifeCycleService;
+import com.navercorp.pinpoint.collector.service.AgentLivenessService;
+import com.navercorp.pinpoint.common.trace.ServiceType;
+import com.navercorp.pinpoint.loader.service.ServiceTypeRegistryService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AgentLifeCycleAsyncTaskServiceTest {
+
+    @Mock
+    private AgentLifeCycleService agentLifeCycleService;
+    @Mock
+    private AgentLivenessService agentLivenessService;
+    @Mock
+    private LinkService linkService;
+    @Mock
+    private ServiceTypeRegistryService registry;
+    @Mock
+    private CollectorProperties collectorProperties;
+
+    @Test
+    void livenessFailureDoesNotSkipAgentState() {
+        when(registry.findServiceType(1000)).thenReturn(ServiceType.STAND_ALONE);
+        when(collectorProperties.isStatisticsAgentStateEnable()).thenReturn(true);
+        doThrow(new IllegalStateException("put failed"))
+                .when(agentLivenessService).update(anyString(), anyString(), anyInt(), anyLong());
+
+        AgentLifeCycleAsyncTaskService service = new AgentLifeCycleAsyncTaskService(agentLifeCycleService,
+                agentLivenessService, linkService, registry, collectorProperties);
+        AgentProperty agentProperty = new DefaultAgentProperty("app", 1000, "agent", 1000, Map.of());
+
+        service.handlePingEvent(agentProperty, 2000);
+
+        InOrder inOrder = inOrder(linkService, agentLivenessService);
+        inOrder.verify(linkService).updateAgentState(2000, "app", ServiceType.STAND_ALONE, "agent");
+        inOrder.verify(agentLivenessService).update("app", "agent", 1000, 2000);
+    }
+}
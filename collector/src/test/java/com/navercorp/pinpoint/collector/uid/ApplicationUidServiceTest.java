@@ -1,6 +1,8 @@
 package com.navercorp.pinpoint.collector.uid;
 
+import com.navercorp.pinpoint.collector.uid.config.ApplicationUidConfig;
 import com.navercorp.pinpoint.collector.uid.dao.ApplicationNameDao;
+import com.navercorp.pinpoint.collector.uid.dao.ApplicationUidCacheKey;
 import com.navercorp.pinpoint.collector.uid.dao.ApplicationUidDao;
 import com.navercorp.pinpoint.collector.uid.dao.ConcurrentMapApplicationNameDao;
 import com.navercorp.pinpoint.collector.uid.dao.ConcurrentMapApplicationUidDao;
@@ -15,6 +17,9 @@ import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.support.NoOpCacheManager;
 
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -42,7 +47,7 @@ public class ApplicationUidServiceTest {
 
         ApplicationUidDao testApplicationUidDao = new ConcurrentMapApplicationUidDao(executorService);
         ApplicationNameDao testApplicationNameDao = new ConcurrentMapApplicationNameDao(executorService);
-        applicationIdService = new ApplicationUidServiceImpl(testApplicationUidDao, testApplicationNameDao, new RandomApplicationUidGenerator());
+        applicationIdService = new ApplicationUidServiceImpl(testApplicationUidDao, testApplicationNameDao, new RandomApplicationUidGenerator(), new NoOpCacheManager());
     }
 
     @AfterAll
@@ -86,4 +91,35 @@ public class ApplicationUidServiceTest {
         }
     }
 
+    @Test
+    public void getApplicationUid_cacheHit() {
+        String testApplicationName = "test3";
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(ApplicationUidConfig.APPLICATION_UID_CACHE_NAME);
+        cacheManager.setAsyncCacheMode(true);
+        cacheManager.setAllowNullValues(false);
+        Cache cache = cacheManager.getCache(ApplicationUidConfig.APPLICATION_UID_CACHE_NAME);
+        cache.put(new ApplicationUidCacheKey(testServiceUid, testApplicationName), ApplicationUid.of(1000));
+
+        // the dao has no such application, the cached value is returned without a lookup
+        ApplicationUidService cachedService = new ApplicationUidServiceImpl(new ConcurrentMapApplicationUidDao(executorService),
+                new ConcurrentMapApplicationNameDao(executorService), new RandomApplicationUidGenerator(), cacheManager);
+        Assertions.assertThat(cachedService.getApplicationUid(testServiceUid, testApplicationName)).isEqualTo(ApplicationUid.of(1000));
+        Assertions.assertThat(cachedService.getOrCreateApplicationUid(testServiceUid, testApplicationName)).isEqualTo(ApplicationUid.of(1000));
+    }
+
+    @Test
+    public void getOrCreateApplicationUid_cacheCreated() {
+        String testApplicationName = "test4";
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(ApplicationUidConfig.APPLICATION_UID_CACHE_NAME);
+        cacheManager.setAsyncCacheMode(true);
+        cacheManager.setAllowNullValues(false);
+        Cache cache = cacheManager.getCache(ApplicationUidConfig.APPLICATION_UID_CACHE_NAME);
+
+        ApplicationUidService cachedService = new ApplicationUidServiceImpl(new ConcurrentMapApplicationUidDao(executorService),
+                new ConcurrentMapApplicationNameDao(executorService), new RandomApplicationUidGenerator(), cacheManager);
+        ApplicationUid applicationUid = cachedService.getOrCreateApplicationUid(testServiceUid, testApplicationName);
+
+        Assertions.assertThat(applicationUid).isNotNull();
+        Assertions.assertThat(cache.get(new ApplicationUidCacheKey(testServiceUid, testApplicationName), ApplicationUid.class)).isEqualTo(applicationUid);
+    }
 }
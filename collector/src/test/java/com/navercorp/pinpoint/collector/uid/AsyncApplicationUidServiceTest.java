@@ -3,6 +3,7 @@ package com.navercorp.pinpoint.collector.uid;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.navercorp.pinpoint.collector.uid.config.ApplicationUidConfig;
 import com.navercorp.pinpoint.collector.uid.dao.ApplicationNameDao;
+import com.navercorp.pinpoint.collector.uid.dao.ApplicationUidCacheKey;
 import com.navercorp.pinpoint.collector.uid.dao.ApplicationUidDao;
 import com.navercorp.pinpoint.collector.uid.dao.ConcurrentMapApplicationNameDao;
 import com.navercorp.pinpoint.collector.uid.dao.ConcurrentMapApplicationUidDao;
@@ -23,7 +24,6 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.springframework.cache.Cache;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
-import org.springframework.cache.interceptor.SimpleKey;
 import org.springframework.cache.support.NoOpCacheManager;
 
 import java.util.ArrayList;
@@ -59,7 +59,7 @@ public class AsyncApplicationUidServiceTest {
         applicationNameDao = new ConcurrentMapApplicationNameDao(executorService, 50);
 
         applicationUidService = new ApplicationUidServiceImpl(applicationUidDao, applicationNameDao,
-                new RandomApplicationUidGenerator());
+                new RandomApplicationUidGenerator(), new NoOpCacheManager());
 
         caffeineCacheManager = new CaffeineCacheManager(ApplicationUidConfig.APPLICATION_UID_CACHE_NAME);
         caffeineCacheManager.setCaffeine(Caffeine.newBuilder()
@@ -158,7 +158,7 @@ public class AsyncApplicationUidServiceTest {
         }
 
         logger.info("Cached with applicationName:{}", testApplicationName);
-        ApplicationUid cachedResult = cache.get(new SimpleKey(testServiceUid, testApplicationName), ApplicationUid.class);
+        ApplicationUid cachedResult = cache.get(new ApplicationUidCacheKey(testServiceUid, testApplicationName), ApplicationUid.class);
         ApplicationUid after = asyncApplicationUidService.getApplicationUid(testServiceUid, testApplicationName).join();
 
         Assertions.assertThat(result).hasSize(1);
@@ -0,0 +1,112 @@
+package com.navercorp.pinpoint.collector.uid.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.navercorp.pinpoint.collector.uid.dao.ApplicationUidCacheKey;
+import com.navercorp.pinpoint.common.server.uid.ApplicationUid;
+import com.navercorp.pinpoint.common.server.uid.ServiceUid;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ApplicationUidCacheSnapshotTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void saveAndLoad() {
+        Path path = tempDir.resolve("snapshot").resolve("applicationUid.snapshot");
+
+        Cache cache = newCache();
+        cache.put(new ApplicationUidCacheKey(ServiceUid.DEFAULT_SERVICE_UID, "app1"), ApplicationUid.of(100));
+        cache.put(new ApplicationUidCacheKey(ServiceUid.of(10), "app2"), ApplicationUid.of(200));
+        ApplicationUidCacheSnapshot snapshot = new ApplicationUidCacheSnapshot(cache, path, Duration.ZERO, null);
+        assertThat(snapshot.save()).isEqualTo(2);
+
+        Cache restored = newCache();
+        ApplicationUidCacheSnapshot restoredSnapshot = new ApplicationUidCacheSnapshot(restored, path, Duration.ZERO, null);
+        assertThat(restoredSnapshot.load()).isEqualTo(2);
+        assertThat(restored.get(new ApplicationUidCacheKey(ServiceUid.DEFAULT_SERVICE_UID, "app1"), ApplicationUid.class)).isEqualTo(ApplicationUid.of(100));
+        assertThat(restored.get(new ApplicationUidCacheKey(ServiceUid.of(10), "app2"), ApplicationUid.class)).isEqualTo(ApplicationUid.of(200));
+    }
+
+    @Test
+    void save_failureRemovesTempFile() throws Exception {
+        // a non-empty directory can not be replaced by the snapshot
+        Path path = tempDir.resolve("applicationUid.snapshot");
+        Files.createDirectories(path);
+        Files.write(path.resolve("file"), List.of("data"));
+
+        Cache cache = newCache();
+        cache.put(new ApplicationUidCacheKey(ServiceUid.DEFAULT_SERVICE_UID, "app1"), ApplicationUid.of(100));
+        ApplicationUidCacheSnapshot snapshot = new ApplicationUidCacheSnapshot(cache, path, Duration.ZERO, null);
+        assertThat(snapshot.save()).isZero();
+
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertThat(files).containsExactly(path);
+        }
+    }
+
+    @Test
+    void load_skipInvalidLine() throws Exception {
+        Path path = tempDir.resolve("applicationUid.snapshot");
+        Files.write(path, List.of("0\t100\tapp1", "invalid", "0\tnan\tapp2", "0\t300\t"));
+
+        Cache cache = newCache();
+        ApplicationUidCacheSnapshot snapshot = new ApplicationUidCacheSnapshot(cache, path, Duration.ZERO, null);
+        assertThat(snapshot.load()).isEqualTo(1);
+        assertThat(cache.get(new ApplicationUidCacheKey(ServiceUid.DEFAULT_SERVICE_UID, "app1"), ApplicationUid.class)).isEqualTo(ApplicationUid.of(100));
+    }
+
+    @Test
+    void load_noFile() {
+        ApplicationUidCacheSnapshot snapshot = new ApplicationUidCacheSnapshot(newCache(), tempDir.resolve("none"), Duration.ZERO, null);
+        assertThat(snapshot.load()).isZero();
+    }
+
+    @Test
+    void load_expiredSnapshot() throws Exception {
+        Path path = tempDir.resolve("applicationUid.snapshot");
+        Files.write(path, List.of("0\t100\tapp1"));
+        Files.setLastModifiedTime(path, FileTime.fromMillis(System.currentTimeMillis() - Duration.ofMinutes(20).toMillis()));
+
+        Cache cache = newCache();
+        ApplicationUidCacheSnapshot snapshot = new ApplicationUidCacheSnapshot(cache, path, Duration.ZERO, Duration.ofMinutes(10));
+        assertThat(snapshot.load()).isZero();
+        assertThat(cache.get(new ApplicationUidCacheKey(ServiceUid.DEFAULT_SERVICE_UID, "app1"), ApplicationUid.class)).isNull();
+
+        ApplicationUidCacheSnapshot longerMaxAgeSnapshot = new ApplicationUidCacheSnapshot(cache, path, Duration.ZERO, Duration.ofHours(1));
+        assertThat(longerMaxAgeSnapshot.load()).isEqualTo(1);
+    }
+
+    @Test
+    void save_skipUnconfirmed() throws Exception {
+        Path path = tempDir.resolve("applicationUid.snapshot");
+        Files.write(path, List.of("0\t100\tapp1", "0\t200\tapp2"));
+
+        Cache cache = newCache();
+        ApplicationUidCacheSnapshot snapshot = new ApplicationUidCacheSnapshot(cache, path, Duration.ZERO, null);
+        assertThat(snapshot.load()).isEqualTo(2);
+        // entries only known from the snapshot are not written again
+        assertThat(snapshot.save()).isZero();
+
+        // read again from HBase
+        cache.put(new ApplicationUidCacheKey(ServiceUid.DEFAULT_SERVICE_UID, "app1"), ApplicationUid.of(100));
+        assertThat(snapshot.save()).isEqualTo(1);
+        assertThat(Files.readAllLines(path)).containsExactly("0\t100\tapp1");
+    }
+
+    private Cache newCache() {
+        return new CaffeineCache("applicationUidCache", Caffeine.newBuilder().build(), false);
+    }
+}
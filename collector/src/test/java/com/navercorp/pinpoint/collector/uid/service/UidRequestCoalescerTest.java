@@ -0,0 +1,141 @@
+package com.navercorp.pinpoint.collector.uid.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UidRequestCoalescerTest {
+
+    @Test
+    void get_concurrentMissesShareOneLookup() throws Exception {
+        UidRequestCoalescer<String, Long> coalescer = new UidRequestCoalescer<>();
+        AtomicInteger lookupCount = new AtomicInteger();
+        CountDownLatch lookupStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Long> leader = CompletableFuture.supplyAsync(() -> coalescer.get("app", () -> {
+            lookupCount.incrementAndGet();
+            lookupStarted.countDown();
+            await(release);
+            return 1L;
+        }));
+        assertThat(lookupStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        List<Long> results = new CopyOnWriteArrayList<>();
+        List<Thread> followers = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            Thread follower = new Thread(() -> results.add(coalescer.get("app", () -> {
+                lookupCount.incrementAndGet();
+                return 2L;
+            })));
+            follower.start();
+            followers.add(follower);
+        }
+        // followers park on the in-flight lookup
+        for (Thread follower : followers) {
+            while (follower.getState() != Thread.State.WAITING) {
+                Thread.sleep(1);
+            }
+        }
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo(1L);
+        for (Thread follower : followers) {
+            follower.join(5000);
+        }
+        assertThat(results).hasSize(7).containsOnly(1L);
+        assertThat(lookupCount.get()).isEqualTo(1);
+        assertThat(coalescer.inflightSize()).isZero();
+    }
+
+    @Test
+    void get_completedLookupIsNotKept() {
+        UidRequestCoalescer<String, Long> coalescer = new UidRequestCoalescer<>();
+        assertThat(coalescer.get("app", () -> 1L)).isEqualTo(1L);
+        assertThat(coalescer.get("app", () -> 2L)).isEqualTo(2L);
+        assertThat(coalescer.get("app", () -> null)).isNull();
+    }
+
+    @Test
+    void get_exception() {
+        UidRequestCoalescer<String, Long> coalescer = new UidRequestCoalescer<>();
+        assertThatThrownBy(() -> coalescer.get("app", () -> {
+            throw new IllegalStateException("test");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(coalescer.inflightSize()).isZero();
+    }
+
+    @Test
+    void get_errorReleasesFollowers() throws Exception {
+        UidRequestCoalescer<String, Long> coalescer = new UidRequestCoalescer<>();
+        CountDownLatch lookupStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Long> leader = CompletableFuture.supplyAsync(() -> coalescer.get("app", () -> {
+            lookupStarted.countDown();
+            await(release);
+            throw new Error("test");
+        }));
+        assertThat(lookupStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        AtomicReference<Throwable> followerError = new AtomicReference<>();
+        Thread follower = new Thread(() -> {
+            try {
+                coalescer.get("app", () -> 2L);
+            } catch (Throwable th) {
+                followerError.set(th);
+            }
+        });
+        follower.start();
+        while (follower.getState() != Thread.State.WAITING) {
+            Thread.sleep(1);
+        }
+        release.countDown();
+
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(Error.class);
+        follower.join(5000);
+        assertThat(followerError.get()).isInstanceOf(Error.class).hasMessage("test");
+        assertThat(coalescer.inflightSize()).isZero();
+    }
+
+    @Test
+    void execute_sharesInflightFuture() {
+        UidRequestCoalescer<String, Long> coalescer = new UidRequestCoalescer<>();
+        CompletableFuture<Long> lookup = new CompletableFuture<>();
+        AtomicInteger lookupCount = new AtomicInteger();
+
+        CompletableFuture<Long> first = coalescer.execute("app", () -> {
+            lookupCount.incrementAndGet();
+            return lookup;
+        });
+        CompletableFuture<Long> second = coalescer.execute("app", () -> {
+            lookupCount.incrementAndGet();
+            return CompletableFuture.completedFuture(2L);
+        });
+        assertThat(second).isSameAs(first);
+        assertThat(coalescer.inflightSize()).isEqualTo(1);
+
+        lookup.complete(1L);
+        assertThat(first.join()).isEqualTo(1L);
+        assertThat(lookupCount.get()).isEqualTo(1);
+        assertThat(coalescer.inflightSize()).isZero();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
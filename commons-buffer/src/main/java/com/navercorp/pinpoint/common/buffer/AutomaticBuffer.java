@@ -199,6 +199,24 @@ public class AutomaticBuffer extends FixedBuffer {
         super.putLong(v);
     }
 
+    @Override
+    public void putVIntArray(int[] values, int offset, int length) {
+        checkExpand(length * BytesUtils.VLONG_MAX_SIZE);
+        super.putVIntArray(values, offset, length);
+    }
+
+    @Override
+    public void putSVIntArray(int[] values, int offset, int length) {
+        checkExpand(length * BytesUtils.VINT_MAX_SIZE);
+        super.putSVIntArray(values, offset, length);
+    }
+
+    @Override
+    public void putDeltaSVLongArray(long[] values, int offset, int length) {
+        checkExpand(length * BytesUtils.VLONG_MAX_SIZE);
+        super.putDeltaSVLongArray(values, offset, length);
+    }
+
 
 
 
@@ -160,6 +160,65 @@ public interface Buffer {
 
     double readSVDouble();
 
+    /**
+     * bulk version of {@link #putVInt(int)}
+     */
+    default void putVIntArray(int[] values, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            putVInt(values[i]);
+        }
+    }
+
+    /**
+     * bulk version of {@link #putSVInt(int)}
+     */
+    default void putSVIntArray(int[] values, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            putSVInt(values[i]);
+        }
+    }
+
+    /**
+     * put the first value and then the difference from the previous value using {@link #putSVLong(long)}
+     * useful for sorted values such as timestamps
+     */
+    default void putDeltaSVLongArray(long[] values, int offset, int length) {
+        long prev = 0;
+        for (int i = offset; i < offset + length; i++) {
+            putSVLong(values[i] - prev);
+            prev = values[i];
+        }
+    }
+
+    /**
+     * bulk version of {@link #readVInt()}
+     */
+    default void readVIntArray(int[] values, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            values[i] = readVInt();
+        }
+    }
+
+    /**
+     * bulk version of {@link #readSVInt()}
+     */
+    default void readSVIntArray(int[] values, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            values[i] = readSVInt();
+        }
+    }
+
+    /**
+     * read values written by {@link #putDeltaSVLongArray(long[], int, int)}
+     */
+    default void readDeltaSVLongArray(long[] values, int offset, int length) {
+        long prev = 0;
+        for (int i = offset; i < offset + length; i++) {
+            prev += readSVLong();
+            values[i] = prev;
+        }
+    }
+
     byte[] readPadBytes(int totalLength);
 
     String readPadString(int totalLength);
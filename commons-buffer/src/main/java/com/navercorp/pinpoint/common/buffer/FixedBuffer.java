@@ -207,6 +207,79 @@ public class FixedBuffer implements Buffer {
         this.offset = BytesUtils.writeVar64(v, buffer, offset);
     }
 
+    @Override
+    public void putVIntArray(int[] values, int offset, int length) {
+        if (!hasCapacity(length, BytesUtils.VLONG_MAX_SIZE)) {
+            Buffer.super.putVIntArray(values, offset, length);
+            return;
+        }
+        // bounds are checked once for the whole array
+        final byte[] buffer = this.buffer;
+        int pos = this.offset;
+        for (int i = offset; i < offset + length; i++) {
+            final int v = values[i];
+            if (v >= 0) {
+                pos = writeVar32Unchecked(v, buffer, pos);
+            } else {
+                pos = writeVar64Unchecked(v, buffer, pos);
+            }
+        }
+        this.offset = pos;
+    }
+
+    @Override
+    public void putSVIntArray(int[] values, int offset, int length) {
+        if (!hasCapacity(length, BytesUtils.VINT_MAX_SIZE)) {
+            Buffer.super.putSVIntArray(values, offset, length);
+            return;
+        }
+        final byte[] buffer = this.buffer;
+        int pos = this.offset;
+        for (int i = offset; i < offset + length; i++) {
+            pos = writeVar32Unchecked(BytesUtils.intToZigZag(values[i]), buffer, pos);
+        }
+        this.offset = pos;
+    }
+
+    @Override
+    public void putDeltaSVLongArray(long[] values, int offset, int length) {
+        if (!hasCapacity(length, BytesUtils.VLONG_MAX_SIZE)) {
+            Buffer.super.putDeltaSVLongArray(values, offset, length);
+            return;
+        }
+        final byte[] buffer = this.buffer;
+        int pos = this.offset;
+        long prev = 0;
+        for (int i = offset; i < offset + length; i++) {
+            final long v = values[i];
+            pos = writeVar64Unchecked(BytesUtils.longToZigZag(v - prev), buffer, pos);
+            prev = v;
+        }
+        this.offset = pos;
+    }
+
+    private boolean hasCapacity(int length, int maxValueSize) {
+        return (long) length * maxValueSize <= buffer.length - offset;
+    }
+
+    private static int writeVar32Unchecked(int value, byte[] buf, int pos) {
+        while ((value & ~0x7F) != 0) {
+            buf[pos++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buf[pos++] = (byte) value;
+        return pos;
+    }
+
+    private static int writeVar64Unchecked(long value, byte[] buf, int pos) {
+        while ((value & ~0x7FL) != 0) {
+            buf[pos++] = (byte) (((int) value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buf[pos++] = (byte) value;
+        return pos;
+    }
+
     @Override
     public void putDouble(double v) {
         putLong(Double.doubleToRawLongBits(v));
@@ -330,6 +403,35 @@ public class FixedBuffer implements Buffer {
         return BytesUtils.zigzagToInt(readVInt());
     }
 
+    @Override
+    public void readVIntArray(int[] values, int offset, int length) {
+        // one byte values (elapsed, sequence delta, depth) are decoded inline on the local array and offset,
+        // multi byte values go through readVInt()
+        final byte[] buffer = this.buffer;
+        final int bufferSize = buffer.length;
+        int pos = this.offset;
+        for (int i = offset; i < offset + length; i++) {
+            final byte b;
+            if (pos < bufferSize && (b = buffer[pos]) >= 0) {
+                values[i] = b;
+                pos++;
+            } else {
+                this.offset = pos;
+                values[i] = readVInt();
+                pos = this.offset;
+            }
+        }
+        this.offset = pos;
+    }
+
+    @Override
+    public void readSVIntArray(int[] values, int offset, int length) {
+        readVIntArray(values, offset, length);
+        for (int i = offset; i < offset + length; i++) {
+            values[i] = BytesUtils.zigzagToInt(values[i]);
+        }
+    }
+
     @Override
     public short readShort() {
         final short i = ByteArrayUtils.bytesToShort(buffer, offset);
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.common.buffer;
+
+import java.util.Objects;
+
+/**
+ * {@link AutomaticBuffer} owned by a {@link ThreadLocalBufferPool}.
+ * <p>
+ * The backing array is kept after {@link #close()} and reused by the next {@link ThreadLocalBufferPool#acquire()},
+ * so the array returned by {@link #getInternalBuffer()} or {@link #wrapByteBuffer()} must not be used after close.
+ */
+public class PooledBuffer extends AutomaticBuffer implements AutoCloseable {
+
+    private final ThreadLocalBufferPool pool;
+    private boolean released;
+
+    PooledBuffer(ThreadLocalBufferPool pool, int size) {
+        super(size);
+        this.pool = Objects.requireNonNull(pool, "pool");
+    }
+
+    int capacity() {
+        return buffer.length;
+    }
+
+    void reset() {
+        this.offset = 0;
+        this.released = false;
+    }
+
+    @Override
+    public void close() {
+        if (released) {
+            return;
+        }
+        this.released = true;
+        pool.release(this);
+    }
+}
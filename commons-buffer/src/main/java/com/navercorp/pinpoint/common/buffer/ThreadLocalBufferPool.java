@@ -0,0 +1,94 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.common.buffer;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Keeps a few {@link PooledBuffer} per thread so that encoders do not allocate and grow a new array for every value.
+ * <p>
+ * Buffers grow by doubling like {@link AutomaticBuffer}, which gives power-of-two size classes.
+ * A buffer grown beyond {@code maxRetainedSize} is dropped on release, so one huge value does not pin its array.
+ */
+public class ThreadLocalBufferPool {
+
+    public static final int DEFAULT_INITIAL_SIZE = 256;
+    public static final int DEFAULT_MAX_RETAINED_SIZE = 64 * 1024;
+    public static final int DEFAULT_MAX_BUFFERS_PER_THREAD = 4;
+
+    private final int initialSize;
+    private final int maxRetainedSize;
+    private final int maxBuffersPerThread;
+
+    private final ThreadLocal<Deque<PooledBuffer>> local = ThreadLocal.withInitial(ArrayDeque::new);
+
+    public ThreadLocalBufferPool() {
+        this(DEFAULT_INITIAL_SIZE, DEFAULT_MAX_RETAINED_SIZE, DEFAULT_MAX_BUFFERS_PER_THREAD);
+    }
+
+    public ThreadLocalBufferPool(int initialSize, int maxRetainedSize, int maxBuffersPerThread) {
+        if (initialSize <= 0) {
+            throw new IllegalArgumentException("invalid initialSize:" + initialSize);
+        }
+        if (maxRetainedSize < initialSize) {
+            throw new IllegalArgumentException("maxRetainedSize:" + maxRetainedSize + " < initialSize:" + initialSize);
+        }
+        if (maxBuffersPerThread < 0) {
+            throw new IllegalArgumentException("negative maxBuffersPerThread:" + maxBuffersPerThread);
+        }
+        this.initialSize = initialSize;
+        this.maxRetainedSize = maxRetainedSize;
+        this.maxBuffersPerThread = maxBuffersPerThread;
+    }
+
+    /**
+     * @return empty buffer, must be closed by the calling thread
+     */
+    public PooledBuffer acquire() {
+        final PooledBuffer buffer = local.get().pollFirst();
+        if (buffer == null) {
+            return new PooledBuffer(this, initialSize);
+        }
+        buffer.reset();
+        return buffer;
+    }
+
+    void release(PooledBuffer buffer) {
+        if (buffer.capacity() > maxRetainedSize) {
+            return;
+        }
+        final Deque<PooledBuffer> buffers = local.get();
+        if (buffers.size() < maxBuffersPerThread) {
+            buffers.addFirst(buffer);
+        }
+    }
+
+    int pooledCount() {
+        return local.get().size();
+    }
+
+    @Override
+    public String toString() {
+        return "ThreadLocalBufferPool{" +
+                "initialSize=" + initialSize +
+                ", maxRetainedSize=" + maxRetainedSize +
+                ", maxBuffersPerThread=" + maxBuffersPerThread +
+                '}';
+    }
+}
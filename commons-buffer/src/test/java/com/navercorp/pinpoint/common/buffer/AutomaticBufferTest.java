@@ -355,4 +355,35 @@ public class AutomaticBufferTest {
 
     }
 
+    @Test
+    public void testVIntArray_expand() {
+        int[] values = new int[100];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt();
+        }
+        Buffer buffer = new AutomaticBuffer(0);
+        buffer.putVIntArray(values, 10, 80);
+
+        buffer.setOffset(0);
+        int[] read = new int[80];
+        buffer.readVIntArray(read, 0, read.length);
+        assertThat(read).isEqualTo(Arrays.copyOfRange(values, 10, 90));
+    }
+
+    @Test
+    public void testDeltaSVLongArray_expand() {
+        long[] values = new long[100];
+        long value = System.currentTimeMillis();
+        for (int i = 0; i < values.length; i++) {
+            value += random.nextInt(1000);
+            values[i] = value;
+        }
+        Buffer buffer = new AutomaticBuffer(0);
+        buffer.putDeltaSVLongArray(values, 0, values.length);
+
+        buffer.setOffset(0);
+        long[] read = new long[values.length];
+        buffer.readDeltaSVLongArray(read, 0, read.length);
+        assertThat(read).isEqualTo(values);
+    }
 }
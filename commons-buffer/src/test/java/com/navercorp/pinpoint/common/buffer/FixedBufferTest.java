@@ -663,5 +663,98 @@ public class FixedBufferTest {
         Assertions.assertTrue(buffer.hasRemaining());
     }
 
+    @Test
+    public void testVIntArray() {
+        int[] values = {0, 1, 127, 128, -1, Integer.MAX_VALUE, Integer.MIN_VALUE, 300};
+
+        Buffer expected = new FixedBuffer(100);
+        for (int value : values) {
+            expected.putVInt(value);
+        }
+        Buffer buffer = new FixedBuffer(100);
+        buffer.putVIntArray(values, 0, values.length);
+        assertThat(buffer.copyBuffer()).isEqualTo(expected.copyBuffer());
+
+        buffer.setOffset(0);
+        int[] read = new int[values.length];
+        buffer.readVIntArray(read, 0, read.length);
+        assertThat(read).isEqualTo(values);
+    }
+
+    @Test
+    public void testVIntArray_endOfBuffer() {
+        int[] values = {1, 300, 2, -1, 3, 1 << 28};
+
+        Buffer writer = new FixedBuffer(100);
+        writer.putVIntArray(values, 0, values.length);
+        // no trailing bytes, the last multi byte values are read at the buffer limit
+        Buffer buffer = new FixedBuffer(writer.copyBuffer());
+
+        int[] read = new int[values.length];
+        buffer.readVIntArray(read, 0, read.length);
+        assertThat(read).isEqualTo(values);
+        Assertions.assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    public void testSVIntArray_interleaved() {
+        Buffer buffer = new FixedBuffer(100);
+        buffer.putShort((short) 7);
+        buffer.putVInt(1000);
+        buffer.putVInt(5);
+        buffer.putSVInt(-3);
+        buffer.putShort((short) 8);
+
+        buffer.setOffset(0);
+        int[] read = new int[4];
+        Assertions.assertEquals(7, buffer.readShort());
+        buffer.readVIntArray(read, 1, 2);
+        Assertions.assertEquals(-3, buffer.readSVInt());
+        Assertions.assertEquals(8, buffer.readShort());
+        assertThat(read).containsExactly(0, 1000, 5, 0);
+    }
 
+    @Test
+    public void testSVIntArray() {
+        int[] values = {0, -1, 1, -64, 64, Integer.MAX_VALUE, Integer.MIN_VALUE};
+
+        Buffer expected = new FixedBuffer(100);
+        for (int value : values) {
+            expected.putSVInt(value);
+        }
+        Buffer buffer = new FixedBuffer(100);
+        buffer.putSVIntArray(values, 0, values.length);
+        assertThat(buffer.copyBuffer()).isEqualTo(expected.copyBuffer());
+
+        buffer.setOffset(0);
+        int[] read = new int[values.length];
+        buffer.readSVIntArray(read, 0, read.length);
+        assertThat(read).isEqualTo(values);
+    }
+
+    @Test
+    public void testDeltaSVLongArray() {
+        long now = System.currentTimeMillis();
+        long[] values = {now, now + 10, now + 5, now + 1000, 0, Long.MAX_VALUE};
+
+        Buffer buffer = new FixedBuffer(100);
+        buffer.putDeltaSVLongArray(values, 0, values.length);
+
+        buffer.setOffset(0);
+        long[] read = new long[values.length];
+        buffer.readDeltaSVLongArray(read, 0, read.length);
+        assertThat(read).isEqualTo(values);
+    }
+
+    @Test
+    public void testVIntArray_notEnoughCapacity() {
+        // worst case size exceeds the buffer, falls back to per value bounds check
+        int[] values = {1, 2, 3};
+        Buffer buffer = new FixedBuffer(3);
+        buffer.putVIntArray(values, 0, values.length);
+        assertThat(buffer.getBuffer()).containsExactly(1, 2, 3);
+
+        Buffer small = new FixedBuffer(2);
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> small.putVIntArray(values, 0, values.length));
+    }
 }
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.common.buffer;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ThreadLocalBufferPoolTest {
+
+    @Test
+    public void reuse() {
+        ThreadLocalBufferPool pool = new ThreadLocalBufferPool(16, 1024, 2);
+
+        PooledBuffer buffer = pool.acquire();
+        buffer.putLong(1L);
+        buffer.putLong(2L);
+        buffer.putLong(3L);
+        byte[] internal = buffer.getInternalBuffer();
+        buffer.close();
+        assertThat(pool.pooledCount()).isEqualTo(1);
+
+        try (PooledBuffer reused = pool.acquire()) {
+            assertThat(reused).isSameAs(buffer);
+            assertThat(reused.getOffset()).isZero();
+            assertThat(reused.getInternalBuffer()).isSameAs(internal);
+
+            reused.putInt(7);
+            assertThat(reused.copyBuffer()).hasSize(4);
+        }
+    }
+
+    @Test
+    public void close_twice() {
+        ThreadLocalBufferPool pool = new ThreadLocalBufferPool(16, 1024, 2);
+
+        PooledBuffer buffer = pool.acquire();
+        buffer.close();
+        buffer.close();
+        assertThat(pool.pooledCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void dropLargeBuffer() {
+        ThreadLocalBufferPool pool = new ThreadLocalBufferPool(16, 32, 2);
+
+        try (PooledBuffer buffer = pool.acquire()) {
+            buffer.putBytes(new byte[100]);
+        }
+        assertThat(pool.pooledCount()).isZero();
+    }
+
+    @Test
+    public void maxBuffersPerThread() {
+        ThreadLocalBufferPool pool = new ThreadLocalBufferPool(16, 1024, 1);
+
+        PooledBuffer first = pool.acquire();
+        PooledBuffer second = pool.acquire();
+        assertThat(first).isNotSameAs(second);
+        first.close();
+        second.close();
+        assertThat(pool.pooledCount()).isEqualTo(1);
+    }
+}
@@ -34,6 +34,7 @@ public enum HbaseTable {
     APPLICATION_NAME("ApplicationName"),
     AGENT_NAME("AgentName"),
     APPLICATION_TRACE_INDEX("ApplicationTraceIndex"),
+    APPLICATION_SCATTER_ROLLUP("ApplicationScatterRollup"),
     HOST_APPLICATION_MAP_VER2("HostApplicationMap_Ver2"),
     MAP_STATISTICS_CALLEE_VER2("ApplicationMapStatisticsCallee_Ver2"),
     MAP_STATISTICS_CALLER_VER2("ApplicationMapStatisticsCaller_Ver2"),
@@ -58,6 +58,9 @@ public class HbaseTables {
         }
     }
 
+    public static final HbaseColumnFamily APPLICATION_SCATTER_ROLLUP_COUNTER = new HbaseColumnFamily(HbaseTable.APPLICATION_SCATTER_ROLLUP, Bytes.toBytes("C"));
+    public static final HbaseColumnFamily APPLICATION_SCATTER_ROLLUP_SAMPLE = new HbaseColumnFamily(HbaseTable.APPLICATION_SCATTER_ROLLUP, Bytes.toBytes("S"));
+
     public static final HbaseColumnFamily HOST_APPLICATION_MAP_VER2_MAP = new HbaseColumnFamily(HbaseTable.HOST_APPLICATION_MAP_VER2, Bytes.toBytes("M"));
 
     public static final HbaseColumnFamily MAP_STATISTICS_CALLEE_VER2_COUNTER = new HbaseColumnFamily(HbaseTable.MAP_STATISTICS_CALLEE_VER2, Bytes.toBytes("C"));
@@ -24,6 +24,7 @@ import com.navercorp.pinpoint.common.hbase.ResultsExtractor;
 import com.navercorp.pinpoint.common.hbase.RowMapper;
 import com.navercorp.pinpoint.common.hbase.future.FutureDecorator;
 import com.navercorp.pinpoint.common.hbase.future.FutureLoggingDecorator;
+import com.navercorp.pinpoint.common.hbase.parallel.AsyncParallelResultScanner;
 import com.navercorp.pinpoint.common.hbase.scan.ResultScannerFactory;
 import com.navercorp.pinpoint.common.hbase.scan.ScanUtils;
 import com.navercorp.pinpoint.common.hbase.scan.Scanner;
@@ -75,6 +76,9 @@ public class HbaseAsyncTemplate implements DisposableBean, AsyncHbaseOperations
 
     private final FutureDecorator futureDecorator = new FutureLoggingDecorator(logger);
 
+    private static final int DEFAULT_SCAN_BUFFER_SIZE = 256;
+    private static final int MAX_SCAN_BUFFER_SIZE = 4096;
+
     public HbaseAsyncTemplate(AsyncTableFactory asyncTableFactory,
                               ResultScannerFactory scannerFactory,
                               ScanMetricReporter scanMetric,
@@ -403,24 +407,23 @@ public class HbaseAsyncTemplate implements DisposableBean, AsyncHbaseOperations
         try {
             StopWatch watch = StopWatch.createStarted();
 
-            final Scan[] scans = ScanUtils.splitScans(scan, rowKeyDistributor);
-            T result = execute(tableName, new AsyncTableCallback<T>() {
+            // numParallelThreads is not used : split scans are driven by the hbase client without scan threads
+            T result = advancedExecute(tableName, new AdvancedAsyncTableCallback<T>() {
                 @Override
-                public T doInTable(AsyncTable<ScanResultConsumer> table) throws Throwable {
-                    ScanMetricReporter.Reporter reporter = scanMetric.newReporter(tableName, "async-multi", scans);
-                    ResultScanner[] resultScanners = ScanUtils.newScanners(table, scans);
-
-                    ResultScanner scanner = new DistributedScanner(rowKeyDistributor, resultScanners);
+                public T doInTable(AsyncTable<AdvancedScanResultConsumer> table) throws Throwable {
+                    final int bufferSize = getScanBufferSize(scan);
+                    ScanMetricReporter.Reporter reporter = scanMetric.newReporter(tableName, "async-parallel", new Scan[]{scan});
+                    AsyncParallelResultScanner scanner = new AsyncParallelResultScanner(table, scan, rowKeyDistributor, bufferSize);
                     try (scanner) {
                         return action.extractData(scanner);
                     } finally {
-                        reporter.report(resultScanners);
+                        reporter.report(scanner::getScanMetricsList);
                     }
                 }
             });
 
             if (logger.isDebugEnabled()) {
-                logger.debug("executeParallelDistributedScan createTime: {}ms", watch.stop());
+                logger.debug("executeParallelDistributedScan scanTime: {}ms", watch.stop());
             }
             return result;
         } catch (Exception e) {
@@ -428,6 +431,14 @@ public class HbaseAsyncTemplate implements DisposableBean, AsyncHbaseOperations
         }
     }
 
+    private int getScanBufferSize(Scan scan) {
+        final int caching = scan.getCaching();
+        if (caching > 0) {
+            return Math.min(caching, MAX_SCAN_BUFFER_SIZE);
+        }
+        return DEFAULT_SCAN_BUFFER_SIZE;
+    }
+
 
     public AsyncTable<ScanResultConsumer> getAsyncTable(TableName tableName) {
         return getAsyncTableFactory().getTable(tableName, executor);
@@ -76,6 +76,19 @@ public class HbasePutWriterConfiguration {
             return new ConcurrencyDecorator(concurrency);
         }
 
+        @Bean
+        public HbasePutWriter metadataPutWriter(@Qualifier("hbaseAsyncTableFactory") AsyncTableFactory asyncTableFactory,
+                                                @Qualifier("metadataConcurrencyDecorator") HbasePutWriterDecorator decorator) {
+            HbasePutWriter putWriter = newPutWriter(asyncTableFactory, decorator);
+            logger.info("hbaseMetadataPutWriter {}", putWriter);
+            return putWriter;
+        }
+
+        @Bean
+        public HbasePutWriterDecorator metadataConcurrencyDecorator(@Value("${hbase.client.metadata-put-writer.concurrency-limit:10000}") int concurrency) {
+            return new ConcurrencyDecorator(concurrency);
+        }
+
         private HbasePutWriter newPutWriter(AsyncTableFactory asyncTableFactory, HbasePutWriterDecorator decorator) {
             HbasePutWriter writer = new AsyncHbasePutWriter(asyncTableFactory);
             HbasePutWriter putWriter = decorator.decorator(writer);
@@ -134,6 +147,19 @@ public class HbasePutWriterConfiguration {
             return new ConcurrencyDecorator(concurrency);
         }
 
+        @Bean
+        public HbasePutWriter metadataPutWriter(@Qualifier("hbaseAsyncBufferedMutatorFactory") AsyncBufferedMutatorFactory asyncTableFactory,
+                                                @Qualifier("metadataConcurrencyDecorator") HbasePutWriterDecorator decorator) {
+            HbasePutWriter hbasePutWriter = newPutWriter(asyncTableFactory, decorator);
+            logger.info("HbaseMetadataPutWriter {}", hbasePutWriter);
+            return hbasePutWriter;
+        }
+
+        @Bean
+        public HbasePutWriterDecorator metadataConcurrencyDecorator(@Value("${hbase.client.metadata-put-writer.concurrency-limit:10000}") int concurrency) {
+            return new ConcurrencyDecorator(concurrency);
+        }
+
         private HbasePutWriter newPutWriter(AsyncBufferedMutatorFactory asyncTableFactory, HbasePutWriterDecorator decorator) {
             HbasePutWriter writer = new BatchAsyncHbasePutWriter(asyncTableFactory);
             HbasePutWriter putWriter = decorator.decorator(writer);
@@ -228,6 +254,23 @@ public class HbasePutWriterConfiguration {
             return new ConcurrencyDecorator(concurrency);
         }
 
+        @Bean
+        public HbasePutWriter metadataPutWriter(@Qualifier("hbaseAsyncConnection") AsyncConnection connection,
+                                                @Qualifier("metadataConcurrencyDecorator") HbasePutWriterDecorator decorator,
+                                                @Qualifier("defaultPollerOption")
+                                                AsyncPollerOption option) {
+
+            TableWriterFactory factory = new AsyncTableWriterFactory(connection);
+            HbasePutWriter hbasePutWriter = newPollerWriter("metadataAsyncPoller-", factory, decorator, option);
+            logger.info("MetadataPollerPutWriter {}", hbasePutWriter);
+            return hbasePutWriter;
+        }
+
+        @Bean
+        public HbasePutWriterDecorator metadataConcurrencyDecorator(@Value("${hbase.client.metadata-put-writer.concurrency-limit:10000}") int concurrency) {
+            return new ConcurrencyDecorator(concurrency);
+        }
+
         private HbasePutWriter newPollerWriter(String name,
                                                TableWriterFactory factory,
                                                HbasePutWriterDecorator decorator,
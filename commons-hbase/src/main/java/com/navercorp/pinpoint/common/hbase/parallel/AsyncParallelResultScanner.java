@@ -0,0 +1,329 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.hbase.parallel;
+
+import com.navercorp.pinpoint.common.hbase.scan.ScanUtils;
+import com.sematext.hbase.wd.AbstractRowKeyDistributor;
+import org.apache.hadoop.hbase.client.AdvancedScanResultConsumer;
+import org.apache.hadoop.hbase.client.AsyncTable;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.ResultScanner;
+import org.apache.hadoop.hbase.client.Scan;
+import org.apache.hadoop.hbase.client.metrics.ScanMetrics;
+import org.springframework.util.Assert;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Merges the salted scans of a {@link AbstractRowKeyDistributor} on top of {@link AsyncTable#scan(Scan, AdvancedScanResultConsumer)}.
+ * No scan thread is used : each split scan suspends itself when its buffer is full
+ * and is resumed when the reader drains the buffer.
+ */
+public class AsyncParallelResultScanner implements ResultScanner {
+
+    private static final Result[] RESULT_EMPTY_ARRAY = {};
+
+    private final Partition[] partitions;
+    private final ResultMergeQueue mergeQueue;
+    private boolean initialized = false;
+
+    // Scan.getLimit() of the original scan applied to the merged rows
+    private final int limit;
+    private int count = 0;
+
+    private volatile boolean closed = false;
+
+    /**
+     * @param bufferSize max results buffered per split scan before the scan is suspended
+     */
+    public AsyncParallelResultScanner(AsyncTable<AdvancedScanResultConsumer> table, Scan originalScan,
+                                      AbstractRowKeyDistributor keyDistributor, int bufferSize) throws IOException {
+        Objects.requireNonNull(table, "table");
+        Objects.requireNonNull(originalScan, "originalScan");
+        Objects.requireNonNull(keyDistributor, "keyDistributor");
+        Assert.isTrue(bufferSize > 0, "bufferSize must be greater than 0");
+
+        this.limit = mergedLimit(originalScan);
+
+        // the limit of the original scan is copied to each split scan :
+        // a row of the merged top-N can not be beyond the N-th row of its salt bucket
+        final Scan[] splitScans = ScanUtils.splitScans(originalScan, keyDistributor);
+        this.partitions = new Partition[splitScans.length];
+        this.mergeQueue = new ResultMergeQueue(keyDistributor, splitScans.length);
+        for (int i = 0; i < splitScans.length; i++) {
+            this.partitions[i] = new Partition(bufferSize);
+        }
+        for (int i = 0; i < splitScans.length; i++) {
+            table.scan(splitScans[i], partitions[i]);
+        }
+    }
+
+    static int mergedLimit(Scan scan) {
+        // limit counts rows, results are not rows with batch or partial results
+        if (scan.getBatch() > 0 || scan.getAllowPartialResults()) {
+            return 0;
+        }
+        return Math.max(scan.getLimit(), 0);
+    }
+
+    @Override
+    public Result next() throws IOException {
+        if (closed) {
+            return null;
+        }
+        if (limit > 0 && count >= limit) {
+            // terminate the remaining split scans
+            close();
+            return null;
+        }
+        if (!initialized) {
+            initialized = true;
+            for (int i = 0; i < partitions.length; i++) {
+                fetch(i);
+            }
+        }
+        final ResultMergeQueue.Head head = mergeQueue.poll();
+        if (head == null) {
+            return null;
+        }
+        count++;
+        if (limit <= 0 || count < limit) {
+            // refill from the split scan the result came from
+            fetch(head.getIndex());
+        }
+        return head.getResult();
+    }
+
+    private void fetch(int index) throws IOException {
+        final Result result = partitions[index].take();
+        if (result != null) {
+            mergeQueue.add(index, result);
+        }
+    }
+
+    @Override
+    public Result[] next(int nbRows) throws IOException {
+        // Identical to HTable.ClientScanner implementation
+        ArrayList<Result> resultSets = new ArrayList<>(nbRows);
+        for (int i = 0; i < nbRows; i++) {
+            Result next = next();
+            if (next != null) {
+                resultSets.add(next);
+            } else {
+                break;
+            }
+        }
+        return resultSets.toArray(RESULT_EMPTY_ARRAY);
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        this.closed = true;
+        for (Partition partition : partitions) {
+            partition.close();
+        }
+        this.mergeQueue.clear();
+    }
+
+    @Override
+    public boolean renewLease() {
+        return false;
+    }
+
+    @Override
+    public ScanMetrics getScanMetrics() {
+        return null;
+    }
+
+    public List<ScanMetrics> getScanMetricsList() {
+        final List<ScanMetrics> scanMetricsList = new ArrayList<>(partitions.length);
+        for (Partition partition : partitions) {
+            scanMetricsList.add(partition.scanMetrics);
+        }
+        return scanMetricsList;
+    }
+
+    @Override
+    public Iterator<Result> iterator() {
+        return new Iterator<>() {
+            Result next = null;
+
+            @Override
+            public boolean hasNext() {
+                if (next == null) {
+                    try {
+                        next = AsyncParallelResultScanner.this.next();
+                        return next != null;
+                    } catch (IOException e) {
+                        throw new ScanTaskException(e);
+                    }
+                }
+                return true;
+            }
+
+            @Override
+            public Result next() {
+                if (!hasNext()) {
+                    return null;
+                }
+                Result temp = next;
+                next = null;
+                return temp;
+            }
+        };
+    }
+
+    private class Partition implements AdvancedScanResultConsumer {
+        private final int bufferSize;
+        private final int resumeThreshold;
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition notEmpty = lock.newCondition();
+
+        // guarded by lock
+        private final ArrayDeque<Result> buffer = new ArrayDeque<>();
+        private ScanResumer resumer;
+        private boolean completed;
+        private Throwable throwable;
+
+        private volatile ScanMetrics scanMetrics;
+
+        private Partition(int bufferSize) {
+            this.bufferSize = bufferSize;
+            this.resumeThreshold = bufferSize / 2;
+        }
+
+        @Override
+        public void onNext(Result[] results, ScanController controller) {
+            if (closed) {
+                controller.terminate();
+                return;
+            }
+            lock.lock();
+            try {
+                for (Result result : results) {
+                    buffer.add(result);
+                }
+                if (buffer.size() >= bufferSize) {
+                    // back-pressure : stop fetching until the reader drains the buffer
+                    resumer = controller.suspend();
+                }
+                notEmpty.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void onHeartbeat(ScanController controller) {
+            if (closed) {
+                controller.terminate();
+            }
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            lock.lock();
+            try {
+                this.throwable = error;
+                this.completed = true;
+                notEmpty.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            lock.lock();
+            try {
+                this.completed = true;
+                notEmpty.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void onScanMetricsCreated(ScanMetrics scanMetrics) {
+            this.scanMetrics = scanMetrics;
+        }
+
+        private Result take() throws IOException {
+            ScanResumer resume = null;
+            final Result result;
+            lock.lock();
+            try {
+                while (buffer.isEmpty() && !completed) {
+                    notEmpty.await();
+                }
+                if (throwable != null) {
+                    // fail fast in case of errors
+                    throw toIOException(throwable);
+                }
+                result = buffer.poll();
+                if (resumer != null && buffer.size() <= resumeThreshold) {
+                    resume = resumer;
+                    resumer = null;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("interrupted while waiting for scan results");
+            } finally {
+                lock.unlock();
+            }
+            if (resume != null) {
+                resume.resume();
+            }
+            return result;
+        }
+
+        private void close() {
+            ScanResumer resume;
+            lock.lock();
+            try {
+                buffer.clear();
+                resume = resumer;
+                resumer = null;
+            } finally {
+                lock.unlock();
+            }
+            if (resume != null) {
+                // terminated on the next onNext()
+                resume.resume();
+            }
+        }
+    }
+
+    private static IOException toIOException(Throwable throwable) {
+        if (throwable instanceof IOException) {
+            return (IOException) throwable;
+        }
+        return new IOException(throwable);
+    }
+}
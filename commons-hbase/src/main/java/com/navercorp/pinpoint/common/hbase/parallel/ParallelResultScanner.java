@@ -24,7 +24,6 @@ import org.apache.hadoop.hbase.client.Result;
 import org.apache.hadoop.hbase.client.ResultScanner;
 import org.apache.hadoop.hbase.client.Scan;
 import org.apache.hadoop.hbase.client.metrics.ScanMetrics;
-import org.apache.hadoop.hbase.util.Bytes;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -40,9 +39,9 @@ public class ParallelResultScanner implements ResultScanner {
 
     private static final Result[] RESULT_EMPTY_ARRAY = {};
 
-    private final AbstractRowKeyDistributor keyDistributor;
     private final List<ScanTask> scanTasks;
-    private final Result[] nextResults;
+    private final ResultMergeQueue mergeQueue;
+    private boolean initialized = false;
     private Result next = null;
 
     public ParallelResultScanner(TableName tableName, HbaseAccessor hbaseAccessor, ExecutorService executor, Scan originalScan, AbstractRowKeyDistributor keyDistributor, int numParallelThreads) throws IOException {
@@ -50,13 +49,13 @@ public class ParallelResultScanner implements ResultScanner {
         Objects.requireNonNull(executor, "executor");
         Objects.requireNonNull(originalScan, "originalScan");
 
-        this.keyDistributor = Objects.requireNonNull(keyDistributor, "keyDistributor");
+        Objects.requireNonNull(keyDistributor, "keyDistributor");
 
         final ScanTaskConfig scanTaskConfig = new ScanTaskConfig(tableName, hbaseAccessor, keyDistributor, originalScan.getCaching());
         final Scan[] splitScans = ScanUtils.splitScans(originalScan, keyDistributor);
 
         this.scanTasks = createScanTasks(scanTaskConfig, splitScans, numParallelThreads);
-        this.nextResults = new Result[scanTasks.size()];
+        this.mergeQueue = new ResultMergeQueue(keyDistributor, scanTasks.size());
         for (ScanTask scanTask : scanTasks) {
             executor.execute(scanTask);
         }
@@ -107,33 +106,43 @@ public class ParallelResultScanner implements ResultScanner {
     }
 
     private Result nextInternal() throws IOException {
-        Result result = null;
-        int indexOfResultToUse = -1;
-        for (int i = 0; i < this.scanTasks.size(); i++) {
-            ScanTask scanTask = this.scanTasks.get(i);
-            // fail fast in case of errors
-            checkTask(scanTask);
-            if (nextResults[i] == null) {
-                try {
-                    nextResults[i] = scanTask.getResult();
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
+        if (!initialized) {
+            initialized = true;
+            for (int i = 0; i < this.scanTasks.size(); i++) {
+                if (!fetch(i)) {
                     return null;
                 }
-                if (nextResults[i] == null) {
-                    continue;
-                }
-            }
-            if (result == null || Bytes.compareTo(keyDistributor.getOriginalKey(nextResults[i].getRow()),
-                    keyDistributor.getOriginalKey(result.getRow())) < 0) {
-                result = nextResults[i];
-                indexOfResultToUse = i;
             }
         }
-        if (indexOfResultToUse >= 0) {
-            nextResults[indexOfResultToUse] = null;
+        final ResultMergeQueue.Head head = mergeQueue.poll();
+        if (head == null) {
+            return null;
+        }
+        // refill from the task the result came from
+        if (!fetch(head.getIndex())) {
+            return null;
+        }
+        return head.getResult();
+    }
+
+    /**
+     * @return {@code false} if interrupted
+     */
+    private boolean fetch(int index) {
+        final ScanTask scanTask = this.scanTasks.get(index);
+        final Result result;
+        try {
+            result = scanTask.getResult();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        // fail fast in case of errors
+        checkTask(scanTask);
+        if (result != null) {
+            mergeQueue.add(index, result);
         }
-        return result;
+        return true;
     }
 
     private void checkTask(ScanTask scanTask) {
@@ -164,6 +173,7 @@ public class ParallelResultScanner implements ResultScanner {
         for (ScanTask scanTask : this.scanTasks) {
             scanTask.close();
         }
+        this.mergeQueue.clear();
     }
 
     public boolean renewLease() {
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.hbase.parallel;
+
+import com.sematext.hbase.wd.AbstractRowKeyDistributor;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.util.Bytes;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.PriorityQueue;
+
+/**
+ * k-way merge of the salted scan heads ordered by original row key.
+ * The original key is computed once per result instead of on every comparison.
+ */
+final class ResultMergeQueue {
+
+    private static final Comparator<Head> COMPARATOR = new Comparator<Head>() {
+        @Override
+        public int compare(Head h1, Head h2) {
+            final int compare = Bytes.compareTo(h1.originalKey, h2.originalKey);
+            if (compare != 0) {
+                return compare;
+            }
+            // same as the previous linear merge : lower index first
+            return Integer.compare(h1.index, h2.index);
+        }
+    };
+
+    private final AbstractRowKeyDistributor keyDistributor;
+    private final PriorityQueue<Head> queue;
+
+    ResultMergeQueue(AbstractRowKeyDistributor keyDistributor, int size) {
+        this.keyDistributor = Objects.requireNonNull(keyDistributor, "keyDistributor");
+        this.queue = new PriorityQueue<>(Math.max(1, size), COMPARATOR);
+    }
+
+    void add(int index, Result result) {
+        Objects.requireNonNull(result, "result");
+        final byte[] originalKey = keyDistributor.getOriginalKey(result.getRow());
+        queue.add(new Head(index, result, originalKey));
+    }
+
+    /**
+     * @return head with the smallest original key, {@code null} if empty
+     */
+    Head poll() {
+        return queue.poll();
+    }
+
+    boolean isEmpty() {
+        return queue.isEmpty();
+    }
+
+    void clear() {
+        queue.clear();
+    }
+
+    static final class Head {
+        private final int index;
+        private final Result result;
+        private final byte[] originalKey;
+
+        private Head(int index, Result result, byte[] originalKey) {
+            this.index = index;
+            this.result = result;
+            this.originalKey = originalKey;
+        }
+
+        int getIndex() {
+            return index;
+        }
+
+        Result getResult() {
+            return result;
+        }
+    }
+}
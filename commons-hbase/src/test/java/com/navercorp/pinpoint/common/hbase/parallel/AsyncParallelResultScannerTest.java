@@ -0,0 +1,196 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.hbase.parallel;
+
+import com.sematext.hbase.wd.AbstractRowKeyDistributor;
+import com.sematext.hbase.wd.RowKeyDistributorByHashPrefix;
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.KeyValue;
+import org.apache.hadoop.hbase.client.AdvancedScanResultConsumer;
+import org.apache.hadoop.hbase.client.AsyncTable;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.Scan;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class AsyncParallelResultScannerTest {
+
+    private static final int BUCKET_SIZE = 2;
+
+    private final AbstractRowKeyDistributor distributor = new RowKeyDistributorByHashPrefix(new RowKeyDistributorByHashPrefix.OneByteSimpleHash(BUCKET_SIZE));
+
+    private AsyncTable<AdvancedScanResultConsumer> table;
+    private AdvancedScanResultConsumer.ScanController controller;
+    private AdvancedScanResultConsumer.ScanResumer resumer;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        table = mock(AsyncTable.class);
+        controller = mock(AdvancedScanResultConsumer.ScanController.class);
+        resumer = mock(AdvancedScanResultConsumer.ScanResumer.class);
+        when(controller.suspend()).thenReturn(resumer);
+    }
+
+    @Test
+    public void merge() throws IOException {
+        AsyncParallelResultScanner scanner = new AsyncParallelResultScanner(table, new Scan(), distributor, 10);
+        List<AdvancedScanResultConsumer> consumers = captureConsumers();
+
+        consumers.get(0).onNext(new Result[]{newResult("row-1"), newResult("row-3")}, controller);
+        consumers.get(0).onComplete();
+        consumers.get(1).onNext(new Result[]{newResult("row-2"), newResult("row-4")}, controller);
+        consumers.get(1).onComplete();
+
+        Assertions.assertEquals(List.of("row-1", "row-2", "row-3", "row-4"), readAll(scanner));
+        Assertions.assertNull(scanner.next());
+        verify(controller, never()).suspend();
+    }
+
+    @Test
+    public void backPressure() throws IOException {
+        AsyncParallelResultScanner scanner = new AsyncParallelResultScanner(table, new Scan(), distributor, 2);
+        List<AdvancedScanResultConsumer> consumers = captureConsumers();
+        consumers.get(1).onComplete();
+
+        consumers.get(0).onNext(new Result[]{newResult("row-1"), newResult("row-2")}, controller);
+        // buffer is full
+        verify(controller).suspend();
+        verify(resumer, never()).resume();
+
+        Assertions.assertEquals("row-1", originalRow(scanner.next()));
+        // drained to the resume threshold
+        verify(resumer).resume();
+
+        consumers.get(0).onNext(new Result[]{newResult("row-3")}, controller);
+        consumers.get(0).onComplete();
+        Assertions.assertEquals(List.of("row-2", "row-3"), readAll(scanner));
+    }
+
+    @Test
+    public void limit() throws IOException {
+        Scan scan = new Scan();
+        scan.setLimit(2);
+        AsyncParallelResultScanner scanner = new AsyncParallelResultScanner(table, scan, distributor, 10);
+        List<AdvancedScanResultConsumer> consumers = captureConsumers();
+        consumers.get(1).onComplete();
+
+        // the split scan is not completed, the scanner must not wait for a third row
+        consumers.get(0).onNext(new Result[]{newResult("row-1"), newResult("row-2"), newResult("row-3")}, controller);
+
+        Assertions.assertEquals("row-1", originalRow(scanner.next()));
+        Assertions.assertEquals("row-2", originalRow(scanner.next()));
+        Assertions.assertNull(scanner.next());
+
+        // the remaining split scan is terminated
+        consumers.get(0).onNext(new Result[]{newResult("row-4")}, controller);
+        verify(controller).terminate();
+    }
+
+    @Test
+    public void mergedLimit() {
+        Scan scan = new Scan();
+        scan.setLimit(10);
+        Assertions.assertEquals(10, AsyncParallelResultScanner.mergedLimit(scan));
+
+        scan.setBatch(5);
+        Assertions.assertEquals(0, AsyncParallelResultScanner.mergedLimit(scan));
+    }
+
+    @Test
+    public void close_terminate() throws IOException {
+        AsyncParallelResultScanner scanner = new AsyncParallelResultScanner(table, new Scan(), distributor, 1);
+        List<AdvancedScanResultConsumer> consumers = captureConsumers();
+
+        consumers.get(0).onNext(new Result[]{newResult("row-1")}, controller);
+        verify(controller).suspend();
+
+        scanner.close();
+        // the suspended scan is resumed to be terminated
+        verify(resumer).resume();
+        Assertions.assertNull(scanner.next());
+
+        consumers.get(0).onNext(new Result[]{newResult("row-2")}, controller);
+        consumers.get(1).onHeartbeat(controller);
+        verify(controller, times(2)).terminate();
+    }
+
+    @Test
+    public void onError() throws IOException {
+        AsyncParallelResultScanner scanner = new AsyncParallelResultScanner(table, new Scan(), distributor, 10);
+        List<AdvancedScanResultConsumer> consumers = captureConsumers();
+
+        IOException error = new IOException("test");
+        consumers.get(0).onError(error);
+        consumers.get(1).onComplete();
+
+        IOException actual = Assertions.assertThrows(IOException.class, scanner::next);
+        Assertions.assertSame(error, actual);
+    }
+
+    @Test
+    public void onError_runtimeException() throws IOException {
+        AsyncParallelResultScanner scanner = new AsyncParallelResultScanner(table, new Scan(), distributor, 10);
+        List<AdvancedScanResultConsumer> consumers = captureConsumers();
+
+        IllegalStateException error = new IllegalStateException("test");
+        consumers.get(0).onComplete();
+        consumers.get(1).onError(error);
+
+        IOException actual = Assertions.assertThrows(IOException.class, scanner::next);
+        Assertions.assertSame(error, actual.getCause());
+    }
+
+    private List<AdvancedScanResultConsumer> captureConsumers() {
+        ArgumentCaptor<AdvancedScanResultConsumer> captor = ArgumentCaptor.forClass(AdvancedScanResultConsumer.class);
+        verify(table, times(BUCKET_SIZE)).scan(any(Scan.class), captor.capture());
+        return captor.getAllValues();
+    }
+
+    private List<String> readAll(AsyncParallelResultScanner scanner) throws IOException {
+        List<String> rows = new ArrayList<>();
+        Result result;
+        while ((result = scanner.next()) != null) {
+            rows.add(originalRow(result));
+        }
+        return rows;
+    }
+
+    private String originalRow(Result result) {
+        return Bytes.toString(distributor.getOriginalKey(result.getRow()));
+    }
+
+    private Result newResult(String row) {
+        byte[] distributedKey = distributor.getDistributedKey(Bytes.toBytes(row));
+        Cell cell = new KeyValue(distributedKey, Bytes.toBytes("f"), Bytes.toBytes("q"), Bytes.toBytes("v"));
+        return Result.create(new Cell[]{cell});
+    }
+}
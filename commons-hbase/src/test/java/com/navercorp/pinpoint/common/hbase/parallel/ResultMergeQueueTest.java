@@ -0,0 +1,90 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.hbase.parallel;
+
+import com.sematext.hbase.wd.AbstractRowKeyDistributor;
+import com.sematext.hbase.wd.RowKeyDistributorByHashPrefix;
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.KeyValue;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ResultMergeQueueTest {
+
+    private final AbstractRowKeyDistributor distributor = new RowKeyDistributorByHashPrefix(new RowKeyDistributorByHashPrefix.OneByteSimpleHash(8));
+
+    @Test
+    public void merge() {
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            expected.add(String.format("row-%03d", i));
+        }
+
+        // split by salt bucket, each bucket is sorted like a region scan
+        Map<Byte, Deque<Result>> buckets = new HashMap<>();
+        for (String row : expected) {
+            byte[] distributedKey = distributor.getDistributedKey(Bytes.toBytes(row));
+            buckets.computeIfAbsent(distributedKey[0], k -> new ArrayDeque<>()).add(newResult(distributedKey));
+        }
+        List<Deque<Result>> partitions = new ArrayList<>(buckets.values());
+
+        ResultMergeQueue queue = new ResultMergeQueue(distributor, partitions.size());
+        for (int i = 0; i < partitions.size(); i++) {
+            queue.add(i, partitions.get(i).poll());
+        }
+
+        List<String> actual = new ArrayList<>();
+        ResultMergeQueue.Head head;
+        while ((head = queue.poll()) != null) {
+            actual.add(Bytes.toString(distributor.getOriginalKey(head.getResult().getRow())));
+            Result next = partitions.get(head.getIndex()).poll();
+            if (next != null) {
+                queue.add(head.getIndex(), next);
+            }
+        }
+
+        Assertions.assertEquals(expected, actual);
+        Assertions.assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void sameKey_lowerIndexFirst() {
+        byte[] distributedKey = distributor.getDistributedKey(Bytes.toBytes("row"));
+
+        ResultMergeQueue queue = new ResultMergeQueue(distributor, 2);
+        queue.add(1, newResult(distributedKey));
+        queue.add(0, newResult(distributedKey));
+
+        Assertions.assertEquals(0, queue.poll().getIndex());
+        Assertions.assertEquals(1, queue.poll().getIndex());
+        Assertions.assertNull(queue.poll());
+    }
+
+    private Result newResult(byte[] row) {
+        Cell cell = new KeyValue(row, Bytes.toBytes("f"), Bytes.toBytes("q"), Bytes.toBytes("v"));
+        return Result.create(new Cell[]{cell});
+    }
+}
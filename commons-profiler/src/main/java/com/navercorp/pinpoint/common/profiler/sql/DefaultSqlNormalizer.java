@@ -52,9 +52,43 @@ public class DefaultSqlNormalizer implements SqlNormalizer {
             return NULL_OBJECT;
         }
 
-        final int length = sql.length();
-        final StringBuilder normalized = new StringBuilder(length + NORMALIZED_SQL_BUFFER);
+        final TextOutput normalized = new TextOutput(sql.length() + NORMALIZED_SQL_BUFFER);
         final StringBuilder parsedParameter = new StringBuilder(32);
+        final boolean change = normalize(sql, normalized, parsedParameter);
+        if (change) {
+            return new DefaultNormalizedSql(normalized.toString(), toParameterString(parsedParameter));
+        } else {
+            // Reuse if not modified.
+            // 1. new strings are not generated
+            // 2. reuse hashcodes
+            return new DefaultNormalizedSql(sql, "");
+        }
+    }
+
+    /**
+     * Runs the same pass as {@link #normalizeSql(String)} but only hashes the normalized text instead of building it.
+     * Two sqls have the same fingerprint when their normalized sqls are equal.
+     */
+    public FingerprintedSql fingerprintSql(final String sql) {
+        if (sql == null) {
+            return fingerprintSql("");
+        }
+
+        final FingerprintOutput fingerprint = new FingerprintOutput();
+        final StringBuilder parsedParameter = new StringBuilder(32);
+        normalize(sql, fingerprint, parsedParameter);
+        return new FingerprintedSql(fingerprint.toFingerprint(), toParameterString(parsedParameter));
+    }
+
+    private String toParameterString(StringBuilder parsedParameter) {
+        if (parsedParameter.length() > 0) {
+            return parsedParameter.toString();
+        }
+        return "";
+    }
+
+    private boolean normalize(final String sql, final Output normalized, final StringBuilder parsedParameter) {
+        final int length = sql.length();
         boolean change = false;
         int replaceIndex = 0;
         boolean numberTokenStartEnable = true;
@@ -269,24 +303,10 @@ public class DefaultSqlNormalizer implements SqlNormalizer {
                     break;
             }
         }
-        if (change) {
-            String parsedParameterString;
-            if (parsedParameter.length() > 0) {
-                parsedParameterString = parsedParameter.toString();
-            } else {
-                parsedParameterString = "";
-            }
-
-            return new DefaultNormalizedSql(normalized.toString(), parsedParameterString);
-        } else {
-            // Reuse if not modified.
-            // 1. new strings are not generated
-            // 2. reuse hashcodes
-            return new DefaultNormalizedSql(sql, "");
-        }
+        return change;
     }
 
-    private int readLine(String sql, StringBuilder normalized, int index) {
+    private int readLine(String sql, Output normalized, int index) {
         final int length = sql.length();
         for (; index < length; index++) {
             char ch = sql.charAt(index);
@@ -341,7 +361,7 @@ public class DefaultSqlNormalizer implements SqlNormalizer {
     @Override
     public String combineOutputParams(String sql, IndexedSupplier<String> outputParams) {
         final int length = sql.length();
-        final StringBuilder normalized = new StringBuilder(length + 16);
+        final TextOutput normalized = new TextOutput(length + 16);
         for (int i = 0; i < length; i++) {
             final char ch = sql.charAt(i);
             switch (ch) {
@@ -504,7 +524,7 @@ public class DefaultSqlNormalizer implements SqlNormalizer {
 
         final Queue<String> bindValueQueue = new LinkedList<>(bindValues);
         final int length = sql.length();
-        final StringBuilder result = new StringBuilder(length + 16);
+        final TextOutput result = new TextOutput(length + 16);
 
         boolean inQuotes = false;
         char quoteChar = 0;
@@ -567,7 +587,9 @@ public class DefaultSqlNormalizer implements SqlNormalizer {
                     result.append(ch);
                 } else if(ch == '?') {
                     if(!bindValueQueue.isEmpty()) {
-                        result.append('\'').append(bindValueQueue.poll()).append('\'');
+                        result.append('\'');
+                        result.append(bindValueQueue.poll());
+                        result.append('\'');
                     }
                 } else {
                     result.append(ch);
@@ -577,4 +599,90 @@ public class DefaultSqlNormalizer implements SqlNormalizer {
 
         return result.toString();
     }
-}
\ No newline at end of file
+
+    private interface Output {
+        void append(char ch);
+
+        void append(String str);
+
+        void append(int value);
+    }
+
+    private static class TextOutput implements Output {
+        private final StringBuilder builder;
+
+        private TextOutput(int capacity) {
+            this.builder = new StringBuilder(capacity);
+        }
+
+        @Override
+        public void append(char ch) {
+            builder.append(ch);
+        }
+
+        @Override
+        public void append(String str) {
+            builder.append(str);
+        }
+
+        @Override
+        public void append(int value) {
+            builder.append(value);
+        }
+
+        @Override
+        public String toString() {
+            return builder.toString();
+        }
+    }
+
+    private static class FingerprintOutput implements Output {
+        private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+        private static final long FNV_PRIME = 0x100000001b3L;
+        private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+        private long high = FNV_OFFSET_BASIS;
+        private long low = GOLDEN_GAMMA;
+        private int length;
+
+        @Override
+        public void append(char ch) {
+            high = (high ^ ch) * FNV_PRIME;
+            low = Long.rotateLeft(low ^ ch, 31) * GOLDEN_GAMMA;
+            length++;
+        }
+
+        @Override
+        public void append(String str) {
+            for (int i = 0; i < str.length(); i++) {
+                append(str.charAt(i));
+            }
+        }
+
+        @Override
+        public void append(int value) {
+            // same chars as StringBuilder.append(int) without creating a string
+            if (value < 0) {
+                append('-');
+                value = -value;
+            }
+            int divisor = 1;
+            while (value / divisor >= 10) {
+                divisor *= 10;
+            }
+            for (; divisor > 0; divisor /= 10) {
+                append((char) ('0' + (value / divisor) % 10));
+            }
+        }
+
+        private SqlFingerprint toFingerprint() {
+            return new SqlFingerprint(high, mix(low), length);
+        }
+
+        private static long mix(long z) {
+            z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+            z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+            return z ^ (z >>> 31);
+        }
+    }
+}
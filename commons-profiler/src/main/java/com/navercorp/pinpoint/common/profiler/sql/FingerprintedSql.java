@@ -0,0 +1,47 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.profiler.sql;
+
+import java.util.Objects;
+
+/**
+ * Result of {@link DefaultSqlNormalizer#fingerprintSql(String)}.
+ * The normalized sql itself is not materialized.
+ */
+public class FingerprintedSql {
+
+    private final SqlFingerprint fingerprint;
+    private final String parseParameter;
+
+    public FingerprintedSql(SqlFingerprint fingerprint, String parseParameter) {
+        this.fingerprint = Objects.requireNonNull(fingerprint, "fingerprint");
+        this.parseParameter = Objects.requireNonNull(parseParameter, "parseParameter");
+    }
+
+    public SqlFingerprint getFingerprint() {
+        return fingerprint;
+    }
+
+    public String getParseParameter() {
+        return parseParameter;
+    }
+
+    @Override
+    public String toString() {
+        return "FingerprintedSql{" + fingerprint + ", parseParameter='" + parseParameter + '\'' + '}';
+    }
+}
@@ -387,6 +387,10 @@ public class DefaultSqlNormalizerTest {
         }
 
         Assertions.assertEquals(outputExpected, parsingResult.getParseParameter(), "outputParam check");
+
+        FingerprintedSql fingerprintedSql = ((DefaultSqlNormalizer) sqlNormalizer).fingerprintSql(expected);
+        Assertions.assertEquals(outputExpected, fingerprintedSql.getParseParameter(), "fingerprint outputParam check");
+        Assertions.assertEquals(normalizedSql.length(), fingerprintedSql.getFingerprint().getLength(), "fingerprint length check");
     }
 
     private void assertEqualObject(String expected) {
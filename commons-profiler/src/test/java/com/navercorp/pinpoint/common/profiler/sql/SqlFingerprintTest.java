@@ -0,0 +1,133 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.profiler.sql;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class SqlFingerprintTest {
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    private final DefaultSqlNormalizer sqlNormalizer = new DefaultSqlNormalizer();
+
+    /**
+     * Shape of the sql generated by ORMs for wide entities with large IN lists.
+     */
+    static String ormSql(int columns, int inListSize, long seed) {
+        StringBuilder sql = new StringBuilder(columns * 40 + inListSize * 8);
+        sql.append("/* load com.example.order.OrderEntity */ select ");
+        for (int i = 0; i < columns; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("orderentit0_.column_").append(i).append(" as column_").append(i).append("_0_");
+        }
+        sql.append(" from order_entity orderentit0_ left outer join customer customer1_ on orderentit0_.customer_id=customer1_.id");
+        sql.append(" where orderentit0_.status='ST").append(seed % 7).append("' and orderentit0_.id in (");
+        for (int i = 0; i < inListSize; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(seed * 31 + i);
+        }
+        sql.append(") and orderentit0_.amount>").append(seed % 1000).append(".5 order by orderentit0_.id desc limit 100");
+        return sql.toString();
+    }
+
+    @Test
+    public void sameTemplate() {
+        for (int columns : new int[]{40, 150, 400}) {
+            String sql1 = ormSql(columns, 50, 1);
+            String sql2 = ormSql(columns, 50, 12345);
+            Assertions.assertTrue(sql1.length() >= 2 * 1024, "sql size");
+
+            assertFingerprint(sql1);
+            assertFingerprint(sql2);
+
+            Assertions.assertEquals(sqlNormalizer.normalizeSql(sql1).getNormalizedSql(), sqlNormalizer.normalizeSql(sql2).getNormalizedSql());
+            Assertions.assertEquals(sqlNormalizer.fingerprintSql(sql1).getFingerprint(), sqlNormalizer.fingerprintSql(sql2).getFingerprint());
+        }
+    }
+
+    @Test
+    public void differentTemplate() {
+        SqlFingerprint fingerprint1 = sqlNormalizer.fingerprintSql(ormSql(40, 50, 1)).getFingerprint();
+        SqlFingerprint fingerprint2 = sqlNormalizer.fingerprintSql(ormSql(40, 51, 1)).getFingerprint();
+        SqlFingerprint fingerprint3 = sqlNormalizer.fingerprintSql(ormSql(41, 50, 1)).getFingerprint();
+
+        Assertions.assertNotEquals(fingerprint1, fingerprint2);
+        Assertions.assertNotEquals(fingerprint1, fingerprint3);
+    }
+
+    @Test
+    public void notModified() {
+        String sql = "select * from dual where a = ?";
+        FingerprintedSql fingerprintedSql = sqlNormalizer.fingerprintSql(sql);
+
+        Assertions.assertEquals(sql.length(), fingerprintedSql.getFingerprint().getLength());
+        Assertions.assertEquals("", fingerprintedSql.getParseParameter());
+    }
+
+    @Test
+    public void nullCheck() {
+        Assertions.assertEquals(sqlNormalizer.fingerprintSql(""), sqlNormalizer.fingerprintSql(null));
+    }
+
+    private void assertFingerprint(String sql) {
+        NormalizedSql normalizedSql = sqlNormalizer.normalizeSql(sql);
+        FingerprintedSql fingerprintedSql = sqlNormalizer.fingerprintSql(sql);
+
+        Assertions.assertEquals(normalizedSql.getParseParameter(), fingerprintedSql.getParseParameter());
+        Assertions.assertEquals(normalizedSql.getNormalizedSql().length(), fingerprintedSql.getFingerprint().getLength());
+    }
+
+    @Disabled
+    @Test
+    public void benchmark() {
+        final int iterations = 20000;
+        for (int columns : new int[]{40, 150, 400}) {
+            final String sql = ormSql(columns, 100, 7);
+
+            // warm up
+            for (int i = 0; i < iterations; i++) {
+                sqlNormalizer.normalizeSql(sql);
+                sqlNormalizer.fingerprintSql(sql);
+            }
+
+            long start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                sqlNormalizer.normalizeSql(sql);
+            }
+            long normalizeTime = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                sqlNormalizer.fingerprintSql(sql);
+            }
+            long fingerprintTime = System.nanoTime() - start;
+
+            logger.info("sql length:{} normalizeSql:{}ms fingerprintSql:{}ms", sql.length(),
+                    TimeUnit.NANOSECONDS.toMillis(normalizeTime), TimeUnit.NANOSECONDS.toMillis(fingerprintTime));
+        }
+    }
+}
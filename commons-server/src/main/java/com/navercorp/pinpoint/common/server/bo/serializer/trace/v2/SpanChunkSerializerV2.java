@@ -1,5 +1,7 @@
 package com.navercorp.pinpoint.common.server.bo.serializer.trace.v2;
 
+import com.navercorp.pinpoint.common.buffer.PooledBuffer;
+import com.navercorp.pinpoint.common.buffer.ThreadLocalBufferPool;
 import com.navercorp.pinpoint.common.hbase.HbaseTables;
 import com.navercorp.pinpoint.common.server.bo.SpanChunkBo;
 import com.navercorp.pinpoint.common.server.bo.serializer.HbaseSerializer;
@@ -15,9 +17,15 @@ import java.util.Objects;
 public class SpanChunkSerializerV2 implements HbaseSerializer<SpanChunkBo, Put> {
 
     private final SpanEncoder spanEncoder;
+    private final ThreadLocalBufferPool bufferPool;
 
     public SpanChunkSerializerV2(SpanEncoder spanEncoder) {
+        this(spanEncoder, new ThreadLocalBufferPool());
+    }
+
+    public SpanChunkSerializerV2(SpanEncoder spanEncoder, ThreadLocalBufferPool bufferPool) {
         this.spanEncoder = Objects.requireNonNull(spanEncoder, "spanEncoder");
+        this.bufferPool = Objects.requireNonNull(bufferPool, "bufferPool");
     }
 
     @Override
@@ -27,11 +35,18 @@ public class SpanChunkSerializerV2 implements HbaseSerializer<SpanChunkBo, Put>
 
         SpanEncodingContext<SpanChunkBo> encodingContext = new SpanEncodingContext<>(spanChunkBo);
 
-        ByteBuffer qualifier = spanEncoder.encodeSpanChunkQualifier(encodingContext);
-        ByteBuffer columnValue = spanEncoder.encodeSpanChunkColumnValue(encodingContext);
+        // Put copies qualifier and value into its own KeyValue, so the pooled arrays can be reused right after
+        try (PooledBuffer qualifierBuffer = bufferPool.acquire();
+             PooledBuffer valueBuffer = bufferPool.acquire()) {
+            spanEncoder.encodeSpanChunkQualifier(qualifierBuffer, encodingContext);
+            spanEncoder.encodeSpanChunkColumnValue(valueBuffer, encodingContext);
+
+            ByteBuffer qualifier = qualifierBuffer.wrapByteBuffer();
+            ByteBuffer columnValue = valueBuffer.wrapByteBuffer();
 
-        long acceptedTime = put.getTimestamp();
-        put.addColumn(HbaseTables.TRACE_V2_SPAN.getName(), qualifier, acceptedTime, columnValue);
+            long acceptedTime = put.getTimestamp();
+            put.addColumn(HbaseTables.TRACE_V2_SPAN.getName(), qualifier, acceptedTime, columnValue);
+        }
     }
 
 }
@@ -31,6 +31,7 @@ import com.navercorp.pinpoint.common.server.bo.filter.SpanEventFilter;
 import com.navercorp.pinpoint.common.server.bo.serializer.trace.v2.bitfield.SpanBitField;
 import com.navercorp.pinpoint.common.server.bo.serializer.trace.v2.bitfield.SpanEventBitField;
 import com.navercorp.pinpoint.common.server.bo.serializer.trace.v2.bitfield.SpanEventQualifierBitField;
+import com.navercorp.pinpoint.common.util.BytesUtils;
 import com.navercorp.pinpoint.io.SpanVersion;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -49,6 +50,8 @@ public class SpanDecoderV0 implements SpanDecoder {
 
     private static final AnnotationTranscoder transcoder = new AnnotationTranscoder();
 
+    private static final int SPAN_EVENT_VAR_INT_SIZE = 4;
+
     @Override
     public Object decode(Buffer qualifier, Buffer columnValue, SpanDecodingContext decodingContext) {
         final byte type = qualifier.readByte();
@@ -180,13 +183,15 @@ public class SpanDecoderV0 implements SpanDecoder {
             return new ArrayList<>();
         }
         final List<SpanEventBo> spanEventBoList = new ArrayList<>();
+        // leading varint fields of a span event, decoded in one bulk read
+        final int[] varInts = new int[SPAN_EVENT_VAR_INT_SIZE];
         SpanEventBo prev = null;
         for (int i = 0; i < spanEventSize; i++) {
             SpanEventBo spanEvent;
             if (i == 0) {
-                spanEvent = readFirstSpanEvent(buffer, decodingContext);
+                spanEvent = readFirstSpanEvent(buffer, decodingContext, varInts);
             } else {
-                spanEvent = readNextSpanEvent(buffer, prev, decodingContext);
+                spanEvent = readNextSpanEvent(buffer, prev, decodingContext, varInts);
             }
             prev = spanEvent;
             boolean accept = spanEventFilter.filter(spanEvent);
@@ -198,47 +203,39 @@ public class SpanDecoderV0 implements SpanDecoder {
         return spanEventBoList;
     }
 
-    private SpanEventBo readNextSpanEvent(final Buffer buffer, final SpanEventBo prev, SpanDecodingContext decodingContext) {
+    private SpanEventBo readNextSpanEvent(final Buffer buffer, final SpanEventBo prev, SpanDecodingContext decodingContext, int[] varInts) {
         final SpanEventBo spanEventBo = new SpanEventBo();
 
         final SpanEventBitField bitField = new SpanEventBitField(buffer.readShort());
 
-        switch (bitField.getStartElapsedEncodingStrategy()) {
-            case PREV_DELTA:
-                int startTimeDelta = buffer.readVInt();
-                int startTime = startTimeDelta + prev.getStartElapsed();
-                spanEventBo.setStartElapsed(startTime);
-                break;
-            case PREV_EQUALS:
-                spanEventBo.setStartElapsed(prev.getStartElapsed());
-                break;
-            default:
-                throw new IllegalStateException("unsupported SequenceEncodingStrategy");
+        // startElapsedDelta?, endElapsed, sequenceDelta?, depth? are written back to back
+        final boolean startElapsedDelta = isStartElapsedDelta(bitField);
+        final boolean sequenceDelta = isSequenceDelta(bitField);
+        final boolean rawDepth = isRawDepth(bitField);
+        final int varIntSize = 1 + (startElapsedDelta ? 1 : 0) + (sequenceDelta ? 1 : 0) + (rawDepth ? 1 : 0);
+        buffer.readVIntArray(varInts, 0, varIntSize);
+        int index = 0;
+
+        if (startElapsedDelta) {
+            int startTimeDelta = varInts[index++];
+            int startTime = startTimeDelta + prev.getStartElapsed();
+            spanEventBo.setStartElapsed(startTime);
+        } else {
+            spanEventBo.setStartElapsed(prev.getStartElapsed());
         }
-        spanEventBo.setEndElapsed(buffer.readVInt());
+        spanEventBo.setEndElapsed(varInts[index++]);
 
-        switch (bitField.getSequenceEncodingStrategy()) {
-            case PREV_DELTA:
-                int sequenceDelta = buffer.readVInt();
-                final int sequence = sequenceDelta + prev.getSequence();
-                spanEventBo.setSequence((short) sequence);
-                break;
-            case PREV_ADD1:
-                spanEventBo.setSequence((short) (prev.getSequence() + 1));
-                break;
-            default:
-                throw new IllegalStateException("unsupported SequenceEncodingStrategy");
+        if (sequenceDelta) {
+            final int sequence = varInts[index++] + prev.getSequence();
+            spanEventBo.setSequence((short) sequence);
+        } else {
+            spanEventBo.setSequence((short) (prev.getSequence() + 1));
         }
 
-        switch (bitField.getDepthEncodingStrategy()) {
-            case RAW:
-                spanEventBo.setDepth(buffer.readSVInt());
-                break;
-            case PREV_EQUALS:
-                spanEventBo.setDepth(prev.getDepth());
-                break;
-            default:
-                throw new IllegalStateException("unsupported DepthEncodingStrategy");
+        if (rawDepth) {
+            spanEventBo.setDepth(BytesUtils.zigzagToInt(varInts[index]));
+        } else {
+            spanEventBo.setDepth(prev.getDepth());
         }
 
         switch (bitField.getServiceTypeEncodingStrategy()) {
@@ -286,12 +283,13 @@ public class SpanDecoderV0 implements SpanDecoder {
         return spanEventBo;
     }
 
-    private SpanEventBo readFirstSpanEvent(Buffer buffer, SpanDecodingContext decodingContext) {
+    private SpanEventBo readFirstSpanEvent(Buffer buffer, SpanDecodingContext decodingContext, int[] varInts) {
         final SpanEventBitField bitField = new SpanEventBitField(buffer.readByte());
 
         final SpanEventBo firstSpanEvent = new SpanEventBo();
-        firstSpanEvent.setStartElapsed(buffer.readVInt());
-        firstSpanEvent.setEndElapsed(buffer.readVInt());
+        buffer.readVIntArray(varInts, 0, 2);
+        firstSpanEvent.setStartElapsed(varInts[0]);
+        firstSpanEvent.setEndElapsed(varInts[1]);
 
         firstSpanEvent.setSequence(buffer.readShort());
         firstSpanEvent.setDepth(buffer.readSVInt());
@@ -329,6 +327,39 @@ public class SpanDecoderV0 implements SpanDecoder {
         return firstSpanEvent;
     }
 
+    private static boolean isStartElapsedDelta(SpanEventBitField bitField) {
+        switch (bitField.getStartElapsedEncodingStrategy()) {
+            case PREV_DELTA:
+                return true;
+            case PREV_EQUALS:
+                return false;
+            default:
+                throw new IllegalStateException("unsupported StartElapsedEncodingStrategy");
+        }
+    }
+
+    private static boolean isSequenceDelta(SpanEventBitField bitField) {
+        switch (bitField.getSequenceEncodingStrategy()) {
+            case PREV_DELTA:
+                return true;
+            case PREV_ADD1:
+                return false;
+            default:
+                throw new IllegalStateException("unsupported SequenceEncodingStrategy");
+        }
+    }
+
+    private static boolean isRawDepth(SpanEventBitField bitField) {
+        switch (bitField.getDepthEncodingStrategy()) {
+            case RAW:
+                return true;
+            case PREV_EQUALS:
+                return false;
+            default:
+                throw new IllegalStateException("unsupported DepthEncodingStrategy");
+        }
+    }
+
     private List<AnnotationBo> readAnnotationList(Buffer buffer, SpanDecodingContext decodingContext) {
         int annotationListSize = buffer.readVInt();
         List<AnnotationBo> annotationBoList = new ArrayList<>(annotationListSize);
@@ -1,5 +1,6 @@
 package com.navercorp.pinpoint.common.server.bo.serializer.trace.v2;
 
+import com.navercorp.pinpoint.common.buffer.Buffer;
 import com.navercorp.pinpoint.common.server.bo.SpanBo;
 import com.navercorp.pinpoint.common.server.bo.SpanChunkBo;
 
@@ -25,4 +26,13 @@ public interface SpanEncoder {
     ByteBuffer encodeSpanChunkQualifier(SpanEncodingContext<SpanChunkBo> encodingContext);
 
     ByteBuffer encodeSpanChunkColumnValue(SpanEncodingContext<SpanChunkBo> encodingContext);
+
+    // write into the given buffer, e.g. a pooled one
+    void encodeSpanQualifier(Buffer buffer, SpanEncodingContext<SpanBo> encodingContext);
+
+    void encodeSpanColumnValue(Buffer buffer, SpanEncodingContext<SpanBo> encodingContext);
+
+    void encodeSpanChunkQualifier(Buffer buffer, SpanEncodingContext<SpanChunkBo> encodingContext);
+
+    void encodeSpanChunkColumnValue(Buffer buffer, SpanEncodingContext<SpanChunkBo> encodingContext);
 }
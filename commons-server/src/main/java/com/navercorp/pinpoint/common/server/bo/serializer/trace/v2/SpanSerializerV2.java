@@ -1,5 +1,7 @@
 package com.navercorp.pinpoint.common.server.bo.serializer.trace.v2;
 
+import com.navercorp.pinpoint.common.buffer.PooledBuffer;
+import com.navercorp.pinpoint.common.buffer.ThreadLocalBufferPool;
 import com.navercorp.pinpoint.common.hbase.HbaseTables;
 import com.navercorp.pinpoint.common.server.bo.SpanBo;
 import com.navercorp.pinpoint.common.server.bo.serializer.HbaseSerializer;
@@ -16,9 +18,15 @@ public class SpanSerializerV2 implements HbaseSerializer<SpanBo, Put> {
 
 
     private final SpanEncoder spanEncoder;
+    private final ThreadLocalBufferPool bufferPool;
 
     public SpanSerializerV2(SpanEncoder spanEncoder) {
+        this(spanEncoder, new ThreadLocalBufferPool());
+    }
+
+    public SpanSerializerV2(SpanEncoder spanEncoder, ThreadLocalBufferPool bufferPool) {
         this.spanEncoder = Objects.requireNonNull(spanEncoder, "spanEncoder");
+        this.bufferPool = Objects.requireNonNull(bufferPool, "bufferPool");
     }
 
 
@@ -27,11 +35,18 @@ public class SpanSerializerV2 implements HbaseSerializer<SpanBo, Put> {
 
         final SpanEncodingContext<SpanBo> encodingContext = new SpanEncodingContext<>(spanBo);
 
-        ByteBuffer qualifier = spanEncoder.encodeSpanQualifier(encodingContext);
-        ByteBuffer columnValue = spanEncoder.encodeSpanColumnValue(encodingContext);
+        // Put copies qualifier and value into its own KeyValue, so the pooled arrays can be reused right after
+        try (PooledBuffer qualifierBuffer = bufferPool.acquire();
+             PooledBuffer valueBuffer = bufferPool.acquire()) {
+            spanEncoder.encodeSpanQualifier(qualifierBuffer, encodingContext);
+            spanEncoder.encodeSpanColumnValue(valueBuffer, encodingContext);
+
+            ByteBuffer qualifier = qualifierBuffer.wrapByteBuffer();
+            ByteBuffer columnValue = valueBuffer.wrapByteBuffer();
 
-        long acceptedTime = put.getTimestamp();
-        put.addColumn(HbaseTables.TRACE_V2_SPAN.getName(), qualifier, acceptedTime, columnValue);
+            long acceptedTime = put.getTimestamp();
+            put.addColumn(HbaseTables.TRACE_V2_SPAN.getName(), qualifier, acceptedTime, columnValue);
+        }
     }
 
 
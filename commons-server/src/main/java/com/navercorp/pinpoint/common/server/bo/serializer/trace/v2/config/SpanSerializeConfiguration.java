@@ -1,5 +1,6 @@
 package com.navercorp.pinpoint.common.server.bo.serializer.trace.v2.config;
 
+import com.navercorp.pinpoint.common.buffer.ThreadLocalBufferPool;
 import com.navercorp.pinpoint.common.server.bo.serializer.trace.v2.SpanChunkSerializerV2;
 import com.navercorp.pinpoint.common.server.bo.serializer.trace.v2.SpanDecoderV0;
 import com.navercorp.pinpoint.common.server.bo.serializer.trace.v2.SpanEncoder;
@@ -15,13 +16,18 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class SpanSerializeConfiguration {
     @Bean
-    public SpanChunkSerializerV2 spanChunkSerializerV2(SpanEncoder spanEncoder) {
-        return new SpanChunkSerializerV2(spanEncoder);
+    public ThreadLocalBufferPool spanBufferPool() {
+        return new ThreadLocalBufferPool();
     }
 
     @Bean
-    public SpanSerializerV2 spanSerializerV2(SpanEncoder spanEncoder) {
-        return new SpanSerializerV2(spanEncoder);
+    public SpanChunkSerializerV2 spanChunkSerializerV2(SpanEncoder spanEncoder, ThreadLocalBufferPool spanBufferPool) {
+        return new SpanChunkSerializerV2(spanEncoder, spanBufferPool);
+    }
+
+    @Bean
+    public SpanSerializerV2 spanSerializerV2(SpanEncoder spanEncoder, ThreadLocalBufferPool spanBufferPool) {
+        return new SpanSerializerV2(spanEncoder, spanBufferPool);
     }
 
     @Bean
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.server.scatter;
+
+import com.navercorp.pinpoint.common.PinpointConstants;
+import com.navercorp.pinpoint.common.buffer.ByteArrayUtils;
+import com.navercorp.pinpoint.common.server.bo.serializer.agent.ApplicationNameRowKeyEncoder;
+import com.navercorp.pinpoint.common.util.BytesUtils;
+import com.navercorp.pinpoint.common.util.TimeUtils;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Key layout of the ApplicationScatterRollup table.
+ * <pre>
+ * rowKey             = APPLICATIONNAME(24bytes) + REVERSED TIME BUCKET(8bytes)
+ * counter qualifier          = ELAPSED BUCKET(4bytes) + ERROR(1byte)
+ * sample sequence qualifier  = ELAPSED BUCKET(4bytes) + ERROR(1byte)
+ * sample qualifier           = ELAPSED BUCKET(4bytes) + ERROR(1byte) + SLOT(1byte)
+ * </pre>
+ * The samples of a cell form a ring of {@link #SAMPLE_SLOT_COUNT} slots shared by all collectors.
+ * The sample sequence is an HBase counter next to the samples, a writer increments it to reserve the slots it writes.
+ */
+public final class ScatterRollupUtils {
+
+    public static final long TIME_BUCKET_MILLIS = TimeUnit.MINUTES.toMillis(1);
+    public static final int ELAPSED_BUCKET_MILLIS = 100;
+    public static final int MAX_ELAPSED_BUCKET = (int) TimeUnit.MINUTES.toMillis(1);
+
+    public static final int COUNTER_QUALIFIER_SIZE = BytesUtils.INT_BYTE_LENGTH + 1;
+    public static final int SAMPLE_SEQUENCE_QUALIFIER_SIZE = COUNTER_QUALIFIER_SIZE;
+    public static final int SAMPLE_QUALIFIER_SIZE = COUNTER_QUALIFIER_SIZE + 1;
+
+    public static final int SAMPLE_SLOT_COUNT = 16;
+
+    private static final ApplicationNameRowKeyEncoder ROW_KEY_ENCODER = new ApplicationNameRowKeyEncoder();
+
+    private ScatterRollupUtils() {
+    }
+
+    public static long getTimeBucket(long acceptedTime) {
+        return acceptedTime - (acceptedTime % TIME_BUCKET_MILLIS);
+    }
+
+    public static int getElapsedBucket(int elapsed) {
+        if (elapsed <= 0) {
+            return 0;
+        }
+        final int bucket = elapsed - (elapsed % ELAPSED_BUCKET_MILLIS);
+        return Math.min(bucket, MAX_ELAPSED_BUCKET);
+    }
+
+    public static byte[] makeRowKey(String applicationName, long timeBucket) {
+        Objects.requireNonNull(applicationName, "applicationName");
+        return ROW_KEY_ENCODER.encodeRowKey(applicationName, timeBucket);
+    }
+
+    public static long parseTimeBucket(byte[] rowKey) {
+        Objects.requireNonNull(rowKey, "rowKey");
+        final long reverseTimeBucket = ByteArrayUtils.bytesToLong(rowKey, PinpointConstants.APPLICATION_NAME_MAX_LEN);
+        return TimeUtils.recoveryTimeMillis(reverseTimeBucket);
+    }
+
+    public static byte[] makeCounterQualifier(int elapsedBucket, boolean error) {
+        final byte[] qualifier = new byte[COUNTER_QUALIFIER_SIZE];
+        writeCell(qualifier, elapsedBucket, error);
+        return qualifier;
+    }
+
+    public static byte[] makeSampleSequenceQualifier(int elapsedBucket, boolean error) {
+        final byte[] qualifier = new byte[SAMPLE_SEQUENCE_QUALIFIER_SIZE];
+        writeCell(qualifier, elapsedBucket, error);
+        return qualifier;
+    }
+
+    public static byte[] makeSampleQualifier(int elapsedBucket, boolean error, int slot) {
+        if (slot < 0 || slot >= SAMPLE_SLOT_COUNT) {
+            throw new IllegalArgumentException("slot out of range:" + slot);
+        }
+        final byte[] qualifier = new byte[SAMPLE_QUALIFIER_SIZE];
+        final int offset = writeCell(qualifier, elapsedBucket, error);
+        qualifier[offset] = (byte) slot;
+        return qualifier;
+    }
+
+    /**
+     * @param sequence value of the sample sequence counter
+     */
+    public static int getSampleSlot(long sequence) {
+        return (int) Math.floorMod(sequence, (long) SAMPLE_SLOT_COUNT);
+    }
+
+    private static int writeCell(byte[] qualifier, int elapsedBucket, boolean error) {
+        final int offset = ByteArrayUtils.writeInt(elapsedBucket, qualifier, 0);
+        qualifier[offset] = (byte) (error ? 1 : 0);
+        return offset + 1;
+    }
+
+    public static int getElapsedBucket(byte[] qualifier, int offset) {
+        return ByteArrayUtils.bytesToInt(qualifier, offset);
+    }
+
+    public static boolean isError(byte[] qualifier, int offset) {
+        return qualifier[offset + BytesUtils.INT_BYTE_LENGTH] != 0;
+    }
+}
@@ -222,4 +222,66 @@ public class SpanEncoderTest {
 
         assertSpan(spanBo);
     }
+
+    @Test
+    public void testEncodeSpanColumnValue_spanEvent_multiByteVarInt() {
+        SpanBo spanBo = randomComplexSpan();
+        List<SpanEventBo> spanEventBoList = spanBo.getSpanEventBoList();
+        SpanEventBo spanEventBo0 = spanEventBoList.get(0);
+        spanEventBo0.setStartElapsed(1 << 20);
+        spanEventBo0.setEndElapsed(Integer.MAX_VALUE);
+        spanEventBo0.setDepth(-1);
+        SpanEventBo spanEventBo1 = spanEventBoList.get(1);
+        spanEventBo1.setStartElapsed((1 << 20) + 300);
+        spanEventBo1.setEndElapsed(128);
+        spanEventBo1.setDepth(Short.MAX_VALUE);
+        spanEventBoList.get(2).setSequence((short) 1000);
+
+        assertSpan(spanBo);
+    }
+
+    @Test
+    public void decodeThroughput() {
+        final int rows = 1000;
+        final int rounds = 20;
+        final Buffer[] qualifiers = new Buffer[rows];
+        final Buffer[] columns = new Buffer[rows];
+        final SpanDecodingContext[] decodingContexts = new SpanDecodingContext[rows];
+        int spanEvents = 0;
+        for (int i = 0; i < rows; i++) {
+            SpanBo spanBo = randomComplexSpan();
+            spanBo.setCollectorAcceptTime(getCollectorAcceptTime());
+            spanEvents += spanBo.getSpanEventBoList().size();
+
+            SpanEncodingContext<SpanBo> encodingContext = new SpanEncodingContext<>(spanBo);
+            qualifiers[i] = wrapBuffer(spanEncoder.encodeSpanQualifier(encodingContext));
+            columns[i] = wrapBuffer(spanEncoder.encodeSpanColumnValue(encodingContext));
+
+            SpanDecodingContext decodingContext = new SpanDecodingContext();
+            decodingContext.setTransactionId(spanBo.getTransactionId());
+            decodingContext.setCollectorAcceptedTime(spanBo.getCollectorAcceptTime());
+            decodingContexts[i] = decodingContext;
+        }
+
+        int decodedSpanEvents = 0;
+        long elapsed = 0;
+        for (int round = 0; round < rounds; round++) {
+            final long start = System.nanoTime();
+            for (int i = 0; i < rows; i++) {
+                qualifiers[i].setOffset(0);
+                columns[i].setOffset(0);
+                SpanBo decode = (SpanBo) spanDecoder.decode(qualifiers[i], columns[i], decodingContexts[i]);
+                decodedSpanEvents += decode.getSpanEventBoList().size();
+            }
+            // the first half warms up the decoder
+            if (round >= rounds / 2) {
+                elapsed += System.nanoTime() - start;
+            }
+        }
+        final long measuredRows = (long) rows * (rounds - rounds / 2);
+        logger.info("decode span rows:{} elapsed:{}ms rows/sec:{}", measuredRows,
+                TimeUnit.NANOSECONDS.toMillis(elapsed), measuredRows * TimeUnit.SECONDS.toNanos(1) / Math.max(elapsed, 1));
+
+        Assertions.assertThat(decodedSpanEvents).isEqualTo(spanEvents * rounds);
+    }
 }
\ No newline at end of file
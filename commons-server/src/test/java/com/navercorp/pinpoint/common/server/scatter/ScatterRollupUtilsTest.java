@@ -0,0 +1,78 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.server.scatter;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ScatterRollupUtilsTest {
+
+    @Test
+    void getTimeBucket() {
+        long acceptedTime = 1_700_000_012_345L;
+        long timeBucket = ScatterRollupUtils.getTimeBucket(acceptedTime);
+
+        assertThat(timeBucket % ScatterRollupUtils.TIME_BUCKET_MILLIS).isZero();
+        assertThat(acceptedTime - timeBucket).isLessThan(ScatterRollupUtils.TIME_BUCKET_MILLIS);
+    }
+
+    @Test
+    void getElapsedBucket() {
+        assertThat(ScatterRollupUtils.getElapsedBucket(-1)).isZero();
+        assertThat(ScatterRollupUtils.getElapsedBucket(99)).isZero();
+        assertThat(ScatterRollupUtils.getElapsedBucket(250)).isEqualTo(200);
+        assertThat(ScatterRollupUtils.getElapsedBucket(Integer.MAX_VALUE)).isEqualTo(ScatterRollupUtils.MAX_ELAPSED_BUCKET);
+    }
+
+    @Test
+    void rowKey() {
+        long timeBucket = ScatterRollupUtils.getTimeBucket(1_700_000_012_345L);
+        byte[] rowKey = ScatterRollupUtils.makeRowKey("testApp", timeBucket);
+
+        assertThat(ScatterRollupUtils.parseTimeBucket(rowKey)).isEqualTo(timeBucket);
+    }
+
+    @Test
+    void qualifier() {
+        byte[] counter = ScatterRollupUtils.makeCounterQualifier(300, true);
+        assertThat(counter).hasSize(ScatterRollupUtils.COUNTER_QUALIFIER_SIZE);
+        assertThat(ScatterRollupUtils.getElapsedBucket(counter, 0)).isEqualTo(300);
+        assertThat(ScatterRollupUtils.isError(counter, 0)).isTrue();
+
+        byte[] sample = ScatterRollupUtils.makeSampleQualifier(300, false, 3);
+        assertThat(sample).hasSize(ScatterRollupUtils.SAMPLE_QUALIFIER_SIZE);
+        assertThat(ScatterRollupUtils.getElapsedBucket(sample, 0)).isEqualTo(300);
+        assertThat(ScatterRollupUtils.isError(sample, 0)).isFalse();
+        assertThat(sample[ScatterRollupUtils.SAMPLE_QUALIFIER_SIZE - 1]).isEqualTo((byte) 3);
+
+        byte[] sequence = ScatterRollupUtils.makeSampleSequenceQualifier(300, false);
+        assertThat(sequence).hasSize(ScatterRollupUtils.SAMPLE_SEQUENCE_QUALIFIER_SIZE);
+        assertThat(sequence).isNotEqualTo(sample);
+    }
+
+    @Test
+    void sampleSlot() {
+        assertThat(ScatterRollupUtils.getSampleSlot(0)).isZero();
+        assertThat(ScatterRollupUtils.getSampleSlot(ScatterRollupUtils.SAMPLE_SLOT_COUNT + 1)).isEqualTo(1);
+        assertThat(ScatterRollupUtils.getSampleSlot(-1)).isEqualTo(ScatterRollupUtils.SAMPLE_SLOT_COUNT - 1);
+
+        assertThatThrownBy(() -> ScatterRollupUtils.makeSampleQualifier(300, false, ScatterRollupUtils.SAMPLE_SLOT_COUNT))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -133,6 +133,7 @@ import static com.navercorp.pinpoint.common.trace.AnnotationKeyProperty.VIEW_IN_
  * <tr><td>320</td><td>hbase.client.params</td></tr>
  * <tr><td>321</td><td>hbase.table.name</td></tr>
  * <tr><td>330</td><td>memory.usage</td></tr>
+ * <tr><td>350</td><td>reactor.operator.count</td></tr>
  * <tr><td>923</td><td>marker.message</td></tr>
  * <tr><td>9000</td><td>gson.json.length</td></tr>
  * <tr><td>9001</td><td>jackson.json.length</td></tr>
@@ -252,4 +253,6 @@ public interface AnnotationKey {
     AnnotationKey PROXY_HTTP_HEADER = AnnotationKeyFactory.of(300, "PROXY_HTTP_HEADER", VIEW_IN_RECORD_SET);
     AnnotationKey REDIS_IO = AnnotationKeyFactory.of(310, "redis.io");
     AnnotationKey MEMORY_USAGE = AnnotationKeyFactory.of(330, "memory.usage", VIEW_IN_RECORD_SET);
+    // aggregated stack samples of slow transactions. rendered as a flame graph.
+    AnnotationKey STACK_SAMPLE = AnnotationKeyFactory.of(340, "stack.sample");
 }
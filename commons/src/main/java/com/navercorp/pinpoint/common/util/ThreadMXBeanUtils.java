@@ -16,6 +16,9 @@
 
 package com.navercorp.pinpoint.common.util;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.management.ManagementFactory;
 import java.lang.management.ThreadInfo;
 import java.lang.management.ThreadMXBean;
@@ -35,9 +38,13 @@ public final class ThreadMXBeanUtils {
     private static final boolean SYNCHRONIZER_USAGE_SUPPORT;
     // check support -> getWaitedTime(), getBlockedTime()
     private static final boolean CONTENTION_MONITORING_SUPPORT;
+    private static final boolean CPU_TIME_SUPPORT;
 
     private static final int DEFAULT_STACK_TRACE_MAX_DEPTH = 32;
 
+    // ThreadMXBean.getThreadInfo(long[], boolean, boolean, int) since java 10
+    private static final MethodHandle GET_THREAD_INFO_WITH_LOCK_AND_DEPTH = findGetThreadInfoWithLockAndDepth();
+
     private ThreadMXBeanUtils() {
     }
 
@@ -45,6 +52,21 @@ public final class ThreadMXBeanUtils {
         OBJECT_MONITOR_USAGE_SUPPORT = THREAD_MX_BEAN.isObjectMonitorUsageSupported();
         SYNCHRONIZER_USAGE_SUPPORT =  THREAD_MX_BEAN.isSynchronizerUsageSupported();
         CONTENTION_MONITORING_SUPPORT = THREAD_MX_BEAN.isThreadContentionMonitoringSupported();
+        CPU_TIME_SUPPORT = THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported() && THREAD_MX_BEAN.isThreadCpuTimeEnabled();
+    }
+
+    private static MethodHandle findGetThreadInfoWithLockAndDepth() {
+        final MethodType methodType = MethodType.methodType(ThreadInfo[].class, long[].class, boolean.class, boolean.class, int.class);
+        try {
+            return MethodHandles.publicLookup().findVirtual(ThreadMXBean.class, "getThreadInfo", methodType);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    // for test
+    static boolean isLockInfoStackTraceMaxDepthSupported() {
+        return GET_THREAD_INFO_WITH_LOCK_AND_DEPTH != null;
     }
 
     // for test
@@ -94,6 +116,32 @@ public final class ThreadMXBeanUtils {
         }
     }
 
+    /**
+     * Fetch the ThreadInfo of all given threads with a single ThreadMXBean call.
+     * lock information is only collected when requested, as it forces a full stack walk.
+     * Before java 10 the stack trace of a lock info request is not limited by stackTraceMaxDepth, the caller has to truncate it.
+     */
+    public static ThreadInfo[] getThreadInfo(long[] ids, int stackTraceMaxDepth, boolean lockInfo) {
+        Objects.requireNonNull(ids, "ids");
+        if (lockInfo) {
+            if (stackTraceMaxDepth > 0 && GET_THREAD_INFO_WITH_LOCK_AND_DEPTH != null) {
+                return getThreadInfoWithLock(ids, stackTraceMaxDepth);
+            }
+            return THREAD_MX_BEAN.getThreadInfo(ids, OBJECT_MONITOR_USAGE_SUPPORT, SYNCHRONIZER_USAGE_SUPPORT);
+        }
+        return findThread(ids, stackTraceMaxDepth);
+    }
+
+    private static ThreadInfo[] getThreadInfoWithLock(long[] ids, int stackTraceMaxDepth) {
+        try {
+            return (ThreadInfo[]) GET_THREAD_INFO_WITH_LOCK_AND_DEPTH.invokeExact(THREAD_MX_BEAN, ids, OBJECT_MONITOR_USAGE_SUPPORT, SYNCHRONIZER_USAGE_SUPPORT, stackTraceMaxDepth);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable th) {
+            throw new IllegalStateException("getThreadInfo failed", th);
+        }
+    }
+
     public static List<ThreadInfo> findThread(String threadName) {
         Objects.requireNonNull(threadName, "threadName");
 
@@ -135,6 +183,16 @@ public final class ThreadMXBeanUtils {
         return findThreadName(threadInfos, threadName);
     }
 
+    /**
+     * @return cpu time of the current thread in nanoseconds, or 0 if cpu time measurement is not supported
+     */
+    public static long getCurrentThreadCpuTime() {
+        if (!CPU_TIME_SUPPORT) {
+            return 0;
+        }
+        return THREAD_MX_BEAN.getCurrentThreadCpuTime();
+    }
+
     public static long[] findDeadlockedThreads() {
         return THREAD_MX_BEAN.findDeadlockedThreads();
     }
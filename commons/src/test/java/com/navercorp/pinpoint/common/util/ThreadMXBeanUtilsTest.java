@@ -65,6 +65,31 @@ public class ThreadMXBeanUtilsTest {
         Assertions.assertFalse(ThreadMXBeanUtils.findThreadName(threadName));
     }
 
+    @Test
+    public void testGetThreadInfo_batch() {
+        final long currentThreadId = Thread.currentThread().getId();
+        final long[] ids = {currentThreadId, Long.MAX_VALUE};
+
+        ThreadInfo[] threadInfos = ThreadMXBeanUtils.getThreadInfo(ids, 0, false);
+
+        Assertions.assertEquals(ids.length, threadInfos.length);
+        Assertions.assertEquals(currentThreadId, threadInfos[0].getThreadId());
+        Assertions.assertNull(threadInfos[1]);
+    }
+
+    @Test
+    public void testGetThreadInfo_lockInfoStackTraceMaxDepth() {
+        final long[] ids = {Thread.currentThread().getId()};
+
+        ThreadInfo[] threadInfos = ThreadMXBeanUtils.getThreadInfo(ids, 1, true);
+
+        Assertions.assertEquals(1, threadInfos.length);
+        Assertions.assertNotNull(threadInfos[0].getLockedMonitors());
+        if (ThreadMXBeanUtils.isLockInfoStackTraceMaxDepthSupported()) {
+            Assertions.assertEquals(1, threadInfos[0].getStackTrace().length);
+        }
+    }
+
     private static class WaitingRunnable implements Runnable {
 
         private final CountDownLatch latch = new CountDownLatch(1);
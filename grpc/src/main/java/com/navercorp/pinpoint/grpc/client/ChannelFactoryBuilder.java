@@ -45,6 +45,8 @@ public interface ChannelFactoryBuilder {
 
     void setNameResolverProvider(NameResolverProvider nameResolverProvider);
 
+    void setSharedChannelResource(SharedChannelResource sharedChannelResource);
+
     ChannelFactory build();
 
 }
@@ -71,8 +71,12 @@ public class DefaultChannelFactory implements ChannelFactory {
     private final List<ClientInterceptor> clientInterceptorList;
     private final NameResolverProvider nameResolverProvider;
 
+    // nullable
+    private final SharedChannelResource sharedChannelResource;
+
     // state object
     private final EventLoopGroup eventLoopGroup;
+    // null if sharedChannelResource is used
     private final ExecutorService eventLoopExecutor;
     private final ExecutorService executorService;
     private final Class<? extends Channel> channelType;
@@ -85,6 +89,19 @@ public class DefaultChannelFactory implements ChannelFactory {
                           List<ClientInterceptor> clientInterceptorList,
                           SslContext sslContext,
                           ClientRetryOption clientRetryOption) {
+        this(factoryName, executorQueueSize, headerFactory, nameResolverProvider, clientOption,
+                clientInterceptorList, sslContext, clientRetryOption, null);
+    }
+
+    DefaultChannelFactory(String factoryName,
+                          int executorQueueSize,
+                          HeaderFactory headerFactory,
+                          NameResolverProvider nameResolverProvider,
+                          ClientOption clientOption,
+                          List<ClientInterceptor> clientInterceptorList,
+                          SslContext sslContext,
+                          ClientRetryOption clientRetryOption,
+                          SharedChannelResource sharedChannelResource) {
         this.factoryName = Objects.requireNonNull(factoryName, "factoryName");
         this.executorQueueSize = executorQueueSize;
         this.headerFactory = Objects.requireNonNull(headerFactory, "headerFactory");
@@ -100,12 +117,25 @@ public class DefaultChannelFactory implements ChannelFactory {
         this.clientRetryOption = clientRetryOption;
 
 
-        ChannelType channelType = getChannelType();
-        this.channelType = channelType.getChannelType();
-
-        this.eventLoopExecutor = newCachedExecutorService(factoryName + "-Channel-Worker");
-        this.eventLoopGroup = channelType.newEventLoopGroup(1, eventLoopExecutor);
-        this.executorService = newExecutorService(factoryName + "-Channel-Executor", this.executorQueueSize);
+        // nullable
+        this.sharedChannelResource = sharedChannelResource;
+
+        if (sharedChannelResource != null) {
+            if (clientRetryOption != null && sharedChannelResource.getClientRetryOption() == null) {
+                logger.warn("{} clientRetryOption is ignored, shared connections use the retry option of {}", factoryName, sharedChannelResource.getName());
+            }
+            this.channelType = sharedChannelResource.getChannelType();
+            this.eventLoopExecutor = null;
+            this.eventLoopGroup = sharedChannelResource.getEventLoopGroup();
+            this.executorService = sharedChannelResource.getExecutorService();
+        } else {
+            ChannelType channelType = getChannelType();
+            this.channelType = channelType.getChannelType();
+
+            this.eventLoopExecutor = newCachedExecutorService(factoryName + "-Channel-Worker");
+            this.eventLoopGroup = channelType.newEventLoopGroup(1, eventLoopExecutor);
+            this.executorService = newExecutorService(factoryName + "-Channel-Executor", this.executorQueueSize);
+        }
     }
 
     @Override
@@ -140,6 +170,36 @@ public class DefaultChannelFactory implements ChannelFactory {
 
     @Override
     public ManagedChannel build(String channelName, String host, int port) {
+        if (sharedChannelResource != null) {
+            return buildSharedChannel(channelName, host, port);
+        }
+        final NettyChannelBuilder channelBuilder = newChannelBuilder(channelName, host, port, clientRetryOption);
+
+        addHeader(channelBuilder);
+        addClientInterceptor(channelBuilder);
+
+        return channelBuilder.build();
+    }
+
+    private ManagedChannel buildSharedChannel(String channelName, String host, int port) {
+        // connection level options must match to share a connection
+        final SharedChannelResource.ChannelKey key = sharedChannelResource.newChannelKey(host, port, clientOption, sslContext != null, nameResolverProvider);
+        final ManagedChannel managedChannel = sharedChannelResource.acquire(key, () -> {
+            logger.info("{} opens shared connection to {}:{}", channelName, host, port);
+            final NettyChannelBuilder channelBuilder = newChannelBuilder(sharedChannelResource.getName(), host, port,
+                    sharedChannelResource.getClientRetryOption());
+            channelBuilder.flowControlWindow(sharedChannelResource.getFlowControlWindow(clientOption));
+            return channelBuilder.build();
+        });
+
+        // same order as NettyChannelBuilder.intercept()
+        final List<ClientInterceptor> interceptors = new ArrayList<>(clientInterceptorList.size() + 1);
+        interceptors.add(newHeaderInterceptor());
+        interceptors.addAll(clientInterceptorList);
+        return new SharedManagedChannel(sharedChannelResource, key, managedChannel, interceptors);
+    }
+
+    private NettyChannelBuilder newChannelBuilder(String channelName, String host, int port, ClientRetryOption clientRetryOption) {
         final NettyChannelBuilder channelBuilder = NettyChannelBuilder.forAddress(host, port);
         channelBuilder.usePlaintext();
 
@@ -149,9 +209,6 @@ public class DefaultChannelFactory implements ChannelFactory {
 
         setupInternal(channelBuilder);
 
-        addHeader(channelBuilder);
-        addClientInterceptor(channelBuilder);
-
         channelBuilder.executor(executorService);
         if (nameResolverProvider != null) {
             logger.info("Set nameResolverProvider {}. channelName={}, host={}, port={}", this.nameResolverProvider, channelName, host, port);
@@ -167,13 +224,13 @@ public class DefaultChannelFactory implements ChannelFactory {
 
         // RetryOption
         if (clientRetryOption != null) {
-            setupRetryOption(channelBuilder);
+            setupRetryOption(channelBuilder, clientRetryOption);
         }
 
 
         channelBuilder.maxTraceEvents(clientOption.getMaxTraceEvent());
 
-        return channelBuilder.build();
+        return channelBuilder;
     }
 
     @SuppressWarnings("deprecation")
@@ -191,12 +248,15 @@ public class DefaultChannelFactory implements ChannelFactory {
     }
 
     private void addHeader(NettyChannelBuilder channelBuilder) {
+        channelBuilder.intercept(newHeaderInterceptor());
+    }
+
+    private ClientInterceptor newHeaderInterceptor() {
         final Metadata extraHeaders = headerFactory.newHeader();
         if (logger.isDebugEnabled()) {
             logger.debug("addHeader {}", extraHeaders);
         }
-        final ClientInterceptor headersInterceptor = MetadataUtils.newAttachHeadersInterceptor(extraHeaders);
-        channelBuilder.intercept(headersInterceptor);
+        return MetadataUtils.newAttachHeadersInterceptor(extraHeaders);
     }
 
     private void addClientInterceptor(NettyChannelBuilder channelBuilder) {
@@ -224,7 +284,7 @@ public class DefaultChannelFactory implements ChannelFactory {
         }
     }
 
-    private void setupRetryOption(final NettyChannelBuilder channelBuilder) {
+    private void setupRetryOption(final NettyChannelBuilder channelBuilder, ClientRetryOption clientRetryOption) {
         channelBuilder.enableRetry();
         channelBuilder.retryBufferSize(clientRetryOption.getRetryBufferSize());
         channelBuilder.perRpcBufferLimit(clientRetryOption.getPerRpcBufferLimit());
@@ -238,6 +298,10 @@ public class DefaultChannelFactory implements ChannelFactory {
 
     @Override
     public void close() {
+        if (sharedChannelResource != null) {
+            // event loop and executor are owned by sharedChannelResource
+            return;
+        }
         final Future<?> future = eventLoopGroup.shutdownGracefully();
         try {
             logger.debug("shutdown {}-eventLoopGroup", factoryName);
@@ -261,6 +325,7 @@ public class DefaultChannelFactory implements ChannelFactory {
                 ", clientOption=" + clientOption +
                 ", clientInterceptorList=" + clientInterceptorList +
                 ", nameResolverProvider=" + nameResolverProvider +
+                ", sharedChannelResource=" + sharedChannelResource +
                 ", eventLoopGroup=" + eventLoopGroup +
                 ", eventLoopExecutor=" + eventLoopExecutor +
                 ", executorService=" + executorService +
@@ -46,6 +46,7 @@ public class DefaultChannelFactoryBuilder implements ChannelFactoryBuilder {
 
     private final LinkedList<ClientInterceptor> clientInterceptorList = new LinkedList<>();
     private NameResolverProvider nameResolverProvider;
+    private SharedChannelResource sharedChannelResource;
 
     public DefaultChannelFactoryBuilder(String factoryName) {
         this.factoryName = Objects.requireNonNull(factoryName, "factoryName");
@@ -94,6 +95,11 @@ public class DefaultChannelFactoryBuilder implements ChannelFactoryBuilder {
         this.nameResolverProvider = Objects.requireNonNull(nameResolverProvider, "nameResolverProvider");
     }
 
+    @Override
+    public void setSharedChannelResource(SharedChannelResource sharedChannelResource) {
+        this.sharedChannelResource = Objects.requireNonNull(sharedChannelResource, "sharedChannelResource");
+    }
+
     @Override
     public ChannelFactory build() {
         logger.info("build ChannelFactory:{}", factoryName);
@@ -103,6 +109,6 @@ public class DefaultChannelFactoryBuilder implements ChannelFactoryBuilder {
         return new DefaultChannelFactory(factoryName, executorQueueSize,
                 headerFactory, nameResolverProvider,
                 clientOption, clientInterceptorList,
-                sslContext, clientRetryOption);
+                sslContext, clientRetryOption, sharedChannelResource);
     }
 }
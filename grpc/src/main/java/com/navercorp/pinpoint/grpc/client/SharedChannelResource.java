@@ -0,0 +1,270 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.grpc.client;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import com.navercorp.pinpoint.common.profiler.concurrent.PinpointThreadFactory;
+import com.navercorp.pinpoint.common.util.Assert;
+import com.navercorp.pinpoint.grpc.ChannelTypeEnum;
+import com.navercorp.pinpoint.grpc.client.config.ClientOption;
+import com.navercorp.pinpoint.grpc.client.config.ClientRetryOption;
+import io.grpc.ManagedChannel;
+import io.grpc.NameResolverProvider;
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.concurrent.Future;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Event loop, executor and connections shared by several {@link DefaultChannelFactory}.
+ * Senders connecting to the same collector address with the same connection level options
+ * multiplex their streams over one HTTP/2 connection.
+ * <p>
+ * The retry policy is not part of the connection key. Its service config only names the methods it applies to,
+ * so every shared connection is built with the retry option of this resource.
+ */
+public class SharedChannelResource {
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    private final String name;
+
+    private final Class<? extends Channel> channelType;
+    private final EventLoopGroup eventLoopGroup;
+    private final ExecutorService eventLoopExecutor;
+    private final ExecutorService executorService;
+
+    // 0 : use flowControlWindow of the sender opening the connection
+    private final int flowControlWindow;
+
+    // nullable
+    private final ClientRetryOption clientRetryOption;
+
+    private final Map<ChannelKey, RefCountedChannel> channels = new HashMap<>();
+
+    public SharedChannelResource(String name, ChannelTypeEnum channelTypeEnum, int workerThreadSize, int executorQueueSize, int flowControlWindow) {
+        this(name, channelTypeEnum, workerThreadSize, executorQueueSize, flowControlWindow, null);
+    }
+
+    public SharedChannelResource(String name, ChannelTypeEnum channelTypeEnum, int workerThreadSize, int executorQueueSize, int flowControlWindow,
+                                 ClientRetryOption clientRetryOption) {
+        this.name = Objects.requireNonNull(name, "name");
+        Objects.requireNonNull(channelTypeEnum, "channelTypeEnum");
+        Assert.isTrue(workerThreadSize > 0, "must be `workerThreadSize > 0`");
+        Assert.isTrue(executorQueueSize > 0, "must be `executorQueueSize > 0`");
+        Assert.isTrue(flowControlWindow >= 0, "must be `flowControlWindow >= 0`");
+        this.flowControlWindow = flowControlWindow;
+        // nullable
+        this.clientRetryOption = clientRetryOption;
+
+        final ChannelType type = new ChannelTypeFactory().newChannelType(channelTypeEnum);
+        this.channelType = type.getChannelType();
+        this.eventLoopExecutor = newCachedExecutorService(name + "-Channel-Worker");
+        this.eventLoopGroup = type.newEventLoopGroup(workerThreadSize, eventLoopExecutor);
+        this.executorService = newExecutorService(name + "-Channel-Executor", workerThreadSize, executorQueueSize);
+        logger.info("{} ChannelType:{}, workerThreadSize:{}", name, channelType.getSimpleName(), workerThreadSize);
+    }
+
+    private ExecutorService newCachedExecutorService(String name) {
+        ThreadFactory threadFactory = new PinpointThreadFactory(PinpointThreadFactory.DEFAULT_THREAD_NAME_PREFIX + name, true);
+        return Executors.newCachedThreadPool(threadFactory);
+    }
+
+    private ExecutorService newExecutorService(String name, int threadSize, int executorQueueSize) {
+        ThreadFactory threadFactory = new PinpointThreadFactory(PinpointThreadFactory.DEFAULT_THREAD_NAME_PREFIX + name, true);
+        return new ThreadPoolExecutor(threadSize, threadSize,
+                0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(executorQueueSize), threadFactory);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    ClientRetryOption getClientRetryOption() {
+        return clientRetryOption;
+    }
+
+    /**
+     * @return effective flowControlWindow of the shared connection
+     */
+    int getFlowControlWindow(ClientOption clientOption) {
+        if (flowControlWindow > 0) {
+            return flowControlWindow;
+        }
+        return clientOption.getFlowControlWindow();
+    }
+
+    /**
+     * Every option applied to the connection by {@link DefaultChannelFactory} is part of the key,
+     * so a sender never silently inherits the options of the sender that opened the connection.
+     */
+    ChannelKey newChannelKey(String host, int port, ClientOption clientOption, boolean ssl, NameResolverProvider nameResolverProvider) {
+        Objects.requireNonNull(clientOption, "clientOption");
+        final String options = "ssl=" + ssl +
+                ", nameResolver=" + (nameResolverProvider == null ? null : nameResolverProvider.getClass().getName()) +
+                ", loadBalancer=" + clientOption.getDefaultLoadBalancer() +
+                ", keepAliveTime=" + clientOption.getKeepAliveTime() +
+                ", keepAliveTimeout=" + clientOption.getKeepAliveTimeout() +
+                ", keepAliveWithoutCalls=" + clientOption.isKeepAliveWithoutCalls() +
+                ", idleTimeoutMillis=" + clientOption.getIdleTimeoutMillis() +
+                ", maxHeaderListSize=" + clientOption.getMaxHeaderListSize() +
+                ", maxInboundMessageSize=" + clientOption.getMaxInboundMessageSize() +
+                ", flowControlWindow=" + getFlowControlWindow(clientOption) +
+                ", connectTimeout=" + clientOption.getConnectTimeout() +
+                ", writeBufferWaterMark=" + clientOption.getWriteBufferLowWaterMark() + "/" + clientOption.getWriteBufferHighWaterMark() +
+                ", maxTraceEvent=" + clientOption.getMaxTraceEvent();
+        return new ChannelKey(host, port, options);
+    }
+
+    Class<? extends Channel> getChannelType() {
+        return channelType;
+    }
+
+    EventLoopGroup getEventLoopGroup() {
+        return eventLoopGroup;
+    }
+
+    ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    /**
+     * @param key collector address and connection level options, connections are only shared between equal keys
+     * @param channelSupplier creates the connection on first use
+     * @return connection to release through {@link #release(ChannelKey)}
+     */
+    synchronized ManagedChannel acquire(ChannelKey key, Supplier<ManagedChannel> channelSupplier) {
+        Objects.requireNonNull(key, "key");
+        RefCountedChannel channel = channels.get(key);
+        if (channel == null) {
+            logger.info("new shared channel {}", key);
+            channel = new RefCountedChannel(channelSupplier.get());
+            channels.put(key, channel);
+        }
+        channel.refCount++;
+        return channel.managedChannel;
+    }
+
+    /**
+     * @return {@code true} if the connection has been shut down by this call
+     */
+    synchronized boolean release(ChannelKey key) {
+        final RefCountedChannel channel = channels.get(key);
+        if (channel == null) {
+            return false;
+        }
+        if (--channel.refCount > 0) {
+            return false;
+        }
+        channels.remove(key);
+        logger.info("shutdown shared channel {}", key);
+        channel.managedChannel.shutdown();
+        return true;
+    }
+
+    public void close() {
+        synchronized (this) {
+            for (RefCountedChannel channel : channels.values()) {
+                channel.managedChannel.shutdownNow();
+            }
+            channels.clear();
+        }
+        final Future<?> future = eventLoopGroup.shutdownGracefully();
+        try {
+            logger.debug("shutdown {}-eventLoopGroup", name);
+            future.await(1000 * 3);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!MoreExecutors.shutdownAndAwaitTermination(eventLoopExecutor, Duration.ofSeconds(3))) {
+            logger.warn("{}-eventLoopExecutor shutdown failed", name);
+        }
+        if (!MoreExecutors.shutdownAndAwaitTermination(executorService, Duration.ofSeconds(3))) {
+            logger.warn("{}-executorService shutdown failed", name);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SharedChannelResource{" +
+                "name='" + name + '\'' +
+                ", channelType=" + channelType.getSimpleName() +
+                ", eventLoopGroup=" + eventLoopGroup +
+                ", flowControlWindow=" + flowControlWindow +
+                ", clientRetryOption=" + clientRetryOption +
+                '}';
+    }
+
+    private static class RefCountedChannel {
+        private final ManagedChannel managedChannel;
+        private int refCount;
+
+        private RefCountedChannel(ManagedChannel managedChannel) {
+            this.managedChannel = Objects.requireNonNull(managedChannel, "managedChannel");
+        }
+    }
+
+    static final class ChannelKey {
+        private final String host;
+        private final int port;
+        private final String options;
+
+        ChannelKey(String host, int port, String options) {
+            this.host = Objects.requireNonNull(host, "host");
+            this.port = port;
+            this.options = Objects.requireNonNull(options, "options");
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            ChannelKey that = (ChannelKey) o;
+            return port == that.port && host.equals(that.host) && options.equals(that.options);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = host.hashCode();
+            result = 31 * result + port;
+            result = 31 * result + options.hashCode();
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return host + ":" + port + " " + options;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.grpc.client;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ClientInterceptors;
+import io.grpc.ConnectivityState;
+import io.grpc.ManagedChannel;
+import io.grpc.MethodDescriptor;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * View of a connection owned by {@link SharedChannelResource}.
+ * Calls go through the interceptors of the sender, shutdown only releases the reference.
+ */
+class SharedManagedChannel extends ManagedChannel {
+
+    private final SharedChannelResource resource;
+    private final SharedChannelResource.ChannelKey key;
+    private final ManagedChannel delegate;
+    private final Channel interceptedChannel;
+
+    private final AtomicBoolean shutdown = new AtomicBoolean(false);
+    private volatile boolean lastReference;
+
+    SharedManagedChannel(SharedChannelResource resource, SharedChannelResource.ChannelKey key,
+                         ManagedChannel delegate, List<? extends ClientInterceptor> interceptors) {
+        this.resource = Objects.requireNonNull(resource, "resource");
+        this.key = Objects.requireNonNull(key, "key");
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.interceptedChannel = ClientInterceptors.intercept(delegate, interceptors);
+    }
+
+    @Override
+    public <RequestT, ResponseT> ClientCall<RequestT, ResponseT> newCall(MethodDescriptor<RequestT, ResponseT> methodDescriptor, CallOptions callOptions) {
+        return interceptedChannel.newCall(methodDescriptor, callOptions);
+    }
+
+    @Override
+    public String authority() {
+        return delegate.authority();
+    }
+
+    @Override
+    public ConnectivityState getState(boolean requestConnection) {
+        return delegate.getState(requestConnection);
+    }
+
+    @Override
+    public void notifyWhenStateChanged(ConnectivityState source, Runnable callback) {
+        delegate.notifyWhenStateChanged(source, callback);
+    }
+
+    @Override
+    public void resetConnectBackoff() {
+        delegate.resetConnectBackoff();
+    }
+
+    @Override
+    public void enterIdle() {
+        delegate.enterIdle();
+    }
+
+    @Override
+    public ManagedChannel shutdown() {
+        if (shutdown.compareAndSet(false, true)) {
+            this.lastReference = resource.release(key);
+        }
+        return this;
+    }
+
+    @Override
+    public ManagedChannel shutdownNow() {
+        shutdown();
+        if (lastReference) {
+            delegate.shutdownNow();
+        }
+        return this;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown.get();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        if (!shutdown.get()) {
+            return false;
+        }
+        if (lastReference) {
+            return delegate.isTerminated();
+        }
+        return true;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        if (lastReference) {
+            return delegate.awaitTermination(timeout, unit);
+        }
+        return shutdown.get();
+    }
+
+    @Override
+    public String toString() {
+        // keep the logId of the connection for ManagedChannelUtils.getLogId()
+        return delegate.toString();
+    }
+}
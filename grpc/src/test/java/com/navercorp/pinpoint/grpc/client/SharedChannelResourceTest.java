@@ -0,0 +1,127 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.grpc.client;
+
+import com.navercorp.pinpoint.grpc.ChannelTypeEnum;
+import com.navercorp.pinpoint.grpc.client.config.ClientOption;
+import io.grpc.ManagedChannel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+public class SharedChannelResourceTest {
+
+    private SharedChannelResource resource;
+
+    @BeforeEach
+    public void setUp() {
+        resource = new SharedChannelResource("test", ChannelTypeEnum.NIO, 1, 10, 0);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        resource.close();
+    }
+
+    @Test
+    public void acquire_sameKey() {
+        SharedChannelResource.ChannelKey key = new SharedChannelResource.ChannelKey("localhost", 9991, "ssl=false");
+        ManagedChannel channel = Mockito.mock(ManagedChannel.class);
+
+        ManagedChannel first = resource.acquire(key, () -> channel);
+        ManagedChannel second = resource.acquire(key, () -> Mockito.mock(ManagedChannel.class));
+
+        Assertions.assertSame(channel, first);
+        Assertions.assertSame(channel, second);
+    }
+
+    @Test
+    public void acquire_differentKey() {
+        SharedChannelResource.ChannelKey agentKey = new SharedChannelResource.ChannelKey("localhost", 9991, "ssl=false");
+        SharedChannelResource.ChannelKey spanKey = new SharedChannelResource.ChannelKey("localhost", 9993, "ssl=false");
+
+        ManagedChannel agentChannel = resource.acquire(agentKey, () -> Mockito.mock(ManagedChannel.class));
+        ManagedChannel spanChannel = resource.acquire(spanKey, () -> Mockito.mock(ManagedChannel.class));
+
+        Assertions.assertNotSame(agentChannel, spanChannel);
+    }
+
+    @Test
+    public void shutdown_lastReference() throws InterruptedException {
+        SharedChannelResource.ChannelKey key = new SharedChannelResource.ChannelKey("localhost", 9991, "ssl=false");
+        ManagedChannel channel = Mockito.mock(ManagedChannel.class);
+        resource.acquire(key, () -> channel);
+        resource.acquire(key, () -> channel);
+
+        ManagedChannel agent = new SharedManagedChannel(resource, key, channel, Collections.emptyList());
+        ManagedChannel metadata = new SharedManagedChannel(resource, key, channel, Collections.emptyList());
+
+        agent.shutdown();
+        agent.shutdown();
+        Assertions.assertTrue(agent.isShutdown());
+        Assertions.assertTrue(agent.awaitTermination(1, TimeUnit.SECONDS));
+        Mockito.verify(channel, Mockito.never()).shutdown();
+
+        metadata.shutdown();
+        Mockito.verify(channel).shutdown();
+        metadata.awaitTermination(1, TimeUnit.SECONDS);
+        Mockito.verify(channel).awaitTermination(1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void newChannelKey_sameOptions() {
+        SharedChannelResource.ChannelKey agentKey = resource.newChannelKey("localhost", 9991, newClientOption(30000, 1024 * 1024), false, null);
+        SharedChannelResource.ChannelKey metadataKey = resource.newChannelKey("localhost", 9991, newClientOption(30000, 1024 * 1024), false, null);
+
+        Assertions.assertEquals(agentKey, metadataKey);
+    }
+
+    @Test
+    public void newChannelKey_connectionOptions() {
+        SharedChannelResource.ChannelKey key = resource.newChannelKey("localhost", 9991, newClientOption(30000, 1024 * 1024), false, null);
+
+        Assertions.assertNotEquals(key, resource.newChannelKey("localhost", 9991, newClientOption(10000, 1024 * 1024), false, null));
+        Assertions.assertNotEquals(key, resource.newChannelKey("localhost", 9991, newClientOption(30000, 64 * 1024), false, null));
+        Assertions.assertNotEquals(key, resource.newChannelKey("localhost", 9991, newClientOption(30000, 1024 * 1024), true, null));
+    }
+
+    @Test
+    public void newChannelKey_sharedFlowControlWindow() {
+        SharedChannelResource windowResource = new SharedChannelResource("window", ChannelTypeEnum.NIO, 1, 10, 2 * 1024 * 1024);
+        try {
+            SharedChannelResource.ChannelKey spanKey = windowResource.newChannelKey("localhost", 9993, newClientOption(30000, 1024 * 1024), false, null);
+            SharedChannelResource.ChannelKey statKey = windowResource.newChannelKey("localhost", 9993, newClientOption(30000, 64 * 1024), false, null);
+
+            Assertions.assertEquals(spanKey, statKey);
+            Assertions.assertEquals(2 * 1024 * 1024, windowResource.getFlowControlWindow(newClientOption(30000, 64 * 1024)));
+        } finally {
+            windowResource.close();
+        }
+    }
+
+    private ClientOption newClientOption(long keepAliveTime, int flowControlWindow) {
+        return new ClientOption(keepAliveTime, ClientOption.DEFAULT_KEEPALIVE_TIMEOUT, ClientOption.DEFAULT_MAX_HEADER_LIST_SIZE,
+                ClientOption.DEFAULT_MAX_MESSAGE_SIZE, flowControlWindow, ClientOption.DEFAULT_CONNECT_TIMEOUT,
+                ClientOption.DEFAULT_WRITE_BUFFER_HIGH_WATER_MARK, ClientOption.DEFAULT_WRITE_BUFFER_LOW_WATER_MARK,
+                ChannelTypeEnum.NIO, ClientOption.DEFAULT_MAX_TRACE_EVENT, ClientOption.DEFAULT_LIMIT_COUNT, ClientOption.DEFAULT_LIMIT_TIME);
+    }
+}
@@ -24,7 +24,7 @@ import com.navercorp.pinpoint.channel.service.server.ChannelServiceServer;
 import com.navercorp.pinpoint.log.LogServiceProtocolConfig;
 import com.navercorp.pinpoint.log.collector.service.LogConsumerService;
 import com.navercorp.pinpoint.log.collector.service.LogServiceConfig;
-import com.navercorp.pinpoint.log.vo.FileKey;
+import com.navercorp.pinpoint.log.dto.LogDemand;
 import com.navercorp.pinpoint.log.vo.LogPile;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -53,14 +53,14 @@ public class LogCollectorRedisServerConfig {
     @Bean
     ChannelServiceServer logPubSubServer(
             ChannelProviderRepository channelProviderRepository,
-            FluxChannelServiceProtocol<FileKey, LogPile> protocol,
+            FluxChannelServiceProtocol<LogDemand, LogPile> protocol,
             LogConsumerService logConsumerService
     ) {
         Duration duration = protocol.getDemandInterval().plus(Duration.ofSeconds(2));
         return ChannelServiceServer.buildFlux(
                 channelProviderRepository,
                 protocol,
-                fileKey -> logConsumerService.tail(fileKey, duration)
+                demand -> logConsumerService.tail(demand.getFileKey(), demand.getFilter(), duration)
         );
     }
 
@@ -16,6 +16,7 @@
 package com.navercorp.pinpoint.log.collector.repository;
 
 import com.navercorp.pinpoint.log.vo.FileKey;
+import com.navercorp.pinpoint.log.vo.LogFilter;
 import com.navercorp.pinpoint.log.vo.LogPile;
 
 /**
@@ -27,4 +28,8 @@ public interface LogConsumer {
 
     FileKey getFileKey();
 
+    default LogFilter getFilter() {
+        return null;
+    }
+
 }
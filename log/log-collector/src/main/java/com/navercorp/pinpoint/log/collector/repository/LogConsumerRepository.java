@@ -19,15 +19,23 @@ import com.google.common.collect.Multimaps;
 import com.google.common.collect.SetMultimap;
 import com.navercorp.pinpoint.log.vo.FileKey;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 /**
  * @author youngjin.kim2
  */
 public class LogConsumerRepository {
 
+    private static final Object NO_FILTER = new Object();
+
     private final SetMultimap<FileKey, LogConsumer> consumers = Multimaps.synchronizedSetMultimap(
             Multimaps.newSetMultimap(new HashMap<>(32), () -> new LinkedHashSet<>(2))
     );
@@ -36,6 +44,24 @@ public class LogConsumerRepository {
         return getLast(this.consumers.get(key).iterator());
     }
 
+    /**
+     * @return the last consumer of each distinct filter
+     */
+    public List<LogConsumer> getConsumers(FileKey key) {
+        Map<Object, LogConsumer> lastByFilter = new LinkedHashMap<>(4);
+        synchronized (this.consumers) {
+            Set<LogConsumer> candidates = this.consumers.get(key);
+            for (LogConsumer consumer: candidates) {
+                lastByFilter.put(filterKey(consumer), consumer);
+            }
+        }
+        return new ArrayList<>(lastByFilter.values());
+    }
+
+    private static Object filterKey(LogConsumer consumer) {
+        return Objects.requireNonNullElse(consumer.getFilter(), NO_FILTER);
+    }
+
     public void addConsumer(LogConsumer consumer) {
         this.consumers.put(consumer.getFileKey(), consumer);
     }
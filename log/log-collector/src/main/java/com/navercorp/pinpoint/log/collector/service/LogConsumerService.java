@@ -16,6 +16,7 @@
 package com.navercorp.pinpoint.log.collector.service;
 
 import com.navercorp.pinpoint.log.vo.FileKey;
+import com.navercorp.pinpoint.log.vo.LogFilter;
 import com.navercorp.pinpoint.log.vo.LogPile;
 import reactor.core.publisher.Flux;
 
@@ -27,7 +28,11 @@ import java.util.List;
  */
 public interface LogConsumerService {
 
-    Flux<LogPile> tail(FileKey demand, Duration duration);
+    default Flux<LogPile> tail(FileKey demand, Duration duration) {
+        return tail(demand, null, duration);
+    }
+
+    Flux<LogPile> tail(FileKey demand, LogFilter filter, Duration duration);
 
     List<FileKey> getFileKeys();
 
@@ -21,7 +21,10 @@ import com.navercorp.pinpoint.log.collector.repository.LogConsumerRepository;
 import com.navercorp.pinpoint.log.collector.repository.LogDemandAcceptor;
 import com.navercorp.pinpoint.log.dto.LogDemand;
 import com.navercorp.pinpoint.log.vo.FileKey;
+import com.navercorp.pinpoint.log.vo.Log;
+import com.navercorp.pinpoint.log.vo.LogFilter;
 import com.navercorp.pinpoint.log.vo.LogPile;
+import reactor.core.publisher.BufferOverflowStrategy;
 import reactor.core.publisher.Flux;
 import reactor.core.scheduler.Scheduler;
 
@@ -29,6 +32,7 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
 /**
@@ -36,7 +40,12 @@ import java.util.function.Consumer;
  */
 class LogConsumerServiceImpl implements LogConsumerService {
 
+    static final int DEFAULT_BUFFER_SIZE = 256;
+
+    private static final int PUBLISH_PREFETCH = 4;
+
     private final Scheduler scheduler;
+    private final int bufferSize;
 
     private final LogAcceptorRepository acceptorRepository;
     private final LogConsumerRepository consumerRepository;
@@ -45,20 +54,39 @@ class LogConsumerServiceImpl implements LogConsumerService {
             Scheduler scheduler,
             LogAcceptorRepository acceptorRepository,
             LogConsumerRepository consumerRepository
+    ) {
+        this(scheduler, DEFAULT_BUFFER_SIZE, acceptorRepository, consumerRepository);
+    }
+
+    LogConsumerServiceImpl(
+            Scheduler scheduler,
+            int bufferSize,
+            LogAcceptorRepository acceptorRepository,
+            LogConsumerRepository consumerRepository
     ) {
         this.acceptorRepository = Objects.requireNonNull(acceptorRepository, "acceptorRepository");
         this.consumerRepository = Objects.requireNonNull(consumerRepository, "consumerRepository");
         this.scheduler = Objects.requireNonNull(scheduler, "scheduler");
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("bufferSize must be positive");
+        }
+        this.bufferSize = bufferSize;
     }
 
     @Override
-    public Flux<LogPile> tail(FileKey key, Duration duration) {
+    public Flux<LogPile> tail(FileKey key, LogFilter filter, Duration duration) {
+        DropCounter dropCounter = new DropCounter();
         return Flux.<LogPile>create(sink -> {
-            LogConsumerImpl consumer = new LogConsumerImpl(key, sink::next);
-            this.consumerRepository.addConsumer(consumer);
-            request(key, duration);
-            sink.onDispose(() -> this.consumerRepository.removeConsumer(consumer));
-        }).take(duration, this.scheduler);
+                    LogConsumerImpl consumer = new LogConsumerImpl(key, filter, dropCounter, sink::next);
+                    this.consumerRepository.addConsumer(consumer);
+                    request(key, filter, duration);
+                    sink.onDispose(() -> this.consumerRepository.removeConsumer(consumer));
+                })
+                // a slow subscriber loses the oldest piles instead of growing the buffer
+                .onBackpressureBuffer(this.bufferSize, dropCounter::drop, BufferOverflowStrategy.DROP_OLDEST)
+                .publishOn(this.scheduler, PUBLISH_PREFETCH)
+                .map(dropCounter::attach)
+                .take(duration, this.scheduler);
     }
 
     @Override
@@ -66,26 +94,109 @@ class LogConsumerServiceImpl implements LogConsumerService {
         return new ArrayList<>(this.acceptorRepository.getAcceptableKeys());
     }
 
-    private void request(FileKey key, Duration duration) {
-        LogDemand demand = new LogDemand(key, duration.toMillis());
+    private void request(FileKey key, LogFilter filter, Duration duration) {
+        LogDemand demand = new LogDemand(key, duration.toMillis(), filter);
         for (LogDemandAcceptor acceptor: this.acceptorRepository.getAcceptors(key)) {
             acceptor.accept(demand);
         }
     }
 
+    /**
+     * Counts the lines dropped by the buffer, by the rate cap or by the regex step limit, and reports them with the next pile.
+     */
+    private static class DropCounter {
+
+        private final AtomicLong dropped = new AtomicLong();
+
+        void drop(LogPile pile) {
+            add(pile.getLogs().size());
+        }
+
+        void add(long lines) {
+            this.dropped.addAndGet(lines);
+        }
+
+        LogPile attach(LogPile pile) {
+            long droppedCount = this.dropped.getAndSet(0);
+            if (droppedCount == 0) {
+                return pile;
+            }
+            return new LogPile(pile.getSeq(), pile.getLogs(), pile.getDroppedCount() + droppedCount);
+        }
+
+    }
+
     private static class LogConsumerImpl implements LogConsumer {
 
         private final FileKey fileKey;
+        private final LogFilter filter;
+        private final DropCounter dropCounter;
         private final Consumer<LogPile> sink;
 
-        public LogConsumerImpl(FileKey fileKey, Consumer<LogPile> sink) {
+        private long windowStartMillis;
+        private int windowLines;
+
+        public LogConsumerImpl(FileKey fileKey, LogFilter filter, DropCounter dropCounter, Consumer<LogPile> sink) {
             this.fileKey = fileKey;
+            this.filter = filter;
+            this.dropCounter = dropCounter;
             this.sink = sink;
         }
 
         @Override
         public void consume(LogPile pile) {
-            this.sink.accept(pile);
+            if (this.filter == null) {
+                this.sink.accept(pile);
+                return;
+            }
+            LogPile filtered = filter(pile);
+            if (filtered != null) {
+                this.sink.accept(filtered);
+            }
+        }
+
+        private synchronized LogPile filter(LogPile pile) {
+            List<Log> logs = new ArrayList<>(pile.getLogs().size());
+            long dropped = 0;
+            for (Log log: pile.getLogs()) {
+                LogFilter.Match match = this.filter.match(log.getLog());
+                if (match == LogFilter.Match.NOT_MATCHED) {
+                    continue;
+                }
+                if (match == LogFilter.Match.GIVE_UP) {
+                    // the line may have matched, report it as dropped
+                    dropped++;
+                    continue;
+                }
+                if (!tryAcquire()) {
+                    dropped++;
+                    continue;
+                }
+                logs.add(log);
+            }
+            if (dropped > 0) {
+                this.dropCounter.add(dropped);
+            }
+            if (logs.isEmpty()) {
+                return null;
+            }
+            return new LogPile(pile.getSeq(), logs, pile.getDroppedCount());
+        }
+
+        private boolean tryAcquire() {
+            if (!this.filter.hasRateLimit()) {
+                return true;
+            }
+            long now = System.currentTimeMillis();
+            if (now - this.windowStartMillis >= 1000) {
+                this.windowStartMillis = now;
+                this.windowLines = 0;
+            }
+            if (this.windowLines >= this.filter.getMaxLinesPerSecond()) {
+                return false;
+            }
+            this.windowLines++;
+            return true;
         }
 
         @Override
@@ -93,6 +204,11 @@ class LogConsumerServiceImpl implements LogConsumerService {
             return this.fileKey;
         }
 
+        @Override
+        public LogFilter getFilter() {
+            return this.filter;
+        }
+
     }
 
 }
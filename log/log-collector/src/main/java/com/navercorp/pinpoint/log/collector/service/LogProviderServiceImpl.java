@@ -42,8 +42,7 @@ class LogProviderServiceImpl implements LogProviderService {
 
     @Override
     public void provide(FileKey fileKey, LogPile pile) {
-        LogConsumer consumer = this.consumerRepository.getConsumer(fileKey);
-        if (consumer != null) {
+        for (LogConsumer consumer: this.consumerRepository.getConsumers(fileKey)) {
             consumer.consume(pile);
         }
     }
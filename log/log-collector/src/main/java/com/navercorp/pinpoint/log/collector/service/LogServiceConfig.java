@@ -17,6 +17,7 @@ package com.navercorp.pinpoint.log.collector.service;
 
 import com.navercorp.pinpoint.log.collector.repository.LogAcceptorRepository;
 import com.navercorp.pinpoint.log.collector.repository.LogConsumerRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import reactor.core.scheduler.Schedulers;
@@ -27,6 +28,9 @@ import reactor.core.scheduler.Schedulers;
 @Configuration
 public class LogServiceConfig {
 
+    @Value("${pinpoint.log.collector.consumer.buffer-size:" + LogConsumerServiceImpl.DEFAULT_BUFFER_SIZE + "}")
+    private int consumerBufferSize;
+
     @Bean
     LogAcceptorRepository logAcceptorRepository() {
         return new LogAcceptorRepository();
@@ -42,7 +46,7 @@ public class LogServiceConfig {
             LogAcceptorRepository acceptorRepository,
             LogConsumerRepository consumerRepository
     ) {
-        return new LogConsumerServiceImpl(Schedulers.parallel(), acceptorRepository, consumerRepository);
+        return new LogConsumerServiceImpl(Schedulers.boundedElastic(), consumerBufferSize, acceptorRepository, consumerRepository);
     }
 
     @Bean
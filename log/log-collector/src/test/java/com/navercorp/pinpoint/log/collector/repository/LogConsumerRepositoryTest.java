@@ -16,6 +16,7 @@
 package com.navercorp.pinpoint.log.collector.repository;
 
 import com.navercorp.pinpoint.log.vo.FileKey;
+import com.navercorp.pinpoint.log.vo.LogFilter;
 import com.navercorp.pinpoint.log.vo.LogPile;
 import org.junit.jupiter.api.Test;
 
@@ -52,6 +53,44 @@ public class LogConsumerRepositoryTest {
         assertThat(repo.getConsumer(fileKey2)).withFailMessage("should return null").isNull();
     }
 
+    @Test
+    public void testGetConsumersByFilter() throws Exception {
+        FileKey fileKey = FileKey.parse("hostGroup-1:host1.1:file-1.1.1");
+        LogFilter filter = new LogFilter("ERROR", false, 0);
+
+        LogConsumer consumer1 = mockLogConsumer(System.out::println, fileKey, null);
+        LogConsumer consumer2 = mockLogConsumer(System.out::println, fileKey, null);
+        LogConsumer consumer3 = mockLogConsumer(System.out::println, fileKey, filter);
+        LogConsumer consumer4 = mockLogConsumer(System.out::println, fileKey, new LogFilter("ERROR", false, 0));
+
+        LogConsumerRepository repo = new LogConsumerRepository();
+        repo.addConsumer(consumer1);
+        repo.addConsumer(consumer2);
+        repo.addConsumer(consumer3);
+        repo.addConsumer(consumer4);
+
+        assertThat(repo.getConsumers(fileKey)).containsExactly(consumer2, consumer4);
+    }
+
+    private static LogConsumer mockLogConsumer(Consumer<LogPile> delegate, FileKey fileKey, LogFilter filter) {
+        return new LogConsumer() {
+            @Override
+            public void consume(LogPile pile) {
+                delegate.accept(pile);
+            }
+
+            @Override
+            public FileKey getFileKey() {
+                return fileKey;
+            }
+
+            @Override
+            public LogFilter getFilter() {
+                return filter;
+            }
+        };
+    }
+
     private static LogConsumer mockLogConsumer(Consumer<LogPile> delegate, FileKey fileKey) {
         return new LogConsumer() {
             @Override
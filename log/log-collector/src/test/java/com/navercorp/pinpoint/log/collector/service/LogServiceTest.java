@@ -19,13 +19,20 @@ import com.navercorp.pinpoint.log.collector.repository.LogAcceptorRepository;
 import com.navercorp.pinpoint.log.collector.repository.LogConsumerRepository;
 import com.navercorp.pinpoint.log.vo.FileKey;
 import com.navercorp.pinpoint.log.vo.Log;
+import com.navercorp.pinpoint.log.vo.LogFilter;
 import com.navercorp.pinpoint.log.vo.LogPile;
 import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
 import reactor.core.Disposable;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.SignalType;
 import reactor.core.scheduler.Schedulers;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -68,4 +75,120 @@ public class LogServiceTest {
         ).isNotNull().isEmpty();
     }
 
+    @Test
+    public void testFilter() throws Exception {
+        LogAcceptorRepository acceptorRepository = new LogAcceptorRepository();
+        LogConsumerRepository consumerRepository = new LogConsumerRepository();
+
+        LogConsumerService consumerService =
+                new LogConsumerServiceImpl(Schedulers.boundedElastic(), acceptorRepository, consumerRepository);
+        LogProviderService providerService =
+                new LogProviderServiceImpl(acceptorRepository, consumerRepository);
+
+        FileKey fileKey = FileKey.parse("hostGroup-1:host-1:file-1");
+        LogPile pile = new LogPile(0, List.of(
+                new Log(0, 0, "INFO started"),
+                new Log(1, 0, "ERROR failed 1"),
+                new Log(2, 0, "ERROR failed 2"),
+                new Log(3, 0, "ERROR failed 3")
+        ));
+
+        Disposable providerDisposable = providerService.getDemands(fileKey).subscribe(demand -> {
+            providerService.provide(fileKey, pile);
+        });
+
+        List<LogPile> result = consumerService.tail(fileKey, new LogFilter("ERROR", false, 2), Duration.ofMillis(10))
+                .collectList()
+                .block();
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getLogs()).extracting(Log::getSeq).containsExactly(1L, 2L);
+        assertThat(result.get(0).getDroppedCount()).withFailMessage("rate capped").isEqualTo(1);
+
+        List<LogPile> regexResult = consumerService.tail(fileKey, new LogFilter("^INFO", true, 0), Duration.ofMillis(10))
+                .collectList()
+                .block();
+        assertThat(regexResult).hasSize(1);
+        assertThat(regexResult.get(0).getLogs()).extracting(Log::getSeq).containsExactly(0L);
+
+        providerDisposable.dispose();
+    }
+
+    @Test
+    public void testFilterGiveUp() throws Exception {
+        LogAcceptorRepository acceptorRepository = new LogAcceptorRepository();
+        LogConsumerRepository consumerRepository = new LogConsumerRepository();
+
+        LogConsumerService consumerService =
+                new LogConsumerServiceImpl(Schedulers.boundedElastic(), acceptorRepository, consumerRepository);
+        LogProviderService providerService =
+                new LogProviderServiceImpl(acceptorRepository, consumerRepository);
+
+        FileKey fileKey = FileKey.parse("hostGroup-1:host-1:file-1");
+        LogPile pile = new LogPile(0, List.of(
+                new Log(0, 0, "aaaa"),
+                new Log(1, 0, "a".repeat(64) + "!")
+        ));
+
+        Disposable providerDisposable = providerService.getDemands(fileKey).subscribe(demand -> {
+            providerService.provide(fileKey, pile);
+        });
+
+        List<LogPile> result = consumerService.tail(fileKey, new LogFilter("^(a+)+$", true, 0), Duration.ofMillis(100))
+                .collectList()
+                .block();
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getLogs()).extracting(Log::getSeq).containsExactly(0L);
+        assertThat(result.get(0).getDroppedCount()).withFailMessage("regex step limit").isEqualTo(1);
+
+        providerDisposable.dispose();
+    }
+
+    @Test
+    public void testDropOldest() throws Exception {
+        LogAcceptorRepository acceptorRepository = new LogAcceptorRepository();
+        LogConsumerRepository consumerRepository = new LogConsumerRepository();
+
+        LogConsumerService consumerService =
+                new LogConsumerServiceImpl(Schedulers.boundedElastic(), 2, acceptorRepository, consumerRepository);
+        LogProviderService providerService =
+                new LogProviderServiceImpl(acceptorRepository, consumerRepository);
+
+        FileKey fileKey = FileKey.parse("hostGroup-1:host-1:file-1");
+        Disposable providerDisposable = providerService.getDemands(fileKey).subscribe(demand -> {});
+
+        List<LogPile> received = new CopyOnWriteArrayList<>();
+        CountDownLatch completed = new CountDownLatch(1);
+        BaseSubscriber<LogPile> slowSubscriber = new BaseSubscriber<>() {
+            @Override
+            protected void hookOnSubscribe(Subscription subscription) {
+                // no demand until the piles are provided
+            }
+
+            @Override
+            protected void hookOnNext(LogPile value) {
+                received.add(value);
+            }
+
+            @Override
+            protected void hookFinally(SignalType type) {
+                completed.countDown();
+            }
+        };
+        consumerService.tail(fileKey, Duration.ofMillis(500)).subscribe(slowSubscriber);
+
+        for (int i = 0; i < 10; i++) {
+            providerService.provide(fileKey, new LogPile(i, List.of(new Log(i, 0, "log" + i))));
+        }
+        slowSubscriber.requestUnbounded();
+
+        assertThat(completed.await(3, TimeUnit.SECONDS)).isTrue();
+        long delivered = received.stream().mapToLong(pile -> pile.getLogs().size()).sum();
+        long dropped = received.stream().mapToLong(LogPile::getDroppedCount).sum();
+        assertThat(delivered).isLessThan(10);
+        assertThat(delivered + dropped).isEqualTo(10);
+        assertThat(received.get(received.size() - 1).getSeq()).isEqualTo(9);
+
+        providerDisposable.dispose();
+    }
+
 }
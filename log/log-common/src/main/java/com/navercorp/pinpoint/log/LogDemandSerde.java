@@ -0,0 +1,74 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.pinpoint.log;
+
+import com.navercorp.pinpoint.channel.serde.Serde;
+import com.navercorp.pinpoint.log.dto.LogDemand;
+import com.navercorp.pinpoint.log.vo.FileKey;
+import jakarta.annotation.Nonnull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Objects;
+
+/**
+ * Demand serde of the live tail channel, compatible with the bare {@link FileKey} demands of older versions.
+ * <p>
+ * Unfiltered demands are written in the old format, so old collectors keep serving new web instances,
+ * and both formats are read, so new collectors keep serving old web instances.
+ * Filtered demands are only understood by upgraded collectors: upgrade the collectors before the web.
+ */
+class LogDemandSerde implements Serde<LogDemand> {
+
+    private final Serde<LogDemand> demandSerde;
+    private final Serde<FileKey> legacySerde;
+
+    LogDemandSerde(Serde<LogDemand> demandSerde, Serde<FileKey> legacySerde) {
+        this.demandSerde = Objects.requireNonNull(demandSerde, "demandSerde");
+        this.legacySerde = Objects.requireNonNull(legacySerde, "legacySerde");
+    }
+
+    @Override
+    @Nonnull
+    public LogDemand deserialize(@Nonnull InputStream inputStream) throws IOException {
+        final byte[] bytes = inputStream.readAllBytes();
+        try {
+            final LogDemand demand = this.demandSerde.deserializeFromByteArray(bytes);
+            if (demand != null && demand.getFileKey() != null) {
+                return demand;
+            }
+        } catch (IOException ignored) {
+            // not a LogDemand, fall back to the legacy format
+        }
+        final FileKey fileKey = this.legacySerde.deserializeFromByteArray(bytes);
+        return new LogDemand(fileKey, 0);
+    }
+
+    @Override
+    public void serialize(@Nonnull LogDemand demand, @Nonnull OutputStream outputStream) throws IOException {
+        if (isLegacyCompatible(demand)) {
+            this.legacySerde.serialize(demand.getFileKey(), outputStream);
+        } else {
+            this.demandSerde.serialize(demand, outputStream);
+        }
+    }
+
+    private static boolean isLegacyCompatible(LogDemand demand) {
+        return demand.getFilter() == null && demand.getDurationMillis() == 0;
+    }
+
+}
@@ -22,14 +22,20 @@ import com.navercorp.pinpoint.channel.serde.JsonSerdeFactory;
 import com.navercorp.pinpoint.channel.service.ChannelServiceProtocol;
 import com.navercorp.pinpoint.channel.service.FluxChannelServiceProtocol;
 import com.navercorp.pinpoint.channel.service.client.ChannelState;
+import com.navercorp.pinpoint.log.dto.LogDemand;
 import com.navercorp.pinpoint.log.vo.FileKey;
+import com.navercorp.pinpoint.log.vo.LogFilter;
 import com.navercorp.pinpoint.log.vo.LogPile;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
+import java.util.HexFormat;
 
 /**
  * @author youngjin.kim2
@@ -39,17 +45,36 @@ import java.time.Duration;
 public class LogServiceProtocolConfig {
 
     @Bean
-    FluxChannelServiceProtocol<FileKey, LogPile> logProtocol(JsonSerdeFactory factory) {
-        return ChannelServiceProtocol.<FileKey, LogPile>builder()
-                .setDemandSerde(factory.byClass(FileKey.class))
-                .setDemandPubChannelURIProvider(demand -> URI.create("pubsub:log:demand:" + demand))
+    FluxChannelServiceProtocol<LogDemand, LogPile> logProtocol(JsonSerdeFactory factory) {
+        return ChannelServiceProtocol.<LogDemand, LogPile>builder()
+                .setDemandSerde(new LogDemandSerde(factory.byClass(LogDemand.class), factory.byClass(FileKey.class)))
+                .setDemandPubChannelURIProvider(demand -> URI.create("pubsub:log:demand:" + demand.getFileKey()))
                 .setDemandSubChannelURI(URI.create("pubsub:log:demand:*"))
                 .setSupplySerde(factory.byClass(LogPile.class))
-                .setSupplyChannelURIProvider(demand -> URI.create("stream:log:supply:" + demand))
+                .setSupplyChannelURIProvider(demand -> URI.create("stream:log:supply:" + getSupplyKey(demand)))
                 .setDemandInterval(Duration.ofSeconds(5))
                 .setBufferSize(4)
                 .setChannelStateFn(supply -> ChannelState.ALIVE)
                 .buildFlux();
     }
 
+    // tails of the same file with different filters must not share a supply stream
+    static String getSupplyKey(LogDemand demand) {
+        LogFilter filter = demand.getFilter();
+        if (filter == null) {
+            return demand.getFileKey().toString();
+        }
+        return demand.getFileKey() + ":" + digest(filter);
+    }
+
+    private static String digest(LogFilter filter) {
+        String canonical = filter.isRegex() + ":" + filter.getMaxLinesPerSecond() + ":" + filter.getPattern();
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(canonical.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
 }
@@ -16,6 +16,7 @@
 package com.navercorp.pinpoint.log.dto;
 
 import com.navercorp.pinpoint.log.vo.FileKey;
+import com.navercorp.pinpoint.log.vo.LogFilter;
 
 /**
  * @author youngjin.kim2
@@ -24,12 +25,18 @@ public class LogDemand {
 
     private FileKey fileKey;
     private long durationMillis;
+    private LogFilter filter;
 
     public LogDemand() {}
 
     public LogDemand(FileKey fileKey, long durationMillis) {
+        this(fileKey, durationMillis, null);
+    }
+
+    public LogDemand(FileKey fileKey, long durationMillis, LogFilter filter) {
         this.fileKey = fileKey;
         this.durationMillis = durationMillis;
+        this.filter = filter;
     }
 
     public FileKey getFileKey() {
@@ -48,4 +55,24 @@ public class LogDemand {
         this.durationMillis = durationMillis;
     }
 
+    /**
+     * @return filter of the demanded lines, null for every line
+     */
+    public LogFilter getFilter() {
+        return filter;
+    }
+
+    public void setFilter(LogFilter filter) {
+        this.filter = filter;
+    }
+
+    @Override
+    public String toString() {
+        return "LogDemand{" +
+                "fileKey=" + fileKey +
+                ", durationMillis=" + durationMillis +
+                ", filter=" + filter +
+                '}';
+    }
+
 }
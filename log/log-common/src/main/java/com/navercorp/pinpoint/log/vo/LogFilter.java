@@ -0,0 +1,184 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.pinpoint.log.vo;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Line filter of a live tail, applied before the lines leave the collector.
+ * An empty pattern matches every line, and a non-positive maxLinesPerSecond means no rate cap.
+ * <p>
+ * Patterns come from users, so their length is capped and a regex gives up on a line
+ * after {@link #MAX_REGEX_STEPS} character reads instead of backtracking forever.
+ * Such a line is reported as {@link Match#GIVE_UP} so that it can be counted as dropped.
+ */
+public class LogFilter {
+
+    public static final int MAX_PATTERN_LENGTH = 512;
+    static final int MAX_REGEX_STEPS = 1_000_000;
+
+    private final String pattern;
+    private final boolean regex;
+    private final int maxLinesPerSecond;
+
+    private final Function<String, Match> matcher;
+
+    @JsonCreator
+    public LogFilter(
+            @JsonProperty("pattern") String pattern,
+            @JsonProperty("regex") boolean regex,
+            @JsonProperty("maxLinesPerSecond") int maxLinesPerSecond
+    ) {
+        this.pattern = Objects.requireNonNullElse(pattern, "");
+        this.regex = regex;
+        this.maxLinesPerSecond = maxLinesPerSecond;
+        this.matcher = buildMatcher(this.pattern, regex);
+    }
+
+    private static Function<String, Match> buildMatcher(String pattern, boolean regex) {
+        if (pattern.length() > MAX_PATTERN_LENGTH) {
+            throw new IllegalArgumentException("pattern is longer than " + MAX_PATTERN_LENGTH);
+        }
+        if (pattern.isEmpty()) {
+            return line -> Match.MATCHED;
+        }
+        if (regex) {
+            return boundedRegex(Pattern.compile(pattern));
+        }
+        return line -> Match.of(line.contains(pattern));
+    }
+
+    private static Function<String, Match> boundedRegex(Pattern compiled) {
+        return line -> {
+            try {
+                return Match.of(compiled.matcher(new BoundedCharSequence(line, MAX_REGEX_STEPS)).find());
+            } catch (StepLimitExceededException e) {
+                return Match.GIVE_UP;
+            }
+        };
+    }
+
+    public boolean matches(String line) {
+        return match(line) == Match.MATCHED;
+    }
+
+    public Match match(String line) {
+        if (line == null) {
+            return Match.NOT_MATCHED;
+        }
+        return this.matcher.apply(line);
+    }
+
+    public boolean hasRateLimit() {
+        return this.maxLinesPerSecond > 0;
+    }
+
+    @JsonProperty("pattern")
+    public String getPattern() {
+        return pattern;
+    }
+
+    @JsonProperty("regex")
+    public boolean isRegex() {
+        return regex;
+    }
+
+    @JsonProperty("maxLinesPerSecond")
+    public int getMaxLinesPerSecond() {
+        return maxLinesPerSecond;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        LogFilter logFilter = (LogFilter) o;
+        return regex == logFilter.regex && maxLinesPerSecond == logFilter.maxLinesPerSecond && pattern.equals(logFilter.pattern);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(pattern, regex, maxLinesPerSecond);
+    }
+
+    @Override
+    public String toString() {
+        return "LogFilter{" +
+                "pattern='" + pattern + '\'' +
+                ", regex=" + regex +
+                ", maxLinesPerSecond=" + maxLinesPerSecond +
+                '}';
+    }
+
+    public enum Match {
+        MATCHED,
+        NOT_MATCHED,
+        // the regex step limit was exceeded
+        GIVE_UP;
+
+        static Match of(boolean matched) {
+            return matched ? MATCHED : NOT_MATCHED;
+        }
+    }
+
+    private static final class BoundedCharSequence implements CharSequence {
+
+        private final CharSequence delegate;
+        private int remainingSteps;
+
+        private BoundedCharSequence(CharSequence delegate, int maxSteps) {
+            this.delegate = delegate;
+            this.remainingSteps = maxSteps;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (--remainingSteps < 0) {
+                throw StepLimitExceededException.INSTANCE;
+            }
+            return delegate.charAt(index);
+        }
+
+        @Override
+        public int length() {
+            return delegate.length();
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return delegate.subSequence(start, end);
+        }
+
+        @Override
+        public String toString() {
+            return delegate.toString();
+        }
+    }
+
+    private static final class StepLimitExceededException extends RuntimeException {
+
+        private static final StepLimitExceededException INSTANCE = new StepLimitExceededException();
+
+        private StepLimitExceededException() {
+            super("regex step limit exceeded", null, false, false);
+        }
+    }
+}
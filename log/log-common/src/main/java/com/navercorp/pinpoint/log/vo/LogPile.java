@@ -15,6 +15,9 @@
  */
 package com.navercorp.pinpoint.log.vo;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 import java.util.List;
 
 /**
@@ -24,10 +27,24 @@ public class LogPile {
 
     private final long seq;
     private final List<Log> logs;
+    private final long droppedCount;
 
     public LogPile(long seq, List<Log> logs) {
+        this(seq, logs, 0);
+    }
+
+    /**
+     * @param droppedCount number of lines dropped before this pile since the previous one
+     */
+    @JsonCreator
+    public LogPile(
+            @JsonProperty("seq") long seq,
+            @JsonProperty("logs") List<Log> logs,
+            @JsonProperty("droppedCount") long droppedCount
+    ) {
         this.seq = seq;
         this.logs = logs;
+        this.droppedCount = droppedCount;
     }
 
     public long getSeq() {
@@ -38,4 +55,8 @@ public class LogPile {
         return logs;
     }
 
+    public long getDroppedCount() {
+        return droppedCount;
+    }
+
 }
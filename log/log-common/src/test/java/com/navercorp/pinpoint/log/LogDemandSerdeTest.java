@@ -0,0 +1,88 @@
+package com.navercorp.pinpoint.log;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.navercorp.pinpoint.channel.serde.JacksonSerdeFactory;
+import com.navercorp.pinpoint.channel.serde.JsonSerdeFactory;
+import com.navercorp.pinpoint.channel.serde.Serde;
+import com.navercorp.pinpoint.log.dto.LogDemand;
+import com.navercorp.pinpoint.log.vo.FileKey;
+import com.navercorp.pinpoint.log.vo.LogFilter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+class LogDemandSerdeTest {
+
+    private static final FileKey FILE_KEY = FileKey.of("hostGroupName", "hostName", "fileName");
+
+    @Test
+    void readLegacyDemand() throws IOException {
+        readLegacyDemand(true);
+        readLegacyDemand(false);
+    }
+
+    private void readLegacyDemand(boolean failOnUnknownProperties) throws IOException {
+        JsonSerdeFactory factory = factory(failOnUnknownProperties);
+        Serde<LogDemand> serde = serde(factory);
+
+        byte[] legacy = factory.byClass(FileKey.class).serializeToByteArray(FILE_KEY);
+        LogDemand demand = serde.deserializeFromByteArray(legacy);
+
+        Assertions.assertEquals(FILE_KEY, demand.getFileKey());
+        Assertions.assertNull(demand.getFilter());
+    }
+
+    @Test
+    void writeUnfilteredDemandInLegacyFormat() throws IOException {
+        writeUnfilteredDemandInLegacyFormat(true);
+        writeUnfilteredDemandInLegacyFormat(false);
+    }
+
+    private void writeUnfilteredDemandInLegacyFormat(boolean failOnUnknownProperties) throws IOException {
+        JsonSerdeFactory factory = factory(failOnUnknownProperties);
+        Serde<LogDemand> serde = serde(factory);
+
+        byte[] bytes = serde.serializeToByteArray(new LogDemand(FILE_KEY, 0));
+
+        Assertions.assertEquals(FILE_KEY, factory.byClass(FileKey.class).deserializeFromByteArray(bytes));
+        Assertions.assertEquals(FILE_KEY, serde.deserializeFromByteArray(bytes).getFileKey());
+    }
+
+    @Test
+    void filteredDemand() throws IOException {
+        filteredDemand(true);
+        filteredDemand(false);
+    }
+
+    private void filteredDemand(boolean failOnUnknownProperties) throws IOException {
+        Serde<LogDemand> serde = serde(factory(failOnUnknownProperties));
+        LogFilter filter = new LogFilter("ERROR", false, 10);
+
+        LogDemand demand = serde.deserializeFromByteArray(serde.serializeToByteArray(new LogDemand(FILE_KEY, 0, filter)));
+
+        Assertions.assertEquals(FILE_KEY, demand.getFileKey());
+        Assertions.assertEquals(filter, demand.getFilter());
+    }
+
+    @Test
+    void supplyKeyDistinguishesFilters() {
+        // "Aa" and "BB" share a String hash code
+        LogDemand demand = new LogDemand(FILE_KEY, 0, new LogFilter("Aa", false, 0));
+        LogDemand other = new LogDemand(FILE_KEY, 0, new LogFilter("BB", false, 0));
+
+        Assertions.assertNotEquals(LogServiceProtocolConfig.getSupplyKey(demand), LogServiceProtocolConfig.getSupplyKey(other));
+        Assertions.assertEquals(FILE_KEY.toString(), LogServiceProtocolConfig.getSupplyKey(new LogDemand(FILE_KEY, 0)));
+    }
+
+    private static JsonSerdeFactory factory(boolean failOnUnknownProperties) {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, failOnUnknownProperties);
+        return new JacksonSerdeFactory(objectMapper);
+    }
+
+    private static Serde<LogDemand> serde(JsonSerdeFactory factory) {
+        return new LogDemandSerde(factory.byClass(LogDemand.class), factory.byClass(FileKey.class));
+    }
+}
@@ -0,0 +1,61 @@
+package com.navercorp.pinpoint.log.vo;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.regex.PatternSyntaxException;
+
+class LogFilterTest {
+
+    @Test
+    void substring() {
+        LogFilter filter = new LogFilter("ERROR", false, 0);
+
+        Assertions.assertTrue(filter.matches("2025-01-01 ERROR failed"));
+        Assertions.assertFalse(filter.matches("2025-01-01 INFO started"));
+        Assertions.assertFalse(filter.matches(null));
+        Assertions.assertFalse(filter.hasRateLimit());
+    }
+
+    @Test
+    void regex() {
+        LogFilter filter = new LogFilter("^\\d+ (WARN|ERROR)", true, 10);
+
+        Assertions.assertTrue(filter.matches("1 WARN slow"));
+        Assertions.assertFalse(filter.matches("x WARN slow"));
+        Assertions.assertTrue(filter.hasRateLimit());
+    }
+
+    @Test
+    void emptyPattern() {
+        LogFilter filter = new LogFilter(null, true, 0);
+
+        Assertions.assertTrue(filter.matches("anything"));
+        Assertions.assertEquals(new LogFilter("", true, 0), filter);
+    }
+
+    @Test
+    void tooLongPattern() {
+        String pattern = "a".repeat(LogFilter.MAX_PATTERN_LENGTH + 1);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new LogFilter(pattern, false, 0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new LogFilter(pattern, true, 0));
+    }
+
+    @Test
+    void invalidRegex() {
+        Assertions.assertThrows(PatternSyntaxException.class, () -> new LogFilter("(ERROR", true, 0));
+    }
+
+    @Test
+    void catastrophicBacktracking() {
+        LogFilter filter = new LogFilter("^(a+)+$", true, 0);
+
+        Assertions.assertTrue(filter.matches("aaaa"));
+        Assertions.assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            Assertions.assertFalse(filter.matches("a".repeat(64) + "!"));
+            Assertions.assertEquals(LogFilter.Match.GIVE_UP, filter.match("a".repeat(64) + "!"));
+        });
+    }
+}
@@ -16,7 +16,9 @@
 package com.navercorp.pinpoint.log.web.dao;
 
 import com.navercorp.pinpoint.log.vo.FileKey;
+import com.navercorp.pinpoint.log.vo.LogFilter;
 import com.navercorp.pinpoint.log.vo.LogPile;
+import jakarta.annotation.Nullable;
 import reactor.core.publisher.Flux;
 
 import java.util.List;
@@ -26,7 +28,7 @@ import java.util.List;
  */
 public interface LiveTailDao {
 
-    Flux<LogPile> tail(FileKey fileKey);
+    Flux<LogPile> tail(FileKey fileKey, @Nullable LogFilter filter);
 
     List<FileKey> getFileKeys();
 
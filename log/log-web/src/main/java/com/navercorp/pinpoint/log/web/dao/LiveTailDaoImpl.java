@@ -16,7 +16,9 @@
 package com.navercorp.pinpoint.log.web.dao;
 
 import com.navercorp.pinpoint.channel.service.client.FluxChannelServiceClient;
+import com.navercorp.pinpoint.log.dto.LogDemand;
 import com.navercorp.pinpoint.log.vo.FileKey;
+import com.navercorp.pinpoint.log.vo.LogFilter;
 import com.navercorp.pinpoint.log.vo.LogPile;
 import org.springframework.data.redis.core.RedisTemplate;
 import reactor.core.publisher.Flux;
@@ -33,19 +35,20 @@ import java.util.Set;
 public class LiveTailDaoImpl implements LiveTailDao {
 
     private final RedisTemplate<String, String> redis;
-    private final FluxChannelServiceClient<FileKey, LogPile> client;
+    private final FluxChannelServiceClient<LogDemand, LogPile> client;
 
     public LiveTailDaoImpl(
             RedisTemplate<String, String> redis,
-            FluxChannelServiceClient<FileKey, LogPile> client
+            FluxChannelServiceClient<LogDemand, LogPile> client
     ) {
         this.redis = Objects.requireNonNull(redis, "redis");
         this.client = Objects.requireNonNull(client, "client");
     }
 
     @Override
-    public Flux<LogPile> tail(FileKey fileKey) {
-        return this.client.request(fileKey);
+    public Flux<LogPile> tail(FileKey fileKey, LogFilter filter) {
+        // the collector decides the duration of each demand
+        return this.client.request(new LogDemand(fileKey, 0, filter));
     }
 
     @Override
@@ -22,7 +22,7 @@ import com.navercorp.pinpoint.channel.service.FluxChannelServiceProtocol;
 import com.navercorp.pinpoint.channel.service.client.ChannelServiceClient;
 import com.navercorp.pinpoint.channel.service.client.FluxChannelServiceClient;
 import com.navercorp.pinpoint.log.LogServiceProtocolConfig;
-import com.navercorp.pinpoint.log.vo.FileKey;
+import com.navercorp.pinpoint.log.dto.LogDemand;
 import com.navercorp.pinpoint.log.vo.LogPile;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
@@ -45,9 +45,9 @@ public class LogWebDaoConfig {
     }
 
     @Bean
-    FluxChannelServiceClient<FileKey, LogPile> liveTailClient(
+    FluxChannelServiceClient<LogDemand, LogPile> liveTailClient(
             ChannelProviderRepository channelProviderRepository,
-            FluxChannelServiceProtocol<FileKey, LogPile> protocol
+            FluxChannelServiceProtocol<LogDemand, LogPile> protocol
     ) {
         return ChannelServiceClient.buildFlux(
                 channelProviderRepository,
@@ -59,7 +59,7 @@ public class LogWebDaoConfig {
     @Bean
     LiveTailDao liveTailDao(
             RedisTemplate<String, String> template,
-            FluxChannelServiceClient<FileKey, LogPile> client
+            FluxChannelServiceClient<LogDemand, LogPile> client
     ) {
         return new LiveTailDaoImpl(template, client);
     }
@@ -16,6 +16,7 @@
 package com.navercorp.pinpoint.log.web.service;
 
 import com.navercorp.pinpoint.log.vo.FileKey;
+import com.navercorp.pinpoint.log.vo.LogFilter;
 import com.navercorp.pinpoint.log.web.vo.LiveTailBatch;
 import jakarta.annotation.Nullable;
 import reactor.core.publisher.Flux;
@@ -30,6 +31,8 @@ public interface LiveTailService {
 
     Flux<List<LiveTailBatch>> tail(List<FileKey> fileKeys);
 
+    Flux<List<LiveTailBatch>> tail(List<FileKey> fileKeys, @Nullable LogFilter filter);
+
     Set<String> getHostGroupNames();
 
     List<FileKey> getFileKeys(String hostGroupName);
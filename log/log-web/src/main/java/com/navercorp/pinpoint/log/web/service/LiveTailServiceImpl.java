@@ -16,12 +16,15 @@
 package com.navercorp.pinpoint.log.web.service;
 
 import com.navercorp.pinpoint.log.vo.FileKey;
+import com.navercorp.pinpoint.log.vo.Log;
+import com.navercorp.pinpoint.log.vo.LogFilter;
 import com.navercorp.pinpoint.log.vo.LogPile;
 import com.navercorp.pinpoint.log.web.dao.LiveTailDao;
 import com.navercorp.pinpoint.log.web.vo.LiveTailBatch;
 import com.navercorp.pinpoint.web.util.ListListUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import reactor.core.publisher.BufferOverflowStrategy;
 import reactor.core.publisher.Flux;
 
 import java.time.Duration;
@@ -30,6 +33,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 /**
@@ -37,38 +41,72 @@ import java.util.function.Supplier;
  */
 public class LiveTailServiceImpl implements LiveTailService {
 
+    static final int DEFAULT_BUFFER_SIZE = 256;
+
+    private static final Duration WINDOW_TIMESPAN = Duration.ofMillis(200);
+    private static final int WINDOW_MAX_PILES = 1024;
+
     private final Logger logger = LogManager.getLogger(LiveTailServiceImpl.class);
 
     private final LiveTailDao dao;
+    private final int bufferSize;
 
     private final Supplier<Map<String, List<FileKey>>> fileKeyMapSupplier;
 
 
     public LiveTailServiceImpl(LiveTailDao dao) {
+        this(dao, DEFAULT_BUFFER_SIZE);
+    }
+
+    public LiveTailServiceImpl(LiveTailDao dao, int bufferSize) {
         this.dao = Objects.requireNonNull(dao, "dao");
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("bufferSize must be positive");
+        }
+        this.bufferSize = bufferSize;
         this.fileKeyMapSupplier = new LogFileKeyMapSupplier(this.dao);
     }
 
     @Override
     public Flux<List<LiveTailBatch>> tail(List<FileKey> fileKeys) {
-        return this.tail0(fileKeys)
-                .window(Duration.ofMillis(200))
+        return tail(fileKeys, null);
+    }
+
+    @Override
+    public Flux<List<LiveTailBatch>> tail(List<FileKey> fileKeys, LogFilter filter) {
+        DropCounter dropCounter = new DropCounter();
+        return this.tail0(fileKeys, filter)
+                // a window holds at most WINDOW_MAX_PILES piles, even when the merged files are chatty
+                .windowTimeout(WINDOW_MAX_PILES, WINDOW_TIMESPAN)
                 .flatMap(window -> window
                         .groupBy(el -> el.source().toString())
                         .flatMap(group -> group
-                                .map(el -> el.pile().getLogs())
+                                .map(LogPileWithSource::pile)
                                 .collectList()
-                                .map(el -> new LiveTailBatch(group.key(), ListListUtils.toList(el)))
+                                .map(piles -> toBatch(group.key(), piles))
                         )
                         .collectList()
                 )
-                .filter(el -> !el.isEmpty());
+                .filter(el -> !el.isEmpty())
+                // a slow websocket loses the oldest batches instead of growing the buffer
+                .onBackpressureBuffer(this.bufferSize, dropCounter::drop, BufferOverflowStrategy.DROP_OLDEST)
+                .map(dropCounter::attach);
+    }
+
+    private static LiveTailBatch toBatch(String fileKey, List<LogPile> piles) {
+        List<List<Log>> logs = new ArrayList<>(piles.size());
+        long droppedCount = 0;
+        for (LogPile pile: piles) {
+            logs.add(pile.getLogs());
+            droppedCount += pile.getDroppedCount();
+        }
+        return new LiveTailBatch(fileKey, ListListUtils.toList(logs), droppedCount);
     }
 
-    private Flux<LogPileWithSource> tail0(List<FileKey> fileKeys) {
+    private Flux<LogPileWithSource> tail0(List<FileKey> fileKeys, LogFilter filter) {
         List<Flux<LogPileWithSource>> fluxes = new ArrayList<>(fileKeys.size());
         for (FileKey augmented: fileKeys) {
-            Flux<LogPileWithSource> tail = tail0(augmented);
+            Flux<LogPileWithSource> tail = tail0(augmented, filter);
             if (tail != null) {
                 fluxes.add(tail);
             }
@@ -76,10 +114,10 @@ public class LiveTailServiceImpl implements LiveTailService {
         return Flux.merge(fluxes);
     }
 
-    private Flux<LogPileWithSource> tail0(FileKey fileKey) {
+    private Flux<LogPileWithSource> tail0(FileKey fileKey, LogFilter filter) {
         try {
-            logger.debug("Requesting tail of {}", fileKey);
-            return this.dao.tail(fileKey).map(pile -> new LogPileWithSource(fileKey, pile));
+            logger.debug("Requesting tail of {}, filter: {}", fileKey, filter);
+            return this.dao.tail(fileKey, filter).map(pile -> new LogPileWithSource(fileKey, pile));
         } catch (Exception e) {
             logger.error("Failed to tail {}", fileKey, e);
             return null;
@@ -123,4 +161,42 @@ public class LiveTailServiceImpl implements LiveTailService {
     private record LogPileWithSource(FileKey source, LogPile pile) {
     }
 
+    /**
+     * Counts the lines of the dropped batches per file, and reports them with the next delivered batches.
+     */
+    private static class DropCounter {
+
+        private final Map<String, Long> dropped = new ConcurrentHashMap<>();
+
+        void drop(List<LiveTailBatch> batches) {
+            for (LiveTailBatch batch: batches) {
+                this.dropped.merge(batch.fileKey(), batch.logs().size() + batch.droppedCount(), Long::sum);
+            }
+        }
+
+        List<LiveTailBatch> attach(List<LiveTailBatch> batches) {
+            if (this.dropped.isEmpty()) {
+                return batches;
+            }
+            List<LiveTailBatch> result = new ArrayList<>(batches.size() + this.dropped.size());
+            for (LiveTailBatch batch: batches) {
+                Long droppedCount = this.dropped.remove(batch.fileKey());
+                if (droppedCount == null) {
+                    result.add(batch);
+                } else {
+                    result.add(new LiveTailBatch(batch.fileKey(), batch.logs(), batch.droppedCount() + droppedCount));
+                }
+            }
+            // files without lines in this batch still report what they lost
+            for (String fileKey: this.dropped.keySet()) {
+                Long droppedCount = this.dropped.remove(fileKey);
+                if (droppedCount != null) {
+                    result.add(new LiveTailBatch(fileKey, List.of(), droppedCount));
+                }
+            }
+            return result;
+        }
+
+    }
+
 }
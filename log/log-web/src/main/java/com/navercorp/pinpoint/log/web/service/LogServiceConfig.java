@@ -18,6 +18,7 @@ package com.navercorp.pinpoint.log.web.service;
 import com.navercorp.pinpoint.channel.redis.pubsub.RedisPubSubConfig;
 import com.navercorp.pinpoint.log.web.dao.LiveTailDao;
 import com.navercorp.pinpoint.log.web.dao.LogWebDaoConfig;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
@@ -29,9 +30,12 @@ import org.springframework.context.annotation.Import;
 @Import({ RedisPubSubConfig.class, LogWebDaoConfig.class })
 public class LogServiceConfig {
 
+    @Value("${pinpoint.log.web.tail.buffer-size:" + LiveTailServiceImpl.DEFAULT_BUFFER_SIZE + "}")
+    private int tailBufferSize;
+
     @Bean
     LiveTailService liveTailService(LiveTailDao dao) {
-        return new LiveTailServiceImpl(dao);
+        return new LiveTailServiceImpl(dao, tailBufferSize);
     }
 
 }
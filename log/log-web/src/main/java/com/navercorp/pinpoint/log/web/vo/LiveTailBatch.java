@@ -23,7 +23,11 @@ import java.util.List;
 /**
  * @author youngjin.kim2
  */
-public record LiveTailBatch(String fileKey, List<Log> logs) {
+public record LiveTailBatch(String fileKey, List<Log> logs, long droppedCount) {
+
+    public LiveTailBatch(String fileKey, List<Log> logs) {
+        this(fileKey, logs, 0);
+    }
 
     @Override
     @JsonProperty("fileKey")
@@ -37,4 +41,10 @@ public record LiveTailBatch(String fileKey, List<Log> logs) {
         return logs;
     }
 
+    @Override
+    @JsonProperty("droppedCount")
+    public long droppedCount() {
+        return droppedCount;
+    }
+
 }
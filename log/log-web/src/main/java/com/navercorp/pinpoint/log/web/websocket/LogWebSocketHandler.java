@@ -16,6 +16,7 @@
 package com.navercorp.pinpoint.log.web.websocket;
 
 import com.navercorp.pinpoint.log.vo.FileKey;
+import com.navercorp.pinpoint.log.vo.LogFilter;
 import com.navercorp.pinpoint.log.web.service.LiveTailService;
 import com.navercorp.pinpoint.log.web.vo.LiveTailBatch;
 import com.navercorp.pinpoint.web.websocket.PinpointWebSocketHandler;
@@ -34,6 +35,7 @@ import javax.annotation.Nonnull;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.regex.PatternSyntaxException;
 
 /**
  * @author youngjin.kim2
@@ -65,6 +67,11 @@ class LogWebSocketHandler extends TextWebSocketHandler implements PinpointWebSoc
                 throw new RuntimeException("Failed to handle live-tail: session is not an instance of " +
                         "StandardWebSocketSession");
             }
+        } catch (IllegalArgumentException e) {
+            logger.warn("Rejected live-tail: {}", e.getMessage());
+            stopLiveTail(session);
+            session.close(CloseStatus.BAD_DATA.withReason("invalid live-tail parameter"));
+            return;
         } catch (Exception e) {
             logger.error("Failed to handle live-tail", e);
             stopLiveTail(session);
@@ -86,12 +93,40 @@ class LogWebSocketHandler extends TextWebSocketHandler implements PinpointWebSoc
         List<String> hostNames = split(getUniParam(params, "hostNames"));
         List<String> fileNames = split(getUniParam(params, "fileNames"));
 
+        LogFilter filter = getFilter(params);
+
         List<FileKey> fileKeys = this.liveTailService.getFileKeys(hostGroupName, hostNames, fileNames);
-        Disposable disposable = this.liveTailService.tail(fileKeys)
+        Disposable disposable = this.liveTailService.tail(fileKeys, filter)
                 .subscribe(supply -> sendSupply(session, supply));
         session.getAttributes().put(LIVE_TAIL_DISPOSABLE_ATTR, disposable);
     }
 
+    private static LogFilter getFilter(Map<String, List<String>> params) {
+        String pattern = getUniParam(params, "filter");
+        String maxLinesPerSecond = getUniParam(params, "maxLinesPerSecond");
+        if (pattern == null && maxLinesPerSecond == null) {
+            return null;
+        }
+        boolean regex = Boolean.parseBoolean(getUniParam(params, "regex"));
+        int rateLimit = parseRateLimit(maxLinesPerSecond);
+        try {
+            return new LogFilter(pattern, regex, rateLimit);
+        } catch (PatternSyntaxException e) {
+            throw new IllegalArgumentException("invalid filter regex: " + e.getDescription(), e);
+        }
+    }
+
+    private static int parseRateLimit(String maxLinesPerSecond) {
+        if (maxLinesPerSecond == null) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(maxLinesPerSecond);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("invalid maxLinesPerSecond: " + maxLinesPerSecond, e);
+        }
+    }
+
     private static String getUniParam(Map<String, List<String>> params, String key) {
         return CollectionUtils.firstElement(params.get(key));
     }
@@ -17,6 +17,7 @@ package com.navercorp.pinpoint.log.web.service;
 
 import com.navercorp.pinpoint.log.vo.FileKey;
 import com.navercorp.pinpoint.log.vo.Log;
+import com.navercorp.pinpoint.log.vo.LogFilter;
 import com.navercorp.pinpoint.log.vo.LogPile;
 import com.navercorp.pinpoint.log.web.dao.LiveTailDao;
 import com.navercorp.pinpoint.log.web.vo.LiveTailBatch;
@@ -24,14 +25,21 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.BaseSubscriber;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.SignalType;
 
 import java.time.Duration;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.when;
 
 /**
@@ -49,7 +57,7 @@ public class LiveTailServiceTest {
         Log log = new Log(0, 0, "hello");
         LogPile pile = new LogPile(0, List.of(log));
 
-        when(dao.tail(eq(fileKey))).thenReturn(Flux.just(pile));
+        when(dao.tail(eq(fileKey), isNull())).thenReturn(Flux.just(pile));
 
         List<List<LiveTailBatch>> tail = new LiveTailServiceImpl(dao).tail(List.of(fileKey))
                 .take(Duration.ofMillis(100))
@@ -63,6 +71,65 @@ public class LiveTailServiceTest {
         assertThat(tail.get(0).get(0).logs().get(0)).isEqualTo(log);
     }
 
+    @Test
+    public void testTailWithFilter() {
+        FileKey fileKey = FileKey.of("hostGroupName", "hostName", "fileName");
+        LogFilter filter = new LogFilter("ERROR", false, 100);
+        LogPile pile1 = new LogPile(0, List.of(new Log(0, 0, "ERROR 1")), 3);
+        LogPile pile2 = new LogPile(1, List.of(new Log(1, 0, "ERROR 2")), 2);
+
+        when(dao.tail(eq(fileKey), eq(filter))).thenReturn(Flux.just(pile1, pile2));
+
+        List<List<LiveTailBatch>> tail = new LiveTailServiceImpl(dao).tail(List.of(fileKey), filter)
+                .take(Duration.ofMillis(100))
+                .collectList()
+                .block(Duration.ofMillis(100));
+
+        assertThat(tail).hasSize(1);
+        assertThat(tail.get(0)).hasSize(1);
+        assertThat(tail.get(0).get(0).logs()).hasSize(2);
+        assertThat(tail.get(0).get(0).droppedCount()).isEqualTo(5);
+    }
+
+    @Test
+    public void testTailDropOldest() throws Exception {
+        FileKey fileKey = FileKey.of("hostGroupName", "hostName", "fileName");
+        Flux<LogPile> piles = Flux.interval(Duration.ofMillis(50))
+                .take(10)
+                .map(i -> new LogPile(i, List.of(new Log(i, 0, "log" + i))));
+
+        when(dao.tail(eq(fileKey), isNull())).thenReturn(piles);
+
+        List<LiveTailBatch> received = new CopyOnWriteArrayList<>();
+        CountDownLatch completed = new CountDownLatch(1);
+        BaseSubscriber<List<LiveTailBatch>> slowSubscriber = new BaseSubscriber<>() {
+            @Override
+            protected void hookOnSubscribe(Subscription subscription) {
+                // no demand until every pile is tailed
+            }
+
+            @Override
+            protected void hookOnNext(List<LiveTailBatch> value) {
+                received.addAll(value);
+            }
+
+            @Override
+            protected void hookFinally(SignalType type) {
+                completed.countDown();
+            }
+        };
+        new LiveTailServiceImpl(dao, 1).tail(List.of(fileKey)).subscribe(slowSubscriber);
+
+        Thread.sleep(1000);
+        slowSubscriber.requestUnbounded();
+
+        assertThat(completed.await(3, TimeUnit.SECONDS)).isTrue();
+        long delivered = received.stream().mapToLong(batch -> batch.logs().size()).sum();
+        long dropped = received.stream().mapToLong(LiveTailBatch::droppedCount).sum();
+        assertThat(delivered).isLessThan(10);
+        assertThat(delivered + dropped).isEqualTo(10);
+    }
+
     @Test
     public void testGetHostGroupNames() {
         mockDao();
@@ -23,7 +23,6 @@ import com.navercorp.pinpoint.metric.common.model.MetricTag;
 import com.navercorp.pinpoint.metric.common.model.MetricTagKey;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
 
@@ -45,26 +44,17 @@ public class MetricTagCache {
     }
 
     @Cacheable(cacheNames = "metricTagCollection", key = "#metricTagKey", cacheManager = MetricCacheConfiguration.METRIC_TAG_COLLECTION_CACHE_NAME)
-    public MetricTagCollection getMetricTag(MetricTagKey metricTagKey) {
+    public MetricTagSet getMetricTagSet(MetricTagKey metricTagKey) {
         MetricTagCollection metricTagCollection = metricTagDao.selectMetricTag(metricTagKey);
 
         if (logger.isDebugEnabled()) {
             logger.debug("metricTagCollection metricTagKey: {}, metricTagCollection : {}", metricTagKey, metricTagCollection);
         }
 
-        return metricTagCollection;
+        return MetricTagSet.of(metricTagCollection);
     }
 
     public void saveMetricTag(MetricTag metricTag) {
         metricTagDao.insertMetricTag(metricTag);
     }
-
-    @CachePut(cacheNames = "metricTagCollection", key = "#metricTagKey", cacheManager = MetricCacheConfiguration.METRIC_TAG_COLLECTION_CACHE_NAME)
-    public MetricTagCollection updateCacheForMetricTag(MetricTagKey metricTagKey, MetricTagCollection metricTagCollection) {
-        if (logger.isDebugEnabled()) {
-            logger.debug("updateCacheForMetricTag metricTagKey: {}, metricTagCollection : {}", metricTagKey, metricTagCollection);
-        }
-
-        return metricTagCollection;
-    }
 }
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.metric.collector.service;
+
+import com.navercorp.pinpoint.metric.common.model.MetricTag;
+import com.navercorp.pinpoint.metric.common.model.MetricTagCollection;
+import com.navercorp.pinpoint.metric.common.model.Tag;
+import org.apache.commons.collections4.CollectionUtils;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Known tag sets of one host/metric/field, indexed by an order-insensitive hash of the tags.
+ * Tag sets are only ever added, so a cached instance can be updated in place.
+ */
+public class MetricTagSet {
+
+    private final Set<TagSetKey> tagSets = ConcurrentHashMap.newKeySet();
+
+    public static MetricTagSet of(MetricTagCollection metricTagCollection) {
+        MetricTagSet metricTagSet = new MetricTagSet();
+        if (metricTagCollection != null) {
+            for (MetricTag metricTag : metricTagCollection.getMetricTagList()) {
+                metricTagSet.add(metricTag.getTags());
+            }
+        }
+        return metricTagSet;
+    }
+
+    public boolean contains(List<Tag> tags) {
+        return tagSets.contains(new TagSetKey(tags));
+    }
+
+    /**
+     * @return true if the tag set was not known before
+     */
+    public boolean add(List<Tag> tags) {
+        return tagSets.add(new TagSetKey(tags));
+    }
+
+    public int size() {
+        return tagSets.size();
+    }
+
+    @Override
+    public String toString() {
+        return "MetricTagSet{" +
+                "size=" + tagSets.size() +
+                '}';
+    }
+
+    private static final class TagSetKey {
+        private final List<Tag> tags;
+        private final int hashCode;
+
+        private TagSetKey(List<Tag> tags) {
+            this.tags = Objects.requireNonNull(tags, "tags");
+            this.hashCode = hash(tags);
+        }
+
+        // sum of element hashes, the same tags in a different order end up in the same bucket
+        private static int hash(List<Tag> tags) {
+            int hash = tags.size();
+            for (Tag tag : tags) {
+                hash += 31 * tag.hashCode();
+            }
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            TagSetKey that = (TagSetKey) o;
+            if (hashCode != that.hashCode || tags.size() != that.tags.size()) {
+                return false;
+            }
+            return CollectionUtils.isEqualCollection(tags, that.tags);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
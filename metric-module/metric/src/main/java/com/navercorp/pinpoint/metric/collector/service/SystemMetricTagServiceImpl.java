@@ -18,16 +18,13 @@ package com.navercorp.pinpoint.metric.collector.service;
 
 import com.navercorp.pinpoint.common.timeseries.time.DateTimeUtils;
 import com.navercorp.pinpoint.metric.common.model.MetricTag;
-import com.navercorp.pinpoint.metric.common.model.MetricTagCollection;
 import com.navercorp.pinpoint.metric.common.model.MetricTagKey;
 import com.navercorp.pinpoint.metric.common.model.SystemMetric;
 import com.navercorp.pinpoint.metric.common.model.Tag;
-import com.navercorp.pinpoint.metric.web.util.TagListUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
@@ -53,46 +50,17 @@ public class SystemMetricTagServiceImpl implements SystemMetricTagService {
         final List<Tag> tagList = systemMetric.getTags();
         final long saveTime = getSaveTime();
 
-        MetricTagCollection metricTagCache = this.metricTagCache.getMetricTag(new MetricTagKey(tenantId, hostGroupName, hostName, metricName, fieldName, saveTime));//
-
-        if (metricTagCache == null) {
-            MetricTagKey metricTagKey = new MetricTagKey(tenantId, hostGroupName, hostName, metricName, fieldName, saveTime);
-            List<Tag> copiedTagList = tagListCopy(tagList);
-
-            this.metricTagCache.updateCacheForMetricTag(metricTagKey, createMetricTagCollection(tenantId, hostGroupName, hostName, metricName, fieldName, copiedTagList, saveTime));
-            this.metricTagCache.saveMetricTag(new MetricTag(tenantId, hostGroupName, hostName, metricName, fieldName, copiedTagList, saveTime));
-        } else {
-            for (MetricTag metricTag : metricTagCache.getMetricTagList()) {
-                if (TagListUtils.containsAll(tagList, metricTag.getTags())) {
-                    return;
-                }
-            }
-            MetricTagKey metricTagKey = new MetricTagKey(tenantId, hostGroupName, hostName, metricName, fieldName, saveTime);
-            List<Tag> copiedTagList = tagListCopy(tagList);
-
-            this.metricTagCache.updateCacheForMetricTag(metricTagKey, createMetricTagCollection(metricTagCache, copiedTagList, saveTime));
-            this.metricTagCache.saveMetricTag(new MetricTag(tenantId, hostGroupName, hostName, metricName, fieldName, copiedTagList, saveTime));
+        MetricTagKey metricTagKey = new MetricTagKey(tenantId, hostGroupName, hostName, metricName, fieldName, saveTime);
+        MetricTagSet metricTagSet = this.metricTagCache.getMetricTagSet(metricTagKey);
+        if (metricTagSet.contains(tagList)) {
+            return;
         }
-    }
-
-    MetricTagCollection createMetricTagCollection(String tenantId, String applicationName, String hostName, String metricName, String fieldName, List<Tag> tagList, long saveTime) {
-        MetricTag metricTag = new MetricTag(tenantId, applicationName, hostName, metricName, fieldName, tagList, saveTime);
-        List<MetricTag> metricTagList = List.of(metricTag);
 
-        return new MetricTagCollection(tenantId, applicationName, hostName, metricName, fieldName, metricTagList);
-    }
-
-    MetricTagCollection createMetricTagCollection(MetricTagCollection metricTagCollection, List<Tag> tagList, long saveTime) {
-        List<MetricTag> metricTagList = metricTagCollection.getMetricTagList();
-
-        List<MetricTag> results = new ArrayList<>(metricTagList.size());
-        for (MetricTag metricTag : metricTagList) {
-            results.add(metricTag.copy());
+        List<Tag> copiedTagList = tagListCopy(tagList);
+        // the cached set is updated in place, only the thread that adds a new tag set stores it
+        if (metricTagSet.add(copiedTagList)) {
+            this.metricTagCache.saveMetricTag(new MetricTag(tenantId, hostGroupName, hostName, metricName, fieldName, copiedTagList, saveTime));
         }
-
-        results.add(new MetricTag(metricTagCollection.getTenantId(), metricTagCollection.getHostGroupName(), metricTagCollection.getHostName(), metricTagCollection.getMetricName(),metricTagCollection.getFieldName(), tagList, saveTime));
-
-        return new MetricTagCollection(metricTagCollection.getTenantId(), metricTagCollection.getHostGroupName(), metricTagCollection.getHostName(), metricTagCollection.getMetricName(), metricTagCollection.getFieldName(), results);
     }
 
     List<Tag> tagListCopy(List<Tag> tags) {
@@ -4,6 +4,7 @@ import com.navercorp.pinpoint.metric.collector.dao.MetricTagDao;
 import com.navercorp.pinpoint.metric.common.model.MetricTag;
 import com.navercorp.pinpoint.metric.common.model.MetricTagCollection;
 import com.navercorp.pinpoint.metric.common.model.MetricTagKey;
+import com.navercorp.pinpoint.metric.common.model.Tag;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -30,9 +31,9 @@ public class MetricTagCacheTest {
         MetricTagKey metricTagKey = new MetricTagKey("tenantId", "applicationName", "hostName", "metricName", "fieldName", new Date().getTime());
         when(metricTagDao.selectMetricTag(metricTagKey)).thenReturn(null);
 
-        MetricTagCollection metricTagCollection = metricTagCache.getMetricTag(metricTagKey);
+        MetricTagSet metricTagSet = metricTagCache.getMetricTagSet(metricTagKey);
 
-        Assertions.assertNull(metricTagCollection);
+        Assertions.assertEquals(0, metricTagSet.size());
     }
 
     @Test
@@ -41,12 +42,15 @@ public class MetricTagCacheTest {
         MetricTagCache metricTagCache = new MetricTagCache(metricTagDao);
 
         MetricTagKey metricTagKey = new MetricTagKey("tenantId", "applicationName", "hostName", "metricName", "fieldName", new Date().getTime());
-        MetricTagCollection metricTagCollection = new MetricTagCollection("tenantId", "applicationName", "hostName", "metricName", "fieldName", List.of());
+        List<Tag> tagList = List.of(new Tag("key", "value"));
+        MetricTag metricTag = new MetricTag("tenantId", "applicationName", "hostName", "metricName", "fieldName", tagList, metricTagKey.getSaveTime());
+        MetricTagCollection metricTagCollection = new MetricTagCollection("tenantId", "applicationName", "hostName", "metricName", "fieldName", List.of(metricTag));
         when(metricTagDao.selectMetricTag(metricTagKey)).thenReturn(metricTagCollection);
 
-        MetricTagCollection returnData = metricTagCache.getMetricTag(metricTagKey);
+        MetricTagSet metricTagSet = metricTagCache.getMetricTagSet(metricTagKey);
 
-        Assertions.assertEquals(returnData, metricTagCollection);
+        Assertions.assertEquals(1, metricTagSet.size());
+        Assertions.assertTrue(metricTagSet.contains(tagList));
     }
 
     @Test
@@ -59,16 +63,4 @@ public class MetricTagCacheTest {
 
         verify(metricTagDao).insertMetricTag(metricTag);
     }
-
-    @Test
-    public void updateCacheforMetricTag() {
-        MetricTagDao metricTagDao = mock(MetricTagDao.class);
-        MetricTagCache metricTagCache = new MetricTagCache(metricTagDao);
-
-        MetricTagKey metricTagKey = new MetricTagKey("tenantId", "applicationName", "hostName", "metricName", "fieldName", new Date().getTime());
-        MetricTagCollection metricTagCollection = new MetricTagCollection("tenantId", "applicationName", "hostName", "metricName", "fieldName", List.of());
-        MetricTagCollection metricTagCollectionResult = metricTagCache.updateCacheForMetricTag(metricTagKey, metricTagCollection);
-
-        Assertions.assertEquals(metricTagCollection, metricTagCollectionResult);
-    }
 }
\ No newline at end of file
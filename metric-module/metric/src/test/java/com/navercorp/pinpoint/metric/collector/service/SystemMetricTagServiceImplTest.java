@@ -7,18 +7,22 @@ import com.navercorp.pinpoint.metric.common.model.MetricTagCollection;
 import com.navercorp.pinpoint.metric.common.model.MetricTagKey;
 import com.navercorp.pinpoint.metric.common.model.SystemMetric;
 import com.navercorp.pinpoint.metric.common.model.Tag;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Date;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -29,6 +33,8 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 public class SystemMetricTagServiceImplTest {
 
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
 
     @Test
     public void saveMetricTag() {
@@ -44,19 +50,15 @@ public class SystemMetricTagServiceImplTest {
         List<Tag> tagList = List.of(new Tag("key", "value"));
 
         MetricTagKey metricTagKey = new MetricTagKey(tenantId, applicationName, hostName, metricName, fieldName, saveTime);
-        when(metricTagCache.getMetricTag(metricTagKey)).thenReturn(null);
+        MetricTagSet metricTagSet = MetricTagSet.of(null);
+        when(metricTagCache.getMetricTagSet(metricTagKey)).thenReturn(metricTagSet);
 
         SystemMetric systemMetric = new DoubleMetric(metricName, hostName, fieldName, 0, tagList, Long.MAX_VALUE);
         systemMetricTagService.saveMetricTag(tenantId, applicationName, systemMetric);
 
-
         MetricTag metricTag = new MetricTag(tenantId, applicationName, hostName, metricName, fieldName, tagList, saveTime);
-
-        List<MetricTag> metricTagList = List.of(metricTag);
-        MetricTagCollection metricTagCollection = new MetricTagCollection(tenantId, applicationName, hostName, metricName, fieldName, metricTagList);
-
-        verify(metricTagCache).updateCacheForMetricTag(metricTagKey, metricTagCollection);
         verify(metricTagCache).saveMetricTag(metricTag);
+        assertThat(metricTagSet.contains(tagList)).isTrue();
     }
 
     @Test
@@ -70,19 +72,19 @@ public class SystemMetricTagServiceImplTest {
         String metricName = "metricName";
         String fieldName = "fieldName";
         long saveTime = getSaveTime();
-        List<Tag> tagList = List.of(new Tag("key", "value"));
+        List<Tag> tagList = List.of(new Tag("key", "value"), new Tag("key2", "value2"));
 
         MetricTagKey metricTagKey = new MetricTagKey(tenantId, applicationName, hostName, metricName, fieldName, saveTime);
         MetricTag metricTag = new MetricTag(tenantId, applicationName, hostName, metricName, fieldName, tagList, saveTime);
 
-        List<MetricTag> metricTagList = List.of(metricTag);
-        MetricTagCollection metricTagCollection = new MetricTagCollection(tenantId, applicationName, hostName, metricName, fieldName, metricTagList);
-        when(metricTagCache.getMetricTag(metricTagKey)).thenReturn(metricTagCollection);
+        MetricTagCollection metricTagCollection = new MetricTagCollection(tenantId, applicationName, hostName, metricName, fieldName, List.of(metricTag));
+        when(metricTagCache.getMetricTagSet(metricTagKey)).thenReturn(MetricTagSet.of(metricTagCollection));
 
-        SystemMetric systemMetric = new DoubleMetric(metricName, hostName, fieldName, 0, tagList, Long.MAX_VALUE);
+        // same tags in a different order
+        List<Tag> reordered = List.of(new Tag("key2", "value2"), new Tag("key", "value"));
+        SystemMetric systemMetric = new DoubleMetric(metricName, hostName, fieldName, 0, reordered, Long.MAX_VALUE);
         systemMetricTagService.saveMetricTag(tenantId, applicationName, systemMetric);
 
-        verify(metricTagCache, never()).updateCacheForMetricTag(any(MetricTagKey.class), any(MetricTagCollection.class));
         verify(metricTagCache, never()).saveMetricTag(any(MetricTag.class));
     }
 
@@ -103,98 +105,45 @@ public class SystemMetricTagServiceImplTest {
         MetricTagKey metricTagKey = new MetricTagKey(tenantId, applicationName, hostName, metricName, fieldName, saveTime);
         MetricTag metricTag = new MetricTag(tenantId, applicationName, hostName, metricName, fieldName, tagList, saveTime);
 
-        List<MetricTag> metricTagList = List.of(metricTag);
-        MetricTagCollection metricTagCollection = new MetricTagCollection(tenantId, applicationName, hostName, metricName, fieldName, metricTagList);
-        when(metricTagCache.getMetricTag(metricTagKey)).thenReturn(metricTagCollection);
+        MetricTagCollection metricTagCollection = new MetricTagCollection(tenantId, applicationName, hostName, metricName, fieldName, List.of(metricTag));
+        MetricTagSet metricTagSet = MetricTagSet.of(metricTagCollection);
+        when(metricTagCache.getMetricTagSet(metricTagKey)).thenReturn(metricTagSet);
 
         SystemMetric systemMetric = new DoubleMetric(metricName, hostName, fieldName, 0, List.of(), Long.MAX_VALUE);
         systemMetricTagService.saveMetricTag(tenantId, applicationName, systemMetric);
 
-        verify(metricTagCache).updateCacheForMetricTag(any(MetricTagKey.class), any(MetricTagCollection.class));
         verify(metricTagCache).saveMetricTag(any(MetricTag.class));
+        assertThat(metricTagSet.size()).isEqualTo(2);
     }
 
     @Test
-    public void createMetricTagCollection() {
-        MetricTagCache metricTagCache = mock(MetricTagCache.class);
-        SystemMetricTagServiceImpl systemMetricTagService = new SystemMetricTagServiceImpl(metricTagCache);
-
-        String tenantId = "tenantId";
-        String applicationName = "applicationName";
-        String hostName = "hostName";
-        String metricName = "metricName";
-        String fieldName = "fieldName";
-        long saveTime = System.currentTimeMillis();
-        List<Tag> tagList = List.of(
-                new Tag("key", "value"),
-                new Tag("key2", "value2")
-        );
-
-        MetricTagCollection metricTagCollection = systemMetricTagService.createMetricTagCollection(tenantId, applicationName, hostName, metricName, fieldName, tagList, saveTime);
-        Assertions.assertEquals(applicationName, metricTagCollection.getHostGroupName());
-        Assertions.assertEquals(hostName, metricTagCollection.getHostName());
-        Assertions.assertEquals(metricName, metricTagCollection.getMetricName());
-        Assertions.assertEquals(fieldName, metricTagCollection.getFieldName());
-
-        List<MetricTag> metricTagList = metricTagCollection.getMetricTagList();
-
-        assertThat(metricTagList).hasSize(1);
-        MetricTag metricTag = metricTagList.get(0);
-        Assertions.assertEquals(applicationName, metricTag.getHostGroupName());
-        Assertions.assertEquals(hostName, metricTag.getHostName());
-        Assertions.assertEquals(metricName, metricTag.getMetricName());
-        Assertions.assertEquals(fieldName, metricTag.getFieldName());
-
-        List<Tag> tags = metricTag.getTags();
-
-        assertThat(tags)
-                .containsExactlyElementsOf(tagList);
-    }
+    public void saveMetricTag_manyTagVariants() {
+        final int variants = 500;
+        final int flushes = 10;
 
-    @Test
-    public void createMetricTagCollection2() {
         MetricTagCache metricTagCache = mock(MetricTagCache.class);
         SystemMetricTagServiceImpl systemMetricTagService = new SystemMetricTagServiceImpl(metricTagCache);
 
-        String tenantId = "tenantId";
-        String applicationName = "applicationName";
-        String hostName = "hostName";
-        String metricName = "metricName";
-        String fieldName = "fieldName";
-        long saveTime = new Date().getTime();
-
-        MetricTag metricTag = new MetricTag(tenantId, applicationName, hostName, metricName, fieldName, List.of(), saveTime);
-        List<Tag> tagList2 = List.of(
-                new Tag("key", "value"),
-                new Tag("key2", "value2")
-        );
-        MetricTag metricTag2 = new MetricTag(tenantId, applicationName, hostName, metricName, fieldName, tagList2, saveTime);
-
-        List<Tag> tagList3 = List.of(
-                new Tag("key", "value"),
-                new Tag("key2", "value2"),
-                new Tag("key3", "value3")
-        );
-        MetricTag metricTag3 = new MetricTag(tenantId, applicationName, hostName, metricName, fieldName, tagList3, saveTime);
-
-        List<MetricTag> metricTagList = List.of(metricTag, metricTag2, metricTag3);
-
-        List<Tag> tagList4 = List.of(
-                new Tag("key", "value"),
-                new Tag("key2", "value2"),
-                new Tag("key3", "value3"),
-                new Tag("key4", "value4")
-        );
-        MetricTagCollection mtc = new MetricTagCollection(tenantId, applicationName, hostName, metricName, fieldName, metricTagList);
-        MetricTagCollection metricTagCollection = systemMetricTagService.createMetricTagCollection(mtc, tagList4, saveTime);
-
-        Assertions.assertEquals(applicationName, metricTagCollection.getHostGroupName());
-        Assertions.assertEquals(hostName, metricTagCollection.getHostName());
-        Assertions.assertEquals(metricName, metricTagCollection.getMetricName());
-        Assertions.assertEquals(fieldName, metricTagCollection.getFieldName());
-
-        List<MetricTag> mtList = metricTagCollection.getMetricTagList();
-        assertThat(mtList).hasSize(4);
+        MetricTagSet metricTagSet = MetricTagSet.of(null);
+        when(metricTagCache.getMetricTagSet(any(MetricTagKey.class))).thenReturn(metricTagSet);
+
+        List<SystemMetric> metrics = new ArrayList<>(variants);
+        for (int i = 0; i < variants; i++) {
+            List<Tag> tags = List.of(new Tag("host", "hostName"), new Tag("device", "disk" + i), new Tag("mode", "rw"));
+            metrics.add(new DoubleMetric("diskio", "hostName", "reads", 0, tags, Long.MAX_VALUE));
+        }
+
+        long startTime = System.nanoTime();
+        for (int flush = 0; flush < flushes; flush++) {
+            for (SystemMetric metric : metrics) {
+                systemMetricTagService.saveMetricTag("tenantId", "applicationName", metric);
+            }
+        }
+        long elapsed = System.nanoTime() - startTime;
+        logger.debug("{} tag variants x {} flushes elapsed:{}us", variants, flushes, TimeUnit.NANOSECONDS.toMicros(elapsed));
+
+        assertThat(metricTagSet.size()).isEqualTo(variants);
+        verify(metricTagCache, times(variants)).saveMetricTag(any(MetricTag.class));
     }
 
     @Test
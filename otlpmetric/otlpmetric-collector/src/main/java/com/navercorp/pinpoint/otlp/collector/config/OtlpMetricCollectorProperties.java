@@ -39,6 +39,10 @@ public class OtlpMetricCollectorProperties {
     private String longTopicPrefix;
     @Value("${kafka.otlpmetric.topic.long.padding.length}")
     private int longTopicPaddingLength;
+    @Value("${otlpmetric.collector.series.cache.size:100000}")
+    private int seriesCacheMaxSize;
+    @Value("${otlpmetric.collector.metadata.refresh.interval:600000}")
+    private long metadataRefreshIntervalMillis;
 
     public String getMetadataTopicName() {
         return metadataTopicName;
@@ -67,4 +71,12 @@ public class OtlpMetricCollectorProperties {
     public int getLongTopicPaddingLength() {
         return longTopicPaddingLength;
     }
+
+    public int getSeriesCacheMaxSize() {
+        return seriesCacheMaxSize;
+    }
+
+    public long getMetadataRefreshIntervalMillis() {
+        return metadataRefreshIntervalMillis;
+    }
 }
@@ -22,9 +22,10 @@ import com.navercorp.pinpoint.otlp.collector.model.PinotOtlpMetricLongData;
 import com.navercorp.pinpoint.otlp.collector.model.PinotOtlpMetricMetadata;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public interface OtlpMetricDao {
-    void updateMetadata(PinotOtlpMetricMetadata metadata);
+    CompletableFuture<?> updateMetadata(PinotOtlpMetricMetadata metadata);
     void insertDouble(PinotOtlpMetricDoubleData data);
     void insertLong(PinotOtlpMetricLongData data);
 }
@@ -34,10 +34,14 @@ import org.springframework.stereotype.Repository;
 
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.BiConsumer;
 
 @Repository
 public class PinotOtlpMetricDao implements OtlpMetricDao {
+    private static final int MAX_TOPIC_NAME_CACHE_SIZE = 10000;
+
     private final Logger logger = LogManager.getLogger(getClass());
 
     @NotNull private final KafkaTemplate<String, PinotOtlpMetricMetadata> kafkaOtlpMetadataTemplate;
@@ -47,6 +51,9 @@ public class PinotOtlpMetricDao implements OtlpMetricDao {
     @NotBlank private final String metadataTopic;
     private final TopicNameManager doubleTopicNameManager;
     private final TopicNameManager longTopicNameManager;
+    // topic names are formatted on every call, remember them per application
+    private final ConcurrentMap<String, String> doubleTopicNames = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, String> longTopicNames = new ConcurrentHashMap<>();
 
     private final BiConsumer<SendResult<String, PinotOtlpMetricMetadata>, Throwable> metadataResultCallback
             = KafkaCallbacks.loggingCallback("Kafka(OtlpMetric-metadata)", logger);
@@ -70,16 +77,16 @@ public class PinotOtlpMetricDao implements OtlpMetricDao {
     }
 
     @Override
-    public void updateMetadata(PinotOtlpMetricMetadata metadata) {
+    public CompletableFuture<?> updateMetadata(PinotOtlpMetricMetadata metadata) {
         Objects.requireNonNull(metadata);
         CompletableFuture<SendResult<String, PinotOtlpMetricMetadata>> response = this.kafkaOtlpMetadataTemplate.send(metadataTopic, metadata.applicationName(), metadata);
-        response.whenComplete(metadataResultCallback);
+        return response.whenComplete(metadataResultCallback);
     }
 
     @Override
     public void insertDouble(PinotOtlpMetricDoubleData data) {
         Objects.requireNonNull(data);
-        String doubleTopic = doubleTopicNameManager.getTopicName(data.getApplicationName());
+        String doubleTopic = getTopicName(doubleTopicNames, doubleTopicNameManager, data.getApplicationName());
         CompletableFuture<SendResult<String, PinotOtlpMetricDoubleData>> response = this.kafkaOtlpDoubleMetricTemplate.send(doubleTopic, data.getSortKey(), data);
         response.whenComplete(doubleResultCallback);
     }
@@ -87,8 +94,20 @@ public class PinotOtlpMetricDao implements OtlpMetricDao {
     @Override
     public void insertLong(PinotOtlpMetricLongData data) {
         Objects.requireNonNull(data);
-        String longTopic = longTopicNameManager.getTopicName(data.getApplicationName());
+        String longTopic = getTopicName(longTopicNames, longTopicNameManager, data.getApplicationName());
         CompletableFuture<SendResult<String, PinotOtlpMetricLongData>> response = this.kafkaOtlpLongMetricTemplate.send(longTopic, data.getSortKey(), data);
         response.whenComplete(longResultCallback);
     }
+
+    private static String getTopicName(ConcurrentMap<String, String> topicNames, TopicNameManager topicNameManager, String applicationName) {
+        String topicName = topicNames.get(applicationName);
+        if (topicName != null) {
+            return topicName;
+        }
+        topicName = topicNameManager.getTopicName(applicationName);
+        if (topicNames.size() < MAX_TOPIC_NAME_CACHE_SIZE) {
+            topicNames.put(applicationName, topicName);
+        }
+        return topicName;
+    }
 }
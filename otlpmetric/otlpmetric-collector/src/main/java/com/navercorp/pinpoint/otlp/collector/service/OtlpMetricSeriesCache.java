@@ -0,0 +1,217 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.otlp.collector.service;
+
+import com.navercorp.pinpoint.otlp.collector.config.OtlpMetricCollectorProperties;
+import com.navercorp.pinpoint.otlp.collector.model.OtlpResourceAttributes;
+import com.navercorp.pinpoint.otlp.collector.model.SortKeyUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps the per-series values derived from OTLP data points (tag list, raw tags, sort key)
+ * and tracks which metadata was last sent for each series.
+ *
+ * @see PinotOtlpMetricCollectorService
+ */
+@Component
+public class OtlpMetricSeriesCache {
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    private final ConcurrentMap<SeriesKey, Series> seriesMap = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final long metadataRefreshIntervalMillis;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder metadataCount = new LongAdder();
+    private final AtomicLong lastReportTime = new AtomicLong(System.currentTimeMillis());
+
+    public OtlpMetricSeriesCache(OtlpMetricCollectorProperties properties) {
+        this(properties.getSeriesCacheMaxSize(), properties.getMetadataRefreshIntervalMillis());
+    }
+
+    OtlpMetricSeriesCache(int maxSize, long metadataRefreshIntervalMillis) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+        if (metadataRefreshIntervalMillis <= 0) {
+            throw new IllegalArgumentException("metadataRefreshIntervalMillis must be positive");
+        }
+        this.maxSize = maxSize;
+        this.metadataRefreshIntervalMillis = metadataRefreshIntervalMillis;
+    }
+
+    public Series getSeries(String applicationName, String agentId, String metricGroupName, String metricName,
+                            String fieldName, Map<String, String> tags) {
+        SeriesKey key = new SeriesKey(applicationName, agentId, metricGroupName, metricName, fieldName, tags);
+        Series series = seriesMap.get(key);
+        if (series != null) {
+            hitCount.increment();
+            return series;
+        }
+        missCount.increment();
+        if (seriesMap.size() >= maxSize) {
+            // series churn (e.g. restarted pods) is bounded by dropping everything, cached series are rebuilt on the next export
+            logger.info("otlp metric series cache is full. size:{}, clear", seriesMap.size());
+            seriesMap.clear();
+        }
+        SeriesKey storedKey = new SeriesKey(applicationName, agentId, metricGroupName, metricName, fieldName, new HashMap<>(tags));
+        return seriesMap.computeIfAbsent(storedKey, k -> newSeries(applicationName, metricGroupName, metricName, tags));
+    }
+
+    private Series newSeries(String applicationName, String metricGroupName, String metricName, Map<String, String> tags) {
+        List<String> tagList = new ArrayList<>(tags.size());
+        for (Map.Entry<String, String> entry : tags.entrySet()) {
+            String key = entry.getKey().toLowerCase();
+            if (key.equals(OtlpResourceAttributes.KEY_SERVICE_NAME) || key.equals(OtlpResourceAttributes.KEY_SERVICE_NAMESPACE) || key.equals(OtlpResourceAttributes.KEY_PINPOINT_AGENTID)) {
+                continue;
+            }
+            tagList.add(entry.getKey() + ":" + entry.getValue());
+        }
+        String rawTags = String.join(",", tagList);
+        String sortKey = SortKeyUtils.generateKey(applicationName, metricGroupName, metricName);
+        return new Series(Collections.unmodifiableList(tagList), rawTags, sortKey);
+    }
+
+    /**
+     * A send of the same metadata that is still in flight is not repeated until it completes or the refresh interval passes.
+     * @return true if the metadata of the series was never sent, has changed, or is due for a refresh
+     */
+    public boolean shouldUpdateMetadata(Series series, MetadataSignature signature, long now) {
+        Objects.requireNonNull(signature, "signature");
+        reportIfNecessary(now);
+
+        if (isFresh(series.sentMetadata, signature, now)) {
+            return false;
+        }
+        if (isFresh(series.pendingMetadata, signature, now)) {
+            return false;
+        }
+        series.pendingMetadata = new MetadataState(signature, now);
+        return true;
+    }
+
+    private boolean isFresh(MetadataState state, MetadataSignature signature, long now) {
+        return state != null && signature.equals(state.signature()) && now - state.time() < metadataRefreshIntervalMillis;
+    }
+
+    /**
+     * Called when the metadata was written, the series does not send it again until it changes or is due for a refresh.
+     */
+    public void metadataSent(Series series, MetadataSignature signature, long time) {
+        Objects.requireNonNull(signature, "signature");
+        series.sentMetadata = new MetadataState(signature, time);
+        clearPending(series, signature);
+        metadataCount.increment();
+    }
+
+    /**
+     * Called when the metadata could not be written, the next data point of the series sends it again.
+     */
+    public void metadataFailed(Series series, MetadataSignature signature) {
+        Objects.requireNonNull(signature, "signature");
+        clearPending(series, signature);
+    }
+
+    private void clearPending(Series series, MetadataSignature signature) {
+        MetadataState pending = series.pendingMetadata;
+        if (pending != null && signature.equals(pending.signature())) {
+            series.pendingMetadata = null;
+        }
+    }
+
+    private void reportIfNecessary(long now) {
+        long last = lastReportTime.get();
+        if (now - last < metadataRefreshIntervalMillis) {
+            return;
+        }
+        if (lastReportTime.compareAndSet(last, now)) {
+            logger.info("otlp metric series cache size:{} hit:{} miss:{} metadata:{}", seriesMap.size(), getHitCount(), getMissCount(), getMetadataCount());
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getMetadataCount() {
+        return metadataCount.sum();
+    }
+
+    public int size() {
+        return seriesMap.size();
+    }
+
+    private record SeriesKey(String applicationName, String agentId, String metricGroupName, String metricName,
+                             String fieldName, Map<String, String> tags) {
+    }
+
+    /**
+     * Metadata attributes that are not part of the series identity.
+     */
+    public record MetadataSignature(String unit, String description, int metricType, int dataType,
+                                    int aggreFunc, int aggreTemporality) {
+    }
+
+    private record MetadataState(MetadataSignature signature, long time) {
+    }
+
+    public static class Series {
+        private final List<String> tagList;
+        private final String rawTags;
+        private final String sortKey;
+
+        private volatile MetadataState sentMetadata;
+        private volatile MetadataState pendingMetadata;
+
+        private Series(List<String> tagList, String rawTags, String sortKey) {
+            this.tagList = tagList;
+            this.rawTags = rawTags;
+            this.sortKey = sortKey;
+        }
+
+        public List<String> getTagList() {
+            return tagList;
+        }
+
+        public String getRawTags() {
+            return rawTags;
+        }
+
+        public String getSortKey() {
+            return sortKey;
+        }
+    }
+}
@@ -26,9 +26,7 @@ import org.apache.logging.log4j.Logger;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 @Service
 public class PinotOtlpMetricCollectorService implements OtlpMetricCollectorService {
@@ -39,8 +37,11 @@ public class PinotOtlpMetricCollectorService implements OtlpMetricCollectorServi
     @NotNull
     private final OtlpMetricDao otlpMetricDao;
 
-    public PinotOtlpMetricCollectorService(@Valid OtlpMetricDao otlpMetricDao) {
+    private final OtlpMetricSeriesCache seriesCache;
+
+    public PinotOtlpMetricCollectorService(@Valid OtlpMetricDao otlpMetricDao, OtlpMetricSeriesCache seriesCache) {
         this.otlpMetricDao = Objects.requireNonNull(otlpMetricDao, "otlpMetricDao");
+        this.seriesCache = Objects.requireNonNull(seriesCache, "seriesCache");
     }
     @Override
     public void save(OtlpMetricData otlpMetricData) {
@@ -59,27 +60,32 @@ public class PinotOtlpMetricCollectorService implements OtlpMetricCollectorServi
         int aggreTemporality = otlpMetricData.getAggreTemporality();
         String version = "";
 
-        Long saveTime = System.currentTimeMillis();
+        long saveTime = System.currentTimeMillis();
 
         for(OtlpMetricDataPoint dataPoint : otlpMetricData.getValues()) {
             DataType dataType = dataPoint.getDataType();
 
-            Map<String, String> tags = dataPoint.getTags();
-
-            List<String> tagList = tags.entrySet().stream().filter((e) -> {
-                String key = e.getKey().toLowerCase();
-                return (!key.equals(OtlpResourceAttributes.KEY_SERVICE_NAME) && !key.equals(OtlpResourceAttributes.KEY_SERVICE_NAMESPACE) && !key.equals(OtlpResourceAttributes.KEY_PINPOINT_AGENTID));
-            }).map((e) -> {
-                return e.getKey() + ":" + e.getValue();
-            }).collect(Collectors.toList());
-
-            String rawTags = String.join(",", tagList);
-            PinotOtlpMetricMetadata metadata = new PinotOtlpMetricMetadata(DEFAULT_SERVICE_NAME, applicationName, agentId,
-                    metricGroupName, metricName, dataPoint.getFieldName(), unit, dataPoint.getDescription(), metricType,
-                    dataType.getNumber(), dataPoint.getAggreFunc(), aggreTemporality, rawTags, dataPoint.getStartTime(), saveTime, version);
-            otlpMetricDao.updateMetadata(metadata);
+            OtlpMetricSeriesCache.Series series = seriesCache.getSeries(applicationName, agentId, metricGroupName, metricName,
+                    dataPoint.getFieldName(), dataPoint.getTags());
+            List<String> tagList = series.getTagList();
+
+            OtlpMetricSeriesCache.MetadataSignature signature = new OtlpMetricSeriesCache.MetadataSignature(unit, dataPoint.getDescription(),
+                    metricType, dataType.getNumber(), dataPoint.getAggreFunc(), aggreTemporality);
+            if (seriesCache.shouldUpdateMetadata(series, signature, saveTime)) {
+                PinotOtlpMetricMetadata metadata = new PinotOtlpMetricMetadata(DEFAULT_SERVICE_NAME, applicationName, agentId,
+                        metricGroupName, metricName, dataPoint.getFieldName(), unit, dataPoint.getDescription(), metricType,
+                        dataType.getNumber(), dataPoint.getAggreFunc(), aggreTemporality, series.getRawTags(), dataPoint.getStartTime(), saveTime, version);
+                otlpMetricDao.updateMetadata(metadata).whenComplete((result, throwable) -> {
+                    // the series is marked as sent only when kafka acknowledged the metadata
+                    if (throwable == null) {
+                        seriesCache.metadataSent(series, signature, saveTime);
+                    } else {
+                        seriesCache.metadataFailed(series, signature);
+                    }
+                });
+            }
 
-            String sortKey = SortKeyUtils.generateKey(applicationName, metricGroupName, metricName);
+            String sortKey = series.getSortKey();
             if (dataType == DataType.LONG) {
                 long longValue = dataPoint.getValue().longValue();
                 PinotOtlpMetricLongData row = new PinotOtlpMetricLongData(DEFAULT_SERVICE_NAME, sortKey, applicationName, agentId, metricGroupName, metricName, dataPoint.getFieldName(),
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.otlp.collector.service;
+
+import com.navercorp.pinpoint.otlp.collector.model.OtlpResourceAttributes;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OtlpMetricSeriesCacheTest {
+
+    private static final OtlpMetricSeriesCache.MetadataSignature SIGNATURE
+            = new OtlpMetricSeriesCache.MetadataSignature("ms", "desc", 1, 2, 3, 4);
+
+    @Test
+    void getSeries() {
+        OtlpMetricSeriesCache cache = new OtlpMetricSeriesCache(100, 60000);
+        Map<String, String> tags = Map.of("host", "h1", OtlpResourceAttributes.KEY_SERVICE_NAME, "app");
+
+        OtlpMetricSeriesCache.Series series = cache.getSeries("app", "agent", "group", "metric", "field", tags);
+        assertThat(series.getTagList()).containsExactly("host:h1");
+        assertThat(series.getRawTags()).isEqualTo("host:h1");
+        assertThat(series.getSortKey()).isEqualTo("app#group#metric");
+
+        OtlpMetricSeriesCache.Series cached = cache.getSeries("app", "agent", "group", "metric", "field", Map.of("host", "h1", OtlpResourceAttributes.KEY_SERVICE_NAME, "app"));
+        assertThat(cached).isSameAs(series);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+
+        OtlpMetricSeriesCache.Series other = cache.getSeries("app", "agent", "group", "metric", "field", Map.of("host", "h2"));
+        assertThat(other).isNotSameAs(series);
+        assertThat(cache.getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldUpdateMetadata() {
+        OtlpMetricSeriesCache cache = new OtlpMetricSeriesCache(100, 60000);
+        OtlpMetricSeriesCache.Series series = cache.getSeries("app", "agent", "group", "metric", "field", Map.of());
+
+        assertThat(cache.shouldUpdateMetadata(series, SIGNATURE, 1000)).isTrue();
+        // in flight
+        assertThat(cache.shouldUpdateMetadata(series, SIGNATURE, 2000)).isFalse();
+        cache.metadataSent(series, SIGNATURE, 1000);
+        assertThat(cache.shouldUpdateMetadata(series, SIGNATURE, 11000)).isFalse();
+
+        OtlpMetricSeriesCache.MetadataSignature changed = new OtlpMetricSeriesCache.MetadataSignature("s", "desc", 1, 2, 3, 4);
+        assertThat(cache.shouldUpdateMetadata(series, changed, 12000)).isTrue();
+        cache.metadataSent(series, changed, 12000);
+        assertThat(cache.shouldUpdateMetadata(series, changed, 13000)).isFalse();
+
+        // periodic refresh
+        assertThat(cache.shouldUpdateMetadata(series, changed, 72000)).isTrue();
+        assertThat(cache.getMetadataCount()).isEqualTo(2);
+    }
+
+    @Test
+    void metadataFailed() {
+        OtlpMetricSeriesCache cache = new OtlpMetricSeriesCache(100, 60000);
+        OtlpMetricSeriesCache.Series series = cache.getSeries("app", "agent", "group", "metric", "field", Map.of());
+
+        assertThat(cache.shouldUpdateMetadata(series, SIGNATURE, 1000)).isTrue();
+        cache.metadataFailed(series, SIGNATURE);
+
+        assertThat(cache.shouldUpdateMetadata(series, SIGNATURE, 2000)).isTrue();
+        assertThat(cache.getMetadataCount()).isZero();
+    }
+
+    @Test
+    void maxSize() {
+        OtlpMetricSeriesCache cache = new OtlpMetricSeriesCache(2, 60000);
+        cache.getSeries("app", "agent1", "group", "metric", "field", Map.of());
+        cache.getSeries("app", "agent2", "group", "metric", "field", Map.of());
+        assertThat(cache.size()).isEqualTo(2);
+
+        cache.getSeries("app", "agent3", "group", "metric", "field", Map.of());
+        assertThat(cache.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,52 @@
+package com.navercorp.pinpoint.redis.timeseries;
+
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.output.CommandOutput;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Decodes an array of integers (e.g. the reply of TS.MADD) into a long[].
+ * An error element does not fail the whole reply, its slot is set to {@link #ERROR}.
+ */
+public class LongArrayOutput<K, V> extends CommandOutput<K, V, long[]> {
+
+    public static final long ERROR = -1;
+
+    private static final long[] EMPTY = new long[0];
+
+    private int index;
+    private boolean initialized;
+
+    public LongArrayOutput(RedisCodec<K, V> codec) {
+        super(codec, EMPTY);
+    }
+
+    @Override
+    public void set(long integer) {
+        add(integer);
+    }
+
+    @Override
+    public void setError(ByteBuffer error) {
+        if (!initialized) {
+            super.setError(error);
+            return;
+        }
+        add(ERROR);
+    }
+
+    private void add(long value) {
+        if (index < output.length) {
+            output[index++] = value;
+        }
+    }
+
+    @Override
+    public void multi(int count) {
+        if (!initialized) {
+            output = new long[Math.max(0, count)];
+            initialized = true;
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package com.navercorp.pinpoint.redis.timeseries;
 
+import com.navercorp.pinpoint.redis.timeseries.model.TimeseriesArray;
+import com.navercorp.pinpoint.redis.timeseries.model.TimeseriesSample;
 import com.navercorp.pinpoint.redis.timeseries.model.TimestampValuePair;
+import com.navercorp.pinpoint.redis.timeseries.protocol.Filter;
 import io.lettuce.core.RedisFuture;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public interface RedisTimeseriesAsyncCommands {
 
@@ -28,4 +32,25 @@ public interface RedisTimeseriesAsyncCommands {
 //
     RedisFuture<List<TimestampValuePair>> tsRevrange(String key, long fromTimestamp, long toTimestamp);
 
+    /**
+     * Append samples to multiple series.
+     * On a cluster connection the samples are split into one TS.MADD per hash slot.
+     * @param samples samples
+     * @return timestamp of each sample in the order of samples, {@link LongArrayOutput#ERROR} for a rejected sample
+     */
+    CompletableFuture<long[]> tsMadd(List<TimeseriesSample<String>> samples);
+
+    /**
+     * Query the series matching all filters.
+     * On a cluster connection only the series of the node receiving the command are returned.
+     * @param fromTimestamp fromTimestamp
+     * @param toTimestamp toTimestamp
+     * @param filters label filters, at least one
+     * @param options latest, count, aggregation
+     * @return samples of each series
+     */
+    RedisFuture<List<TimeseriesArray<String>>> tsMrange(long fromTimestamp, long toTimestamp, List<Filter> filters, TsMrangeArgs options);
+
+    RedisFuture<List<TimeseriesArray<String>>> tsMrevrange(long fromTimestamp, long toTimestamp, List<Filter> filters, TsMrangeArgs options);
+
 }
@@ -3,16 +3,27 @@ package com.navercorp.pinpoint.redis.timeseries;
 import com.google.common.base.Preconditions;
 import com.navercorp.pinpoint.redis.timeseries.connection.AsyncConnection;
 import com.navercorp.pinpoint.redis.timeseries.connection.Dispatcher;
+import com.navercorp.pinpoint.redis.timeseries.model.TimeseriesArray;
+import com.navercorp.pinpoint.redis.timeseries.model.TimeseriesSample;
 import com.navercorp.pinpoint.redis.timeseries.model.TimestampValuePair;
+import com.navercorp.pinpoint.redis.timeseries.protocol.Filter;
 import io.lettuce.core.CompositeArgument;
 import io.lettuce.core.RedisFuture;
+import io.lettuce.core.cluster.SlotHash;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.codec.StringCodec;
 import io.lettuce.core.protocol.Command;
 import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.protocol.RedisCommand;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 public class RedisTimeseriesAsyncCommandsImpl implements RedisTimeseriesAsyncCommands {
 
@@ -80,4 +91,77 @@ public class RedisTimeseriesAsyncCommandsImpl implements RedisTimeseriesAsyncCom
         Command<String, String, List<TimestampValuePair>> cmd = this.builder.tsRevrange(key, fromTimestamp, toTimestamp);
         return commands().dispatch(cmd);
     }
+
+    @Override
+    public CompletableFuture<long[]> tsMadd(List<TimeseriesSample<String>> samples) {
+        Objects.requireNonNull(samples, "samples");
+        Preconditions.checkArgument(!samples.isEmpty(), "samples must not be empty");
+        for (TimeseriesSample<String> sample : samples) {
+            Preconditions.checkArgument(sample.timestamp() >= 0, "timestamp must be greater than or equal to 0");
+        }
+
+        if (!connection.isCluster()) {
+            return commands().dispatch(this.builder.tsMadd(samples)).toCompletableFuture();
+        }
+        Map<Integer, List<Integer>> slots = groupBySlot(samples);
+        if (slots.size() == 1) {
+            return commands().dispatch(this.builder.tsMadd(samples)).toCompletableFuture();
+        }
+
+        List<RedisCommand<String, String, long[]>> commandList = new ArrayList<>(slots.size());
+        for (List<Integer> indexes : slots.values()) {
+            List<TimeseriesSample<String>> slotSamples = new ArrayList<>(indexes.size());
+            for (Integer index : indexes) {
+                slotSamples.add(samples.get(index));
+            }
+            commandList.add(this.builder.tsMadd(slotSamples));
+        }
+        Collection<RedisFuture<long[]>> futures = commands().dispatch(commandList);
+
+        final long[] result = new long[samples.size()];
+        CompletableFuture<?>[] merged = new CompletableFuture<?>[futures.size()];
+        Iterator<List<Integer>> slotIndexes = slots.values().iterator();
+        int i = 0;
+        for (RedisFuture<long[]> future : futures) {
+            List<Integer> indexes = slotIndexes.next();
+            merged[i++] = future.toCompletableFuture().thenAccept(timestamps -> {
+                for (int j = 0; j < indexes.size(); j++) {
+                    result[indexes.get(j)] = j < timestamps.length ? timestamps[j] : LongArrayOutput.ERROR;
+                }
+            });
+        }
+        return CompletableFuture.allOf(merged).thenApply(v -> result);
+    }
+
+    private Map<Integer, List<Integer>> groupBySlot(List<TimeseriesSample<String>> samples) {
+        Map<Integer, List<Integer>> slots = new LinkedHashMap<>();
+        for (int i = 0; i < samples.size(); i++) {
+            int slot = SlotHash.getSlot(samples.get(i).key());
+            slots.computeIfAbsent(slot, k -> new ArrayList<>()).add(i);
+        }
+        return slots;
+    }
+
+    @Override
+    public RedisFuture<List<TimeseriesArray<String>>> tsMrange(long fromTimestamp, long toTimestamp, List<Filter> filters, TsMrangeArgs options) {
+        checkMrange(fromTimestamp, toTimestamp, filters);
+
+        Command<String, String, List<TimeseriesArray<String>>> cmd = this.builder.tsMrange(fromTimestamp, toTimestamp, filters, options);
+        return commands().dispatch(cmd);
+    }
+
+    @Override
+    public RedisFuture<List<TimeseriesArray<String>>> tsMrevrange(long fromTimestamp, long toTimestamp, List<Filter> filters, TsMrangeArgs options) {
+        checkMrange(fromTimestamp, toTimestamp, filters);
+
+        Command<String, String, List<TimeseriesArray<String>>> cmd = this.builder.tsMrevrange(fromTimestamp, toTimestamp, filters, options);
+        return commands().dispatch(cmd);
+    }
+
+    private void checkMrange(long fromTimestamp, long toTimestamp, List<Filter> filters) {
+        Preconditions.checkArgument(fromTimestamp >= 0, "fromTimestamp must be greater than or equal to 0");
+        Preconditions.checkArgument(toTimestamp >= 0, "toTimestamp must be greater than or equal to 0");
+        Objects.requireNonNull(filters, "filters");
+        Preconditions.checkArgument(!filters.isEmpty(), "filters must not be empty");
+    }
 }
@@ -0,0 +1,119 @@
+package com.navercorp.pinpoint.redis.timeseries;
+
+import com.navercorp.pinpoint.redis.timeseries.model.TimeseriesArray;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.output.CommandOutput;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Decodes the reply of TS.MRANGE / TS.MREVRANGE into one {@link TimeseriesArray} per series
+ * without allocating an object per sample.
+ * <pre>
+ * RESP2 : [[key, [labels], [[timestamp, value], ...]], ...]
+ * RESP3 : {key: [{labels}, {metadata}, [[timestamp, value], ...]], ...}
+ * </pre>
+ * Labels and metadata are skipped.
+ */
+public class TimeseriesArrayListOutput<K, V> extends CommandOutput<K, V, List<TimeseriesArray<K>>> {
+
+    private static final int SERIES_KEY_DEPTH = 2;
+    private static final int SAMPLE_DEPTH = 4;
+
+    private int depth;
+    private boolean initialized;
+
+    private K key;
+    private long[] timestamps = new long[16];
+    private double[] values = new double[16];
+    private int size;
+
+    private boolean timestampSet;
+    private long timestamp;
+
+    public TimeseriesArrayListOutput(RedisCodec<K, V> codec) {
+        super(codec, Collections.emptyList());
+    }
+
+    @Override
+    public void set(ByteBuffer bytes) {
+        if (depth <= SERIES_KEY_DEPTH) {
+            if (bytes != null) {
+                flushSeries();
+                this.key = codec.decodeKey(bytes);
+            }
+            return;
+        }
+        if (depth == SAMPLE_DEPTH && timestampSet && bytes != null) {
+            // RESP2 replies the value as a bulk string
+            addSample(Double.parseDouble(StandardCharsets.US_ASCII.decode(bytes).toString()));
+        }
+    }
+
+    @Override
+    public void set(long integer) {
+        if (depth == SAMPLE_DEPTH) {
+            this.timestamp = integer;
+            this.timestampSet = true;
+        }
+    }
+
+    @Override
+    public void set(double number) {
+        if (depth == SAMPLE_DEPTH && timestampSet) {
+            addSample(number);
+        }
+    }
+
+    private void addSample(double value) {
+        if (size == timestamps.length) {
+            int newCapacity = size << 1;
+            timestamps = Arrays.copyOf(timestamps, newCapacity);
+            values = Arrays.copyOf(values, newCapacity);
+        }
+        timestamps[size] = timestamp;
+        values[size] = value;
+        size++;
+        timestampSet = false;
+    }
+
+    private void flushSeries() {
+        if (key == null) {
+            return;
+        }
+        output.add(new TimeseriesArray<>(key, Arrays.copyOf(timestamps, size), Arrays.copyOf(values, size)));
+        key = null;
+        size = 0;
+    }
+
+    @Override
+    public void multi(int count) {
+        if (!initialized) {
+            output = new ArrayList<>(Math.max(1, count));
+            initialized = true;
+        }
+        depth++;
+    }
+
+    @Override
+    public void complete(int depth) {
+        if (depth < this.depth) {
+            this.depth = depth;
+            timestampSet = false;
+        }
+        if (depth == 0) {
+            flushSeries();
+        }
+    }
+
+    @Override
+    public List<TimeseriesArray<K>> get() {
+        flushSeries();
+        return super.get();
+    }
+}
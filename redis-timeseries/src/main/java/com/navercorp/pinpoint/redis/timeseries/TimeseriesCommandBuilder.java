@@ -1,6 +1,9 @@
 package com.navercorp.pinpoint.redis.timeseries;
 
+import com.navercorp.pinpoint.redis.timeseries.model.TimeseriesArray;
+import com.navercorp.pinpoint.redis.timeseries.model.TimeseriesSample;
 import com.navercorp.pinpoint.redis.timeseries.model.TimestampValuePair;
+import com.navercorp.pinpoint.redis.timeseries.protocol.Filter;
 import com.navercorp.pinpoint.redis.timeseries.protocol.TS;
 import io.lettuce.core.CompositeArgument;
 import io.lettuce.core.codec.RedisCodec;
@@ -67,6 +70,38 @@ public class TimeseriesCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V
         return tsCommand(ts, output, args);
     }
 
+    public Command<K, V, long[]> tsMadd(List<TimeseriesSample<K>> samples) {
+        CommandArgs<K, V> args = new CommandArgs<>(codec);
+        for (TimeseriesSample<K> sample : samples) {
+            args.addKey(sample.key())
+                    .add(sample.timestamp())
+                    .add(sample.value());
+        }
+        return tsCommand(TS.MADD, new LongArrayOutput<>(codec), args);
+    }
+
+    public Command<K, V, List<TimeseriesArray<K>>> tsMrange(long fromTimestamp, long toTimestamp, List<Filter> filters, TsMrangeArgs options) {
+        return tsMrange(TS.MRANGE, fromTimestamp, toTimestamp, filters, options);
+    }
+
+    public Command<K, V, List<TimeseriesArray<K>>> tsMrevrange(long fromTimestamp, long toTimestamp, List<Filter> filters, TsMrangeArgs options) {
+        return tsMrange(TS.MREVRANGE, fromTimestamp, toTimestamp, filters, options);
+    }
+
+    public Command<K, V, List<TimeseriesArray<K>>> tsMrange(TS ts, long fromTimestamp, long toTimestamp, List<Filter> filters, TsMrangeArgs options) {
+        CommandArgs<K, V> args = new CommandArgs<>(codec)
+                .add(fromTimestamp)
+                .add(toTimestamp);
+
+        applyOptions(args, options);
+
+        args.add("FILTER");
+        for (Filter filter : filters) {
+            args.add(filter.expression());
+        }
+        return tsCommand(ts, new TimeseriesArrayListOutput<>(codec), args);
+    }
+
     public Command<K, V, Long> toDel(K key, long fromTimestamp, long toTimestamp) {
         CommandArgs<K, V> args = new CommandArgs<>(codec)
                 .addKey(key)
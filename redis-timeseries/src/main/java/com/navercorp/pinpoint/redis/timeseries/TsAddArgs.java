@@ -3,6 +3,7 @@ package com.navercorp.pinpoint.redis.timeseries;
 import com.navercorp.pinpoint.redis.timeseries.protocol.ChunkSize;
 import com.navercorp.pinpoint.redis.timeseries.protocol.DuplicatePolicy;
 import com.navercorp.pinpoint.redis.timeseries.protocol.Ignore;
+import com.navercorp.pinpoint.redis.timeseries.protocol.Labels;
 import com.navercorp.pinpoint.redis.timeseries.protocol.OnDuplicate;
 import com.navercorp.pinpoint.redis.timeseries.protocol.Retention;
 import io.lettuce.core.CompositeArgument;
@@ -15,7 +16,7 @@ public class TsAddArgs implements CompositeArgument {
     private ChunkSize chunkSize;
 
     private Ignore ignore;
-
+    private Labels labels;
 
     public TsAddArgs() {
     }
@@ -37,6 +38,9 @@ public class TsAddArgs implements CompositeArgument {
         if  (ignore != null) {
             ignore.build(args);
         }
+        if (labels != null) {
+            labels.build(args);
+        }
     }
 
     public TsAddArgs retention(Retention retention) {
@@ -64,6 +68,11 @@ public class TsAddArgs implements CompositeArgument {
         return self();
     }
 
+    public TsAddArgs labels(Labels labels) {
+        this.labels = labels;
+        return self();
+    }
+
     private TsAddArgs self()  {
         return this;
     }
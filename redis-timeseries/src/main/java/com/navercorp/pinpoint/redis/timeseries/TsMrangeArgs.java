@@ -0,0 +1,53 @@
+package com.navercorp.pinpoint.redis.timeseries;
+
+import com.navercorp.pinpoint.redis.timeseries.protocol.Aggregation;
+import com.navercorp.pinpoint.redis.timeseries.protocol.Aggregator;
+import com.navercorp.pinpoint.redis.timeseries.protocol.Count;
+import io.lettuce.core.CompositeArgument;
+import io.lettuce.core.protocol.CommandArgs;
+
+public class TsMrangeArgs implements CompositeArgument {
+    private boolean latest;
+    private Count count;
+    private Aggregation aggregation;
+
+    public TsMrangeArgs() {
+    }
+
+    @Override
+    public <K, V> void build(CommandArgs<K, V> args) {
+        if (latest) {
+            args.add("LATEST");
+        }
+        if (count != null) {
+            count.build(args);
+        }
+        if (aggregation != null) {
+            aggregation.build(args);
+        }
+    }
+
+    public TsMrangeArgs latest() {
+        this.latest = true;
+        return self();
+    }
+
+    public TsMrangeArgs count(long count) {
+        this.count = new Count(count);
+        return self();
+    }
+
+    public TsMrangeArgs aggregation(Aggregator aggregator, long bucketDuration) {
+        this.aggregation = Aggregation.of(aggregator, bucketDuration);
+        return self();
+    }
+
+    public TsMrangeArgs aggregation(Aggregation aggregation) {
+        this.aggregation = aggregation;
+        return self();
+    }
+
+    private TsMrangeArgs self()  {
+        return this;
+    }
+}
@@ -5,6 +5,13 @@ public interface AsyncConnection<K, V> extends AutoCloseable {
 
     SyncDispatcher<K, V> sync();
 
+    /**
+     * @return true if keys are distributed over hash slots and multi-key commands must not cross slots
+     */
+    default boolean isCluster() {
+        return false;
+    }
+
     @Override
     void close();
 }
@@ -25,6 +25,11 @@ public class ClusterAsyncConnection<K, V> implements AsyncConnection<K, V> {
         return sync;
     }
 
+    @Override
+    public boolean isCluster() {
+        return true;
+    }
+
     RedisClusterAsyncCommands<K, V> commands() {
         // pipelining
         // connection.setAutoFlushCommands(false);
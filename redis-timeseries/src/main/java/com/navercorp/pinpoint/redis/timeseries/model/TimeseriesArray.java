@@ -0,0 +1,72 @@
+package com.navercorp.pinpoint.redis.timeseries.model;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Samples of one series kept in primitive arrays, timestamps[i] and values[i] form a sample.
+ */
+public final class TimeseriesArray<K> {
+
+    private final K key;
+    private final long[] timestamps;
+    private final double[] values;
+
+    public TimeseriesArray(K key, long[] timestamps, double[] values) {
+        this.key = Objects.requireNonNull(key, "key");
+        this.timestamps = Objects.requireNonNull(timestamps, "timestamps");
+        this.values = Objects.requireNonNull(values, "values");
+        if (timestamps.length != values.length) {
+            throw new IllegalArgumentException("timestamps and values must have the same length");
+        }
+    }
+
+    public K key() {
+        return key;
+    }
+
+    public int size() {
+        return timestamps.length;
+    }
+
+    public long timestamp(int index) {
+        return timestamps[index];
+    }
+
+    public double value(int index) {
+        return values[index];
+    }
+
+    public long[] timestamps() {
+        return timestamps;
+    }
+
+    public double[] values() {
+        return values;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        TimeseriesArray<?> that = (TimeseriesArray<?>) o;
+        return key.equals(that.key) && Arrays.equals(timestamps, that.timestamps) && Arrays.equals(values, that.values);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = key.hashCode();
+        result = 31 * result + Arrays.hashCode(timestamps);
+        result = 31 * result + Arrays.hashCode(values);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "TimeseriesArray{" +
+                key +
+                ", size=" + timestamps.length +
+                '}';
+    }
+}
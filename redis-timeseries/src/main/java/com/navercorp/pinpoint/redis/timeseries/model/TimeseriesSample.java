@@ -0,0 +1,17 @@
+package com.navercorp.pinpoint.redis.timeseries.model;
+
+import java.util.Objects;
+
+/**
+ * Single sample of TS.MADD
+ */
+public record TimeseriesSample<K>(K key, long timestamp, double value) {
+
+    public TimeseriesSample {
+        Objects.requireNonNull(key, "key");
+    }
+
+    public static <K> TimeseriesSample<K> of(K key, long timestamp, double value) {
+        return new TimeseriesSample<>(key, timestamp, value);
+    }
+}
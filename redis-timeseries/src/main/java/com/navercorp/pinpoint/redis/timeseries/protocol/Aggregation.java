@@ -0,0 +1,42 @@
+package com.navercorp.pinpoint.redis.timeseries.protocol;
+
+import io.lettuce.core.CompositeArgument;
+import io.lettuce.core.protocol.CommandArgs;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+public class Aggregation implements CompositeArgument {
+
+    private final Aggregator aggregator;
+    private final long bucketDuration;
+
+    private Aggregation(Aggregator aggregator, long bucketDuration) {
+        this.aggregator = Objects.requireNonNull(aggregator, "aggregator");
+        if (bucketDuration <= 0) {
+            throw new IllegalArgumentException("bucketDuration must be positive");
+        }
+        this.bucketDuration = bucketDuration;
+    }
+
+    public static Aggregation of(Aggregator aggregator, long bucketDuration) {
+        return new Aggregation(aggregator, bucketDuration);
+    }
+
+    public static Aggregation of(Aggregator aggregator, long bucketDuration, TimeUnit timeUnit) {
+        return new Aggregation(aggregator, timeUnit.toMillis(bucketDuration));
+    }
+
+    @Override
+    public <K, V> void build(CommandArgs<K, V> args) {
+        args.add("AGGREGATION").add(aggregator.keyword()).add(bucketDuration);
+    }
+
+    @Override
+    public String toString() {
+        return "Aggregation{" +
+                aggregator +
+                ", " + bucketDuration +
+                '}';
+    }
+}
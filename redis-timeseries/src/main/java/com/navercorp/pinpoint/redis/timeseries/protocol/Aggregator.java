@@ -0,0 +1,27 @@
+package com.navercorp.pinpoint.redis.timeseries.protocol;
+
+public enum Aggregator {
+    AVG("avg"),
+    FIRST("first"),
+    LAST("last"),
+    MIN("min"),
+    MAX("max"),
+    SUM("sum"),
+    RANGE("range"),
+    COUNT("count"),
+    STD_P("std.p"),
+    STD_S("std.s"),
+    VAR_P("var.p"),
+    VAR_S("var.s"),
+    TWA("twa");
+
+    private final String keyword;
+
+    Aggregator(String keyword) {
+        this.keyword = keyword;
+    }
+
+    public String keyword() {
+        return keyword;
+    }
+}
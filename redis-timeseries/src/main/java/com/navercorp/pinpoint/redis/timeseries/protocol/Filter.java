@@ -0,0 +1,37 @@
+package com.navercorp.pinpoint.redis.timeseries.protocol;
+
+import java.util.Objects;
+
+/**
+ * Label filter expression of TS.MRANGE / TS.MREVRANGE
+ */
+public record Filter(String expression) {
+
+    public Filter {
+        Objects.requireNonNull(expression, "expression");
+    }
+
+    public static Filter equal(String label, String value) {
+        return new Filter(label + '=' + value);
+    }
+
+    public static Filter notEqual(String label, String value) {
+        return new Filter(label + "!=" + value);
+    }
+
+    public static Filter in(String label, String... values) {
+        return new Filter(label + "=(" + String.join(",", values) + ')');
+    }
+
+    public static Filter notIn(String label, String... values) {
+        return new Filter(label + "!=(" + String.join(",", values) + ')');
+    }
+
+    public static Filter exists(String label) {
+        return new Filter(label + "!=");
+    }
+
+    public static Filter notExists(String label) {
+        return new Filter(label + '=');
+    }
+}
@@ -6,9 +6,10 @@ import java.nio.charset.StandardCharsets;
 
 public enum TS implements ProtocolKeyword {
 
-    CREATE, ADD,
+    CREATE, ADD, MADD,
     DEL,
-    RANGE, REVRANGE, GET;
+    RANGE, REVRANGE, GET,
+    MRANGE, MREVRANGE;
 
     public static final String PREFIX = "TS";
 
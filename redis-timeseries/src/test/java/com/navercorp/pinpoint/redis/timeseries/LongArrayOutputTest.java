@@ -0,0 +1,43 @@
+package com.navercorp.pinpoint.redis.timeseries;
+
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.RedisStateMachine;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LongArrayOutputTest {
+
+    @Test
+    void decode() {
+        LongArrayOutput<String, String> output = decode("*3\r\n:1000\r\n-ERR TSDB: invalid timestamp\r\n:3000\r\n");
+
+        assertThat(output.hasError()).isFalse();
+        assertThat(output.get()).containsExactly(1000, LongArrayOutput.ERROR, 3000);
+    }
+
+    @Test
+    void decode_commandError() {
+        LongArrayOutput<String, String> output = decode("-ERR wrong number of arguments\r\n");
+
+        assertThat(output.hasError()).isTrue();
+    }
+
+    private LongArrayOutput<String, String> decode(String reply) {
+        LongArrayOutput<String, String> output = new LongArrayOutput<>(StringCodec.UTF8);
+        ByteBuf buffer = Unpooled.copiedBuffer(reply, StandardCharsets.US_ASCII);
+        try {
+            RedisStateMachine stateMachine = new RedisStateMachine(ByteBufAllocator.DEFAULT);
+            assertThat(stateMachine.decode(buffer, output)).isTrue();
+            stateMachine.close();
+        } finally {
+            buffer.release();
+        }
+        return output;
+    }
+}
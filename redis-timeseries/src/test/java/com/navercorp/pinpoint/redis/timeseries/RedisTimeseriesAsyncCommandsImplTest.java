@@ -0,0 +1,77 @@
+package com.navercorp.pinpoint.redis.timeseries;
+
+import com.navercorp.pinpoint.redis.timeseries.connection.AsyncConnection;
+import com.navercorp.pinpoint.redis.timeseries.connection.Dispatcher;
+import com.navercorp.pinpoint.redis.timeseries.model.TimeseriesSample;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.cluster.SlotHash;
+import io.lettuce.core.output.CommandOutput;
+import io.lettuce.core.protocol.AsyncCommand;
+import io.lettuce.core.protocol.RedisCommand;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class RedisTimeseriesAsyncCommandsImplTest {
+
+    @Mock
+    AsyncConnection<String, String> connection;
+
+    @Mock
+    Dispatcher<String, String> dispatcher;
+
+    List<RedisCommand<String, String, long[]>> dispatched = new ArrayList<>();
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void tsMadd_groupBySlot() throws Exception {
+        assertThat(SlotHash.getSlot("{a}1")).isNotEqualTo(SlotHash.getSlot("{b}1"));
+
+        when(connection.isCluster()).thenReturn(true);
+        when(connection.dispatcher()).thenReturn(dispatcher);
+        when(dispatcher.dispatch(anyCollection())).thenAnswer(invocation -> {
+            Collection<RedisCommand<String, String, long[]>> commands = invocation.getArgument(0);
+            return reply(commands);
+        });
+
+        RedisTimeseriesAsyncCommandsImpl commands = new RedisTimeseriesAsyncCommandsImpl(connection);
+        long[] result = commands.tsMadd(List.of(
+                TimeseriesSample.of("{a}1", 1000, 1),
+                TimeseriesSample.of("{b}1", 1000, 2),
+                TimeseriesSample.of("{a}2", 1000, 3)
+        )).get();
+
+        assertThat(dispatched).hasSize(2);
+        // {a}1, {a}2 are sent together, results are mapped back to the order of the samples
+        assertThat(result).containsExactly(0, 100, 1);
+    }
+
+    private List<RedisFuture<long[]>> reply(Collection<RedisCommand<String, String, long[]>> commands) {
+        List<RedisFuture<long[]>> futures = new ArrayList<>();
+        for (RedisCommand<String, String, long[]> command : commands) {
+            int commandIndex = dispatched.size();
+            dispatched.add(command);
+
+            int samples = command.getArgs().count() / 3;
+            CommandOutput<String, String, long[]> output = command.getOutput();
+            output.multi(samples);
+            for (int i = 0; i < samples; i++) {
+                output.set(commandIndex * 100L + i);
+            }
+            AsyncCommand<String, String, long[]> future = new AsyncCommand<>(command);
+            future.complete();
+            futures.add(future);
+        }
+        return futures;
+    }
+}
@@ -3,7 +3,12 @@ package com.navercorp.pinpoint.redis.timeseries;
 import com.navercorp.pinpoint.redis.timeseries.connection.AsyncConnection;
 import com.navercorp.pinpoint.redis.timeseries.connection.ClusterAsyncConnection;
 import com.navercorp.pinpoint.redis.timeseries.connection.SimpleAsyncConnection;
+import com.navercorp.pinpoint.redis.timeseries.model.TimeseriesArray;
+import com.navercorp.pinpoint.redis.timeseries.model.TimeseriesSample;
 import com.navercorp.pinpoint.redis.timeseries.model.TimestampValuePair;
+import com.navercorp.pinpoint.redis.timeseries.protocol.Aggregator;
+import com.navercorp.pinpoint.redis.timeseries.protocol.Filter;
+import com.navercorp.pinpoint.redis.timeseries.protocol.Labels;
 import com.navercorp.pinpoint.redis.timeseries.protocol.OnDuplicate;
 import com.navercorp.pinpoint.redis.timeseries.protocol.Retention;
 import com.redis.testcontainers.RedisContainer;
@@ -137,4 +142,41 @@ public class RedisTimeseriesAsyncCommandsTest {
         logger.warn("Pair {}", pair);
     }
 
+    @Test
+    public void ts_madd_mrange() throws ExecutionException, InterruptedException {
+        for (String key : List.of("madd1", "madd2")) {
+            Labels labels = new Labels();
+            labels.addLabel("group", "madd");
+            TsAddArgs options = new TsAddArgs()
+                    .onDuplicate(OnDuplicate.last())
+                    .labels(labels);
+            Assertions.assertTrue(LettuceFutures.awaitAll(1000L, TimeUnit.MILLISECONDS, commands.tsAdd(key, 0, 0, options)));
+        }
+
+        long[] timestamps = commands.tsMadd(List.of(
+                TimeseriesSample.of("madd1", 1000, 1),
+                TimeseriesSample.of("madd2", 1000, 10),
+                TimeseriesSample.of("madd1", 1500, 3),
+                TimeseriesSample.of("madd2", 2000, 20)
+        )).get();
+        Assertions.assertArrayEquals(new long[]{1000, 1000, 1500, 2000}, timestamps);
+
+        TsMrangeArgs options = new TsMrangeArgs()
+                .aggregation(Aggregator.AVG, 1000);
+        RedisFuture<List<TimeseriesArray<String>>> future = commands.tsMrange(1000, 2000, List.of(Filter.equal("group", "madd")), options);
+        List<TimeseriesArray<String>> series = future.get();
+        Assertions.assertEquals(2, series.size());
+
+        TimeseriesArray<String> madd1 = series.stream().filter(s -> s.key().equals("madd1")).findFirst().orElseThrow();
+        Assertions.assertArrayEquals(new long[]{1000}, madd1.timestamps());
+        Assertions.assertArrayEquals(new double[]{2}, madd1.values());
+
+        TimeseriesArray<String> madd2 = series.stream().filter(s -> s.key().equals("madd2")).findFirst().orElseThrow();
+        Assertions.assertArrayEquals(new long[]{1000, 2000}, madd2.timestamps());
+
+        List<TimeseriesArray<String>> reversed = commands.tsMrevrange(1000, 2000, List.of(Filter.equal("group", "madd")), null).get();
+        TimeseriesArray<String> reversed2 = reversed.stream().filter(s -> s.key().equals("madd2")).findFirst().orElseThrow();
+        Assertions.assertArrayEquals(new long[]{2000, 1000}, reversed2.timestamps());
+    }
+
 }
@@ -0,0 +1,75 @@
+package com.navercorp.pinpoint.redis.timeseries;
+
+import com.navercorp.pinpoint.redis.timeseries.model.TimeseriesArray;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.RedisStateMachine;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TimeseriesArrayListOutputTest {
+
+    @Test
+    void decode_resp2() {
+        String reply = "*2\r\n" +
+                "*3\r\n$2\r\ns1\r\n*0\r\n" +
+                "*2\r\n*2\r\n:1000\r\n$1\r\n1\r\n*2\r\n:2000\r\n$3\r\n2.5\r\n" +
+                "*3\r\n$2\r\ns2\r\n*1\r\n*2\r\n$4\r\nhost\r\n$2\r\nh1\r\n" +
+                "*1\r\n*2\r\n:1000\r\n$1\r\n3\r\n";
+
+        List<TimeseriesArray<String>> series = decode(reply);
+
+        assertSeries(series);
+    }
+
+    @Test
+    void decode_resp3() {
+        String reply = "%2\r\n" +
+                "$2\r\ns1\r\n*3\r\n%0\r\n%1\r\n$11\r\naggregators\r\n*1\r\n$3\r\navg\r\n" +
+                "*2\r\n*2\r\n:1000\r\n,1\r\n*2\r\n:2000\r\n,2.5\r\n" +
+                "$2\r\ns2\r\n*3\r\n%1\r\n$4\r\nhost\r\n$2\r\nh1\r\n%1\r\n$11\r\naggregators\r\n*0\r\n" +
+                "*1\r\n*2\r\n:1000\r\n,3\r\n";
+
+        List<TimeseriesArray<String>> series = decode(reply);
+
+        assertSeries(series);
+    }
+
+    @Test
+    void decode_empty() {
+        assertThat(decode("*0\r\n")).isEmpty();
+    }
+
+    private void assertSeries(List<TimeseriesArray<String>> series) {
+        assertThat(series).hasSize(2);
+
+        TimeseriesArray<String> s1 = series.get(0);
+        assertThat(s1.key()).isEqualTo("s1");
+        assertThat(s1.timestamps()).containsExactly(1000, 2000);
+        assertThat(s1.values()).containsExactly(1, 2.5);
+
+        TimeseriesArray<String> s2 = series.get(1);
+        assertThat(s2.key()).isEqualTo("s2");
+        assertThat(s2.timestamps()).containsExactly(1000);
+        assertThat(s2.values()).containsExactly(3);
+    }
+
+    private List<TimeseriesArray<String>> decode(String reply) {
+        TimeseriesArrayListOutput<String, String> output = new TimeseriesArrayListOutput<>(StringCodec.UTF8);
+        ByteBuf buffer = Unpooled.copiedBuffer(reply, StandardCharsets.US_ASCII);
+        try {
+            RedisStateMachine stateMachine = new RedisStateMachine(ByteBufAllocator.DEFAULT);
+            assertThat(stateMachine.decode(buffer, output)).isTrue();
+            stateMachine.close();
+        } finally {
+            buffer.release();
+        }
+        return output.get();
+    }
+}
@@ -1,6 +1,9 @@
 package com.navercorp.pinpoint.web;
 
 import com.navercorp.pinpoint.common.server.CommonsServerConfiguration;
+import com.navercorp.pinpoint.common.server.executor.ExecutorCustomizer;
+import com.navercorp.pinpoint.common.server.executor.ExecutorProperties;
+import com.navercorp.pinpoint.common.server.util.CallerUtils;
 import com.navercorp.pinpoint.common.server.profile.StandardEnvironmentLogger;
 import com.navercorp.pinpoint.datasource.MainDataSourceConfiguration;
 import com.navercorp.pinpoint.web.applicationmap.config.ApplicationMapModule;
@@ -18,11 +21,17 @@ import com.navercorp.pinpoint.web.query.QueryServiceConfiguration;
 import com.navercorp.pinpoint.web.realtime.RealtimeConfig;
 import com.navercorp.pinpoint.web.uid.UidModule;
 import com.navercorp.pinpoint.web.webhook.WebhookFacadeModule;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import org.springframework.core.env.StandardEnvironment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.concurrent.Executor;
 
 @Configuration
 @Import({
@@ -81,6 +90,24 @@ public class PinpointWebModule {
         return new ScatterChartProperties();
     }
 
+    @Bean
+    @Validated
+    @ConfigurationProperties("web.scatter.stream.worker")
+    public ExecutorProperties scatterStreamExecutorProperties() {
+        return new ExecutorProperties();
+    }
+
+    @Bean
+    public Executor scatterStreamExecutor(@Qualifier("executorCustomizer") ExecutorCustomizer<ThreadPoolTaskExecutor> customizer,
+                                          @Qualifier("scatterStreamExecutorProperties") ExecutorProperties executorProperties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        customizer.customize(executor, executorProperties);
+
+        String beanName = CallerUtils.getCallerMethodName();
+        executor.setThreadNamePrefix(beanName);
+        return executor;
+    }
+
     @Bean
     public StandardEnvironmentLogger standardEnvironmentLogger(StandardEnvironment env) {
         return new StandardEnvironmentLogger(env);
@@ -19,6 +19,7 @@ package com.navercorp.pinpoint.web.authorization.controller;
 import com.navercorp.pinpoint.common.profiler.util.TransactionId;
 import com.navercorp.pinpoint.common.profiler.util.TransactionIdComparator;
 import com.navercorp.pinpoint.common.server.bo.SpanBo;
+import com.navercorp.pinpoint.common.server.scatter.ScatterRollupUtils;
 import com.navercorp.pinpoint.common.server.util.DateTimeFormatUtils;
 import com.navercorp.pinpoint.common.timeseries.time.Range;
 import com.navercorp.pinpoint.common.util.CollectionUtils;
@@ -34,22 +35,30 @@ import com.navercorp.pinpoint.web.view.transactionlist.TransactionMetaDataViewMo
 import com.navercorp.pinpoint.web.vo.GetTraceInfo;
 import com.navercorp.pinpoint.web.vo.GetTraceInfoParser;
 import com.navercorp.pinpoint.web.vo.LimitedScanResult;
+import com.navercorp.pinpoint.web.vo.scatter.ScatterRollupCell;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.MediaType;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * @author netspider
@@ -61,6 +70,8 @@ import java.util.Objects;
 @Validated
 public class ScatterChartController {
 
+    private static final long STREAM_TIMEOUT_MILLIS = Duration.ofMinutes(1).toMillis();
+
     private final Logger logger = LogManager.getLogger(this.getClass());
 
     private final ScatterChartService scatter;
@@ -69,16 +80,20 @@ public class ScatterChartController {
 
     private final FilterBuilder<List<SpanBo>> filterBuilder;
 
+    private final Executor scatterStreamExecutor;
+
     private final GetTraceInfoParser getTraceInfoParser = new GetTraceInfoParser();
 
     public ScatterChartController(
             ScatterChartService scatter,
             FilteredMapService flow,
-            FilterBuilder<List<SpanBo>> filterBuilder
+            FilterBuilder<List<SpanBo>> filterBuilder,
+            @Qualifier("scatterStreamExecutor") Executor scatterStreamExecutor
     ) {
         this.scatter = Objects.requireNonNull(scatter, "scatter");
         this.flow = Objects.requireNonNull(flow, "flow");
         this.filterBuilder = Objects.requireNonNull(filterBuilder, "filterBuilder");
+        this.scatterStreamExecutor = Objects.requireNonNull(scatterStreamExecutor, "scatterStreamExecutor");
     }
 
 
@@ -142,6 +157,98 @@ public class ScatterChartController {
         }
     }
 
+    /**
+     * Streams scatter data as server-sent events while the trace index is being scanned.
+     * Every "scatter-slice" event only holds the dots read since the previous one, and "scatter-complete" ends the stream.
+     * The scan is cancelled once the client closes the connection.
+     *
+     * @param batchSize number of dots per slice
+     * @return SseEmitter
+     */
+    @GetMapping(value = "/getScatterData/stream")
+    public SseEmitter streamScatterData(
+            @RequestParam("application") @NotBlank String applicationName,
+            @RequestParam("from") @PositiveOrZero long from,
+            @RequestParam("to") @PositiveOrZero long to,
+            @RequestParam("xGroupUnit") @Positive int xGroupUnit,
+            @RequestParam("yGroupUnit") @Positive int yGroupUnit,
+            @RequestParam("limit") int limitParam,
+            @RequestParam(value = "backwardDirection", required = false, defaultValue = "true")
+            boolean backwardDirection,
+            @RequestParam(value = "batchSize", required = false, defaultValue = "1000") @Positive int batchSize
+    ) {
+        final int limit = LimitUtils.checkRange(limitParam);
+        final Range range = Range.unchecked(from, to);
+        logger.debug("stream scatter data. RANGE: {}, LIMIT: {}, BATCH_SIZE: {}", range, limit, batchSize);
+
+        final SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MILLIS);
+        final AtomicBoolean closed = new AtomicBoolean(false);
+        emitter.onCompletion(() -> closed.set(true));
+        emitter.onTimeout(() -> closed.set(true));
+        emitter.onError(th -> closed.set(true));
+
+        scatterStreamExecutor.execute(() -> {
+            try {
+                final int dotSize = scatter.selectScatterData(applicationName, range, xGroupUnit, Math.max(yGroupUnit, 1),
+                        limit, backwardDirection, batchSize, slice -> sendSlice(emitter, closed, range, slice));
+                if (closed.get()) {
+                    return;
+                }
+                final Status status = new Status(System.currentTimeMillis(), range);
+                emitter.send(SseEmitter.event()
+                        .name("scatter-complete")
+                        .data(new ScatterView.StreamCompleteView(dotSize, dotSize < limit, status), MediaType.APPLICATION_JSON));
+                emitter.complete();
+            } catch (Throwable th) {
+                logger.warn("Failed to stream scatter data. application:{}, range:{}", applicationName, range, th);
+                emitter.completeWithError(th);
+            }
+        });
+        return emitter;
+    }
+
+    private boolean sendSlice(SseEmitter emitter, AtomicBoolean closed, Range range, ScatterData slice) {
+        if (closed.get()) {
+            return false;
+        }
+        try {
+            final ScatterView.ResultView view = wrapScatterResultView(range, new ScatterView.DotView(slice, false));
+            emitter.send(SseEmitter.event()
+                    .name("scatter-slice")
+                    .data(view, MediaType.APPLICATION_JSON));
+            return true;
+        } catch (IOException e) {
+            logger.debug("scatter stream closed by client", e);
+            closed.set(true);
+            return false;
+        }
+    }
+
+    /**
+     * Long range scatter view rendered from the pre-aggregated rollup cells.
+     * Drag-area queries still go through the raw trace index.
+     *
+     * @param limitParam max number of time buckets, the most recent ones are returned first
+     */
+    @GetMapping(value = "/getScatterData/rollup")
+    public ScatterView.RollupView getScatterRollup(
+            @RequestParam("application") @NotBlank String applicationName,
+            @RequestParam("from") @PositiveOrZero long from,
+            @RequestParam("to") @PositiveOrZero long to,
+            @RequestParam(value = "limit", required = false, defaultValue = "1440") @Positive int limitParam
+    ) {
+        final int limit = LimitUtils.checkRange(limitParam);
+        final Range range = Range.between(from, to);
+        logger.debug("fetch scatter rollup. RANGE: {}, LIMIT: {}", range, limit);
+
+        final LimitedScanResult<List<ScatterRollupCell>> result = scatter.selectScatterRollup(applicationName, range, limit);
+        final long resultFrom = result.limitedTime();
+        final boolean complete = resultFrom <= range.getFrom();
+        final Status status = new Status(System.currentTimeMillis(), range);
+        return new ScatterView.RollupView(ScatterRollupUtils.TIME_BUCKET_MILLIS, ScatterRollupUtils.ELAPSED_BUCKET_MILLIS,
+                result.scanData(), resultFrom, complete, status);
+    }
+
     private static ScatterView.ResultView wrapScatterResultView(Range range, ScatterView.DotView dotView) {
         final Status status = new Status(System.currentTimeMillis(), range);
         return ScatterView.wrapResult(dotView, status);
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.calltree.sample;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Flame graph node. value is the number of samples passing through the frame.
+ */
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public class FlameGraphNode {
+
+    private final String name;
+    private final long value;
+    private final List<FlameGraphNode> children = new ArrayList<>();
+
+    public FlameGraphNode(String name, long value) {
+        this.name = Objects.requireNonNull(name, "name");
+        this.value = value;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getValue() {
+        return value;
+    }
+
+    public List<FlameGraphNode> getChildren() {
+        return children;
+    }
+
+    void addChild(FlameGraphNode child) {
+        this.children.add(child);
+    }
+
+    @Override
+    public String toString() {
+        return "FlameGraphNode{" +
+                "name='" + name + '\'' +
+                ", value=" + value +
+                ", children=" + children +
+                '}';
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.calltree.sample;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parses the stack sample annotation recorded by the agent.
+ * <pre>
+ * v1|sampleCount|frame0;frame1;...|depth,frameIndex,count;depth,frameIndex,count;...
+ * </pre>
+ */
+public class StackSampleParser {
+
+    public static final String ROOT_NAME = "root";
+
+    private static final String VERSION = "v1";
+
+    public FlameGraphNode parse(String encoded) {
+        if (StringUtils.isEmpty(encoded)) {
+            throw new IllegalArgumentException("encoded must not be empty");
+        }
+        final String[] parts = StringUtils.splitPreserveAllTokens(encoded, '|');
+        if (parts.length != 4 || !VERSION.equals(parts[0])) {
+            throw new IllegalArgumentException("unsupported stack sample format");
+        }
+        final long sampleCount = Long.parseLong(parts[1]);
+        final String[] frames = StringUtils.split(parts[2], ';');
+        final FlameGraphNode root = new FlameGraphNode(ROOT_NAME, sampleCount);
+
+        final List<FlameGraphNode> path = new ArrayList<>();
+        path.add(root);
+        for (String token : StringUtils.split(parts[3], ';')) {
+            final String[] node = StringUtils.split(token, ',');
+            if (node.length != 3) {
+                throw new IllegalArgumentException("invalid node " + token);
+            }
+            final int depth = Integer.parseInt(node[0]);
+            final int frameIndex = Integer.parseInt(node[1]);
+            final long count = Long.parseLong(node[2]);
+            if (depth < 0 || depth >= path.size()) {
+                throw new IllegalArgumentException("invalid depth " + token);
+            }
+            if (frameIndex < 0 || frameIndex >= frames.length) {
+                throw new IllegalArgumentException("invalid frameIndex " + token);
+            }
+
+            // pop to the parent of the current node
+            while (path.size() > depth + 1) {
+                path.remove(path.size() - 1);
+            }
+            final FlameGraphNode child = new FlameGraphNode(frames[frameIndex], count);
+            path.get(depth).addChild(child);
+            path.add(child);
+        }
+        return root;
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.calltree.span;
+
+import java.util.Objects;
+
+/**
+ * Compact index of an aligned call tree in pre-order.
+ * The subtree of a node is the contiguous range {@code [offset, subtreeEnd(offset))}.
+ */
+public class CallTreeIndex {
+
+    public static final int NO_PARENT = -1;
+
+    private final int size;
+    private final int[] depth;
+    private final int[] parent;
+    private final int[] subtreeEnd;
+    private final long[] elapsed;
+    private final boolean[] exception;
+
+    private CallTreeIndex(int size) {
+        this.size = size;
+        this.depth = new int[size];
+        this.parent = new int[size];
+        this.subtreeEnd = new int[size];
+        this.elapsed = new long[size];
+        this.exception = new boolean[size];
+    }
+
+    public static CallTreeIndex build(CallTreeIterator callTreeIterator) {
+        Objects.requireNonNull(callTreeIterator, "callTreeIterator");
+
+        final int size = callTreeIterator.size();
+        final CallTreeIndex index = new CallTreeIndex(size);
+
+        // offsets of the open ancestors
+        final int[] stack = new int[size];
+        int top = -1;
+        for (int i = 0; i < size; i++) {
+            final Align align = callTreeIterator.get(i).getAlign();
+            final int depth = align.getDepth();
+            while (top >= 0 && index.depth[stack[top]] >= depth) {
+                index.subtreeEnd[stack[top--]] = i;
+            }
+            index.depth[i] = depth;
+            index.parent[i] = top >= 0 ? stack[top] : NO_PARENT;
+            index.elapsed[i] = align.getElapsed();
+            index.exception[i] = align.hasException();
+            stack[++top] = i;
+        }
+        while (top >= 0) {
+            index.subtreeEnd[stack[top--]] = size;
+        }
+        return index;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getDepth(int offset) {
+        return depth[offset];
+    }
+
+    public int getParent(int offset) {
+        return parent[offset];
+    }
+
+    public int getSubtreeEnd(int offset) {
+        return subtreeEnd[offset];
+    }
+
+    public int getSubtreeSize(int offset) {
+        return subtreeEnd[offset] - offset;
+    }
+
+    public long getElapsed(int offset) {
+        return elapsed[offset];
+    }
+
+    public boolean hasException(int offset) {
+        return exception[offset];
+    }
+
+    /**
+     * @return {@code true} if an event of the subtree has an exception
+     */
+    public boolean hasExceptionInSubtree(int offset) {
+        final int end = subtreeEnd[offset];
+        for (int i = offset; i < end; i++) {
+            if (exception[i]) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -253,6 +253,10 @@ public class CallTreeIterator implements Iterator<CallTreeNode> {
         return values;
     }
 
+    public CallTreeNode get(int index) {
+        return nodes.get(index);
+    }
+
     public int size() {
         return nodes.size();
     }
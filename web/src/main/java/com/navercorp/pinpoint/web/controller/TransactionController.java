@@ -19,9 +19,11 @@ package com.navercorp.pinpoint.web.controller;
 import com.navercorp.pinpoint.common.hbase.bo.ColumnGetCount;
 import com.navercorp.pinpoint.common.profiler.util.TransactionId;
 import com.navercorp.pinpoint.common.profiler.util.TransactionIdUtils;
+import com.navercorp.pinpoint.common.server.bo.AnnotationBo;
 import com.navercorp.pinpoint.common.server.bo.SpanBo;
 import com.navercorp.pinpoint.common.timeseries.time.Range;
 import com.navercorp.pinpoint.common.timeseries.window.TimeWindow;
+import com.navercorp.pinpoint.common.trace.AnnotationKey;
 import com.navercorp.pinpoint.web.applicationmap.ApplicationMap;
 import com.navercorp.pinpoint.web.applicationmap.ApplicationMapView;
 import com.navercorp.pinpoint.web.applicationmap.ApplicationMapViewV3;
@@ -29,6 +31,9 @@ import com.navercorp.pinpoint.web.applicationmap.histogram.TimeHistogramFormat;
 import com.navercorp.pinpoint.web.applicationmap.map.MapViews;
 import com.navercorp.pinpoint.web.applicationmap.service.FilteredMapService;
 import com.navercorp.pinpoint.web.applicationmap.service.FilteredMapServiceOption;
+import com.navercorp.pinpoint.web.calltree.sample.FlameGraphNode;
+import com.navercorp.pinpoint.web.calltree.sample.StackSampleParser;
+import com.navercorp.pinpoint.web.calltree.span.Align;
 import com.navercorp.pinpoint.web.calltree.span.CallTreeIterator;
 import com.navercorp.pinpoint.web.calltree.span.SpanFilters;
 import com.navercorp.pinpoint.web.hyperlink.HyperLinkFactory;
@@ -36,13 +41,18 @@ import com.navercorp.pinpoint.web.service.SpanResult;
 import com.navercorp.pinpoint.web.service.SpanService;
 import com.navercorp.pinpoint.web.service.TransactionInfoService;
 import com.navercorp.pinpoint.web.validation.NullOrNotBlank;
+import com.navercorp.pinpoint.web.view.CallStackWindowViewModel;
 import com.navercorp.pinpoint.web.view.LogLinkBuilder;
 import com.navercorp.pinpoint.web.view.LogLinkView;
+import com.navercorp.pinpoint.web.view.StackSampleView;
 import com.navercorp.pinpoint.web.view.TraceViewerDataViewModel;
 import com.navercorp.pinpoint.web.view.TransactionInfoViewModel;
 import com.navercorp.pinpoint.web.view.TransactionTimelineInfoViewModel;
 import com.navercorp.pinpoint.web.vo.callstacks.RecordSet;
+import com.navercorp.pinpoint.web.vo.callstacks.RecordWindow;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -56,6 +66,8 @@ import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Predicate;
 
@@ -72,6 +84,8 @@ public class TransactionController {
 
     public static final String DEFAULT_FOCUS_TIMESTAMP = "0";
     public static final String DEFAULT_SPAN_ID = "-1"; // SpanId.NULL
+    public static final String DEFAULT_NODE_LIMIT = "1000";
+    public static final long MAX_NODE_LIMIT = 20000;
     private static final String SERVER_PREFIX = "api";
 
     private final SpanService spanService;
@@ -79,6 +93,7 @@ public class TransactionController {
     private final FilteredMapService filteredMapService;
     private final HyperLinkFactory hyperLinkFactory;
     private final LogLinkBuilder logLinkBuilder;
+    private final StackSampleParser stackSampleParser = new StackSampleParser();
 
     @Value("${web.callstack.selectSpans.limit:-1}")
     private int callstackSelectSpansLimit;
@@ -242,6 +257,38 @@ public class TransactionController {
         return new TransactionTimelineInfoViewModel(transactionId, recordSet, traceViewerDataURL);
     }
 
+    /**
+     * call stack of a window of the call tree for very large transactions.
+     * The nodes after the window are returned as collapsed subtrees,
+     * fetch them with {@code nodeOffset=nextNodeOffset} or expand one with {@code nodeOffset=collapsed.nodeOffset&subtree=true}
+     */
+    @GetMapping(value = "/callStackWindow")
+    public CallStackWindowViewModel callStackWindow(
+            @RequestParam("traceId") @NotBlank String traceId,
+            @RequestParam(value = "focusTimestamp", required = false, defaultValue = DEFAULT_FOCUS_TIMESTAMP)
+            @PositiveOrZero
+            long focusTimestamp,
+            @RequestParam(value = "agentId", required = false) @NullOrNotBlank String agentId,
+            @RequestParam(value = "spanId", required = false, defaultValue = DEFAULT_SPAN_ID) long spanId,
+            @RequestParam(value = "nodeOffset", required = false, defaultValue = "0") @PositiveOrZero int nodeOffset,
+            @RequestParam(value = "nodeLimit", required = false, defaultValue = DEFAULT_NODE_LIMIT) @Positive @Max(MAX_NODE_LIMIT) int nodeLimit,
+            @RequestParam(value = "subtree", required = false, defaultValue = "false") boolean subtree
+    ) {
+        logger.debug("GET /callStackWindow params {traceId={}, focusTimestamp={}, agentId={}, spanId={}, nodeOffset={}, nodeLimit={}, subtree={}}",
+                traceId, focusTimestamp, agentId, spanId, nodeOffset, nodeLimit, subtree);
+        final TransactionId transactionId = TransactionIdUtils.parseTransactionId(traceId);
+        final ColumnGetCount columnGetCount = ColumnGetCount.of(callstackSelectSpansLimit);
+
+        // select spans
+        final Predicate<SpanBo> spanMatchFilter = SpanFilters.spanFilter(spanId, agentId, focusTimestamp);
+        final SpanResult spanResult = this.spanService.selectSpan(transactionId, spanMatchFilter, columnGetCount);
+        final CallTreeIterator callTreeIterator = spanResult.callTree();
+
+        final RecordWindow recordWindow = this.transactionInfoService.createRecordWindow(callTreeIterator, spanMatchFilter,
+                nodeOffset, nodeLimit, subtree);
+        return new CallStackWindowViewModel(transactionId, spanId, recordWindow, spanResult.traceState());
+    }
+
     @GetMapping(value = "/traceViewerData")
     public TraceViewerDataViewModel traceViewerData(
             @RequestParam("traceId") @NotBlank String traceIdParam,
@@ -266,5 +313,52 @@ public class TransactionController {
         return new TraceViewerDataViewModel(recordSet);
     }
 
+    /**
+     * stack samples of the slow spans of a selected transaction, rendered as flame graphs next to the call tree
+     */
+    @GetMapping(value = "/stackSample")
+    public List<StackSampleView> stackSample(
+            @RequestParam("traceId") @NotBlank String traceIdParam,
+            @RequestParam(value = "focusTimestamp", required = false, defaultValue = DEFAULT_FOCUS_TIMESTAMP) @PositiveOrZero
+            long focusTimestamp,
+            @RequestParam(value = "agentId", required = false) @NullOrNotBlank String agentId,
+            @RequestParam(value = "spanId", required = false, defaultValue = DEFAULT_SPAN_ID) long spanId
+    ) {
+        logger.debug("GET /stackSample params {traceId={}, focusTimestamp={}, agentId={}, spanId={}}",
+                traceIdParam, focusTimestamp, agentId, spanId);
+
+        final TransactionId transactionId = TransactionIdUtils.parseTransactionId(traceIdParam);
+        final ColumnGetCount columnGetCount = ColumnGetCount.of(callstackSelectSpansLimit);
+
+        final Predicate<SpanBo> spanMatchFilter = SpanFilters.spanFilter(spanId, agentId, focusTimestamp);
+        final SpanResult spanResult = this.spanService.selectSpan(transactionId, spanMatchFilter, columnGetCount);
+
+        final List<StackSampleView> result = new ArrayList<>();
+        for (Align align : spanResult.callTree().values()) {
+            if (!align.isSpan()) {
+                continue;
+            }
+            final SpanBo spanBo = align.getSpanBo();
+            final List<AnnotationBo> annotationBoList = spanBo.getAnnotationBoList();
+            if (annotationBoList == null) {
+                continue;
+            }
+            for (AnnotationBo annotationBo : annotationBoList) {
+                if (annotationBo.getKey() == AnnotationKey.STACK_SAMPLE.getCode() && annotationBo.getValue() instanceof String encoded) {
+                    final FlameGraphNode flameGraph;
+                    try {
+                        flameGraph = stackSampleParser.parse(encoded);
+                    } catch (IllegalArgumentException e) {
+                        // a single corrupted annotation should not fail the whole transaction view
+                        logger.warn("Skip malformed stack sample. agentId={}, spanId={}", spanBo.getAgentId(), spanBo.getSpanId(), e);
+                        continue;
+                    }
+                    result.add(new StackSampleView(spanBo.getAgentId(), spanBo.getApplicationName(), spanBo.getSpanId(), flameGraph));
+                }
+            }
+        }
+        return result;
+    }
+
 
 }
\ No newline at end of file
@@ -19,6 +19,7 @@ package com.navercorp.pinpoint.web.dao;
 import java.util.List;
 import java.util.Map;
 
+import com.navercorp.pinpoint.common.timeseries.time.Range;
 import com.navercorp.pinpoint.web.vo.Application;
 
 /**
@@ -33,6 +34,11 @@ public interface ApplicationIndexDao {
 
     List<String> selectAgentIds(String applicationName);
 
+    /**
+     * agents whose index cell was written in the range, see collector AgentLivenessService
+     */
+    List<String> selectAgentIds(String applicationName, Range range);
+
     void deleteApplicationName(String applicationName);
 
     void deleteAgentIds(Map<String, List<String>> applicationAgentIdMap);
@@ -25,6 +25,7 @@ import com.navercorp.pinpoint.web.vo.scatter.Dot;
 import com.navercorp.pinpoint.web.vo.scatter.DotMetaData;
 
 import java.util.List;
+import java.util.function.Predicate;
 
 /**
  * @author emeroad
@@ -38,6 +39,15 @@ public interface ApplicationTraceIndexDao {
 
     LimitedScanResult<List<Dot>> scanTraceScatterData(String applicationName, Range range, int limit, boolean scanBackward);
 
+    /**
+     * Streams dots to {@code batchHandler} in row key order while the partitions are being scanned.
+     * The scan stops when {@code limit} dots were read or the handler returns {@code false}.
+     *
+     * @return number of dots read
+     */
+    int scanTraceScatterData(String applicationName, Range range, int limit, boolean scanBackward,
+                             int batchSize, Predicate<List<Dot>> batchHandler);
+
 
     LimitedScanResult<List<TransactionId>> scanTraceIndex(String applicationName, DragArea dragArea, int limit);
 
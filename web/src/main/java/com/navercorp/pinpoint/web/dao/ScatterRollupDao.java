@@ -0,0 +1,36 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.dao;
+
+import com.navercorp.pinpoint.common.timeseries.time.Range;
+import com.navercorp.pinpoint.web.vo.LimitedScanResult;
+import com.navercorp.pinpoint.web.vo.scatter.ScatterRollupCell;
+
+import java.util.List;
+
+/**
+ * Reads the pre-aggregated cells written by the collector into the ApplicationScatterRollup table.
+ */
+public interface ScatterRollupDao {
+
+    /**
+     * @param limit max number of time buckets, the most recent ones are read first
+     * @return cells and the oldest time bucket read, {@code range.getFrom()} if the whole range was read
+     */
+    LimitedScanResult<List<ScatterRollupCell>> selectCells(String applicationName, Range range, int limit);
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.dao.hbase;
+
+import com.navercorp.pinpoint.common.hbase.ResultsExtractor;
+import com.navercorp.pinpoint.common.hbase.RowMapper;
+import com.navercorp.pinpoint.web.vo.scatter.Dot;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.ResultScanner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Hands dots over in batches while the scanner is still running instead of collecting the whole range.
+ * The handler returns {@code false} to stop the scan early.
+ */
+public class DotBatchResultsExtractor implements ResultsExtractor<Integer> {
+
+    private final RowMapper<List<Dot>> rowMapper;
+    private final int limit;
+    private final int batchSize;
+    private final Predicate<List<Dot>> batchHandler;
+
+    public DotBatchResultsExtractor(RowMapper<List<Dot>> rowMapper, int limit, int batchSize, Predicate<List<Dot>> batchHandler) {
+        this.rowMapper = Objects.requireNonNull(rowMapper, "rowMapper");
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive:" + batchSize);
+        }
+        this.limit = limit;
+        this.batchSize = batchSize;
+        this.batchHandler = Objects.requireNonNull(batchHandler, "batchHandler");
+    }
+
+    @Override
+    public Integer extractData(ResultScanner results) throws Exception {
+        List<Dot> batch = new ArrayList<>(batchSize);
+        int rowNum = 0;
+        int dotCount = 0;
+        for (Result result : results) {
+            final List<Dot> dots = rowMapper.mapRow(result, rowNum++);
+            batch.addAll(dots);
+            dotCount += dots.size();
+            if (dotCount >= limit) {
+                break;
+            }
+            if (batch.size() >= batchSize) {
+                if (!batchHandler.test(batch)) {
+                    return dotCount;
+                }
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            batchHandler.test(batch);
+        }
+        return dotCount;
+    }
+}
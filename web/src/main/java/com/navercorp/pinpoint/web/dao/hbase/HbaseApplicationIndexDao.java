@@ -18,9 +18,11 @@ package com.navercorp.pinpoint.web.dao.hbase;
 
 import com.navercorp.pinpoint.common.hbase.HbaseColumnFamily;
 import com.navercorp.pinpoint.common.hbase.HbaseOperations;
+import com.navercorp.pinpoint.common.hbase.HbaseSystemException;
 import com.navercorp.pinpoint.common.hbase.HbaseTables;
 import com.navercorp.pinpoint.common.hbase.RowMapper;
 import com.navercorp.pinpoint.common.hbase.TableNameProvider;
+import com.navercorp.pinpoint.common.timeseries.time.Range;
 import com.navercorp.pinpoint.common.util.StringUtils;
 import com.navercorp.pinpoint.web.dao.ApplicationIndexDao;
 import com.navercorp.pinpoint.web.util.ListListUtils;
@@ -36,6 +38,7 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.Assert;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -90,6 +93,23 @@ public class HbaseApplicationIndexDao implements ApplicationIndexDao {
         return selectApplicationIndex0(applicationName, agentIdMapper);
     }
 
+    @Override
+    public List<String> selectAgentIds(String applicationName, Range range) {
+        Objects.requireNonNull(applicationName, "applicationName");
+        Objects.requireNonNull(range, "range");
+
+        Get get = new Get(Bytes.toBytes(applicationName));
+        get.addFamily(DESCRIPTOR.getName());
+        try {
+            get.setTimeRange(range.getFrom(), range.getTo() + 1);
+        } catch (IOException e) {
+            throw new HbaseSystemException(e);
+        }
+
+        TableName applicationIndexTableName = tableNameProvider.getTableName(DESCRIPTOR.getTable());
+        return hbaseOperations.get(applicationIndexTableName, get, agentIdMapper);
+    }
+
     private <T> List<T> selectApplicationIndex0(String applicationName, RowMapper<List<T>> rowMapper) {
         Objects.requireNonNull(applicationName, "applicationName");
         Objects.requireNonNull(rowMapper, "rowMapper");
@@ -256,6 +256,24 @@ public class HbaseApplicationTraceIndexDao implements ApplicationTraceIndexDao {
         return new LimitedScanResult<>(lastTime, dots);
     }
 
+    @Override
+    public int scanTraceScatterData(String applicationName, Range range, int limit, boolean scanBackward,
+                                    int batchSize, Predicate<List<Dot>> batchHandler) {
+        Objects.requireNonNull(applicationName, "applicationName");
+        Objects.requireNonNull(range, "range");
+        if (limit < 0) {
+            throw new IllegalArgumentException("negative limit:" + limit);
+        }
+        logger.debug("scanTraceScatterData stream {}", range);
+
+        Scan scan = createScan(applicationName, range, scanBackward, -1);
+
+        TableName applicationTraceIndexTableName = tableNameProvider.getTableName(INDEX.getTable());
+        DotBatchResultsExtractor extractor = new DotBatchResultsExtractor(this.traceIndexScatterMapper, limit, batchSize, batchHandler);
+        return hbaseOperations.findParallel(applicationTraceIndexTableName, scan,
+                traceIdRowKeyDistributor, extractor, APPLICATION_TRACE_INDEX_NUM_PARTITIONS);
+    }
+
     @Override
     public LimitedScanResult<List<TransactionId>> scanTraceIndex(String applicationName, DragArea dragArea, int limit) {
         Objects.requireNonNull(applicationName, "applicationName");
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.dao.hbase;
+
+import com.navercorp.pinpoint.common.hbase.HbaseColumnFamily;
+import com.navercorp.pinpoint.common.hbase.HbaseOperations;
+import com.navercorp.pinpoint.common.hbase.HbaseTables;
+import com.navercorp.pinpoint.common.hbase.RowMapper;
+import com.navercorp.pinpoint.common.hbase.TableNameProvider;
+import com.navercorp.pinpoint.common.profiler.util.TransactionId;
+import com.navercorp.pinpoint.common.server.scatter.ScatterRollupUtils;
+import com.navercorp.pinpoint.common.timeseries.time.Range;
+import com.navercorp.pinpoint.web.dao.ScatterRollupDao;
+import com.navercorp.pinpoint.web.mapper.TransactionIdMapper;
+import com.navercorp.pinpoint.web.util.ListListUtils;
+import com.navercorp.pinpoint.web.vo.LimitedScanResult;
+import com.navercorp.pinpoint.web.vo.scatter.ScatterRollupCell;
+import com.sematext.hbase.wd.AbstractRowKeyDistributor;
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.CellUtil;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.Scan;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Rows share the key layout and the row key distributor of the ApplicationTraceIndex table,
+ * so one parallel scan per partition is enough to read a whole time range.
+ */
+@Repository
+public class HbaseScatterRollupDao implements ScatterRollupDao {
+
+    private static final int APPLICATION_SCATTER_ROLLUP_NUM_PARTITIONS = 32;
+
+    private static final HbaseColumnFamily COUNTER = HbaseTables.APPLICATION_SCATTER_ROLLUP_COUNTER;
+    private static final HbaseColumnFamily SAMPLE = HbaseTables.APPLICATION_SCATTER_ROLLUP_SAMPLE;
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    private final HbaseOperations hbaseOperations;
+    private final TableNameProvider tableNameProvider;
+    private final AbstractRowKeyDistributor rowKeyDistributor;
+
+    private final RowMapper<List<ScatterRollupCell>> cellMapper = this::mapRow;
+
+    private int scanCacheSize = 256;
+
+    public HbaseScatterRollupDao(HbaseOperations hbaseOperations,
+                                 TableNameProvider tableNameProvider,
+                                 @Qualifier("applicationTraceIndexDistributor") AbstractRowKeyDistributor rowKeyDistributor) {
+        this.hbaseOperations = Objects.requireNonNull(hbaseOperations, "hbaseOperations");
+        this.tableNameProvider = Objects.requireNonNull(tableNameProvider, "tableNameProvider");
+        this.rowKeyDistributor = Objects.requireNonNull(rowKeyDistributor, "rowKeyDistributor");
+    }
+
+    public void setScanCacheSize(int scanCacheSize) {
+        this.scanCacheSize = scanCacheSize;
+    }
+
+    @Override
+    public LimitedScanResult<List<ScatterRollupCell>> selectCells(String applicationName, Range range, int limit) {
+        Objects.requireNonNull(applicationName, "applicationName");
+        Objects.requireNonNull(range, "range");
+        if (limit <= 0) {
+            throw new IllegalArgumentException("negative limit:" + limit);
+        }
+
+        final Scan scan = createScan(applicationName, range);
+        final TableName tableName = tableNameProvider.getTableName(COUNTER.getTable());
+        // one row per time bucket
+        final List<List<ScatterRollupCell>> listList = hbaseOperations.findParallel(tableName, scan,
+                rowKeyDistributor, limit, cellMapper, APPLICATION_SCATTER_ROLLUP_NUM_PARTITIONS);
+        final List<ScatterRollupCell> cells = ListListUtils.toList(listList);
+
+        long limitedTime = range.getFrom();
+        if (listList.size() >= limit) {
+            limitedTime = getOldestTimeBucket(cells, range.getTo());
+        }
+        logger.debug("selectCells application:{}, range:{}, rows:{}, cells:{}, limitedTime:{}", applicationName, range, listList.size(), cells.size(), limitedTime);
+        return new LimitedScanResult<>(limitedTime, cells);
+    }
+
+    private long getOldestTimeBucket(List<ScatterRollupCell> cells, long defaultTime) {
+        long oldest = defaultTime;
+        for (ScatterRollupCell cell : cells) {
+            oldest = Math.min(oldest, cell.timeBucket());
+        }
+        return oldest;
+    }
+
+    private Scan createScan(String applicationName, Range range) {
+        final Scan scan = new Scan();
+        scan.setCaching(this.scanCacheSize);
+
+        // time bucket has been reversed, the "to" bucket is the smallest key
+        final long fromBucket = ScatterRollupUtils.getTimeBucket(range.getFrom());
+        final long toBucket = ScatterRollupUtils.getTimeBucket(range.getTo());
+        scan.withStartRow(ScatterRollupUtils.makeRowKey(applicationName, toBucket));
+        scan.withStopRow(ScatterRollupUtils.makeRowKey(applicationName, fromBucket - 1));
+
+        scan.addFamily(COUNTER.getName());
+        scan.addFamily(SAMPLE.getName());
+        scan.setId("ApplicationScatterRollupScan");
+        return scan;
+    }
+
+    private List<ScatterRollupCell> mapRow(Result result, int rowNum) {
+        if (result.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final byte[] rowKey = rowKeyDistributor.getOriginalKey(result.getRow());
+        final long timeBucket = ScatterRollupUtils.parseTimeBucket(rowKey);
+
+        final Map<CellKey, Long> counters = new HashMap<>();
+        final Map<CellKey, List<TransactionId>> samples = new HashMap<>();
+        for (Cell cell : result.rawCells()) {
+            final byte[] qualifier = CellUtil.cloneQualifier(cell);
+            final CellKey key = new CellKey(ScatterRollupUtils.getElapsedBucket(qualifier, 0), ScatterRollupUtils.isError(qualifier, 0));
+            if (CellUtil.matchingFamily(cell, COUNTER.getName())) {
+                counters.put(key, Bytes.toLong(cell.getValueArray(), cell.getValueOffset(), cell.getValueLength()));
+            } else if (CellUtil.matchingFamily(cell, SAMPLE.getName())) {
+                if (qualifier.length != ScatterRollupUtils.SAMPLE_QUALIFIER_SIZE) {
+                    // sample sequence
+                    continue;
+                }
+                final List<TransactionId> sampleList = samples.computeIfAbsent(key, k -> new ArrayList<>());
+                if (sampleList.size() < ScatterRollupUtils.SAMPLE_SLOT_COUNT) {
+                    sampleList.add(TransactionIdMapper.parseVarTransactionId(cell.getValueArray(), cell.getValueOffset(), cell.getValueLength()));
+                }
+            }
+        }
+
+        final List<ScatterRollupCell> cells = new ArrayList<>(counters.size());
+        for (Map.Entry<CellKey, Long> entry : counters.entrySet()) {
+            final CellKey key = entry.getKey();
+            final List<TransactionId> sampleList = samples.getOrDefault(key, Collections.emptyList());
+            cells.add(new ScatterRollupCell(timeBucket, key.elapsedBucket(), key.error(), entry.getValue(), sampleList));
+        }
+        return cells;
+    }
+
+    private record CellKey(int elapsedBucket, boolean error) {
+    }
+}
@@ -1,7 +1,9 @@
 package com.navercorp.pinpoint.web.scatter;
 
 import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import com.navercorp.pinpoint.web.vo.scatter.ScatterRollupCell;
 
+import java.util.List;
 import java.util.Objects;
 
 public class ScatterView {
@@ -24,6 +26,26 @@ public class ScatterView {
         }
     }
 
+    public record StreamCompleteView(int dotSize, boolean complete, Status status) {
+
+        @JsonUnwrapped
+        public Status status() {
+            return status;
+        }
+    }
+
+    /**
+     * @param resultFrom oldest time bucket read, the range before it is left to the next request when {@code complete} is false
+     */
+    public record RollupView(long timeBucketMillis, int elapsedBucketMillis, List<ScatterRollupCell> cells,
+                             long resultFrom, boolean complete, Status status) {
+
+        @JsonUnwrapped
+        public Status status() {
+            return status;
+        }
+    }
+
     public static class DotView {
         private final ScatterData scatter;
         private final boolean complete;
@@ -22,9 +22,12 @@ import com.navercorp.pinpoint.common.timeseries.time.Range;
 import com.navercorp.pinpoint.web.filter.Filter;
 import com.navercorp.pinpoint.web.scatter.ScatterData;
 import com.navercorp.pinpoint.web.vo.GetTraceInfo;
+import com.navercorp.pinpoint.web.vo.LimitedScanResult;
 import com.navercorp.pinpoint.web.vo.scatter.Dot;
+import com.navercorp.pinpoint.web.vo.scatter.ScatterRollupCell;
 
 import java.util.List;
+import java.util.function.Predicate;
 
 public interface ScatterChartService {
 
@@ -44,6 +47,21 @@ public interface ScatterChartService {
 
     ScatterData selectScatterData(String applicationName, Range range, int xGroupUnit, int yGroupUnit, int limit, boolean backwardDirection);
 
+    /**
+     * Queries scatter data progressively.
+     * Each {@link ScatterData} passed to {@code sliceHandler} only holds the dots read since the previous slice.
+     * Returning {@code false} from {@code sliceHandler} cancels the remaining scan.
+     *
+     * @return number of dots read
+     */
+    int selectScatterData(String applicationName, Range range, int xGroupUnit, int yGroupUnit, int limit, boolean backwardDirection,
+                          int batchSize, Predicate<ScatterData> sliceHandler);
+
     ScatterData selectScatterData(List<TransactionId> transactionIdList, String applicationName, Range range, int xGroupUnit, int yGroupUnit, Filter<List<SpanBo>> filter);
 
+    /**
+     * Reads pre-aggregated cells instead of the raw trace index. Suited for long ranges where individual dots are not needed.
+     */
+    LimitedScanResult<List<ScatterRollupCell>> selectScatterRollup(String applicationName, Range range, int limit);
+
 }
@@ -21,6 +21,7 @@ import com.navercorp.pinpoint.common.server.bo.SpanBo;
 import com.navercorp.pinpoint.common.timeseries.time.Range;
 import com.navercorp.pinpoint.common.util.CollectionUtils;
 import com.navercorp.pinpoint.web.dao.ApplicationTraceIndexDao;
+import com.navercorp.pinpoint.web.dao.ScatterRollupDao;
 import com.navercorp.pinpoint.web.dao.TraceDao;
 import com.navercorp.pinpoint.web.filter.Filter;
 import com.navercorp.pinpoint.web.scatter.ScatterData;
@@ -29,6 +30,7 @@ import com.navercorp.pinpoint.web.util.ListListUtils;
 import com.navercorp.pinpoint.web.vo.GetTraceInfo;
 import com.navercorp.pinpoint.web.vo.LimitedScanResult;
 import com.navercorp.pinpoint.web.vo.scatter.Dot;
+import com.navercorp.pinpoint.web.vo.scatter.ScatterRollupCell;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.stereotype.Service;
@@ -37,6 +39,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
@@ -54,12 +57,16 @@ public class ScatterChartServiceImpl implements ScatterChartService {
 
     private final SpanService spanService;
 
+    private final ScatterRollupDao scatterRollupDao;
+
     public ScatterChartServiceImpl(ApplicationTraceIndexDao applicationTraceIndexDao,
                                    TraceDao traceDao,
-                                   SpanService spanService) {
+                                   SpanService spanService,
+                                   ScatterRollupDao scatterRollupDao) {
         this.applicationTraceIndexDao = Objects.requireNonNull(applicationTraceIndexDao, "applicationTraceIndexDao");
         this.traceDao = Objects.requireNonNull(traceDao, "traceDao");
         this.spanService = Objects.requireNonNull(spanService, "spanService");
+        this.scatterRollupDao = Objects.requireNonNull(scatterRollupDao, "scatterRollupDao");
     }
 
     @Override
@@ -120,6 +127,21 @@ public class ScatterChartServiceImpl implements ScatterChartService {
         return builder.build();
     }
 
+    @Override
+    public int selectScatterData(String applicationName, Range range, int xGroupUnit, int yGroupUnit, int limit, boolean backwardDirection,
+                                 int batchSize, Predicate<ScatterData> sliceHandler) {
+        Objects.requireNonNull(applicationName, "applicationName");
+        Objects.requireNonNull(range, "range");
+        Objects.requireNonNull(sliceHandler, "sliceHandler");
+
+        final ScatterDataBuilder builder = new ScatterDataBuilder(range.getFrom(), range.getTo(), xGroupUnit, yGroupUnit);
+        return applicationTraceIndexDao.scanTraceScatterData(applicationName, range, limit, backwardDirection, batchSize, dots -> {
+            builder.addDot(dots);
+            // build() hands over the accumulated groups and resets the builder
+            return sliceHandler.test(builder.build());
+        });
+    }
+
     @Override
     public ScatterData selectScatterData(List<TransactionId> transactionIdList, String applicationName, Range range, int xGroupUnit, int yGroupUnit, Filter<List<SpanBo>> filter) {
         Objects.requireNonNull(transactionIdList, "transactionIdList");
@@ -162,4 +184,11 @@ public class ScatterChartServiceImpl implements ScatterChartService {
         spanService.populateAgentName(list);
     }
 
+    @Override
+    public LimitedScanResult<List<ScatterRollupCell>> selectScatterRollup(String applicationName, Range range, int limit) {
+        Objects.requireNonNull(applicationName, "applicationName");
+        Objects.requireNonNull(range, "range");
+        return scatterRollupDao.selectCells(applicationName, range, limit);
+    }
+
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.navercorp.pinpoint.common.profiler.util.TransactionId;
+import com.navercorp.pinpoint.common.server.bo.SpanBo;
+import com.navercorp.pinpoint.common.server.bo.SpanChunkBo;
+import com.navercorp.pinpoint.common.server.bo.SpanEventBo;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Caches the spans of finished transactions after agent names and metadata have been resolved,
+ * so that re-opening a large call stack does not hit HBase and the metadata tables again.
+ * <p>
+ * Only the resolved {@link SpanBo} list is kept. Call trees, aligns and iterators are stateful
+ * and are rebuilt for every request.
+ */
+@Component
+@ConditionalOnProperty(name = "web.trace.cache.enable", havingValue = "true")
+public class SpanCache {
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    private final Cache<TransactionId, Entry> cache;
+    private final long mutableWindowMillis;
+
+    public SpanCache(@Value("${web.trace.cache.maxWeight:1000000}") long maxWeight,
+                     @Value("${web.trace.cache.expireAfterAccess:600000}") long expireAfterAccessMillis,
+                     @Value("${web.trace.cache.mutableWindow:300000}") long mutableWindowMillis) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeight)
+                .weigher((TransactionId key, Entry entry) -> entry.weight())
+                .expireAfterAccess(Duration.ofMillis(expireAfterAccessMillis))
+                .build();
+        this.mutableWindowMillis = mutableWindowMillis;
+        logger.info("SpanCache maxWeight:{} expireAfterAccess:{}ms mutableWindow:{}ms", maxWeight, expireAfterAccessMillis, mutableWindowMillis);
+    }
+
+    /**
+     * @return cached spans or {@code null}
+     */
+    public Entry get(TransactionId transactionId) {
+        Objects.requireNonNull(transactionId, "transactionId");
+        return cache.getIfPresent(transactionId);
+    }
+
+    /**
+     * Stores the spans unless the transaction was written to within the mutable window,
+     * in which case late spans may still arrive.
+     */
+    public void put(TransactionId transactionId, List<SpanBo> spans, int fetchCount) {
+        Objects.requireNonNull(transactionId, "transactionId");
+        Objects.requireNonNull(spans, "spans");
+
+        if (isMutable(spans, System.currentTimeMillis())) {
+            return;
+        }
+        cache.put(transactionId, new Entry(List.copyOf(spans), fetchCount, weigh(spans)));
+    }
+
+    boolean isMutable(List<SpanBo> spans, long currentTimeMillis) {
+        long lastAcceptTime = 0;
+        for (SpanBo span : spans) {
+            lastAcceptTime = Math.max(lastAcceptTime, span.getCollectorAcceptTime());
+        }
+        return currentTimeMillis - lastAcceptTime < mutableWindowMillis;
+    }
+
+    static int weigh(List<SpanBo> spans) {
+        int weight = 0;
+        for (SpanBo span : spans) {
+            weight++;
+            weight += size(span.getSpanEventBoList());
+            List<SpanChunkBo> spanChunkBoList = span.getSpanChunkBoList();
+            if (spanChunkBoList != null) {
+                for (SpanChunkBo spanChunk : spanChunkBoList) {
+                    weight += size(spanChunk.getSpanEventBoList());
+                }
+            }
+        }
+        return weight;
+    }
+
+    private static int size(List<SpanEventBo> spanEventBoList) {
+        return spanEventBoList == null ? 0 : spanEventBoList.size();
+    }
+
+    public record Entry(List<SpanBo> spans, int fetchCount, int weight) {
+    }
+}
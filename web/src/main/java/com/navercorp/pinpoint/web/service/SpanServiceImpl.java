@@ -94,6 +94,8 @@ public class SpanServiceImpl implements SpanService {
 
     private final AgentInfoService agentInfoService;
 
+    private final SpanCache spanCache;
+
     private final SqlNormalizer sqlNormalizer = new DefaultSqlNormalizer();
     private final OutputParameterParser outputParameterParser = new OutputParameterParser();
 
@@ -104,7 +106,8 @@ public class SpanServiceImpl implements SpanService {
                            ApiMetaDataDao apiMetaDataDao,
                            StringMetaDataDao stringMetaDataDao,
                            ServiceTypeRegistryService serviceTypeRegistryService,
-                           AgentInfoService agentInfoService) {
+                           AgentInfoService agentInfoService,
+                           Optional<SpanCache> spanCache) {
         this.traceDao = Objects.requireNonNull(traceDao, "traceDao");
         this.sqlMetaDataDao = Objects.requireNonNull(sqlMetaDataDao, "sqlMetaDataDao");
         this.sqlUidMetaDataDao = Objects.requireNonNull(sqlUidMetaDataDao, "sqlUidMetaDataDao");
@@ -113,6 +116,8 @@ public class SpanServiceImpl implements SpanService {
         this.stringMetaDataDao = Objects.requireNonNull(stringMetaDataDao, "stringMetaDataDao");
         this.serviceTypeRegistryService = Objects.requireNonNull(serviceTypeRegistryService, "serviceTypeRegistryService");
         this.agentInfoService = Objects.requireNonNull(agentInfoService, "agentInfoService");
+        // MetaDataFilter resolves annotations per user, so resolved spans must not be shared
+        this.spanCache = this.metaDataFilter == null ? Objects.requireNonNull(spanCache, "spanCache").orElse(null) : null;
     }
 
     @Override
@@ -126,6 +131,14 @@ public class SpanServiceImpl implements SpanService {
         Objects.requireNonNull(filter, "filter");
         Objects.requireNonNull(columnGetCount, "columnGetCount");
 
+        if (spanCache != null) {
+            final SpanCache.Entry entry = spanCache.get(transactionId);
+            if (entry != null && !columnGetCount.isReachedLimit(entry.fetchCount())) {
+                logger.debug("selectSpan cached spans:{}", entry.spans().size());
+                return order(entry.spans(), filter, false);
+            }
+        }
+
         final FetchResult<List<SpanBo>> fetchResult = traceDao.selectSpan(transactionId, columnGetCount);
         final List<SpanBo> spans = fetchResult.data();
         logger.debug("selectSpan spans:{}", spans.size());
@@ -148,6 +161,10 @@ public class SpanServiceImpl implements SpanService {
         transitionCachedString(values);
         transitionException(values);
 
+        if (spanCache != null && !isReachedLimit && result.traceState() == TraceState.State.COMPLETE) {
+            spanCache.put(transactionId, spans, fetchResult.fetchCount());
+        }
+
         // TODO need to at least show the row data when root span is not found.
         return result;
     }
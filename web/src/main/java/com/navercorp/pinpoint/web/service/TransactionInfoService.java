@@ -23,6 +23,7 @@ import com.navercorp.pinpoint.web.calltree.span.CallTreeIterator;
 import com.navercorp.pinpoint.web.filter.Filter;
 import com.navercorp.pinpoint.web.vo.BusinessTransactions;
 import com.navercorp.pinpoint.web.vo.callstacks.RecordSet;
+import com.navercorp.pinpoint.web.vo.callstacks.RecordWindow;
 
 import java.util.List;
 import java.util.function.Predicate;
@@ -33,5 +34,14 @@ import java.util.function.Predicate;
 public interface TransactionInfoService {
     RecordSet createRecordSet(CallTreeIterator callTreeIterator, Predicate<SpanBo> viewPointFilter);
 
+    /**
+     * records of at most {@code nodeLimit} call tree nodes starting at {@code nodeOffset} in pre-order,
+     * the rest of the tree is summarized as collapsed subtrees
+     *
+     * @param subtreeOnly limit the window to the subtree of {@code nodeOffset}
+     */
+    RecordWindow createRecordWindow(CallTreeIterator callTreeIterator, Predicate<SpanBo> viewPointFilter,
+                                    int nodeOffset, int nodeLimit, boolean subtreeOnly);
+
     BusinessTransactions selectBusinessTransactions(List<TransactionId> traceIds, String applicationName, Range range, Filter<List<SpanBo>> filter);
 }
@@ -24,6 +24,7 @@ import com.navercorp.pinpoint.common.timeseries.time.Range;
 import com.navercorp.pinpoint.common.trace.AnnotationKeyMatcher;
 import com.navercorp.pinpoint.common.trace.LoggingInfo;
 import com.navercorp.pinpoint.web.calltree.span.Align;
+import com.navercorp.pinpoint.web.calltree.span.CallTreeIndex;
 import com.navercorp.pinpoint.web.calltree.span.CallTreeIterator;
 import com.navercorp.pinpoint.web.calltree.span.CallTreeNode;
 import com.navercorp.pinpoint.web.component.AnnotationKeyMatcherService;
@@ -33,9 +34,11 @@ import com.navercorp.pinpoint.web.security.MetaDataFilter;
 import com.navercorp.pinpoint.web.security.MetaDataFilter.MetaData;
 import com.navercorp.pinpoint.web.vo.BusinessTransactions;
 import com.navercorp.pinpoint.web.vo.GetTraceInfo;
+import com.navercorp.pinpoint.web.vo.callstacks.CollapsedSubtree;
 import com.navercorp.pinpoint.web.vo.callstacks.Record;
 import com.navercorp.pinpoint.web.vo.callstacks.RecordFactory;
 import com.navercorp.pinpoint.web.vo.callstacks.RecordSet;
+import com.navercorp.pinpoint.web.vo.callstacks.RecordWindow;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -128,8 +131,59 @@ public class TransactionInfoServiceImpl implements TransactionInfoService {
         Objects.requireNonNull(viewPointFilter, "viewPointFilter");
 
         RecordSet recordSet = new RecordSet();
-        final List<Align> alignList = callTreeIterator.values();
+        final Align viewPointAlign = initRecordSet(recordSet, callTreeIterator.values(), viewPointFilter);
 
+        final SpanAlignPopulate spanAlignPopulate = new SpanAlignPopulate();
+        List<Record> recordList = spanAlignPopulate.populateSpanRecord(callTreeIterator);
+        setRecordList(recordSet, recordList, viewPointAlign);
+
+        return recordSet;
+    }
+
+    @Override
+    public RecordWindow createRecordWindow(CallTreeIterator callTreeIterator, Predicate<SpanBo> viewPointFilter,
+                                           int nodeOffset, int nodeLimit, boolean subtreeOnly) {
+        Objects.requireNonNull(callTreeIterator, "callTreeIterator");
+        Objects.requireNonNull(viewPointFilter, "viewPointFilter");
+        if (nodeLimit <= 0) {
+            throw new IllegalArgumentException("nodeLimit must be positive. nodeLimit=" + nodeLimit);
+        }
+
+        final CallTreeIndex index = CallTreeIndex.build(callTreeIterator);
+        final int totalNodeCount = index.size();
+        if (nodeOffset < 0 || (nodeOffset > 0 && nodeOffset >= totalNodeCount)) {
+            throw new IllegalArgumentException("nodeOffset out of range. nodeOffset=" + nodeOffset + ", totalNodeCount=" + totalNodeCount);
+        }
+
+        RecordSet recordSet = new RecordSet();
+        final Align viewPointAlign = initRecordSet(recordSet, callTreeIterator.values(), viewPointFilter);
+        if (totalNodeCount == 0) {
+            recordSet.setRecordList(new ArrayList<>());
+            return new RecordWindow(recordSet, 0, 0, 0, CallTreeIndex.NO_PARENT, RecordWindow.END, List.of());
+        }
+
+        final int scopeEnd = subtreeOnly ? index.getSubtreeEnd(nodeOffset) : totalNodeCount;
+        final int windowEnd = (int) Math.min((long) nodeOffset + nodeLimit, scopeEnd);
+
+        final SpanAlignPopulate spanAlignPopulate = new SpanAlignPopulate();
+        List<Record> recordList = spanAlignPopulate.populateSpanRecord(callTreeIterator, nodeOffset, windowEnd);
+        setRecordList(recordSet, recordList, viewPointAlign);
+
+        // remaining nodes of the scope as collapsed subtrees : the subtree of windowEnd, then its next sibling or the sibling of an ancestor
+        final List<CollapsedSubtree> collapsed = new ArrayList<>();
+        int offset = windowEnd;
+        while (offset < scopeEnd && collapsed.size() < nodeLimit) {
+            collapsed.add(new CollapsedSubtree(offset, index.getParent(offset), index.getDepth(offset),
+                    index.getSubtreeSize(offset), index.getElapsed(offset), index.hasExceptionInSubtree(offset)));
+            offset = index.getSubtreeEnd(offset);
+        }
+
+        final int nextNodeOffset = windowEnd < scopeEnd ? windowEnd : RecordWindow.END;
+        return new RecordWindow(recordSet, nodeOffset, windowEnd - nodeOffset, totalNodeCount,
+                index.getParent(nodeOffset), nextNodeOffset, collapsed);
+    }
+
+    private Align initRecordSet(RecordSet recordSet, List<Align> alignList, Predicate<SpanBo> viewPointFilter) {
         // finds and marks the viewPoint.base on focusTimestamp.
         // focusTimestamp is needed to determine which span to use as reference when there are more than 2 spans making up a transaction.
         // for cases where focus cannot be found due to an error, a separate marker is needed.
@@ -167,9 +221,10 @@ public class TransactionInfoServiceImpl implements TransactionInfoService {
         }
 
         recordSet.setLoggingTransactionInfo(findIsLoggingTransactionInfo(alignList));
+        return viewPointAlign;
+    }
 
-        final SpanAlignPopulate spanAlignPopulate = new SpanAlignPopulate();
-        List<Record> recordList = spanAlignPopulate.populateSpanRecord(callTreeIterator);
+    private void setRecordList(RecordSet recordSet, List<Record> recordList, Align viewPointAlign) {
         if (viewPointAlign != null) {
             // mark the record to be used as focus
             long beginTimeStamp = viewPointAlign.getStartTime();
@@ -179,8 +234,6 @@ public class TransactionInfoServiceImpl implements TransactionInfoService {
         }
 
         recordSet.setRecordList(recordList);
-
-        return recordSet;
     }
 
     private boolean findIsLoggingTransactionInfo(List<Align> alignList) {
@@ -351,55 +404,95 @@ public class TransactionInfoServiceImpl implements TransactionInfoService {
                     logger.warn("Corrupt CallTree found : {}", callTreeIterator);
                     throw new IllegalStateException("CallTree corrupted");
                 }
-                final Align align = node.getAlign();
+                populate(node, factory, recordList);
+            }
 
-                if (metaDataFilter != null && metaDataFilter.filter(align, MetaData.API)) {
-                    if (align.isSpan()) {
-                        Record record = metaDataFilter.createRecord(node, factory);
-                        recordList.add(record);
-                    }
-                    continue;
-                }
+            return recordList;
+        }
 
-                if (metaDataFilter != null && metaDataFilter.filter(align, MetaData.PARAM)) {
-                    metaDataFilter.replaceAnnotationBo(align, MetaData.PARAM);
-                }
+        /**
+         * records of the nodes {@code [fromOffset, toOffset)} in pre-order, numbered the same in every window :
+         * the record of the node at offset {@code i} has id {@code i + 1}, so its parentId is the parent offset + 1 (0 for the root),
+         * the exception, annotation and parameter records of the nodes take ids after {@code callTreeIterator.size()}
+         */
+        private List<Record> populateSpanRecord(CallTreeIterator callTreeIterator, int fromOffset, int toOffset) {
+            Objects.requireNonNull(callTreeIterator, "callTreeIterator");
 
-                final Record record = factory.get(node);
-                recordList.add(record);
+            final List<Record> recordList = new ArrayList<>((toOffset - fromOffset) * 2);
+            final RecordFactory factory = recordFactoryProvider.getRecordFactory();
+            factory.useAssignedNodeId();
 
-                // add exception record.
-                if (align.hasException()) {
-                    final Record exceptionRecord = factory.getException(record.getTab() + 1, record.getId(), align);
-                    if (exceptionRecord != null) {
-                        recordList.add(exceptionRecord);
-                    }
+            // ancestors outside the window need their ids too, and the ids of the other records are reserved per node from the start
+            long nextId = callTreeIterator.size() + 1L;
+            for (int i = 0; i < toOffset; i++) {
+                final CallTreeNode node = callTreeIterator.get(i);
+                final Align align = node.getAlign();
+                align.setId(i + 1);
+                // counted before populate(), the metaDataFilter may replace the annotations of the nodes in the window only
+                final int extraRecordCount = maxExtraRecordCount(align);
+                if (i >= fromOffset) {
+                    factory.setNextId(Math.toIntExact(nextId));
+                    populate(node, factory, recordList);
                 }
+                nextId += extraRecordCount;
+            }
 
-                // add annotation record.
-                if (!align.getAnnotationBoList().isEmpty()) {
-                    final List<Record> annotations = factory.getAnnotations(record.getTab() + 1, record.getId(), align);
-                    recordList.addAll(annotations);
-                }
+            return recordList;
+        }
 
-                // add remote record.(span only)
-                if (align.getRemoteAddr() != null) {
-                    final Record remoteAddressRecord = factory.getParameter(record.getTab() + 1, record.getId(), "REMOTE_ADDRESS", align.getRemoteAddr());
-                    recordList.add(remoteAddressRecord);
-                }
+        // exception, annotation, remote address and endPoint records added by populate()
+        private int maxExtraRecordCount(Align align) {
+            final List<AnnotationBo> annotationBoList = align.getAnnotationBoList();
+            return 3 + (annotationBoList == null ? 0 : annotationBoList.size());
+        }
 
-                // add endPoint.(span only)
+        private void populate(CallTreeNode node, RecordFactory factory, List<Record> recordList) {
+            final Align align = node.getAlign();
+
+            if (metaDataFilter != null && metaDataFilter.filter(align, MetaData.API)) {
                 if (align.isSpan()) {
-                    final SpanBo spanBo = align.getSpanBo();
-                    final String endPoint = spanBo.getEndPoint();
-                    if (endPoint != null) {
-                        final Record endPointRecord = factory.getParameter(record.getTab() + 1, record.getId(), "ENDPOINT", endPoint);
-                        recordList.add(endPointRecord);
-                    }
+                    Record record = metaDataFilter.createRecord(node, factory);
+                    recordList.add(record);
                 }
+                return;
             }
 
-            return recordList;
+            if (metaDataFilter != null && metaDataFilter.filter(align, MetaData.PARAM)) {
+                metaDataFilter.replaceAnnotationBo(align, MetaData.PARAM);
+            }
+
+            final Record record = factory.get(node);
+            recordList.add(record);
+
+            // add exception record.
+            if (align.hasException()) {
+                final Record exceptionRecord = factory.getException(record.getTab() + 1, record.getId(), align);
+                if (exceptionRecord != null) {
+                    recordList.add(exceptionRecord);
+                }
+            }
+
+            // add annotation record.
+            if (!align.getAnnotationBoList().isEmpty()) {
+                final List<Record> annotations = factory.getAnnotations(record.getTab() + 1, record.getId(), align);
+                recordList.addAll(annotations);
+            }
+
+            // add remote record.(span only)
+            if (align.getRemoteAddr() != null) {
+                final Record remoteAddressRecord = factory.getParameter(record.getTab() + 1, record.getId(), "REMOTE_ADDRESS", align.getRemoteAddr());
+                recordList.add(remoteAddressRecord);
+            }
+
+            // add endPoint.(span only)
+            if (align.isSpan()) {
+                final SpanBo spanBo = align.getSpanBo();
+                final String endPoint = spanBo.getEndPoint();
+                if (endPoint != null) {
+                    final Record endPointRecord = factory.getParameter(record.getTab() + 1, record.getId(), "ENDPOINT", endPoint);
+                    recordList.add(endPointRecord);
+                }
+            }
         }
     }
 }
@@ -15,4 +15,14 @@ public interface ActiveAgentValidator {
     boolean isActiveAgent(Application agent, String version, List<Range> ranges);
 
     boolean isActiveAgentByEvent(String agentId, Range range);
+
+    /**
+     * @return agents of the application that were active in the range
+     */
+    List<String> getActiveAgentIds(String applicationName, Range range);
+
+    /**
+     * bulk version of {@link #isActiveAgent(Application, Range)}, the name of each agent is its agentId
+     */
+    List<String> getActiveAgentIds(Application application, Range range);
 }
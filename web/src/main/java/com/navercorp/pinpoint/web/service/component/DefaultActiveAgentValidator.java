@@ -2,11 +2,13 @@ package com.navercorp.pinpoint.web.service.component;
 
 import com.navercorp.pinpoint.common.timeseries.time.Range;
 import com.navercorp.pinpoint.common.util.CollectionUtils;
+import com.navercorp.pinpoint.web.dao.ApplicationIndexDao;
 import com.navercorp.pinpoint.web.service.AgentEventService;
 import com.navercorp.pinpoint.web.vo.AgentEvent;
 import com.navercorp.pinpoint.web.vo.Application;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -18,10 +20,21 @@ public class DefaultActiveAgentValidator implements ActiveAgentValidator {
 
     private final AgentEventService agentEventService;
     private final LegacyAgentCompatibility agentCompatibility;
+    private final ApplicationIndexDao applicationIndexDao;
 
-    public DefaultActiveAgentValidator(AgentEventService agentEventService, LegacyAgentCompatibility agentCompatibility) {
+    private final boolean livenessIndexEnable;
+    private final long livenessIndexTolerance;
+
+    public DefaultActiveAgentValidator(AgentEventService agentEventService,
+                                       LegacyAgentCompatibility agentCompatibility,
+                                       ApplicationIndexDao applicationIndexDao,
+                                       @Value("${web.agent.liveness.index.enable:false}") boolean livenessIndexEnable,
+                                       @Value("${web.agent.liveness.index.tolerance:600000}") long livenessIndexTolerance) {
         this.agentEventService = Objects.requireNonNull(agentEventService, "agentEventService");
         this.agentCompatibility = Objects.requireNonNull(agentCompatibility, "agentCompatibility");
+        this.applicationIndexDao = Objects.requireNonNull(applicationIndexDao, "applicationIndexDao");
+        this.livenessIndexEnable = livenessIndexEnable;
+        this.livenessIndexTolerance = livenessIndexTolerance;
     }
 
     @Override
@@ -73,5 +86,31 @@ public class DefaultActiveAgentValidator implements ActiveAgentValidator {
         return CollectionUtils.hasLength(recentAgentEvent);
     }
 
+    @Override
+    public List<String> getActiveAgentIds(String applicationName, Range range) {
+        Objects.requireNonNull(applicationName, "applicationName");
+        Objects.requireNonNull(range, "range");
+
+        if (livenessIndexEnable) {
+            // the collector refreshes the index at most once per bucket
+            final long from = Math.max(0, range.getFrom() - livenessIndexTolerance);
+            return applicationIndexDao.selectAgentIds(applicationName, Range.between(from, range.getTo()));
+        }
+
+        final List<String> agentIds = applicationIndexDao.selectAgentIds(applicationName);
+        return agentIds.stream()
+                .filter(agentId -> isActiveAgentByEvent(agentId, range))
+                .toList();
+    }
+
+    @Override
+    public List<String> getActiveAgentIds(Application application, Range range) {
+        Objects.requireNonNull(application, "application");
+        if (agentCompatibility.isLegacyAgent(application.getServiceTypeCode(), null)) {
+            return List.of();
+        }
+        return getActiveAgentIds(application.getName(), range);
+    }
+
 
 }
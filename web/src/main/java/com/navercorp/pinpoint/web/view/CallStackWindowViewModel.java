@@ -0,0 +1,139 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.view;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.navercorp.pinpoint.common.profiler.util.TransactionId;
+import com.navercorp.pinpoint.web.calltree.span.TraceState;
+import com.navercorp.pinpoint.web.vo.callstacks.CollapsedSubtree;
+import com.navercorp.pinpoint.web.vo.callstacks.Record;
+import com.navercorp.pinpoint.web.vo.callstacks.RecordSet;
+import com.navercorp.pinpoint.web.vo.callstacks.RecordWindow;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * call stack of a window of the call tree, same callStack format as {@link TransactionInfoViewModel}
+ */
+public class CallStackWindowViewModel {
+
+    private final TransactionId transactionId;
+    private final long spanId;
+    private final RecordWindow recordWindow;
+    private final TraceState.State completeState;
+
+    public CallStackWindowViewModel(TransactionId transactionId, long spanId, RecordWindow recordWindow, TraceState.State completeState) {
+        this.transactionId = Objects.requireNonNull(transactionId, "transactionId");
+        this.spanId = spanId;
+        this.recordWindow = Objects.requireNonNull(recordWindow, "recordWindow");
+        this.completeState = Objects.requireNonNull(completeState, "completeState");
+    }
+
+    @JsonProperty("transactionId")
+    public String getTransactionId() {
+        return transactionId.toString();
+    }
+
+    @JsonProperty("spanId")
+    public long getSpanId() {
+        return spanId;
+    }
+
+    @JsonProperty("callStackStart")
+    public long getCallStackStart() {
+        return recordWindow.recordSet().getStartTime();
+    }
+
+    @JsonProperty("callStackEnd")
+    public long getCallStackEnd() {
+        return recordWindow.recordSet().getEndTime();
+    }
+
+    @JsonProperty("completeState")
+    public String getCompleteState() {
+        return completeState.toString();
+    }
+
+    @JsonProperty("nodeOffset")
+    public int getNodeOffset() {
+        return recordWindow.nodeOffset();
+    }
+
+    @JsonProperty("nodeCount")
+    public int getNodeCount() {
+        return recordWindow.nodeCount();
+    }
+
+    @JsonProperty("totalNodeCount")
+    public int getTotalNodeCount() {
+        return recordWindow.totalNodeCount();
+    }
+
+    @JsonProperty("parentNodeOffset")
+    public int getParentNodeOffset() {
+        return recordWindow.parentNodeOffset();
+    }
+
+    @JsonProperty("nextNodeOffset")
+    public int getNextNodeOffset() {
+        return recordWindow.nextNodeOffset();
+    }
+
+    @JsonProperty("collapsed")
+    public List<CollapsedSubtree> getCollapsed() {
+        return recordWindow.collapsed();
+    }
+
+    @JsonProperty("callStackIndex")
+    public Map<String, Integer> getCallStackIndex() {
+        return TransactionInfoViewModel.Field.getFieldMap();
+    }
+
+    /**
+     * call tree offset of each callStack row, -1 for the rows that are not a call tree node (exception, annotation, parameter)
+     */
+    @JsonProperty("callStackNodeOffset")
+    public int[] getCallStackNodeOffset() {
+        final List<Record> recordList = recordWindow.recordSet().getRecordList();
+        final int[] offsets = new int[recordList.size()];
+        for (int i = 0; i < offsets.length; i++) {
+            offsets[i] = recordWindow.nodeOffsetOf(recordList.get(i));
+        }
+        return offsets;
+    }
+
+    @JsonProperty("callStack")
+    public List<TransactionInfoViewModel.CallStack> getCallStack() {
+        final RecordSet recordSet = recordWindow.recordSet();
+        // the first record of a window is not the root, use the range of the whole call stack
+        long barRatio = 0;
+        final long range = recordSet.getEndTime() - recordSet.getStartTime();
+        if (range > 0) {
+            barRatio = 100 / range;
+        }
+
+        final List<Record> recordList = recordSet.getRecordList();
+        final List<TransactionInfoViewModel.CallStack> list = new ArrayList<>(recordList.size());
+        for (Record record : recordList) {
+            list.add(new TransactionInfoViewModel.CallStack(record, barRatio));
+        }
+        return list;
+    }
+}
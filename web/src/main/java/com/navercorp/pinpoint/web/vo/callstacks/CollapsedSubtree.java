@@ -0,0 +1,32 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.vo.callstacks;
+
+/**
+ * Summary of a call tree subtree not included in a {@link RecordWindow}.
+ *
+ * @param nodeOffset   pre-order offset of the subtree root, used to expand the subtree
+ * @param parentOffset pre-order offset of the parent, -1 for the root
+ * @param nodeCount    number of nodes of the subtree including the root
+ */
+public record CollapsedSubtree(int nodeOffset,
+                               int parentOffset,
+                               int depth,
+                               int nodeCount,
+                               long elapsed,
+                               boolean hasException) {
+}
@@ -44,6 +44,8 @@ public class RecordFactory {
 
     // spans with id = 0 are regarded as root - start at 1
     private int idGen = 1;
+    // ids of the call tree nodes are set to their aligns by the caller, only the other records take ids from idGen
+    private boolean assignedNodeId = false;
     private final AnnotationKeyMatcherService annotationKeyMatcherService;
     private final ServiceTypeRegistryService registry;
     private final AnnotationKeyRegistryService annotationKeyRegistryService;
@@ -67,7 +69,7 @@ public class RecordFactory {
 
     public Record get(final CallTreeNode node) {
         final Align align = node.getAlign();
-        align.setId(getNextId());
+        assignNodeId(align);
 
         final int parentId = getParentId(node);
         Api api = getApi(align);
@@ -142,7 +144,7 @@ public class RecordFactory {
 
     public Record getFilteredRecord(final CallTreeNode node, String apiTitle) {
         final Align align = node.getAlign();
-        align.setId(getNextId());
+        assignNodeId(align);
 
         final int parentId = getParentId(node);
 //        Api api = getApi(align);
@@ -258,6 +260,23 @@ public class RecordFactory {
         return annotationKeyRegistryService.findAnnotationKey(key);
     }
 
+    /**
+     * Use the ids already set to the aligns for the node records, e.g. ids by call tree offset of a windowed call stack
+     */
+    public void useAssignedNodeId() {
+        this.assignedNodeId = true;
+    }
+
+    public void setNextId(int nextId) {
+        this.idGen = nextId;
+    }
+
+    private void assignNodeId(Align align) {
+        if (!assignedNodeId) {
+            align.setId(getNextId());
+        }
+    }
+
     private int getNextId() {
         return idGen++;
     }
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.vo.callstacks;
+
+import com.navercorp.pinpoint.web.calltree.span.CallTreeIndex;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Records of a pre-order range of the call tree.
+ * <p>
+ * Records are numbered by call tree offset, the same in every window : the record of the node at offset {@code i}
+ * has id {@code i + 1} and parentId {@code parentOffset + 1} (0 for the root).
+ * The other records (exception, annotation, parameter) have ids greater than {@code totalNodeCount}.
+ *
+ * @param nodeOffset       pre-order offset of the first node of the window
+ * @param nodeCount        number of call tree nodes in the window
+ * @param totalNodeCount   number of call tree nodes of the transaction
+ * @param parentNodeOffset pre-order offset of the parent of the first node, -1 for the root
+ * @param nextNodeOffset   offset of the next window, {@link #END} if the window reached the end of its scope
+ */
+public record RecordWindow(RecordSet recordSet,
+                           int nodeOffset,
+                           int nodeCount,
+                           int totalNodeCount,
+                           int parentNodeOffset,
+                           int nextNodeOffset,
+                           List<CollapsedSubtree> collapsed) {
+
+    public static final int END = -1;
+
+    public RecordWindow {
+        Objects.requireNonNull(recordSet, "recordSet");
+        Objects.requireNonNull(collapsed, "collapsed");
+    }
+
+    /**
+     * @return call tree offset of the node of the record, {@link CallTreeIndex#NO_PARENT} if the record is not a node
+     */
+    public int nodeOffsetOf(Record record) {
+        final int id = record.getId();
+        if (id > 0 && id <= totalNodeCount) {
+            return id - 1;
+        }
+        return CallTreeIndex.NO_PARENT;
+    }
+}
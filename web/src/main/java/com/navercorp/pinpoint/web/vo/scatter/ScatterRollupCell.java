@@ -0,0 +1,36 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.vo.scatter;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.navercorp.pinpoint.common.profiler.util.TransactionId;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Pre-aggregated scatter cell of one time bucket and one elapsed bucket.
+ * {@code samples} holds a few transactions of the cell to jump into the call stack view.
+ */
+public record ScatterRollupCell(long timeBucket, int elapsedBucket, boolean error, long count,
+                                @JsonSerialize(contentUsing = ToStringSerializer.class) List<TransactionId> samples) {
+
+    public ScatterRollupCell {
+        Objects.requireNonNull(samples, "samples");
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.calltree.sample;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class StackSampleParserTest {
+
+    private final StackSampleParser parser = new StackSampleParser();
+
+    @Test
+    public void parse() {
+        FlameGraphNode root = parser.parse("v1|3|Main.run;Service.call;Dao.query;Service.render|0,0,3;1,1,2;2,2,2;1,3,1");
+
+        Assertions.assertEquals(StackSampleParser.ROOT_NAME, root.getName());
+        Assertions.assertEquals(3, root.getValue());
+        Assertions.assertEquals(1, root.getChildren().size());
+
+        FlameGraphNode main = root.getChildren().get(0);
+        Assertions.assertEquals("Main.run", main.getName());
+        Assertions.assertEquals(3, main.getValue());
+        Assertions.assertEquals(2, main.getChildren().size());
+
+        FlameGraphNode call = main.getChildren().get(0);
+        Assertions.assertEquals("Service.call", call.getName());
+        Assertions.assertEquals("Dao.query", call.getChildren().get(0).getName());
+
+        FlameGraphNode render = main.getChildren().get(1);
+        Assertions.assertEquals("Service.render", render.getName());
+        Assertions.assertEquals(1, render.getValue());
+    }
+
+    @Test
+    public void parse_invalid() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> parser.parse("v2|1|a|0,0,1"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> parser.parse("v1|1|a|1,0,1"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> parser.parse("v1|1|a|0,1,1"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> parser.parse("v1|x|a|0,0,1"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> parser.parse("v1|1|a|0,0"));
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.calltree.span;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CallTreeIndexTest {
+
+    private final CallTreeFactory factory = new CallTreeFactory();
+
+    @Test
+    public void build() {
+        CallTree callTree = factory.get(List.of("R", "##", "###", "##", "###", "###", "##"));
+        CallTreeIndex index = CallTreeIndex.build(callTree.iterator());
+
+        assertThat(index.size()).isEqualTo(7);
+        assertThat(depths(index)).containsExactly(0, 1, 2, 1, 2, 2, 1);
+        assertThat(parents(index)).containsExactly(CallTreeIndex.NO_PARENT, 0, 1, 0, 3, 3, 0);
+        assertThat(subtreeEnds(index)).containsExactly(7, 3, 3, 6, 5, 6, 7);
+        assertThat(index.getSubtreeSize(3)).isEqualTo(3);
+    }
+
+    @Test
+    public void build_empty() {
+        CallTreeIndex index = CallTreeIndex.build(new CallTreeIterator(null));
+
+        assertThat(index.size()).isZero();
+    }
+
+    private int[] depths(CallTreeIndex index) {
+        int[] result = new int[index.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = index.getDepth(i);
+        }
+        return result;
+    }
+
+    private int[] parents(CallTreeIndex index) {
+        int[] result = new int[index.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = index.getParent(i);
+        }
+        return result;
+    }
+
+    private int[] subtreeEnds(CallTreeIndex index) {
+        int[] result = new int[index.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = index.getSubtreeEnd(i);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.dao.hbase;
+
+import com.navercorp.pinpoint.common.hbase.RowMapper;
+import com.navercorp.pinpoint.common.profiler.util.TransactionId;
+import com.navercorp.pinpoint.web.vo.scatter.Dot;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.ResultScanner;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class DotBatchResultsExtractorTest {
+
+    private final TransactionId transactionId = TransactionId.of("A", 1, 1);
+
+    @Test
+    public void extractData_batch() throws Exception {
+        List<List<Dot>> batches = new ArrayList<>();
+        DotBatchResultsExtractor extractor = new DotBatchResultsExtractor(newRowMapper(), 100, 2, batches::add);
+
+        int dotCount = extractor.extractData(newScanner(5));
+
+        Assertions.assertEquals(5, dotCount);
+        Assertions.assertEquals(3, batches.size());
+        Assertions.assertEquals(2, batches.get(0).size());
+        Assertions.assertEquals(1, batches.get(2).size());
+    }
+
+    @Test
+    public void extractData_limit() throws Exception {
+        List<List<Dot>> batches = new ArrayList<>();
+        DotBatchResultsExtractor extractor = new DotBatchResultsExtractor(newRowMapper(), 3, 2, batches::add);
+
+        int dotCount = extractor.extractData(newScanner(5));
+
+        Assertions.assertEquals(3, dotCount);
+        Assertions.assertEquals(3, batches.stream().mapToInt(List::size).sum());
+    }
+
+    @Test
+    public void extractData_cancel() throws Exception {
+        List<List<Dot>> batches = new ArrayList<>();
+        DotBatchResultsExtractor extractor = new DotBatchResultsExtractor(newRowMapper(), 100, 2, batch -> {
+            batches.add(batch);
+            return false;
+        });
+
+        int dotCount = extractor.extractData(newScanner(5));
+
+        Assertions.assertEquals(2, dotCount);
+        Assertions.assertEquals(1, batches.size());
+    }
+
+    private RowMapper<List<Dot>> newRowMapper() throws Exception {
+        @SuppressWarnings("unchecked")
+        RowMapper<List<Dot>> rowMapper = mock(RowMapper.class);
+        when(rowMapper.mapRow(any(), anyInt())).thenAnswer(invocation -> {
+            int rowNum = invocation.getArgument(1);
+            return List.of(new Dot(transactionId, 1000L + rowNum, 100, 0, "agent"));
+        });
+        return rowMapper;
+    }
+
+    private ResultScanner newScanner(int rows) {
+        List<Result> results = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            results.add(new Result());
+        }
+        ResultScanner scanner = mock(ResultScanner.class);
+        when(scanner.iterator()).thenReturn(results.iterator());
+        return scanner;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.service;
+
+import com.navercorp.pinpoint.common.profiler.util.TransactionId;
+import com.navercorp.pinpoint.common.server.bo.SpanBo;
+import com.navercorp.pinpoint.common.server.bo.SpanEventBo;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpanCacheTest {
+
+    private final TransactionId transactionId = TransactionId.of("agent", 1000, 1);
+
+    @Test
+    void put_finishedTransaction() {
+        SpanCache cache = new SpanCache(100, 60000, 1000);
+
+        SpanBo span = newSpan(System.currentTimeMillis() - 5000);
+        cache.put(transactionId, List.of(span), 1);
+
+        SpanCache.Entry entry = cache.get(transactionId);
+        assertThat(entry).isNotNull();
+        assertThat(entry.spans()).containsExactly(span);
+        assertThat(entry.fetchCount()).isEqualTo(1);
+        assertThat(entry.weight()).isEqualTo(3);
+    }
+
+    @Test
+    void put_mutableTransaction() {
+        SpanCache cache = new SpanCache(100, 60000, 60000);
+
+        cache.put(transactionId, List.of(newSpan(System.currentTimeMillis())), 1);
+
+        assertThat(cache.get(transactionId)).isNull();
+    }
+
+    @Test
+    void isMutable() {
+        SpanCache cache = new SpanCache(100, 60000, 1000);
+        List<SpanBo> spans = List.of(newSpan(1000), newSpan(5000));
+
+        assertThat(cache.isMutable(spans, 5500)).isTrue();
+        assertThat(cache.isMutable(spans, 6000)).isFalse();
+    }
+
+    private SpanBo newSpan(long collectorAcceptTime) {
+        SpanBo span = new SpanBo();
+        span.setTransactionId(transactionId);
+        span.setCollectorAcceptTime(collectorAcceptTime);
+        span.addSpanEvent(new SpanEventBo());
+        span.addSpanEvent(new SpanEventBo());
+        return span;
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.service;
+
+import com.navercorp.pinpoint.common.server.bo.AnnotationBo;
+import com.navercorp.pinpoint.common.server.trace.ApiParserProvider;
+import com.navercorp.pinpoint.common.trace.AnnotationKey;
+import com.navercorp.pinpoint.loader.service.AnnotationKeyRegistryService;
+import com.navercorp.pinpoint.loader.service.ServiceTypeRegistryService;
+import com.navercorp.pinpoint.web.calltree.span.Align;
+import com.navercorp.pinpoint.web.calltree.span.CallTreeFactory;
+import com.navercorp.pinpoint.web.calltree.span.CallTreeIterator;
+import com.navercorp.pinpoint.web.calltree.span.CallTreeNode;
+import com.navercorp.pinpoint.web.component.AnnotationKeyMatcherService;
+import com.navercorp.pinpoint.web.dao.TraceDao;
+import com.navercorp.pinpoint.web.security.MetaDataFilter;
+import com.navercorp.pinpoint.web.vo.callstacks.Record;
+import com.navercorp.pinpoint.web.vo.callstacks.RecordFactory;
+import com.navercorp.pinpoint.web.vo.callstacks.RecordWindow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TransactionInfoServiceImplTest {
+
+    private static final List<String> EVENTS = List.of("R", "##", "###", "##", "###", "###", "##");
+
+    private AnnotationKeyMatcherService annotationKeyMatcherService;
+    private RecorderFactoryProvider recorderFactoryProvider;
+    private TransactionInfoService transactionInfoService;
+
+    @BeforeEach
+    public void setUp() {
+        annotationKeyMatcherService = mock(AnnotationKeyMatcherService.class);
+        AnnotationKeyRegistryService annotationKeyRegistryService = mock(AnnotationKeyRegistryService.class);
+        when(annotationKeyRegistryService.findAnnotationKey(anyInt())).thenReturn(AnnotationKey.ARGS0);
+
+        recorderFactoryProvider = new RecorderFactoryProvider(mock(ServiceTypeRegistryService.class),
+                annotationKeyMatcherService, annotationKeyRegistryService,
+                mock(ProxyRequestTypeRegistryService.class), mock(ApiParserProvider.class));
+        transactionInfoService = new TransactionInfoServiceImpl(mock(TraceDao.class), annotationKeyMatcherService,
+                Optional.empty(), recorderFactoryProvider);
+    }
+
+    @Test
+    public void createRecordWindow_numbersRecordsByOffset() {
+        RecordWindow first = transactionInfoService.createRecordWindow(callTree(), span -> false, 0, 4, false);
+        RecordWindow second = transactionInfoService.createRecordWindow(callTree(), span -> false, first.nextNodeOffset(), 4, false);
+
+        assertThat(first.nextNodeOffset()).isEqualTo(4);
+        assertThat(second.nextNodeOffset()).isEqualTo(RecordWindow.END);
+
+        // node records : id = offset + 1, parentId = parent offset + 1
+        assertThat(nodeIds(first)).containsExactly(1, 2, 3, 4);
+        assertThat(nodeParentIds(first)).containsExactly(0, 1, 2, 1);
+        assertThat(nodeIds(second)).containsExactly(5, 6, 7);
+        assertThat(nodeParentIds(second)).containsExactly(4, 4, 1);
+        assertThat(nodeOffsets(second)).containsExactly(4, 5, 6);
+
+        // the annotation record of the node at offset 2 is numbered after the nodes
+        Record annotation = first.recordSet().getRecordList().stream()
+                .filter(record -> first.nodeOffsetOf(record) == -1)
+                .findFirst()
+                .orElseThrow();
+        assertThat(annotation.getId()).isGreaterThan(EVENTS.size());
+        assertThat(annotation.getParentId()).isEqualTo(3);
+
+        Set<Integer> ids = new HashSet<>();
+        for (Record record : first.recordSet().getRecordList()) {
+            assertThat(ids.add(record.getId())).isTrue();
+        }
+        for (Record record : second.recordSet().getRecordList()) {
+            assertThat(ids.add(record.getId())).isTrue();
+        }
+    }
+
+    @Test
+    public void createRecordWindow_subtreeKeepsIds() {
+        RecordWindow whole = transactionInfoService.createRecordWindow(callTree(), span -> false, 0, EVENTS.size(), false);
+        RecordWindow subtree = transactionInfoService.createRecordWindow(callTree(), span -> false, 3, EVENTS.size(), true);
+
+        assertThat(nodeIds(subtree)).containsExactly(4, 5, 6);
+        assertThat(nodeParentIds(subtree)).containsExactly(1, 4, 4);
+        assertThat(nodeIds(whole)).containsSubsequence(4, 5, 6);
+    }
+
+    @Test
+    public void createRecordWindow_replacedAnnotationKeepsIds() {
+        TransactionInfoService service = new TransactionInfoServiceImpl(mock(TraceDao.class), annotationKeyMatcherService,
+                Optional.of(new RemoveParamFilter()), recorderFactoryProvider);
+
+        // the parameters of the node at offset 2 are removed only when the node is in the window
+        RecordWindow whole = service.createRecordWindow(callTree(), span -> false, 0, EVENTS.size(), false);
+        RecordWindow tail = service.createRecordWindow(callTree(), span -> false, 3, EVENTS.size(), false);
+
+        // annotation record of the node at offset 5
+        assertThat(annotationRecordId(whole, 6)).isEqualTo(annotationRecordId(tail, 6));
+    }
+
+    private int annotationRecordId(RecordWindow window, int parentId) {
+        return window.recordSet().getRecordList().stream()
+                .filter(record -> window.nodeOffsetOf(record) == -1)
+                .filter(record -> record.getParentId() == parentId)
+                .findFirst()
+                .orElseThrow()
+                .getId();
+    }
+
+    private static class RemoveParamFilter implements MetaDataFilter {
+        @Override
+        public boolean filter(Align align, MetaData metaData) {
+            return metaData == MetaData.PARAM && align.getId() == 3;
+        }
+
+        @Override
+        public AnnotationBo createAnnotationBo(Align align, MetaData metaData) {
+            return null;
+        }
+
+        @Override
+        public Record createRecord(CallTreeNode node, RecordFactory factory) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void replaceAnnotationBo(Align align, MetaData param) {
+            align.setAnnotationBoList(new ArrayList<>());
+        }
+    }
+
+    private CallTreeIterator callTree() {
+        CallTreeIterator iterator = new CallTreeFactory().get(EVENTS).iterator();
+        for (int i = 0; i < iterator.size(); i++) {
+            List<AnnotationBo> annotations = new ArrayList<>();
+            if (i == 2 || i == 5) {
+                annotations.add(AnnotationBo.of(AnnotationKey.ARGS0.getCode(), "arg"));
+            }
+            iterator.get(i).getAlign().setAnnotationBoList(annotations);
+        }
+        return iterator;
+    }
+
+    private List<Integer> nodeIds(RecordWindow window) {
+        return nodeRecords(window).stream().map(Record::getId).toList();
+    }
+
+    private List<Integer> nodeParentIds(RecordWindow window) {
+        return nodeRecords(window).stream().map(Record::getParentId).toList();
+    }
+
+    private List<Integer> nodeOffsets(RecordWindow window) {
+        return nodeRecords(window).stream().map(window::nodeOffsetOf).toList();
+    }
+
+    private List<Record> nodeRecords(RecordWindow window) {
+        return window.recordSet().getRecordList().stream()
+                .filter(record -> window.nodeOffsetOf(record) != -1)
+                .toList();
+    }
+}
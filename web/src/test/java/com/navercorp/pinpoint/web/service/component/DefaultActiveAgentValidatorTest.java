@@ -3,6 +3,7 @@ package com.navercorp.pinpoint.web.service.component;
 import com.navercorp.pinpoint.common.server.util.AgentEventType;
 import com.navercorp.pinpoint.common.timeseries.time.Range;
 import com.navercorp.pinpoint.common.trace.ServiceTypeFactory;
+import com.navercorp.pinpoint.web.dao.ApplicationIndexDao;
 import com.navercorp.pinpoint.web.service.AgentEventService;
 import com.navercorp.pinpoint.web.vo.AgentEvent;
 import com.navercorp.pinpoint.web.vo.Application;
@@ -15,7 +16,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -24,13 +27,16 @@ class DefaultActiveAgentValidatorTest {
     @Mock
     AgentEventService agentEventService;
 
+    @Mock
+    ApplicationIndexDao applicationIndexDao;
+
     Application node = new Application("testNodeApp", ServiceTypeFactory.of(1400, "node"));
 //    Application java = new Application("testJavaApp", ServiceTypeFactory.of(1010, "java"));
 
     @Test
     void isActiveAgent_legacy_node() {
         LegacyAgentCompatibility agentCompatibility = new DefaultLegacyAgentCompatibility();
-        ActiveAgentValidator validator = new DefaultActiveAgentValidator(agentEventService, agentCompatibility);
+        ActiveAgentValidator validator = new DefaultActiveAgentValidator(agentEventService, agentCompatibility, applicationIndexDao, false, 0);
 
         Assertions.assertFalse(validator.isActiveAgent(node, "0.7.0", Range.between(0, 1)));
     }
@@ -38,7 +44,7 @@ class DefaultActiveAgentValidatorTest {
     @Test
     void isActiveAgent_legacy_node_with_gc() {
         LegacyAgentCompatibility agentCompatibility = new DefaultLegacyAgentCompatibility();
-        ActiveAgentValidator validator = new DefaultActiveAgentValidator(agentEventService, agentCompatibility);
+        ActiveAgentValidator validator = new DefaultActiveAgentValidator(agentEventService, agentCompatibility, applicationIndexDao, false, 0);
 
         AgentEvent gc = new AgentEvent("test", 1, 1, AgentEventType.AGENT_PING);
         when(agentEventService.getAgentEvents(any(), any(), any())).thenReturn(List.of(gc));
@@ -49,7 +55,7 @@ class DefaultActiveAgentValidatorTest {
     @Test
     void isActiveAgent_new_node_without_ping() {
         LegacyAgentCompatibility agentCompatibility = new DefaultLegacyAgentCompatibility();
-        ActiveAgentValidator validator = new DefaultActiveAgentValidator(agentEventService, agentCompatibility);
+        ActiveAgentValidator validator = new DefaultActiveAgentValidator(agentEventService, agentCompatibility, applicationIndexDao, false, 0);
 
         Assertions.assertFalse(validator.isActiveAgent(node, "0.8.0", Range.between(0, 1)));
 
@@ -62,8 +68,33 @@ class DefaultActiveAgentValidatorTest {
         when(agentEventService.getAgentEvents(any(), any(), any())).thenReturn(List.of(ping));
 
         LegacyAgentCompatibility agentCompatibility = new DefaultLegacyAgentCompatibility();
-        ActiveAgentValidator validator = new DefaultActiveAgentValidator(agentEventService, agentCompatibility);
+        ActiveAgentValidator validator = new DefaultActiveAgentValidator(agentEventService, agentCompatibility, applicationIndexDao, false, 0);
 
         Assertions.assertTrue(validator.isActiveAgent(node, "0.8.0", Range.between(0, 1)));
     }
-}
\ No newline at end of file
+
+    @Test
+    void getActiveAgentIds_byEvent() {
+        AgentEvent ping = new AgentEvent("agent1", 1, 1, AgentEventType.AGENT_PING);
+        when(applicationIndexDao.selectAgentIds("app")).thenReturn(List.of("agent1", "agent2"));
+        when(agentEventService.getAgentEvents(eq("agent1"), any(), any())).thenReturn(List.of(ping));
+        when(agentEventService.getAgentEvents(eq("agent2"), any(), any())).thenReturn(List.of());
+
+        LegacyAgentCompatibility agentCompatibility = new DefaultLegacyAgentCompatibility();
+        ActiveAgentValidator validator = new DefaultActiveAgentValidator(agentEventService, agentCompatibility, applicationIndexDao, false, 0);
+
+        Assertions.assertEquals(List.of("agent1"), validator.getActiveAgentIds("app", Range.between(0, 1)));
+    }
+
+    @Test
+    void getActiveAgentIds_livenessIndex() {
+        Range range = Range.between(1000, 2000);
+        when(applicationIndexDao.selectAgentIds("app", Range.between(900, 2000))).thenReturn(List.of("agent1"));
+
+        LegacyAgentCompatibility agentCompatibility = new DefaultLegacyAgentCompatibility();
+        ActiveAgentValidator validator = new DefaultActiveAgentValidator(agentEventService, agentCompatibility, applicationIndexDao, true, 100);
+
+        Assertions.assertEquals(List.of("agent1"), validator.getActiveAgentIds("app", range));
+        verifyNoInteractions(agentEventService);
+    }
+}